@@ -18,12 +18,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -58,7 +61,11 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler {
 
+    private static final String REFRESH_THREAD_POOL_NAME = "amazonechocontrol";
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
+    // the size of the pool limits the number of echo devices, which are refreshed at the same time
+    private final ExecutorService refreshPool = ThreadPoolManager.getPool(REFRESH_THREAD_POOL_NAME);
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
     private final Set<EchoHandler> echoHandlers = new HashSet<>();
@@ -384,8 +391,10 @@ public class AccountHandler extends BaseBridgeHandler {
                 return;
             }
 
-            // get all devices registered in the account
-            updateDeviceList();
+            long startTime = System.currentTimeMillis();
+
+            // get all devices registered in the account, the states are updated below
+            updateDeviceList(false);
             updateFlashBriefingHandlers();
 
             // update bluetooth states
@@ -394,20 +403,29 @@ public class AccountHandler extends BaseBridgeHandler {
                 states = currentConnection.getBluetoothConnectionStates();
             }
 
-            // forward device information to echo handler
-            for (EchoHandler child : echoHandlers) {
+            // forward device information to echo handler, the devices are refreshed in parallel
+            List<EchoHandler> children;
+            synchronized (echoHandlers) {
+                children = new ArrayList<>(echoHandlers);
+            }
+            List<CompletableFuture<Void>> refreshes = new ArrayList<>(children.size());
+            for (EchoHandler child : children) {
                 Device device = findDeviceJson(child);
                 BluetoothState state = null;
                 if (states != null) {
                     state = states.findStateByDevice(device);
                 }
-                child.updateState(device, state);
+                final BluetoothState bluetoothState = state;
+                refreshes.add(CompletableFuture.runAsync(() -> refreshEchoHandler(child, device, bluetoothState),
+                        refreshPool));
             }
+            CompletableFuture.allOf(refreshes.toArray(new CompletableFuture<?>[refreshes.size()])).join();
 
             // update account state
             updateStatus(ThingStatus.ONLINE);
 
-            logger.debug("refresh data {} finished", getThing().getUID().getAsString());
+            logger.debug("refresh data {} of {} devices finished in {} ms", getThing().getUID().getAsString(),
+                    children.size(), System.currentTimeMillis() - startTime);
         } catch (HttpException | JsonSyntaxException | ConnectionException e) {
             logger.debug("refresh data fails {}", e);
         } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
@@ -415,6 +433,19 @@ public class AccountHandler extends BaseBridgeHandler {
         }
     }
 
+    private void refreshEchoHandler(EchoHandler echoHandler, @Nullable Device device,
+            @Nullable BluetoothState bluetoothState) {
+        long startTime = System.currentTimeMillis();
+        try {
+            echoHandler.updateState(device, bluetoothState);
+        } catch (RuntimeException e) {
+            logger.warn("refresh of {} fails with unexpected error {}", echoHandler.getThing().getUID().getAsString(),
+                    e);
+        }
+        logger.trace("refresh of {} finished in {} ms", echoHandler.getThing().getUID().getAsString(),
+                System.currentTimeMillis() - startTime);
+    }
+
     public @Nullable Device findDeviceJson(EchoHandler echoHandler) {
         String serialNumber = echoHandler.findSerialNumber();
         return findDeviceJson(serialNumber);
@@ -447,6 +478,10 @@ public class AccountHandler extends BaseBridgeHandler {
     }
 
     public List<Device> updateDeviceList() {
+        return updateDeviceList(true);
+    }
+
+    private List<Device> updateDeviceList(boolean updateEchoHandlerStates) {
 
         Connection currentConnection = connection;
         if (currentConnection == null) {
@@ -473,7 +508,11 @@ public class AccountHandler extends BaseBridgeHandler {
         }
         synchronized (echoHandlers) {
             for (EchoHandler child : echoHandlers) {
-                initializeEchoHandler(child, currentConnection);
+                if (updateEchoHandlerStates) {
+                    initializeEchoHandler(child, currentConnection);
+                } else {
+                    intializeChildDevice(currentConnection, child);
+                }
             }
         }
         if (devices != null) {
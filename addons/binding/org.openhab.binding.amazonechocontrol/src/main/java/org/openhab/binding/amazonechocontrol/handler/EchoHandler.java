@@ -12,6 +12,8 @@ import static org.openhab.binding.amazonechocontrol.AmazonEchoControlBindingCons
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.amazonechocontrol.internal.Connection;
 import org.openhab.binding.amazonechocontrol.internal.HttpException;
@@ -61,6 +64,9 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class EchoHandler extends BaseThingHandler {
 
+    // an idle device asks for the media state only on every n-th refresh
+    private static final int IDLE_MEDIA_STATE_REFRESH_INTERVAL = 4;
+
     private final Logger logger = LoggerFactory.getLogger(EchoHandler.class);
 
     private @Nullable Device device;
@@ -84,6 +90,9 @@ public class EchoHandler extends BaseThingHandler {
     private boolean updateStartCommand = true;
     private @Nullable JsonNotificationResponse currentNotification;
     private @Nullable ScheduledFuture<?> currentNotifcationUpdateTimer;
+    private @Nullable JsonMediaState lastMediaState;
+    private int idleRefreshCount;
+    private final Map<String, State> lastChannelStates = new ConcurrentHashMap<>();
 
     public EchoHandler(Thing thing) {
         super(thing);
@@ -184,6 +193,13 @@ public class EchoHandler extends BaseThingHandler {
                 return;
             }
 
+            // the state of the channel has to be published on the next refresh, even if it has not changed
+            if (command instanceof RefreshType) {
+                lastChannelStates.clear();
+            } else {
+                lastChannelStates.remove(channelUID.getId());
+            }
+
             // Player commands
             String channelId = channelUID.getId();
             if (channelId.equals(CHANNEL_PLAYER)) {
@@ -586,20 +602,30 @@ public class EchoHandler extends BaseThingHandler {
         } catch (IOException | URISyntaxException e) {
             logger.info("getPlayer fails: {}", e);
         }
+        // The media state is only requested on every refresh, if the device is or was playing or paused.
+        // Otherwise the last media state is used, which did not show a playing or paused device either.
         JsonMediaState mediaState = null;
-        try {
-            mediaState = connection.getMediaState(device);
+        boolean playerActive = playerInfo != null
+                && (StringUtils.equals(playerInfo.state, "PLAYING") || StringUtils.equals(playerInfo.state, "PAUSED"));
+        if (isPlaying || isPaused || playerActive || ++idleRefreshCount >= IDLE_MEDIA_STATE_REFRESH_INTERVAL) {
+            idleRefreshCount = 0;
+            try {
+                mediaState = connection.getMediaState(device);
 
-        } catch (HttpException e) {
-            if (e.getCode() == 400) {
+            } catch (HttpException e) {
+                if (e.getCode() == 400) {
 
-                updateState(CHANNEL_RADIO_STATION_ID, new StringType(""));
+                    updateStateIfChanged(CHANNEL_RADIO_STATION_ID, new StringType(""));
 
-            } else {
+                } else {
+                    logger.info("getMediaState fails: {}", e);
+                }
+            } catch (IOException | URISyntaxException e) {
                 logger.info("getMediaState fails: {}", e);
             }
-        } catch (IOException | URISyntaxException e) {
-            logger.info("getMediaState fails: {}", e);
+            lastMediaState = mediaState;
+        } else {
+            mediaState = lastMediaState;
         }
         // check playing
         isPlaying = (playerInfo != null && StringUtils.equals(playerInfo.state, "PLAYING"))
@@ -778,23 +804,33 @@ public class EchoHandler extends BaseThingHandler {
             updateStartCommand = false;
             updateState(CHANNEL_START_COMMAND, new StringType(""));
         }
-        updateState(CHANNEL_MUSIC_PROVIDER_ID, new StringType(musicProviderId));
-        updateState(CHANNEL_AMAZON_MUSIC_TRACK_ID, new StringType(amazonMusicTrackId));
-        updateState(CHANNEL_AMAZON_MUSIC, isPlaying && amazonMusic ? OnOffType.ON : OnOffType.OFF);
-        updateState(CHANNEL_AMAZON_MUSIC_PLAY_LIST_ID, new StringType(amazonMusicPlayListId));
-        updateState(CHANNEL_RADIO_STATION_ID, new StringType(radioStationId));
-        updateState(CHANNEL_RADIO, isPlaying && isRadio ? OnOffType.ON : OnOffType.OFF);
-        updateState(CHANNEL_VOLUME, volume != null ? new PercentType(volume) : UnDefType.UNDEF);
-        updateState(CHANNEL_PROVIDER_DISPLAY_NAME, new StringType(providerDisplayName));
-        updateState(CHANNEL_PLAYER, isPlaying ? PlayPauseType.PLAY : PlayPauseType.PAUSE);
-        updateState(CHANNEL_IMAGE_URL, new StringType(imageUrl));
-        updateState(CHANNEL_TITLE, new StringType(title));
-        updateState(CHANNEL_SUBTITLE1, new StringType(subTitle1));
-        updateState(CHANNEL_SUBTITLE2, new StringType(subTitle2));
+        updateStateIfChanged(CHANNEL_MUSIC_PROVIDER_ID, new StringType(musicProviderId));
+        updateStateIfChanged(CHANNEL_AMAZON_MUSIC_TRACK_ID, new StringType(amazonMusicTrackId));
+        updateStateIfChanged(CHANNEL_AMAZON_MUSIC, isPlaying && amazonMusic ? OnOffType.ON : OnOffType.OFF);
+        updateStateIfChanged(CHANNEL_AMAZON_MUSIC_PLAY_LIST_ID, new StringType(amazonMusicPlayListId));
+        updateStateIfChanged(CHANNEL_RADIO_STATION_ID, new StringType(radioStationId));
+        updateStateIfChanged(CHANNEL_RADIO, isPlaying && isRadio ? OnOffType.ON : OnOffType.OFF);
+        updateStateIfChanged(CHANNEL_VOLUME, volume != null ? new PercentType(volume) : UnDefType.UNDEF);
+        updateStateIfChanged(CHANNEL_PROVIDER_DISPLAY_NAME, new StringType(providerDisplayName));
+        updateStateIfChanged(CHANNEL_PLAYER, isPlaying ? PlayPauseType.PLAY : PlayPauseType.PAUSE);
+        updateStateIfChanged(CHANNEL_IMAGE_URL, new StringType(imageUrl));
+        updateStateIfChanged(CHANNEL_TITLE, new StringType(title));
+        updateStateIfChanged(CHANNEL_SUBTITLE1, new StringType(subTitle1));
+        updateStateIfChanged(CHANNEL_SUBTITLE2, new StringType(subTitle2));
         if (bluetoothState != null) {
-            updateState(CHANNEL_BLUETOOTH, bluetoothIsConnected ? OnOffType.ON : OnOffType.OFF);
-            updateState(CHANNEL_BLUETOOTH_MAC, new StringType(bluetoothMAC));
-            updateState(CHANNEL_BLUETOOTH_DEVICE_NAME, new StringType(bluetoothDeviceName));
+            updateStateIfChanged(CHANNEL_BLUETOOTH, bluetoothIsConnected ? OnOffType.ON : OnOffType.OFF);
+            updateStateIfChanged(CHANNEL_BLUETOOTH_MAC, new StringType(bluetoothMAC));
+            updateStateIfChanged(CHANNEL_BLUETOOTH_DEVICE_NAME, new StringType(bluetoothDeviceName));
+        }
+    }
+
+    /**
+     * Updates the state of the channel, if it is different from the state published by the last refresh.
+     */
+    private void updateStateIfChanged(String channelId, State state) {
+        State lastState = lastChannelStates.put(channelId, state);
+        if (!state.equals(lastState)) {
+            updateState(channelId, state);
         }
     }
 }
@@ -401,7 +401,10 @@ public class Connection {
                 throw e;
             }
             if (code != 200) {
-                throw new HttpException(code, verb + " url '" + url + "' failed: " + connection.getResponseMessage());
+                String message = connection.getResponseMessage();
+                // read the whole error response, so that the connection can be kept alive and reused
+                convertStream(connection.getErrorStream());
+                throw new HttpException(code, verb + " url '" + url + "' failed: " + message);
             }
         }
         throw new ConnectionException("Too many redirects");
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import static org.junit.Assert.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.GroupModel;
+
+/**
+ * Tests for {@link DevicelistParser}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DevicelistParserTest {
+
+    private static final String GROUP = "<group identifier=\"F0:A3:7F-900\" id=\"20001\" functionbitmask=\"640\" fwversion=\"1.0\" manufacturer=\"AVM\" productname=\"\"><present>1</present><name>Schlafzimmer</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><power>0</power><energy>2087</energy></powermeter><groupinfo><masterdeviceid>1000</masterdeviceid><members>20000</members></groupinfo></group>";
+    private static final String DECT200 = "<device identifier=\"08761 0000434\" id=\"17\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\"><present>1</present><name>FRITZ!DECT 200 #1</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><power>45</power><energy>166</energy></powermeter><temperature><celsius>255</celsius><offset>0</offset></temperature></device>";
+    private static final String DECT300 = "<device identifier=\"08761 0000437\" id=\"20\" functionbitmask=\"320\" fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 300\"><present>0</present><name>FRITZ!DECT 300 #1</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>";
+
+    @Test
+    public void parsesDevicesAndGroups() throws Exception {
+        Map<String, AVMFritzBaseModel> devices = new LinkedHashMap<>();
+        DevicelistParser.parse(devicelist(GROUP, DECT200, DECT300),
+                (device, hash) -> devices.put(device.getIdentifier(), device));
+
+        assertEquals(3, devices.size());
+        assertTrue(devices.get("F0:A3:7F-900") instanceof GroupModel);
+        assertTrue(devices.get("087610000434") instanceof DeviceModel);
+        assertEquals("FRITZ!DECT 200 #1", devices.get("087610000434").getName());
+        assertNotNull(devices.get("087610000434").getPowermeter());
+        assertEquals("FRITZ!DECT 300 #1", devices.get("087610000437").getName());
+        assertNotNull(devices.get("087610000437").getHkr());
+    }
+
+    @Test
+    public void parsesIndentedDevicelist() throws Exception {
+        Map<String, Long> hashes = parseHashes(devicelist(GROUP, DECT200, DECT300));
+        Map<String, Long> indentedHashes = parseHashes(
+                "<devicelist version=\"1\">\n  " + GROUP + "\n  " + DECT200 + "\n  " + DECT300 + "\n</devicelist>");
+
+        assertEquals(hashes, indentedHashes);
+    }
+
+    @Test
+    public void hashIsStableForUnchangedDevices() throws Exception {
+        assertEquals(parseHashes(devicelist(GROUP, DECT200, DECT300)),
+                parseHashes(devicelist(GROUP, DECT200, DECT300)));
+    }
+
+    @Test
+    public void hashChangesOnlyForChangedDevice() throws Exception {
+        Map<String, Long> hashes = parseHashes(devicelist(GROUP, DECT200, DECT300));
+        Map<String, Long> changedHashes = parseHashes(
+                devicelist(GROUP, DECT200.replace("<power>45</power>", "<power>46</power>"), DECT300));
+
+        assertEquals(hashes.get("F0:A3:7F-900"), changedHashes.get("F0:A3:7F-900"));
+        assertFalse(hashes.get("087610000434").equals(changedHashes.get("087610000434")));
+        assertEquals(hashes.get("087610000437"), changedHashes.get("087610000437"));
+    }
+
+    @Test
+    public void hashDoesNotDependOnFollowingDevice() throws Exception {
+        Map<String, Long> hashes = parseHashes(devicelist(DECT200, DECT300));
+        Map<String, Long> changedHashes = parseHashes(
+                devicelist(DECT200, DECT300.replace("fwversion=\"03.50\"", "fwversion=\"03.54\"")));
+
+        assertEquals(hashes.get("087610000434"), changedHashes.get("087610000434"));
+        assertFalse(hashes.get("087610000437").equals(changedHashes.get("087610000437")));
+    }
+
+    private Map<String, Long> parseHashes(String xml) throws Exception {
+        Map<String, Long> hashes = new LinkedHashMap<>();
+        DevicelistParser.parse(xml, (device, hash) -> hashes.put(device.getIdentifier(), hash));
+        return hashes;
+    }
+
+    private String devicelist(String... devices) {
+        return "<devicelist version=\"1\">" + String.join("", devices) + "</devicelist>";
+    }
+}
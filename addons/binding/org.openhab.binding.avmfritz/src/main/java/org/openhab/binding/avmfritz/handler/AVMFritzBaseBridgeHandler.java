@@ -16,7 +16,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -39,6 +41,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -90,6 +93,14 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
      * shared instance of HTTP client for asynchronous calls
      */
     private HttpClient httpClient;
+    /**
+     * Handlers of the things of this bridge by AIN
+     */
+    private final Map<String, AVMFritzBaseThingHandler> handlersByAIN = new ConcurrentHashMap<>();
+    /**
+     * Hashes of the device list entries last applied to the things by AIN
+     */
+    private final Map<String, Long> deviceHashes = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -114,6 +125,13 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
 
         this.refreshInterval = config.getPollingInterval();
         this.connection = new FritzAhaWebInterface(config, this, httpClient);
+        deviceHashes.clear();
+        for (Thing thing : bridge.getThings()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler != null) {
+                childHandlerInitialized(handler, thing);
+            }
+        }
         if (config.getPassword() != null) {
             onUpdate();
         } else {
@@ -135,6 +153,22 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof AVMFritzBaseThingHandler) {
+            String ain = getAIN(childThing);
+            if (ain != null) {
+                handlersByAIN.put(ain, (AVMFritzBaseThingHandler) childHandler);
+                deviceHashes.remove(ain);
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        handlersByAIN.values().remove(childHandler);
+    }
+
     /**
      * Start the polling.
      */
@@ -171,6 +205,28 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
         super.updateStatus(status, statusDetail, description);
     }
 
+    /**
+     * Called from {@link FritzAhaUpdateXmlCallback} for each entry of the device list to check whether it has changed
+     * since it has been applied to the things the last time.
+     *
+     * @param ain AIN of the device
+     * @param hash Hash of the device list entry
+     * @return true if the entry has changed and the things have to be updated
+     */
+    public boolean hasDeviceChanged(String ain, long hash) {
+        Long previousHash = deviceHashes.put(ain, hash);
+        return previousHash == null || previousHash.longValue() != hash;
+    }
+
+    /**
+     * Forces the things of a device to be updated with the next poll, e.g. after a command has been sent to it.
+     *
+     * @param ain AIN of the device
+     */
+    public void invalidateDevice(String ain) {
+        deviceHashes.remove(ain.replace(" ", ""));
+    }
+
     /**
      * Called from {@link FritzAhaUpdateXmlCallback} to provide new values for
      * things.
@@ -179,20 +235,23 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
      */
     public void addDeviceList(AVMFritzBaseModel device) {
         logger.debug("set device model: {}", device);
-        ThingUID thingUID = getThingUID(device);
-        if (thingUID != null) {
-            Thing thing = getThingByUID(thingUID);
+        AVMFritzBaseThingHandler handler = device.getIdentifier() != null ? handlersByAIN.get(device.getIdentifier())
+                : null;
+        if (handler != null) {
+            Thing thing = handler.getThing();
+            logger.debug("update thing {} with device model: {}", thing.getUID(), device);
+            handler.setState(device);
+            updateThingFromDevice(thing, device);
+        } else {
+            // things without a registered handler are still updated through their UID
+            ThingUID thingUID = getThingUID(device);
+            Thing thing = thingUID != null ? getThingByUID(thingUID) : null;
             if (thing != null) {
                 logger.debug("update thing {} with device model: {}", thingUID, device);
-                AVMFritzBaseThingHandler handler = (AVMFritzBaseThingHandler) thing.getHandler();
-                if (handler != null) {
-                    handler.setState(device);
-                }
                 updateThingFromDevice(thing, device);
             } else {
-                logger.debug("no thing {} found for device model: {}", thingUID, device);
+                logger.debug("no thing found for device model: {}", device);
             }
-            logger.debug("no thing UID found for device model: {}", device);
         }
     }
 
@@ -314,6 +373,18 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Provides the AIN of a thing without spaces, as it is returned by {@link AVMFritzBaseModel#getIdentifier()}.
+     *
+     * @param thing Thing of this bridge
+     * @return AIN of the thing or null, if it has no AIN
+     */
+    @Nullable
+    protected String getAIN(Thing thing) {
+        Object ain = thing.getConfiguration().get(THING_AIN);
+        return ain != null ? ain.toString().replace(" ", "") : null;
+    }
+
     /**
      * Provides the web interface object.
      *
@@ -381,6 +452,7 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("Handle command '{}' for channel {}", command, channelUID);
         if (command instanceof RefreshType) {
+            deviceHashes.clear();
             scheduler.submit(() -> poll());
             return;
         }
@@ -29,6 +29,7 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.thing.binding.BridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.HeatingModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
@@ -83,6 +84,15 @@ public abstract class AVMFritzBaseThingHandler extends BaseThingHandler {
             return;
         }
         String ain = getThing().getConfiguration().get(THING_AIN).toString();
+        if (command instanceof RefreshType) {
+            // the channels are updated with the next poll
+            Bridge bridge = getBridge();
+            BridgeHandler handler = bridge != null ? bridge.getHandler() : null;
+            if (handler instanceof AVMFritzBaseBridgeHandler) {
+                ((AVMFritzBaseBridgeHandler) handler).invalidateDevice(ain);
+            }
+            return;
+        }
         switch (channelId) {
             case CHANNEL_MODE:
             case CHANNEL_LOCKED:
@@ -20,6 +20,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.avmfritz.BindingConstants;
 import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
 import org.openhab.binding.avmfritz.internal.ahamodel.SwitchModel;
@@ -123,6 +124,11 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
             return;
         }
         String ain = getThing().getConfiguration().get(THING_AIN).toString();
+        if (command instanceof RefreshType) {
+            // the channels are updated with the next poll
+            invalidateDevice(ain);
+            return;
+        }
         switch (channelId) {
             case CHANNEL_MODE:
             case CHANNEL_LOCKED:
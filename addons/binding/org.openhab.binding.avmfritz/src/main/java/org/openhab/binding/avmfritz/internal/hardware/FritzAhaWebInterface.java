@@ -301,11 +301,13 @@ public class FritzAhaWebInterface {
     }
 
     public FritzAhaContentExchange setSwitch(String ain, boolean switchOn) {
+        handler.invalidateDevice(ain);
         FritzAhaSetSwitchCallback callback = new FritzAhaSetSwitchCallback(this, ain, switchOn);
         return asyncGet(callback);
     }
 
     public FritzAhaContentExchange setSetTemp(String ain, BigDecimal temperature) {
+        handler.invalidateDevice(ain);
         FritzAhaSetHeatingTemperatureCallback callback = new FritzAhaSetHeatingTemperatureCallback(this, ain,
                 temperature);
         return asyncGet(callback);
@@ -8,18 +8,16 @@
  */
 package org.openhab.binding.avmfritz.internal.hardware.callbacks;
 
-import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.avmfritz.handler.AVMFritzBaseBridgeHandler;
-import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
-import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistModel;
 import org.openhab.binding.avmfritz.internal.hardware.FritzAhaWebInterface;
-import org.openhab.binding.avmfritz.internal.util.JAXBUtils;
+import org.openhab.binding.avmfritz.internal.util.DevicelistParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +25,9 @@ import org.slf4j.LoggerFactory;
  * Callback implementation for updating multiple numbers decoded from a xml
  * response. Supports reauthorization.
  *
+ * The device list is parsed as a stream and only devices, whose entry has changed since the last poll, are passed to
+ * the bridge handler.
+ *
  * @author Robert Bausdorf - Initial contribution
  * @author Christoph Weitkamp - Added support for groups
  */
@@ -55,19 +56,23 @@ public class FritzAhaUpdateXmlCallback extends FritzAhaReauthCallback {
         super.execute(status, response);
         logger.trace("Received State response {}", response);
         if (isValidRequest()) {
+            AtomicInteger devices = new AtomicInteger();
+            AtomicInteger changedDevices = new AtomicInteger();
             try {
-                Unmarshaller u = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
-                DevicelistModel model = (DevicelistModel) u.unmarshal(new StringReader(response));
-                if (model != null) {
-                    for (AVMFritzBaseModel device : model.getDevicelist()) {
+                DevicelistParser.parse(response, (device, hash) -> {
+                    devices.incrementAndGet();
+                    String ain = device.getIdentifier();
+                    if (ain == null || handler.hasDeviceChanged(ain, hash)) {
+                        changedDevices.incrementAndGet();
                         handler.addDeviceList(device);
                     }
-                    handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, "FRITZ!Box online");
-                } else {
-                    logger.warn("no model in response");
-                }
+                });
+                logger.debug("{} of {} devices changed", changedDevices, devices);
+                handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, "FRITZ!Box online");
             } catch (JAXBException e) {
-                logger.error("Exception creating Unmarshaller: {}", e.getLocalizedMessage(), e);
+                logger.error("Exception unmarshalling device list: {}", e.getLocalizedMessage(), e);
+            } catch (XMLStreamException e) {
+                logger.warn("Invalid device list in response: {}", e.getLocalizedMessage());
             }
         } else {
             logger.debug("request is invalid: {}", status);
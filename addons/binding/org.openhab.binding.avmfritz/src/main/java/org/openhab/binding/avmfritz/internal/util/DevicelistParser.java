@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import java.io.StringReader;
+import java.util.function.ObjLongConsumer;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DevicelistModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.GroupModel;
+
+/**
+ * Streaming parser for the device list of the AHA interface.
+ *
+ * The response is read with StAX and every device or group element is unmarshalled on its own, so the complete
+ * {@link DevicelistModel} is never built. While an element is read, a hash of its content is calculated, which allows
+ * callers to skip devices that have not changed since the last poll.
+ *
+ * @author agent - Initial contribution
+ */
+public class DevicelistParser {
+
+    private static final String DEVICE = "device";
+    private static final String GROUP = "group";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = initXMLInputFactory();
+
+    private static XMLInputFactory initXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Parses a device list and passes each device or group together with the hash of its XML content to the
+     * consumer, in the order of the response.
+     *
+     * @param xml Response of the "getdevicelistinfos" command
+     * @param consumer Consumer for the parsed models and their hashes
+     * @throws JAXBException if a device or group cannot be unmarshalled
+     * @throws XMLStreamException if the response is not well-formed
+     */
+    public static void parse(String xml, ObjLongConsumer<AVMFritzBaseModel> consumer)
+            throws JAXBException, XMLStreamException {
+        Unmarshaller unmarshaller = JAXBUtils.JAXBCONTEXT.createUnmarshaller();
+        HashingStreamReader reader = new HashingStreamReader(
+                XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml)));
+        try {
+            while (reader.hasNext()) {
+                if (reader.isStartElement()) {
+                    String name = reader.getLocalName();
+                    if (DEVICE.equals(name) || GROUP.equals(name)) {
+                        reader.startHash();
+                        // leaves the reader on the event following the end of the element
+                        AVMFritzBaseModel device = unmarshaller
+                                .unmarshal(reader, DEVICE.equals(name) ? DeviceModel.class : GroupModel.class)
+                                .getValue();
+                        consumer.accept(device, reader.getHash());
+                        continue;
+                    }
+                }
+                reader.next();
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Calculates a 64 bit FNV-1a hash over the names, attributes and text of the element the reader is positioned on
+     * when {@link #startHash()} is called.
+     */
+    private static class HashingStreamReader extends StreamReaderDelegate {
+
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private long hash;
+        private int depth;
+        private boolean hashing;
+
+        HashingStreamReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        void startHash() {
+            hash = FNV_OFFSET_BASIS;
+            depth = 0;
+            hashing = true;
+            update();
+        }
+
+        long getHash() {
+            return hash;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            int event = super.next();
+            update();
+            return event;
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int event = next();
+            while ((event == XMLStreamConstants.CHARACTERS && isWhiteSpace())
+                    || (event == XMLStreamConstants.CDATA && isWhiteSpace()) || event == XMLStreamConstants.SPACE
+                    || event == XMLStreamConstants.COMMENT || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                event = next();
+            }
+            if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+                throw new XMLStreamException("expected start or end tag", getLocation());
+            }
+            return event;
+        }
+
+        private void update() {
+            if (!hashing) {
+                return;
+            }
+            switch (getEventType()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    mix('<');
+                    mix(getLocalName());
+                    for (int i = 0; i < getAttributeCount(); i++) {
+                        mix(' ');
+                        mix(getAttributeLocalName(i));
+                        mix('=');
+                        mix(getAttributeValue(i));
+                    }
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    mix(getText());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    mix('>');
+                    hashing = --depth > 0;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void mix(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                mix(value.charAt(i));
+            }
+        }
+
+        private void mix(char value) {
+            hash ^= value;
+            hash *= FNV_PRIME;
+        }
+    }
+}
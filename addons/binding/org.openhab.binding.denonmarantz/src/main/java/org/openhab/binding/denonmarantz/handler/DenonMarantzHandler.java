@@ -67,6 +67,8 @@ import org.xml.sax.SAXException;
  */
 public class DenonMarantzHandler extends BaseThingHandler implements DenonMarantzStateChangedListener {
 
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+
     private final Logger logger = LoggerFactory.getLogger(DenonMarantzHandler.class);
     private HttpClient httpClient;
     private DenonMarantzConnector connector;
@@ -238,10 +240,11 @@ public class DenonMarantzHandler extends BaseThingHandler implements DenonMarant
                 }
 
                 if (status == HttpURLConnection.HTTP_OK && response != null) {
-                    DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
                     DocumentBuilder builder;
                     try {
-                        builder = domFactory.newDocumentBuilder();
+                        synchronized (DOCUMENT_BUILDER_FACTORY) {
+                            builder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+                        }
                         Document dDoc = builder.parse(new InputSource(new StringReader(response.getContentAsString())));
                         XPath xPath = XPathFactory.newInstance().newXPath();
                         Node node = (Node) xPath.evaluate("/Device_Info/DeviceZones/text()", dDoc, XPathConstants.NODE);
@@ -11,11 +11,14 @@ package org.openhab.binding.denonmarantz.internal.connector.http;
 import java.beans.Introspector;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -29,7 +32,6 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.util.StreamReaderDelegate;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
@@ -64,6 +66,11 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
 
     private static final int REQUEST_TIMEOUT_MS = 5000; // 5 seconds
 
+    // Creating a JAXBContext is expensive, so the contexts are created once per class and shared by all connectors
+    private static final Map<Class<?>, JAXBContext> JAXB_CONTEXTS = new HashMap<>();
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
     // Main URL for the receiver
     private static final String URL_MAIN = "formMainZone_MainZoneXml.xml";
 
@@ -301,13 +308,11 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
             logger.trace("result of getDocument for uri '{}':\r\n{}", uri, result);
 
             if (StringUtils.isNotBlank(result)) {
-                JAXBContext jc = JAXBContext.newInstance(response);
-                XMLInputFactory xif = XMLInputFactory.newInstance();
-                XMLStreamReader xsr = xif.createXMLStreamReader(IOUtils.toInputStream(result));
+                XMLStreamReader xsr = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(result));
                 xsr = new PropertyRenamerDelegate(xsr);
 
                 @SuppressWarnings("unchecked")
-                T obj = (T) jc.createUnmarshaller().unmarshal(xsr);
+                T obj = (T) getJAXBContext(response).createUnmarshaller().unmarshal(xsr);
 
                 return obj;
             }
@@ -328,8 +333,7 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
     @Nullable
     private <T, S> T postDocument(String uri, Class<T> response, S request) {
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(request.getClass());
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+            Marshaller jaxbMarshaller = getJAXBContext(request.getClass()).createMarshaller();
             StringWriter sw = new StringWriter();
             jaxbMarshaller.marshal(request, sw);
 
@@ -337,10 +341,8 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
             String result = HttpUtil.executeUrl("POST", uri, inputStream, CONTENT_TYPE_XML, REQUEST_TIMEOUT_MS);
 
             if (StringUtils.isNotBlank(result)) {
-                JAXBContext jcResponse = JAXBContext.newInstance(response);
-
                 @SuppressWarnings("unchecked")
-                T obj = (T) jcResponse.createUnmarshaller().unmarshal(IOUtils.toInputStream(result));
+                T obj = (T) getJAXBContext(response).createUnmarshaller().unmarshal(new StringReader(result));
 
                 return obj;
             }
@@ -354,6 +356,15 @@ public class DenonMarantzHttpConnector extends DenonMarantzConnector {
         return null;
     }
 
+    private static synchronized JAXBContext getJAXBContext(Class<?> type) throws JAXBException {
+        JAXBContext context = JAXB_CONTEXTS.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXB_CONTEXTS.put(type, context);
+        }
+        return context;
+    }
+
     private static class PropertyRenamerDelegate extends StreamReaderDelegate {
 
         public PropertyRenamerDelegate(XMLStreamReader xsr) {
@@ -98,6 +98,9 @@ public abstract class DLinkHNAPCommunication {
     private final String pin;
     private String privateKey;
 
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+
+    // Not thread safe, access must be synchronized on the parser
     private DocumentBuilder parser;
     private SOAPMessage requestAction;
     private SOAPMessage loginAction;
@@ -151,7 +154,9 @@ public abstract class DLinkHNAPCommunication {
             uri = new URI("http://" + ipAddress + "/HNAP1");
             httpClient.start();
 
-            parser = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                parser = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
 
             final MessageFactory messageFactory = MessageFactory.newInstance();
             requestAction = messageFactory.createMessage();
@@ -431,7 +436,9 @@ public abstract class DLinkHNAPCommunication {
             request.content(new BytesContentProvider(os.toByteArray()));
             final ContentResponse response = request.send();
             try (final ByteArrayInputStream is = new ByteArrayInputStream(response.getContent())) {
-                result = parser.parse(is);
+                synchronized (parser) {
+                    result = parser.parse(is);
+                }
             }
         }
 
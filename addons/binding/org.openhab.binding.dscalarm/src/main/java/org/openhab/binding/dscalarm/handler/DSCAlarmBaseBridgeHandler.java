@@ -14,6 +14,8 @@ import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +27,7 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
@@ -54,16 +57,22 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     private DSCAlarmProtocol dscAlarmProtocol = null;
 
     /** The DSC Alarm Discovery Service. */
-    private DSCAlarmDiscoveryService dscAlarmDiscoveryService = null;
+    private volatile DSCAlarmDiscoveryService dscAlarmDiscoveryService = null;
 
     /** The Panel Thing handler for the bridge. */
-    private DSCAlarmBaseThingHandler panelThingHandler = null;
+    private volatile DSCAlarmBaseThingHandler panelThingHandler = null;
+
+    /**
+     * The thing handlers of the bridge, by thing type, partition and zone (see {@link #getRoutingKey}), used to route
+     * incoming messages.
+     */
+    private final Map<Integer, DSCAlarmBaseThingHandler> thingHandlers = new ConcurrentHashMap<>();
 
     /** Connection status for the bridge. */
-    private boolean connected = false;
+    private volatile boolean connected = false;
 
     /** Determines if things have changed. */
-    private boolean thingsHaveChanged = false;
+    private volatile boolean thingsHaveChanged = false;
 
     /** Determines if all things have been initialized. */
     private boolean allThingsInitialized = false;
@@ -357,11 +366,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                     allThingsInitialized = false;
                 }
 
-                if (handler.getDSCAlarmThingType().equals(DSCAlarmThingType.PANEL)) {
-                    if (panelThingHandler == null) {
-                        panelThingHandler = handler;
-                    }
-                }
+                registerThingHandler(handler, thing);
 
             } else {
                 logger.error("checkThings(): Thing handler not found!");
@@ -370,6 +375,97 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            registerThingHandler((DSCAlarmBaseThingHandler) childHandler, childThing);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            unregisterThingHandler((DSCAlarmBaseThingHandler) childHandler);
+        }
+    }
+
+    /**
+     * Adds a thing handler to the routing table for incoming messages.
+     *
+     * @param handler
+     * @param thing
+     */
+    private void registerThingHandler(DSCAlarmBaseThingHandler handler, Thing thing) {
+        DSCAlarmThingType dscAlarmThingType = handler.getDSCAlarmThingType();
+
+        if (dscAlarmThingType == null) {
+            return;
+        }
+
+        int partitionId = 0;
+        int zoneId = 0;
+
+        try {
+            Configuration config = thing.getConfiguration();
+            switch (dscAlarmThingType) {
+                case PARTITION:
+                    partitionId = ((BigDecimal) config.get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER)).intValue();
+                    break;
+                case ZONE:
+                    zoneId = ((BigDecimal) config.get(DSCAlarmZoneConfiguration.ZONE_NUMBER)).intValue();
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception e) {
+            logger.debug("registerThingHandler(): Error Reading Configuration of Thing '{}' - {} ", thing.getUID(),
+                    e.getMessage(), e);
+            return;
+        }
+
+        if (thingHandlers.put(getRoutingKey(dscAlarmThingType, partitionId, zoneId), handler) != handler) {
+            logger.debug("registerThingHandler(): Thing Registered - {}, {}, {}", thing.getUID(), dscAlarmThingType,
+                    dscAlarmThingType == DSCAlarmThingType.ZONE ? zoneId : partitionId);
+        }
+
+        if (dscAlarmThingType == DSCAlarmThingType.PANEL && panelThingHandler == null) {
+            panelThingHandler = handler;
+        }
+    }
+
+    /**
+     * Removes a thing handler from the routing table for incoming messages.
+     *
+     * @param handler
+     */
+    private void unregisterThingHandler(DSCAlarmBaseThingHandler handler) {
+        thingHandlers.values().removeIf(h -> h == handler);
+
+        if (panelThingHandler == handler) {
+            panelThingHandler = null;
+        }
+    }
+
+    /**
+     * Returns the key of a thing in the routing table. Partitions are identified by their partition number and zones
+     * by their zone number only, there is a single panel and keypad per bridge.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return the key
+     */
+    private static int getRoutingKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                return dscAlarmThingType.ordinal() << 16 | (partitionId & 0xFFFF);
+            case ZONE:
+                return dscAlarmThingType.ordinal() << 16 | (zoneId & 0xFFFF);
+            default:
+                return dscAlarmThingType.ordinal() << 16;
+        }
+    }
+
     /**
      * Find a Thing.
      *
@@ -437,15 +533,17 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
     /**
      * Handles an incoming message from the DSC Alarm System.
      *
+     * The message is called from the thread reading the connection, it is passed to the thing registered for the
+     * partition or zone of the message without locking the bridge handler.
+     *
      * @param incomingMessage
      */
-    public synchronized void handleIncomingMessage(String incomingMessage) {
+    public void handleIncomingMessage(String incomingMessage) {
         if (incomingMessage != null && !incomingMessage.isEmpty()) {
             DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
             DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
 
-            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
-                    dscAlarmMessage.toString());
+            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage, dscAlarmMessage);
 
             DSCAlarmEvent event = new DSCAlarmEvent(this);
             event.dscAlarmEventMessage(dscAlarmMessage);
@@ -453,9 +551,9 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             int partitionId = 0;
             int zoneId = 0;
 
-            DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                    .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+            DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
 
+            DSCAlarmBaseThingHandler panelThingHandler = this.panelThingHandler;
             if (panelThingHandler != null) {
                 panelThingHandler.setPanelMessage(dscAlarmMessage);
             }
@@ -482,12 +580,11 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                     break;
                 case PARTITION_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.PARTITION;
-                    partitionId = Integer
-                            .parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
+                    partitionId = dscAlarmMessage.getPartitionId();
                     break;
                 case ZONE_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.ZONE;
-                    zoneId = Integer.parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.ZONE));
+                    zoneId = dscAlarmMessage.getZoneId();
                     break;
                 case KEYPAD_EVENT:
                     dscAlarmThingType = DSCAlarmThingType.KEYPAD;
@@ -497,24 +594,24 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
             }
 
             if (dscAlarmThingType != null) {
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+                DSCAlarmBaseThingHandler thingHandler = thingHandlers
+                        .get(getRoutingKey(dscAlarmThingType, partitionId, zoneId));
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+                if (thingHandler != null) {
+                    Thing thing = thingHandler.getThing();
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+                    logger.debug("handleIncomingMessage(): Thing Found - '{}'", thing.getUID());
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
+                    if (thingHandler.isThingHandlerInitialized()) {
+                        thingHandler.dscAlarmEventReceived(event, thing);
 
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
-                        }
+                    } else {
+                        logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
                     }
                 } else {
                     logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
 
+                    DSCAlarmDiscoveryService dscAlarmDiscoveryService = this.dscAlarmDiscoveryService;
                     if (dscAlarmDiscoveryService != null) {
                         dscAlarmDiscoveryService.addThing(getThing(), dscAlarmThingType, event);
                     }
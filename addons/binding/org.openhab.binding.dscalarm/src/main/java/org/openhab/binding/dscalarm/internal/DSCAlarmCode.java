@@ -192,6 +192,20 @@ public enum DSCAlarmCode {
      */
     private static Map<String, DSCAlarmCode> codeToDSCAlarmCodeValue;
 
+    /**
+     * Lookup table to get a DSCAlarmCode value from its numeric code, used when parsing received messages.
+     */
+    private static final DSCAlarmCode[] NUMBER_TO_DSCALARM_CODE_VALUE = new DSCAlarmCode[1000];
+
+    static {
+        for (DSCAlarmCode s : values()) {
+            int number = Integer.parseInt(s.code);
+            if (number >= 0 && number < NUMBER_TO_DSCALARM_CODE_VALUE.length) {
+                NUMBER_TO_DSCALARM_CODE_VALUE[number] = s;
+            }
+        }
+    }
+
     /**
      * Constructor
      *
@@ -256,4 +270,22 @@ public enum DSCAlarmCode {
 
         return dscAlarmCode;
     }
+
+    /**
+     * Lookup function to return the DSCAlarmCode value based on the numeric code. Returns 'UnknownCode' if the code is
+     * not found.
+     *
+     * @param code
+     * @return enum value
+     */
+    public static DSCAlarmCode getDSCAlarmCodeValue(int code) {
+        if (code >= 0 && code < NUMBER_TO_DSCALARM_CODE_VALUE.length) {
+            DSCAlarmCode dscAlarmCode = NUMBER_TO_DSCALARM_CODE_VALUE[code];
+            if (dscAlarmCode != null) {
+                return dscAlarmCode;
+            }
+        }
+
+        return UnknownCode;
+    }
 }
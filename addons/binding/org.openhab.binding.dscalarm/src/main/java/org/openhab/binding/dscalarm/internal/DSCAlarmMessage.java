@@ -20,7 +20,7 @@ import org.slf4j.LoggerFactory;
  */
 public class DSCAlarmMessage {
 
-    private final Logger logger = LoggerFactory.getLogger(DSCAlarmMessage.class);
+    private static final Logger logger = LoggerFactory.getLogger(DSCAlarmMessage.class);
 
     private static final EnumMap<DSCAlarmCode, MessageParameters> DSCALARM_MESSAGE_PARAMETERS = new EnumMap<>(
             DSCAlarmCode.class);
@@ -48,14 +48,29 @@ public class DSCAlarmMessage {
 
     private DSCAlarmMessageType messageType = DSCAlarmMessageType.PANEL_EVENT;
 
-    private String message = "";
+    /*
+     * The message is parsed in place: the fields below are indexes into the received string, the strings returned by
+     * getMessageInfo() are only created when they are asked for.
+     */
+    private final String rawMessage;
+    private int messageStart = 0;
+    private int messageEnd = 0;
+    private boolean hasTimeStamp = false;
+    private int partitionStart = -1;
+    private int zoneStart = -1;
+
+    private DSCAlarmCode dscAlarmCode = DSCAlarmCode.UnknownCode;
+    private int partitionId = 0;
+    private int zoneId = 0;
+
+    private String message;
     private String name = "";
     private String description = "";
     private String codeReceived = "";
-    private String timeStamp = "";
-    private String partition = "0";
-    private String zone = "0";
-    private String data = "";
+    private String timeStamp;
+    private String partition;
+    private String zone;
+    private String data;
     private String mode = "";
     private String user = "";
     private String error = "";
@@ -67,7 +82,7 @@ public class DSCAlarmMessage {
      *            - the message received
      */
     public DSCAlarmMessage(String message) {
-        this.message = message;
+        this.rawMessage = message;
         processDSCAlarmMessage();
     }
 
@@ -75,181 +90,184 @@ public class DSCAlarmMessage {
      * Processes the incoming DSC Alarm message and extracts the information.
      */
     private void processDSCAlarmMessage() {
-        DSCAlarmCode dscAlarmCode;
-
-        if (message.length() > 3) {
-            try {
-                if (message.length() >= 8 && message.charAt(2) == ':' && message.charAt(5) == ':') {
-                    timeStamp = message.substring(0, 8);
-                    message = message.substring(9, message.length() - 2);
-                } else {
-                    message = message.substring(0, message.length() - 2);
-                }
+        int length = rawMessage.length();
 
-                codeReceived = message.substring(0, 3);
+        if (length > 3) {
+            if (length >= 8 && rawMessage.charAt(2) == ':' && rawMessage.charAt(5) == ':') {
+                hasTimeStamp = true;
+                messageStart = 9;
+            }
+            // the last two characters are the checksum
+            messageEnd = length - 2;
 
-                if (message.length() >= 4) {
-                    data = message.substring(3);
-                }
-            } catch (Exception e) {
-                logger.error("processDSCAlarmMessage(): Error processing message: ({}) ", message, e);
+            if (messageEnd - messageStart < 3) {
+                messageStart = 0;
+                messageEnd = length;
+                logger.error("processDSCAlarmMessage(): Error processing message: ({}) ", rawMessage);
                 return;
             }
 
-            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
-
-            if (dscAlarmCode != null) {
-                name = dscAlarmCode.getName();
-                description = dscAlarmCode.getDescription();
+            dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(parseNumber(messageStart, messageStart + 3));
+            if (dscAlarmCode != DSCAlarmCode.UnknownCode) {
+                codeReceived = dscAlarmCode.getCode();
+            } else {
+                codeReceived = rawMessage.substring(messageStart, messageStart + 3);
+            }
 
-                MessageParameters messageParms = DSCALARM_MESSAGE_PARAMETERS.get(dscAlarmCode);
+            name = dscAlarmCode.getName();
+            description = dscAlarmCode.getDescription();
 
-                if (messageParms != null) {
-                    boolean hasPartition = messageParms.hasPartition();
-                    boolean hasZone = messageParms.hasZone();
+            MessageParameters messageParms = DSCALARM_MESSAGE_PARAMETERS.get(dscAlarmCode);
 
-                    if (hasPartition) {
-                        partition = message.substring(3, 4);
-                    }
+            if (messageParms != null) {
+                boolean hasPartition = messageParms.hasPartition();
+                boolean hasZone = messageParms.hasZone();
 
-                    if (hasZone) {
-                        if (hasPartition) {
-                            zone = message.substring(4);
-                        } else {
-                            zone = message.substring(3);
-                        }
-                    }
+                int index = messageStart + 3;
 
-                    messageType = messageParms.getType();
+                if (hasPartition && index < messageEnd) {
+                    partitionStart = index;
+                    partitionId = parseNumber(index, index + 1);
+                    index++;
                 }
 
-                switch (dscAlarmCode) {
-                    case SystemError: /* 502 */
-                        int systemErrorCode = 0;
-                        systemErrorCode = Integer.parseInt(data);
-                        switch (systemErrorCode) {
-                            case 1:
-                                error = "Receive Buffer Overrun";
-                                break;
-                            case 2:
-                                error = "Receive Buffer Overflow";
-                                break;
-                            case 3:
-                                error = "Transmit Buffer Overflow";
-                                break;
-                            case 10:
-                                error = "Keybus Transmit Buffer Overrun";
-                                break;
-                            case 11:
-                                error = "Keybus Transmit Time Timeout";
-                                break;
-                            case 12:
-                                error = "Keybus Transmit Mode Timeout";
-                                break;
-                            case 13:
-                                error = "Keybus Transmit Keystring Timeout";
-                                break;
-                            case 14:
-                                error = "Keybus Interface Not Functioning";
-                                break;
-                            case 15:
-                                error = "Keybus Busy - Attempting to Disarm or Arm with user code";
-                                break;
-                            case 16:
-                                error = "Keybus Busy – Lockout";
-                                break;
-                            case 17:
-                                error = "Keybus Busy – Installers Mode";
-                                break;
-                            case 18:
-                                error = "Keybus Busy - General Busy";
-                                break;
-                            case 20:
-                                error = "API Command Syntax Error";
-                                break;
-                            case 21:
-                                error = "API Command Partition Error - Requested Partition is out of bounds";
-                                break;
-                            case 22:
-                                error = "API Command Not Supported";
-                                break;
-                            case 23:
-                                error = "API System Not Armed - Sent in response to a disarm command";
-                                break;
-                            case 24:
-                                error = "API System Not Ready to Arm - System is either not-secure, in exit-delay, or already armed";
-                                break;
-                            case 25:
-                                error = "API Command Invalid Length";
-                                break;
-                            case 26:
-                                error = "API User Code not Required";
-                                break;
-                            case 27:
-                                error = "API Invalid Characters in Command - No alpha characters are allowed except for checksum";
-                                break;
-                            case 28:
-                                error = "API Virtual Keypad is Disabled";
-                                break;
-                            case 29:
-                                error = "API Not Valid Parameter";
-                                break;
-                            case 30:
-                                error = "API Keypad Does Not Come Out of Blank Mode";
-                                break;
-                            case 31:
-                                error = "API IT-100 is Already in Thermostat Menu";
-                                break;
-                            case 32:
-                                error = "API IT-100 is NOT in Thermostat Menu";
-                                break;
-                            case 33:
-                                error = "API No Response From Thermostat or Escort Module";
-                                break;
-                            case 0:
-                            default:
-                                error = "No Error";
-                                break;
-                        }
-                        break;
-
-                    case PartitionArmed: /* 652 */
-                        mode = message.substring(4);
-                        if (mode.equals("0")) {
-                            name += " (Away)";
-                        } else if (mode.equals("1")) {
-                            name += " (Stay)";
-                        } else if (mode.equals("2")) {
-                            name += " (ZEA)";
-                        } else if (mode.equals("3")) {
-                            name += " (ZES)";
-                        }
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-                    case UserClosing: /* 700 */
-                        user = message.substring(4);
-                        name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
-                                + " has been armed by user " + user + ".";
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-                    case UserOpening: /* 750 */
-                        user = message.substring(4);
-                        name = name.concat(": " + user);
-                        description = codeReceived + ": Partition " + String.valueOf(partition)
-                                + " has been disarmed by user " + user + ".";
-                        messageType = DSCAlarmMessageType.PARTITION_EVENT;
-                        break;
-
-                    default:
-                        break;
+                if (hasZone && index < messageEnd) {
+                    zoneStart = index;
+                    zoneId = parseNumber(index, messageEnd);
                 }
 
+                messageType = messageParms.getType();
+            }
+
+            switch (dscAlarmCode) {
+                case SystemError: /* 502 */
+                    int systemErrorCode = 0;
+                    systemErrorCode = Integer.parseInt(getData());
+                    switch (systemErrorCode) {
+                        case 1:
+                            error = "Receive Buffer Overrun";
+                            break;
+                        case 2:
+                            error = "Receive Buffer Overflow";
+                            break;
+                        case 3:
+                            error = "Transmit Buffer Overflow";
+                            break;
+                        case 10:
+                            error = "Keybus Transmit Buffer Overrun";
+                            break;
+                        case 11:
+                            error = "Keybus Transmit Time Timeout";
+                            break;
+                        case 12:
+                            error = "Keybus Transmit Mode Timeout";
+                            break;
+                        case 13:
+                            error = "Keybus Transmit Keystring Timeout";
+                            break;
+                        case 14:
+                            error = "Keybus Interface Not Functioning";
+                            break;
+                        case 15:
+                            error = "Keybus Busy - Attempting to Disarm or Arm with user code";
+                            break;
+                        case 16:
+                            error = "Keybus Busy – Lockout";
+                            break;
+                        case 17:
+                            error = "Keybus Busy – Installers Mode";
+                            break;
+                        case 18:
+                            error = "Keybus Busy - General Busy";
+                            break;
+                        case 20:
+                            error = "API Command Syntax Error";
+                            break;
+                        case 21:
+                            error = "API Command Partition Error - Requested Partition is out of bounds";
+                            break;
+                        case 22:
+                            error = "API Command Not Supported";
+                            break;
+                        case 23:
+                            error = "API System Not Armed - Sent in response to a disarm command";
+                            break;
+                        case 24:
+                            error = "API System Not Ready to Arm - System is either not-secure, in exit-delay, or already armed";
+                            break;
+                        case 25:
+                            error = "API Command Invalid Length";
+                            break;
+                        case 26:
+                            error = "API User Code not Required";
+                            break;
+                        case 27:
+                            error = "API Invalid Characters in Command - No alpha characters are allowed except for checksum";
+                            break;
+                        case 28:
+                            error = "API Virtual Keypad is Disabled";
+                            break;
+                        case 29:
+                            error = "API Not Valid Parameter";
+                            break;
+                        case 30:
+                            error = "API Keypad Does Not Come Out of Blank Mode";
+                            break;
+                        case 31:
+                            error = "API IT-100 is Already in Thermostat Menu";
+                            break;
+                        case 32:
+                            error = "API IT-100 is NOT in Thermostat Menu";
+                            break;
+                        case 33:
+                            error = "API No Response From Thermostat or Escort Module";
+                            break;
+                        case 0:
+                        default:
+                            error = "No Error";
+                            break;
+                    }
+                    break;
+
+                case PartitionArmed: /* 652 */
+                    mode = rawMessage.substring(messageStart + 4, messageEnd);
+                    if (mode.equals("0")) {
+                        name += " (Away)";
+                    } else if (mode.equals("1")) {
+                        name += " (Stay)";
+                    } else if (mode.equals("2")) {
+                        name += " (ZEA)";
+                    } else if (mode.equals("3")) {
+                        name += " (ZES)";
+                    }
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+                case UserClosing: /* 700 */
+                    user = rawMessage.substring(messageStart + 4, messageEnd);
+                    name = name.concat(": " + user);
+                    description = codeReceived + ": Partition " + getPartition() + " has been armed by user " + user
+                            + ".";
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+                case UserOpening: /* 750 */
+                    user = rawMessage.substring(messageStart + 4, messageEnd);
+                    name = name.concat(": " + user);
+                    description = codeReceived + ": Partition " + getPartition() + " has been disarmed by user " + user
+                            + ".";
+                    messageType = DSCAlarmMessageType.PARTITION_EVENT;
+                    break;
+
+                default:
+                    break;
+            }
+
+            if (logger.isDebugEnabled()) {
                 logger.debug(
                         "parseAPIMessage(): Message Received ({}) - Code: {}, Name: {}, Description: {}, Data: {}\r\n",
-                        message, codeReceived, name, description, data);
+                        getMessage(), codeReceived, name, description, getData());
             }
         } else {
+            messageEnd = length;
             codeReceived = "-1";
             data = "";
             dscAlarmCode = DSCAlarmCode.getDSCAlarmCodeValue(codeReceived);
@@ -259,6 +277,63 @@ public class DSCAlarmMessage {
         }
     }
 
+    /**
+     * Parses the decimal number between the given indexes of the received message.
+     *
+     * @return the number, or -1 if the characters are not all digits
+     */
+    private int parseNumber(int start, int end) {
+        if (start >= end) {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = rawMessage.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+
+        return number;
+    }
+
+    private String getMessage() {
+        if (message == null) {
+            message = rawMessage.substring(messageStart, messageEnd);
+        }
+        return message;
+    }
+
+    private String getTimeStamp() {
+        if (timeStamp == null) {
+            timeStamp = hasTimeStamp ? rawMessage.substring(0, 8) : "";
+        }
+        return timeStamp;
+    }
+
+    private String getPartition() {
+        if (partition == null) {
+            partition = partitionStart < 0 ? "0" : rawMessage.substring(partitionStart, partitionStart + 1);
+        }
+        return partition;
+    }
+
+    private String getZone() {
+        if (zone == null) {
+            zone = zoneStart < 0 ? "0" : rawMessage.substring(zoneStart, messageEnd);
+        }
+        return zone;
+    }
+
+    private String getData() {
+        if (data == null) {
+            data = messageEnd - messageStart > 3 ? rawMessage.substring(messageStart + 3, messageEnd) : "";
+        }
+        return data;
+    }
+
     /**
      * Returns the DSCAlarm Message Type.
      *
@@ -268,6 +343,33 @@ public class DSCAlarmMessage {
         return messageType;
     }
 
+    /**
+     * Returns the DSC Alarm code of the message.
+     *
+     * @return the code, 'UnknownCode' if the message could not be parsed
+     */
+    public DSCAlarmCode getDSCAlarmCode() {
+        return dscAlarmCode;
+    }
+
+    /**
+     * Returns the partition number of a partition message.
+     *
+     * @return the partition number, 0 if the message has no partition, -1 if it is not a number
+     */
+    public int getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Returns the zone number of a zone message.
+     *
+     * @return the zone number, 0 if the message has no zone, -1 if it is not a number
+     */
+    public int getZoneId() {
+        return zoneId;
+    }
+
     /**
      * Returns Information from A DSC Alarm Message
      *
@@ -279,7 +381,7 @@ public class DSCAlarmMessage {
 
         switch (dscAlarmMessageInfoType) {
             case MESSAGE:
-                info = message;
+                info = getMessage();
                 break;
             case NAME:
                 info = name;
@@ -291,22 +393,22 @@ public class DSCAlarmMessage {
                 info = codeReceived;
                 break;
             case TIME_STAMP:
-                info = timeStamp;
+                info = getTimeStamp();
                 break;
             case PARTITION:
-                info = partition;
+                info = getPartition();
                 break;
             case ZONE:
-                info = zone;
+                info = getZone();
                 break;
             case DATA:
-                info = data;
+                info = getData();
                 break;
             case MODE:
                 info = mode;
                 break;
             case USER:
-                info = timeStamp;
+                info = getTimeStamp();
                 break;
             case ERROR:
                 info = error;
@@ -339,24 +441,24 @@ public class DSCAlarmMessage {
         sb.append(description);
         sb.append("\"");
 
-        if (!timeStamp.equals("")) {
+        if (hasTimeStamp) {
             sb.append(", Time Stamp: ");
-            sb.append(timeStamp);
+            sb.append(getTimeStamp());
         }
 
-        if (!partition.equals("0")) {
+        if (!getPartition().equals("0")) {
             sb.append(", Partition: ");
-            sb.append(partition);
+            sb.append(getPartition());
         }
 
-        if (!zone.equals("0")) {
+        if (!getZone().equals("0")) {
             sb.append(", Zone: ");
-            sb.append(zone);
+            sb.append(getZone());
         }
 
-        if (!data.equals("")) {
+        if (!getData().equals("")) {
             sb.append(", Data: ");
-            sb.append(data);
+            sb.append(getData());
         }
 
         if (!mode.equals("")) {
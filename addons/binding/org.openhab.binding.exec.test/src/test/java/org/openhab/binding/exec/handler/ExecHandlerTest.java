@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.handler;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.exec.ExecBindingConstants.INPUT;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the coalescing of executions and the lifecycle of the coprocess of the {@link ExecHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecHandlerTest {
+
+    private static final int TIME_OUT = 5000;
+
+    private final Configuration configuration = new Configuration();
+    private Thing thing;
+    private BlockingExecHandler handler;
+    private File script;
+
+    @Before
+    public void setUp() {
+        thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(new ThingUID("exec:command:test"));
+        when(thing.getConfiguration()).thenReturn(configuration);
+        handler = new BlockingExecHandler(thing);
+        handler.setCallback(mock(ThingHandlerCallback.class));
+        handler.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        handler.release(Integer.MAX_VALUE / 2);
+        handler.dispose();
+        if (script != null) {
+            script.delete();
+        }
+    }
+
+    @Test
+    public void triggeredExecutionsAreCoalescedWhileRunning() throws InterruptedException {
+        handler.scheduleExecution(true);
+        handler.awaitStarted(1);
+
+        handler.scheduleExecution(true);
+        handler.scheduleExecution(true);
+        handler.scheduleExecution(true);
+
+        handler.release(1);
+        handler.awaitStarted(2);
+        handler.release(1);
+        handler.awaitFinished(2);
+
+        // give a wrongly scheduled third execution the chance to start
+        Thread.sleep(200);
+        assertEquals(2, handler.started.get());
+    }
+
+    @Test
+    public void periodicExecutionIsSkippedWhileRunning() throws InterruptedException {
+        handler.scheduleExecution(true);
+        handler.awaitStarted(1);
+
+        handler.scheduleExecution(false);
+
+        handler.release(1);
+        handler.awaitFinished(1);
+
+        Thread.sleep(200);
+        assertEquals(1, handler.started.get());
+    }
+
+    @Test
+    public void pendingExecutionIsDroppedOnDispose() throws InterruptedException {
+        handler.scheduleExecution(true);
+        handler.awaitStarted(1);
+        handler.scheduleExecution(true);
+
+        handler.dispose();
+        handler.release(1);
+        handler.awaitFinished(1);
+
+        Thread.sleep(200);
+        assertEquals(1, handler.started.get());
+
+        handler.scheduleExecution(true);
+        Thread.sleep(200);
+        assertEquals(1, handler.started.get());
+    }
+
+    @Test
+    public void coprocessIsReusedBetweenExecutions() throws IOException {
+        String commandLine = createCoprocessScript();
+
+        assertEquals("1:\n", handler.executeInCoprocess(commandLine, TIME_OUT, 1000).getOutput());
+        assertEquals("2:\n", handler.executeInCoprocess(commandLine, TIME_OUT, 1000).getOutput());
+    }
+
+    @Test
+    public void coprocessIsRestartedAfterItEnded() throws IOException {
+        String commandLine = createCoprocessScript();
+
+        assertEquals("1:\n", handler.executeInCoprocess(commandLine, TIME_OUT, 1000).getOutput());
+
+        // the script exits on the input "exit" without sending the delimiter
+        setInput("exit");
+        assertEquals("The coprocess ended before sending the delimiter",
+                handler.executeInCoprocess(commandLine, TIME_OUT, 1000).getOutput());
+
+        setInput("again");
+        assertEquals("1:again\n", handler.executeInCoprocess(commandLine, TIME_OUT, 1000).getOutput());
+    }
+
+    @Test
+    public void noCoprocessIsStartedAfterDispose() throws IOException {
+        String commandLine = createCoprocessScript();
+
+        assertNotNull(handler.executeInCoprocess(commandLine, TIME_OUT, 1000));
+        handler.dispose();
+
+        assertNull(handler.executeInCoprocess(commandLine, TIME_OUT, 1000));
+    }
+
+    private void setInput(String input) {
+        handler.handleCommand(new ChannelUID(thing.getUID(), INPUT), new StringType(input));
+    }
+
+    private String createCoprocessScript() throws IOException {
+        assumeTrue(new File("/bin/sh").canExecute());
+
+        script = File.createTempFile("coprocess", ".sh");
+        Files.write(script.toPath(), ("#!/bin/sh\n" + "n=0\n" + "while read line; do\n"
+                + "  [ \"$line\" = \"exit\" ] && exit 3\n" + "  n=$((n+1))\n" + "  echo \"$n:$line\"\n"
+                + "  echo \"--\"\n" + "done\n").getBytes(StandardCharsets.US_ASCII));
+        assertTrue(script.setExecutable(true));
+
+        configuration.put(ExecHandler.DELIMITER, "--");
+        return script.getAbsolutePath();
+    }
+
+    /**
+     * An {@link ExecHandler} whose executions block until they are released by the test.
+     */
+    private static class BlockingExecHandler extends ExecHandler {
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+        private final Semaphore releases = new Semaphore(0);
+
+        BlockingExecHandler(Thing thing) {
+            super(thing);
+        }
+
+        @Override
+        protected void execute() {
+            started.incrementAndGet();
+            try {
+                releases.tryAcquire(TIME_OUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.incrementAndGet();
+        }
+
+        void release(int executions) {
+            releases.release(executions);
+        }
+
+        void awaitStarted(int executions) throws InterruptedException {
+            await(started, executions);
+        }
+
+        void awaitFinished(int executions) throws InterruptedException {
+            await(finished, executions);
+        }
+
+        private void await(AtomicInteger counter, int executions) throws InterruptedException {
+            long end = System.currentTimeMillis() + TIME_OUT;
+            while (counter.get() < executions && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            assertTrue("Expected " + executions + " executions", counter.get() >= executions);
+        }
+    }
+}
@@ -31,5 +31,6 @@ public class ExecBindingConstants {
     public static final String EXIT = "exit";
     public static final String RUN = "run";
     public static final String LAST_EXECUTION = "lastexecution";
+    public static final String EXECUTION_TIME = "executiontime";
 
 }
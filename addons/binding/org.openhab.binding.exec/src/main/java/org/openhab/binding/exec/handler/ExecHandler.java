@@ -11,17 +11,23 @@ package org.openhab.binding.exec.handler;
 import static org.openhab.binding.exec.ExecBindingConstants.*;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.IllegalFormatException;
+import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
@@ -54,12 +60,29 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
+    public static final String DELIMITER = "delimiter";
+    public static final String MAX_CONCURRENT = "maxConcurrent";
+    public static final String MAX_OUTPUT = "maxOutput";
+
+    private static final String THREAD_POOL_NAME = "exec";
+    private static final int DEFAULT_TIME_OUT = 60000;
+    private static final int DEFAULT_MAX_CONCURRENT = 1;
+    private static final int DEFAULT_MAX_OUTPUT = 65536;
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
     private ScheduledFuture<?> executionJob;
-    private String lastInput;
+    private volatile String lastInput;
+
+    // Executions run in a bounded pool shared by all Things, instead of the Thing scheduler
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREAD_POOL_NAME);
+    private final Object executionLock = new Object();
+    private int runningExecutions;
+    private boolean executionPending;
+    private volatile Coprocess coprocess;
+    private volatile boolean disposed;
 
     private static Runtime rt = Runtime.getRuntime();
 
@@ -76,7 +99,7 @@ public class ExecHandler extends BaseThingHandler {
             if (channelUID.getId().equals(RUN)) {
                 if (command instanceof OnOffType) {
                     if (command == OnOffType.ON) {
-                        scheduler.schedule(periodicExecutionRunnable, 0, TimeUnit.SECONDS);
+                        scheduleExecution(true);
                     }
                 }
             } else if (channelUID.getId().equals(INPUT)) {
@@ -88,7 +111,7 @@ public class ExecHandler extends BaseThingHandler {
                             lastInput = command.toString();
                             logger.trace("Executing command '{}' after a change of the input channel to '{}'",
                                     getConfig().get(COMMAND), command.toString());
-                            scheduler.schedule(periodicExecutionRunnable, 0, TimeUnit.SECONDS);
+                            scheduleExecution(true);
                         }
                     }
                 }
@@ -98,6 +121,7 @@ public class ExecHandler extends BaseThingHandler {
 
     @Override
     public void initialize() {
+        disposed = false;
 
         if (executionJob == null || executionJob.isCancelled()) {
             if (((BigDecimal) getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
@@ -112,130 +136,387 @@ public class ExecHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
+        // executions that are already running must neither start a coprocess nor schedule a pending execution
+        disposed = true;
+        synchronized (executionLock) {
+            executionPending = false;
+        }
+
         if (executionJob != null && !executionJob.isCancelled()) {
             executionJob.cancel(true);
             executionJob = null;
         }
+
+        Coprocess currentCoprocess = coprocess;
+        if (currentCoprocess != null) {
+            currentCoprocess.destroy();
+            coprocess = null;
+        }
+    }
+
+    protected Runnable periodicExecutionRunnable = () -> scheduleExecution(false);
+
+    /**
+     * Submits an execution of the command to the execution pool, unless the maximum number of concurrent executions
+     * of this Thing is reached. In that case, a triggered execution is coalesced into a single execution that starts
+     * once a running execution has finished, while a periodic execution is skipped.
+     *
+     * @param triggered <code>true</code> if the execution was triggered by a command, and must not be skipped
+     */
+    protected void scheduleExecution(boolean triggered) {
+        synchronized (executionLock) {
+            if (disposed) {
+                return;
+            }
+            if (runningExecutions >= getMaxConcurrentExecutions()) {
+                if (triggered) {
+                    executionPending = true;
+                }
+                logger.debug("{} the execution of '{}', {} execution(s) are still running",
+                        triggered ? "Postponing" : "Skipping", getConfig().get(COMMAND), runningExecutions);
+                return;
+            }
+            runningExecutions++;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    execute();
+                } finally {
+                    executionFinished();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("The execution of '{}' was rejected : '{}'", getConfig().get(COMMAND), e.getMessage());
+            executionFinished();
+        }
+    }
+
+    private void executionFinished() {
+        boolean pending;
+        synchronized (executionLock) {
+            runningExecutions--;
+            pending = executionPending;
+            executionPending = false;
+        }
+
+        if (pending && !disposed) {
+            scheduleExecution(true);
+        }
+    }
+
+    private int getMaxConcurrentExecutions() {
+        if (isPersistent()) {
+            // a coprocess handles a single request at a time
+            return 1;
+        }
+        return getIntConfig(MAX_CONCURRENT, DEFAULT_MAX_CONCURRENT);
     }
 
-    protected Runnable periodicExecutionRunnable = new Runnable() {
+    private boolean isPersistent() {
+        return getConfig().get(PERSISTENT) != null && ((Boolean) getConfig().get(PERSISTENT)).booleanValue();
+    }
 
-        @Override
-        public void run() {
+    private int getIntConfig(String parameter, int defaultValue) {
+        BigDecimal value = (BigDecimal) getConfig().get(parameter);
+        return value != null && value.intValue() > 0 ? value.intValue() : defaultValue;
+    }
 
-            String commandLine = (String) getConfig().get(COMMAND);
+    protected void execute() {
+        String commandLine = (String) getConfig().get(COMMAND);
 
-            int timeOut = 60000;
-            if (((BigDecimal) getConfig().get(TIME_OUT)) != null) {
-                timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
+        int timeOut = DEFAULT_TIME_OUT;
+        if (((BigDecimal) getConfig().get(TIME_OUT)) != null) {
+            timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
+        }
+
+        int maxOutput = getIntConfig(MAX_OUTPUT, DEFAULT_MAX_OUTPUT);
+
+        if (commandLine != null && !commandLine.isEmpty()) {
+
+            updateState(RUN, OnOffType.ON);
+
+            long startTime = System.currentTimeMillis();
+            ExecutionResult result = isPersistent() ? executeInCoprocess(commandLine, timeOut, maxOutput)
+                    : executeProcess(commandLine, timeOut, maxOutput);
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            updateState(RUN, OnOffType.OFF);
+
+            if (result == null) {
+                return;
             }
 
-            if (commandLine != null && !commandLine.isEmpty()) {
+            logger.debug("The execution of '{}' took {} ms", commandLine, executionTime);
+            updateState(EXECUTION_TIME, new DecimalType(executionTime));
 
-                updateState(RUN, OnOffType.ON);
+            if (result.exitValue != null) {
+                updateState(EXIT, new DecimalType(result.exitValue));
+            }
 
-                // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
-                // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
-                // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
-                // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
-                // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
-                // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
-                // problem for external commands that generate a lot of output, but this will be dependent on the limits
-                // of the underlying operating system.
+            String transformedResponse = StringUtils.chomp(result.output);
+            String transformation = (String) getConfig().get(TRANSFORM);
 
-                try {
-                    if (lastInput != null) {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
-                    } else {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime());
-                    }
-                } catch (IllegalFormatException e) {
-                    logger.error(
-                            "An exception occurred while formatting the command line with the current time and input values : '{}'",
-                            e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    return;
-                }
+            if (transformation != null && transformation.length() > 0) {
+                transformedResponse = transformResponse(transformedResponse, transformation);
+            }
 
-                logger.trace("The command to be executed will be '{}'", commandLine);
+            updateState(OUTPUT, new StringType(transformedResponse));
 
-                Process proc = null;
-                try {
-                    proc = rt.exec(commandLine.toString());
-                } catch (Exception e) {
-                    logger.error("An exception occurred while executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
+            DateTimeType stampType = new DateTimeType(Calendar.getInstance());
+            updateState(LAST_EXECUTION, stampType);
+        }
+    }
 
-                StringBuilder outputBuilder = new StringBuilder();
-                StringBuilder errorBuilder = new StringBuilder();
+    private String formatCommandLine(String commandLine) {
+        try {
+            if (lastInput != null) {
+                return String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
+            } else {
+                return String.format(commandLine, Calendar.getInstance().getTime());
+            }
+        } catch (IllegalFormatException e) {
+            logger.error(
+                    "An exception occurred while formatting the command line with the current time and input values : '{}'",
+                    e.getMessage());
+            return null;
+        }
+    }
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        outputBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
-                    }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+    /**
+     * Starts a new process for the command, and waits for it to finish.
+     *
+     * @return the result of the execution, or <code>null</code> if the process could not be started
+     */
+    protected ExecutionResult executeProcess(String commandLine, int timeOut, int maxOutput) {
+        // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
+        // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
+        // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
+        // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
+        // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
+        // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
+        // problem for external commands that generate a lot of output, but this will be dependent on the limits
+        // of the underlying operating system.
+
+        commandLine = formatCommandLine(commandLine);
+        if (commandLine == null) {
+            return null;
+        }
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        errorBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "ERROR", line);
-                    }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+        logger.trace("The command to be executed will be '{}'", commandLine);
 
-                boolean exitVal = false;
-                try {
-                    exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+        Process proc = null;
+        try {
+            proc = rt.exec(commandLine.toString());
+        } catch (Exception e) {
+            logger.error("An exception occurred while executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return null;
+        }
 
-                if (!exitVal) {
-                    logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
-                            new Object[] { commandLine.toString(), timeOut });
-                    proc.destroyForcibly();
-                }
+        StringBuilder outputBuilder = new StringBuilder();
+        StringBuilder errorBuilder = new StringBuilder();
+
+        try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
+                BufferedReader br = new BufferedReader(isr);) {
+            String line = null;
+            while ((line = br.readLine()) != null) {
+                appendLine(outputBuilder, line, maxOutput);
+                logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+            }
+            isr.close();
+        } catch (IOException e) {
+            logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
+
+        try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
+                BufferedReader br = new BufferedReader(isr);) {
+            String line = null;
+            while ((line = br.readLine()) != null) {
+                appendLine(errorBuilder, line, maxOutput);
+                logger.debug("Exec [{}]: '{}'", "ERROR", line);
+            }
+            isr.close();
+        } catch (IOException e) {
+            logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
 
-                updateState(RUN, OnOffType.OFF);
-                updateState(EXIT, new DecimalType(proc.exitValue()));
+        boolean exitVal = false;
+        try {
+            exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
 
-                outputBuilder.append(errorBuilder.toString());
+        if (!exitVal) {
+            logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
+                    new Object[] { commandLine.toString(), timeOut });
+            proc.destroyForcibly();
+            try {
+                proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
 
-                outputBuilder.append(errorBuilder.toString());
+        appendLines(outputBuilder, errorBuilder, maxOutput);
 
-                String transformedResponse = StringUtils.chomp(outputBuilder.toString());
-                String transformation = (String) getConfig().get(TRANSFORM);
+        // the exit value is unknown if the process did not even end after being terminated
+        return new ExecutionResult(outputBuilder.toString(), proc.isAlive() ? null : proc.exitValue());
+    }
 
-                if (transformation != null && transformation.length() > 0) {
-                    transformedResponse = transformResponse(transformedResponse, transformation);
-                }
+    /**
+     * Passes the input to the coprocess of this Thing, starting it if needed, and reads the response.
+     *
+     * @return the result of the execution, or <code>null</code> if the coprocess could not be started
+     */
+    protected ExecutionResult executeInCoprocess(String commandLine, int timeOut, int maxOutput) {
+        if (disposed) {
+            return null;
+        }
+
+        if (coprocess == null || !coprocess.isAlive()) {
+            String formattedCommandLine = formatCommandLine(commandLine);
+            if (formattedCommandLine == null) {
+                return null;
+            }
+
+            logger.debug("Starting the coprocess '{}'", formattedCommandLine);
+            try {
+                coprocess = new Coprocess(formattedCommandLine);
+            } catch (IOException e) {
+                logger.error("An exception occurred while starting the coprocess '{}' : '{}'", formattedCommandLine,
+                        e.getMessage());
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return null;
+            }
+
+            if (disposed) {
+                // the Thing was disposed while the coprocess was starting, and nobody else would destroy it
+                coprocess.destroy();
+                coprocess = null;
+                return null;
+            }
+        }
+
+        String delimiter = (String) getConfig().get(DELIMITER);
+        if (delimiter == null) {
+            delimiter = "";
+        }
+
+        Coprocess currentCoprocess = coprocess;
+        ScheduledFuture<?> watchdog = scheduler.schedule(() -> {
+            logger.warn("Forcibly termininating the coprocess ('{}') after a timeout of {} ms", commandLine, timeOut);
+            currentCoprocess.destroy();
+        }, timeOut, TimeUnit.MILLISECONDS);
+
+        try {
+            String output = currentCoprocess.request(lastInput != null ? lastInput : "", delimiter, maxOutput);
+            return new ExecutionResult(output, null);
+        } catch (IOException e) {
+            logger.error("An exception occurred while communicating with the coprocess '{}' : '{}'", commandLine,
+                    e.getMessage());
+            currentCoprocess.destroy();
+            coprocess = null;
+            Integer exitValue = currentCoprocess.isAlive() ? null : currentCoprocess.exitValue();
+            return new ExecutionResult(e.getMessage(), exitValue);
+        } finally {
+            watchdog.cancel(false);
+        }
+    }
+
+    /**
+     * Appends a line of output, as long as the given maximum number of characters is not exceeded.
+     */
+    protected static void appendLine(StringBuilder builder, String line, int maxOutput) {
+        if (builder.length() < maxOutput) {
+            builder.append(line, 0, Math.min(line.length(), maxOutput - builder.length())).append("\n");
+        }
+    }
+
+    private static void appendLines(StringBuilder builder, StringBuilder lines, int maxOutput) {
+        int length = Math.min(lines.length(), Math.max(0, maxOutput - builder.length()));
+        builder.append(lines, 0, length);
+    }
 
-                updateState(OUTPUT, new StringType(transformedResponse));
+    /**
+     * The {@link ExecutionResult} holds the output and, if known, the exit value of an execution.
+     */
+    protected static class ExecutionResult {
+        private final String output;
+        private final Integer exitValue;
+
+        public ExecutionResult(String output, Integer exitValue) {
+            this.output = output;
+            this.exitValue = exitValue;
+        }
 
-                DateTimeType stampType = new DateTimeType(Calendar.getInstance());
-                updateState(LAST_EXECUTION, stampType);
+        public String getOutput() {
+            return output;
+        }
+
+        public Integer getExitValue() {
+            return exitValue;
+        }
+    }
 
+    /**
+     * The {@link Coprocess} keeps the command running in between executions. For each execution, the input is written
+     * as a single line to the standard input of the process, and the standard output (merged with the standard error)
+     * is read up to a line equal to the delimiter.
+     */
+    protected static class Coprocess {
+        private final Process process;
+        private final BufferedWriter writer;
+        private final BufferedReader reader;
+
+        public Coprocess(String commandLine) throws IOException {
+            // split the command line the same way as Runtime.exec(String) does
+            StringTokenizer tokenizer = new StringTokenizer(commandLine);
+            String[] commandArray = new String[tokenizer.countTokens()];
+            for (int i = 0; tokenizer.hasMoreTokens(); i++) {
+                commandArray[i] = tokenizer.nextToken();
             }
+
+            process = new ProcessBuilder(commandArray).redirectErrorStream(true).start();
+            writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+            reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        }
+
+        public boolean isAlive() {
+            return process.isAlive();
+        }
+
+        public int exitValue() {
+            return process.exitValue();
         }
 
-    };
+        public String request(String input, String delimiter, int maxOutput) throws IOException {
+            writer.write(input);
+            writer.newLine();
+            writer.flush();
+
+            StringBuilder responseBuilder = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals(delimiter)) {
+                appendLine(responseBuilder, line, maxOutput);
+            }
+
+            if (line == null) {
+                throw new IOException("The coprocess ended before sending the delimiter");
+            }
+            return responseBuilder.toString();
+        }
+
+        public void destroy() {
+            process.destroyForcibly();
+        }
+    }
 
     protected String transformResponse(String response, String transformation) {
         String transformedResponse;
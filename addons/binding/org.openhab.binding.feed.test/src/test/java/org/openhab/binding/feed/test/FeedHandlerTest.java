@@ -110,6 +110,7 @@ public class FeedHandlerTest extends JavaOSGiTest {
 
         String feedContent;
         int httpStatus;
+        volatile int notModifiedResponses;
 
         public FeedServiceMock(String feedContentFile) {
             super();
@@ -125,6 +126,15 @@ public class FeedHandlerTest extends JavaOSGiTest {
         @Override
         protected void doGet(HttpServletRequest request, HttpServletResponse response)
                 throws ServletException, IOException {
+            String eTag = "\"" + Integer.toHexString(feedContent.hashCode()) + "\"";
+            if (httpStatus == HttpStatus.OK_200 && eTag.equals(request.getHeader("If-None-Match"))) {
+                notModifiedResponses++;
+                response.setStatus(HttpStatus.NOT_MODIFIED_304);
+                return;
+            }
+            if (httpStatus == HttpStatus.OK_200) {
+                response.setHeader("ETag", eTag);
+            }
             response.getOutputStream().println(feedContent);
             // Recommended RSS MIME type - http://www.rssboard.org/rss-mime-type-application.txt
             // Atom MIME type is - application/atom+xml
@@ -327,6 +337,28 @@ public class FeedHandlerTest extends JavaOSGiTest {
         testIfItemStateIsUpdated(commandReceived, contentChanged);
     }
 
+    @Test
+    public void assertThatUnchangedContentIsRequestedConditionally() throws InterruptedException {
+        initializeDefaultFeedHandler();
+
+        waitForAssert(() -> {
+            assertThat(feedThing.getStatus(), is(equalTo(ONLINE)));
+            assertThat(currentItemState, is(notNullValue()));
+        });
+        StringType firstItemState = currentItemState;
+
+        // Before this time has expired, the refresh command will no trigger a request to the server
+        sleep(FeedBindingConstants.MINIMUM_REFRESH_TIME);
+
+        feedHandler.handleCommand(channelUID, RefreshType.REFRESH);
+
+        waitForAssert(() -> {
+            assertThat(servlet.notModifiedResponses, is(equalTo(1)));
+            assertThat(feedThing.getStatus(), is(equalTo(ONLINE)));
+            assertThat(currentItemState, is(equalTo(firstItemState)));
+        });
+    }
+
     @Test
     public void assertThatThingsStatusIsUpdatedWhenHTTP500ErrorCodeIsReceived() throws InterruptedException {
         testIfThingStatusIsUpdated(HttpStatus.INTERNAL_SERVER_ERROR_500);
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.feed.internal;
+
+import static org.openhab.binding.feed.FeedBindingConstants.MINIMUM_REFRESH_TIME;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+/**
+ * The {@link FeedCache} downloads and parses feeds on behalf of all feed things, so that things using the same URL
+ * share a single download.
+ *
+ * The server is asked to send the feed only if it was modified since the last download (ETag and Last-Modified
+ * headers). If it is sent anyway, the content is compared with a hash of the last download, and only parsed if it has
+ * changed. In both cases the previously parsed {@link SyndFeed} instance is returned, so that callers can detect changes
+ * by comparing references.
+ *
+ * @author agent - Initial contribution
+ */
+public class FeedCache {
+
+    private final Logger logger = LoggerFactory.getLogger(FeedCache.class);
+
+    private final Map<String, CachedFeed> cachedFeeds = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a user of the feed with the given URL.
+     */
+    public void register(String urlString) {
+        cachedFeeds.compute(urlString, (url, cachedFeed) -> {
+            CachedFeed result = cachedFeed != null ? cachedFeed : new CachedFeed();
+            result.users++;
+            return result;
+        });
+    }
+
+    /**
+     * Unregisters a user of the feed with the given URL. The cached data is removed, when the feed has no users left.
+     */
+    public void unregister(String urlString) {
+        cachedFeeds.computeIfPresent(urlString, (url, cachedFeed) -> --cachedFeed.users > 0 ? cachedFeed : null);
+    }
+
+    /**
+     * Returns the current content of the feed with the given URL. When multiple callers ask for the same feed at the
+     * same time, only one of them downloads it. The content downloaded less than
+     * {@link org.openhab.binding.feed.FeedBindingConstants#MINIMUM_REFRESH_TIME} ago is returned without contacting the
+     * server.
+     *
+     * @param urlString URL of the feed
+     * @return the parsed feed; the same instance as before, if the content has not changed
+     * @throws IOException if the feed cannot be downloaded
+     * @throws FeedException if the content of the feed is not valid
+     */
+    public SyndFeed fetch(String urlString) throws IOException, FeedException {
+        // the URL is validated before a (possibly new) cache entry is created
+        URL url = new URL(urlString);
+
+        CachedFeed cachedFeed = cachedFeeds.get(urlString);
+        if (cachedFeed == null) {
+            // not registered, the data is not kept
+            cachedFeed = new CachedFeed();
+        }
+
+        synchronized (cachedFeed) {
+            if (cachedFeed.feed != null && System.currentTimeMillis() - cachedFeed.fetchTime < MINIMUM_REFRESH_TIME) {
+                logger.trace("Feed {} has just been fetched, using cached content", urlString);
+                return cachedFeed.feed;
+            }
+            fetch(url, cachedFeed);
+            cachedFeed.fetchTime = System.currentTimeMillis();
+            return cachedFeed.feed;
+        }
+    }
+
+    private void fetch(URL url, CachedFeed cachedFeed) throws IOException, FeedException {
+        URLConnection connection = url.openConnection();
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+
+        if (connection instanceof HttpURLConnection && cachedFeed.feed != null) {
+            if (cachedFeed.eTag != null) {
+                connection.setRequestProperty("If-None-Match", cachedFeed.eTag);
+            }
+            if (cachedFeed.lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", cachedFeed.lastModified);
+            }
+            if (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                logger.debug("Feed {} has not been modified", url);
+                return;
+            }
+        }
+
+        byte[] content;
+        try (InputStream in = "gzip".equals(connection.getContentEncoding())
+                ? new GZIPInputStream(connection.getInputStream())
+                : connection.getInputStream()) {
+            content = IOUtils.toByteArray(in);
+        }
+
+        byte[] hash = hash(content);
+        if (cachedFeed.feed == null || !Arrays.equals(hash, cachedFeed.hash)) {
+            SyndFeedInput input = new SyndFeedInput();
+            cachedFeed.feed = input.build(new XmlReader(new ByteArrayInputStream(content)));
+            cachedFeed.hash = hash;
+        } else {
+            logger.debug("Content of feed {} has not changed", url);
+        }
+
+        cachedFeed.eTag = connection.getHeaderField("ETag");
+        cachedFeed.lastModified = connection.getHeaderField("Last-Modified");
+    }
+
+    private byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support MD5, compare the full content otherwise
+            return content;
+        }
+    }
+
+    private static class CachedFeed {
+        private int users;
+        private SyndFeed feed;
+        private byte[] hash;
+        private String eTag;
+        private String lastModified;
+        private long fetchTime;
+    }
+}
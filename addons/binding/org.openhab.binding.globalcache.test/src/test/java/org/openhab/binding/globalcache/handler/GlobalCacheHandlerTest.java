@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.globalcache.handler;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.globalcache.GlobalCacheBindingConstants.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.thing.Channel;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.eclipse.smarthome.core.thing.type.ChannelTypeUID;
+import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.RefreshType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link GlobalCacheHandler} matches the replies of a device to the commands outstanding on several
+ * connectors. A fake iTach answers on the command port.
+ *
+ * @author agent - Initial contribution
+ */
+public class GlobalCacheHandlerTest {
+
+    private static final int TIMEOUT = 5000;
+
+    // Less than the time a caller waits for a reply, so a command completing within it has been matched
+    private static final int MATCH_TIMEOUT = 1500;
+
+    private static final String LOOPBACK = InetAddress.getLoopbackAddress().getHostAddress();
+    private static final ThingUID THING_UID = new ThingUID(THING_TYPE_ITACH_IR, "test");
+
+    // 100 ms of carrier at 40 kHz
+    private static final String SHORT_CODE = "40000,1,1,2000,2000";
+
+    // 100 ms of carrier at 40 kHz, repeated 60 times
+    private static final String LONG_CODE = "40000,60,1,2000,2000";
+
+    private final Map<String, Channel> channels = new HashMap<>();
+
+    private ServerSocket serverSocket;
+    private Socket socket;
+    private OutputStream deviceOut;
+    private final BlockingQueue<String> receivedCommands = new LinkedBlockingQueue<>();
+
+    private ThingHandlerCallback callback;
+    private GlobalCacheHandler handler;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        serverSocket.setSoTimeout(TIMEOUT);
+
+        Configuration configuration = new Configuration();
+        configuration.put(THING_PROPERTY_IP, LOOPBACK);
+
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(THING_UID);
+        when(thing.getThingTypeUID()).thenReturn(THING_TYPE_ITACH_IR);
+        when(thing.getConfiguration()).thenReturn(configuration);
+        when(thing.getStatus()).thenReturn(ThingStatus.ONLINE);
+        when(thing.getChannel(anyString())).thenAnswer(invocation -> channels.get(invocation.getArguments()[0]));
+
+        int commandPort = serverSocket.getLocalPort();
+        handler = new GlobalCacheHandler(thing, LOOPBACK) {
+            @Override
+            protected int getCommandPort() {
+                return commandPort;
+            }
+
+            @Override
+            protected String lookupCode(Command command) {
+                return command.toString();
+            }
+        };
+        when(thing.getHandler()).thenReturn(handler);
+
+        callback = mock(ThingHandlerCallback.class);
+        handler.setCallback(callback);
+        executor = Executors.newCachedThreadPool();
+
+        handler.initialize();
+        socket = serverSocket.accept();
+        deviceOut = socket.getOutputStream();
+        Thread reader = new Thread(this::readCommands, "FakeITach");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        handler.dispose();
+        executor.shutdownNow();
+        if (socket != null) {
+            socket.close();
+        }
+        serverSocket.close();
+    }
+
+    @Test
+    public void completeirIsMatchedBySendirId() throws Exception {
+        Future<?> ir1 = sendIr(1, SHORT_CODE);
+        String sendir1 = awaitCommand("sendir,1:1,");
+        Future<?> ir2 = sendIr(2, SHORT_CODE);
+        String sendir2 = awaitCommand("sendir,1:2,");
+
+        // the second command of a connector is only sent when the first one has been answered
+        Future<?> ir3 = sendIr(1, SHORT_CODE);
+        assertNoCommand();
+
+        reply("completeir,1:2," + getSendirId(sendir2));
+        ir2.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertNoCommand();
+        assertFalse(ir1.isDone());
+
+        reply("completeir,1:1," + getSendirId(sendir1));
+        ir1.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+        String sendir3 = awaitCommand("sendir,1:1,");
+        assertNotEquals(getSendirId(sendir1), getSendirId(sendir3));
+
+        reply("completeir,1:1," + getSendirId(sendir3));
+        ir3.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void completeirWithUnknownIdIsIgnored() throws Exception {
+        Future<?> ir1 = sendIr(1, SHORT_CODE);
+        String sendir1 = awaitCommand("sendir,1:1,");
+
+        reply("completeir,1:1,99999");
+        Thread.sleep(300);
+        assertFalse(ir1.isDone());
+
+        reply("completeir,1:1," + getSendirId(sendir1));
+        ir1.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void errorsAreMatchedByConnector() throws Exception {
+        Future<?> refresh1 = refresh(1);
+        awaitCommand("getstate,1:1");
+        Future<?> refresh2 = refresh(2);
+        awaitCommand("getstate,1:2");
+
+        reply("ERR_1:1,008");
+        refresh1.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+        assertFalse(refresh2.isDone());
+
+        reply("state,1:2,1");
+        refresh2.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        verify(callback).stateUpdated(channelUID(2), OnOffType.ON);
+        verify(callback, never()).stateUpdated(eq(channelUID(1)), any());
+    }
+
+    @Test
+    public void unaddressedErrorIsNotMatchedWhileSeveralCommandsAreOutstanding() throws Exception {
+        Future<?> refresh1 = refresh(1);
+        awaitCommand("getstate,1:1");
+        Future<?> refresh2 = refresh(2);
+        awaitCommand("getstate,1:2");
+
+        reply("ERR 001");
+        Thread.sleep(300);
+        assertFalse(refresh1.isDone());
+        assertFalse(refresh2.isDone());
+
+        reply("state,1:1,0");
+        reply("state,1:2,1");
+        refresh1.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+        refresh2.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        verify(callback).stateUpdated(channelUID(1), OnOffType.OFF);
+        verify(callback).stateUpdated(channelUID(2), OnOffType.ON);
+    }
+
+    @Test
+    public void unaddressedErrorIsMatchedToTheOnlyOutstandingCommand() throws Exception {
+        Future<?> refresh1 = refresh(1);
+        awaitCommand("getstate,1:1");
+
+        reply("ERR 001");
+        refresh1.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+
+        verify(callback, never()).stateUpdated(any(), any());
+    }
+
+    @Test
+    public void longSendirKeepsItsConnectorUntilTheCodeHasBeenSent() throws Exception {
+        Future<?> ir1 = sendIr(1, LONG_CODE);
+        String sendir1 = awaitCommand("sendir,1:1,");
+
+        // the caller stops waiting for the reply while the device is still sending the code
+        ir1.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        Thread.sleep(500);
+
+        Future<?> ir2 = sendIr(1, SHORT_CODE);
+        assertNoCommand();
+
+        reply("completeir,1:1," + getSendirId(sendir1));
+        String sendir2 = awaitCommand("sendir,1:1,");
+        reply("completeir,1:1," + getSendirId(sendir2));
+        ir2.get(MATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    private Future<?> sendIr(int connector, String code) {
+        Channel channel = createChannel(connector, CHANNEL_TYPE_IR);
+        return executor.submit(() -> handler.handleCommand(channel.getUID(), new StringType(code)));
+    }
+
+    private Future<?> refresh(int connector) {
+        Channel channel = createChannel(connector, CHANNEL_TYPE_CC);
+        return executor.submit(() -> handler.handleCommand(channel.getUID(), RefreshType.REFRESH));
+    }
+
+    private ChannelUID channelUID(int connector) {
+        return new ChannelUID(THING_UID, "c" + connector);
+    }
+
+    private Channel createChannel(int connector, String channelType) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(CHANNEL_PROPERTY_MODULE, "1");
+        properties.put(CHANNEL_PROPERTY_CONNECTOR, String.valueOf(connector));
+
+        ChannelUID channelUID = channelUID(connector);
+        Channel channel = mock(Channel.class);
+        when(channel.getUID()).thenReturn(channelUID);
+        when(channel.getProperties()).thenReturn(properties);
+        when(channel.getChannelTypeUID()).thenReturn(new ChannelTypeUID(BINDING_ID, channelType));
+        channels.put(channelUID.getId(), channel);
+        return channel;
+    }
+
+    private String getSendirId(String sendir) {
+        return sendir.split(",")[2];
+    }
+
+    private String awaitCommand(String prefix) throws InterruptedException {
+        String command = receivedCommands.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertNotNull("Expected a command starting with " + prefix, command);
+        assertTrue("Unexpected command " + command, command.startsWith(prefix));
+        return command;
+    }
+
+    private void assertNoCommand() throws InterruptedException {
+        String command = receivedCommands.poll(500, TimeUnit.MILLISECONDS);
+        assertNull("Unexpected command " + command, command);
+    }
+
+    private void reply(String reply) throws IOException {
+        deviceOut.write((reply + "\r").getBytes(StandardCharsets.US_ASCII));
+        deviceOut.flush();
+    }
+
+    private void readCommands() {
+        try {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            String command;
+            while ((command = in.readLine()) != null) {
+                if (!command.isEmpty()) {
+                    receivedCommands.add(command);
+                }
+            }
+        } catch (IOException e) {
+            // closed by the test
+        }
+    }
+}
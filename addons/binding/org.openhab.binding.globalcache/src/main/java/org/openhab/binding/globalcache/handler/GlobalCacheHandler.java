@@ -25,9 +25,17 @@ import java.net.SocketException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
@@ -79,10 +87,13 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
     private LinkedBlockingQueue<RequestMessage> sendQueue = null;
 
+    private static final int COMMAND_PORT = 4998;
+
     private String ipv4Address;
 
-    // IR transaction counter
+    // IR transaction counter, echoed by the device in the completeir reply
     private AtomicInteger irCounter;
+    private static final int MAX_IR_COUNTER = 65535;
 
     // Character set to use for URL encoding & decoding
     private String CHARSET = "ISO-8859-1";
@@ -229,14 +240,15 @@ public class GlobalCacheHandler extends BaseThingHandler {
     }
 
     private int getCounter() {
-        return irCounter.getAndIncrement();
+        // Keep the id within the range accepted by the device, so that completeir replies can be matched
+        return irCounter.getAndUpdate(counter -> counter >= MAX_IR_COUNTER ? 1 : counter + 1);
     }
 
     /*
      * Look up the IR or serial command code in the MAP file.
      *
      */
-    private String lookupCode(Command command) {
+    protected String lookupCode(Command command) {
         if (command.toString() == null) {
             logger.warn("Unable to perform transform on null command string");
             return null;
@@ -365,6 +377,13 @@ public class GlobalCacheHandler extends BaseThingHandler {
         return thing.getConfiguration().get(THING_PROPERTY_IP).toString();
     }
 
+    /*
+     * Returns the TCP port of the command connection to the device
+     */
+    protected int getCommandPort() {
+        return COMMAND_PORT;
+    }
+
     public String getFlexActiveCable() {
         return thing.getConfiguration().get(THING_CONFIG_ACTIVECABLE).toString();
     }
@@ -433,10 +452,12 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
     /**
      * The {@link CommandProcessor} class is responsible for handling communication with the GlobalCache
-     * device. It waits for requests to arrive on a queue. When a request arrives, it sends the command to the
-     * GlobalCache device, waits for a response from the device, parses the response, then responds to the caller by
-     * placing a message in a response queue. Device response time is typically well below 100 ms, hence the reason
-     * fgor a relatively low timeout when reading the response queue.
+     * device. Requests arrive on the send queue and are distributed to one queue per connector, so that a
+     * long running IR transmission on one connector doesn't hold up the commands for the other connectors. The
+     * head of each connector queue is written to the device as soon as the previous command for that connector
+     * has been answered. Replies on the command port are read by the {@link CommandReplyReader}, matched to the
+     * outstanding command (using the completeir id for sendir commands), and returned to the caller by placing a
+     * message in its response queue.
      *
      * @author Mark Hilbush - Initial contribution
      */
@@ -447,13 +468,22 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private final String TERMINATE_COMMAND = "terminate";
 
         private final int SEND_QUEUE_MAX_DEPTH = 10;
-        private final int SEND_QUEUE_TIMEOUT = 2000;
+        private final int SEND_QUEUE_TIMEOUT = 500;
 
         private ConnectionManager connectionManager;
 
+        // All connector queue state is guarded by synchronizing on this map
+        private final Map<String, ConnectorQueue> connectorQueues = new LinkedHashMap<>();
+
+        // Released for new requests, for replies and for reply reader failures; kept apart from the send queue
+        // so that it never takes up room the callers need for their requests
+        private final Semaphore wakeupSignal = new Semaphore(0);
+
+        private volatile String replyReaderError;
+
         public CommandProcessor() {
             super("GlobalCache Command Processor");
-            sendQueue = new LinkedBlockingQueue<RequestMessage>(SEND_QUEUE_MAX_DEPTH);
+            sendQueue = new SendQueue(SEND_QUEUE_MAX_DEPTH, wakeupSignal);
             logger.debug("Processor for thing {} created request queue, depth={}", thingID(), SEND_QUEUE_MAX_DEPTH);
         }
 
@@ -472,50 +502,32 @@ public class GlobalCacheHandler extends BaseThingHandler {
         @Override
         public void run() {
             logger.debug("Command processor STARTING for thing {} at IP {}", thingID(), getIP());
+            sendQueue.clear();
             connectionManager = new ConnectionManager();
             connectionManager.connect();
             connectionManager.scheduleConnectionMonitorJob();
-            sendQueue.clear();
             terminate = false;
 
             try {
-                RequestMessage requestMessage;
                 while (!terminate) {
-                    requestMessage = sendQueue.poll(SEND_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS);
-                    if (requestMessage != null) {
+                    // Wait for a request or a reply, or check for expired commands when nothing happens
+                    wakeupSignal.tryAcquire(SEND_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS);
+                    wakeupSignal.drainPermits();
+
+                    // Move everything that has arrived to the connector queues
+                    RequestMessage requestMessage;
+                    while ((requestMessage = sendQueue.poll()) != null) {
                         if (requestMessage.getCommandName().equals(TERMINATE_COMMAND)) {
                             logger.debug("Processor for thing {} received terminate message", thingID());
+                            terminate = true;
                             break;
                         }
+                        enqueue(requestMessage);
+                    }
 
-                        String deviceReply;
-                        connectionManager.connect();
-                        if (connectionManager.isConnected()) {
-                            try {
-                                long startTime = System.currentTimeMillis();
-                                if (requestMessage.isCommand()) {
-                                    writeCommandToDevice(requestMessage);
-                                    deviceReply = readReplyFromDevice(requestMessage);
-                                } else {
-                                    writeSerialToDevice(requestMessage);
-                                    deviceReply = "successful";
-                                }
-                                long endTime = System.currentTimeMillis();
-                                logger.debug("Transaction '{}' for thing {} at {} took {} ms",
-                                        requestMessage.getCommandName(), thingID(), getIP(), endTime - startTime);
-
-                            } catch (IOException e) {
-                                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
-                                deviceReply = "ERROR: " + e.getMessage();
-                                connectionManager.setCommError(deviceReply);
-                                connectionManager.disconnect();
-                            }
-                        } else {
-                            deviceReply = "ERROR: " + "No connection to device";
-                        }
-
-                        logger.trace("Processor for thing {} queuing response message: {}", thingID(), deviceReply);
-                        requestMessage.getReceiveQueue().put(new ResponseMessage(deviceReply));
+                    if (!terminate) {
+                        checkReplyReader();
+                        dispatch();
                     }
                 }
             } catch (InterruptedException e) {
@@ -526,38 +538,255 @@ public class GlobalCacheHandler extends BaseThingHandler {
             connectionManager.cancelConnectionMonitorJob();
             connectionManager.disconnect();
             connectionManager = null;
+            failAll("ERROR: Command processor terminated");
+            logStatistics();
             logger.debug("Command processor TERMINATING for thing {} at IP {}", thingID(), getIP());
         }
 
+        private void enqueue(RequestMessage requestMessage) {
+            synchronized (connectorQueues) {
+                ConnectorQueue connectorQueue = connectorQueues.get(requestMessage.getConnectorKey());
+                if (connectorQueue == null) {
+                    connectorQueue = new ConnectorQueue(requestMessage.getConnectorKey());
+                    connectorQueues.put(requestMessage.getConnectorKey(), connectorQueue);
+                }
+                connectorQueue.add(requestMessage);
+                logger.trace("Processor for thing {} queued '{}' for {} (depth={})", thingID(),
+                        requestMessage.getCommandName(), connectorQueue.getConnectorKey(), connectorQueue.getDepth());
+            }
+        }
+
         /*
-         * Write the command to the device.
+         * Send the next command of every connector that has no command outstanding. Devices whose error replies
+         * don't identify the connector get only one command at a time on the command port.
          */
-        private void writeCommandToDevice(RequestMessage requestMessage) throws IOException {
-            logger.trace("Processor for thing {} writing command to device", thingID());
+        private void dispatch() {
+            List<RequestMessage> requests = new ArrayList<>();
+            synchronized (connectorQueues) {
+                long now = System.currentTimeMillis();
+                boolean commandPortBusy = false;
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    connectorQueue.expire(now);
+                    if (connectorQueue.isBusy() && connectorQueue.getInFlight().isCommand() && !canPipeline()) {
+                        commandPortBusy = true;
+                    }
+                }
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    RequestMessage next = connectorQueue.peek();
+                    if (next == null || connectorQueue.isBusy()) {
+                        continue;
+                    }
+                    if (next.isCommand()) {
+                        if (commandPortBusy) {
+                            continue;
+                        }
+                        commandPortBusy = !canPipeline();
+                    }
+                    requests.add(connectorQueue.start(now));
+                }
+            }
 
-            if (connectionManager.getCommandOut() == null) {
-                logger.debug("Error writing to device because output stream object is null");
+            for (RequestMessage requestMessage : requests) {
+                send(requestMessage);
+            }
+        }
+
+        private void send(RequestMessage requestMessage) {
+            String deviceReply = null;
+            connectionManager.connect();
+            if (connectionManager.isConnected()) {
+                try {
+                    if (requestMessage.isCommand()) {
+                        // The reply is matched to the request by the reply reader
+                        writeCommandToDevice(requestMessage);
+                    } else {
+                        writeSerialToDevice(requestMessage);
+                        deviceReply = "successful";
+                    }
+                } catch (IOException e) {
+                    logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
+                    deviceReply = "ERROR: " + e.getMessage();
+                    connectionManager.setCommError(deviceReply);
+                    connectionManager.disconnect();
+                }
+            } else {
+                deviceReply = "ERROR: " + "No connection to device";
+            }
+
+            if (deviceReply != null) {
+                complete(requestMessage, deviceReply);
+            }
+        }
+
+        /*
+         * Return the reply to the caller and free the connector for its next command.
+         */
+        private void complete(RequestMessage requestMessage, String deviceReply) {
+            synchronized (connectorQueues) {
+                ConnectorQueue connectorQueue = connectorQueues.get(requestMessage.getConnectorKey());
+                if (connectorQueue == null || !connectorQueue.finish(requestMessage, deviceReply)) {
+                    // Already completed, e.g. failed on disconnect or timed out
+                    return;
+                }
+            }
+            logger.debug("Transaction '{}' for thing {} at {} took {} ms", requestMessage.getCommandName(), thingID(),
+                    getIP(), System.currentTimeMillis() - requestMessage.getCreateTime());
+
+            logger.trace("Processor for thing {} queuing response message: {}", thingID(), deviceReply);
+            requestMessage.getReceiveQueue().offer(new ResponseMessage(deviceReply));
+
+            // Wake up the processor to send the next command for the connector
+            wakeupSignal.release();
+        }
+
+        /*
+         * Called by the reply reader for every line received on the command port.
+         */
+        private void replyReceived(String deviceReply) {
+            RequestMessage requestMessage;
+            synchronized (connectorQueues) {
+                requestMessage = findRequestForReply(deviceReply);
+            }
+            if (requestMessage == null) {
+                logger.debug("Processor for thing {} ignoring reply not matching a command: {}", thingID(),
+                        deviceReply);
                 return;
             }
+            complete(requestMessage, deviceReply);
+        }
 
-            byte[] deviceCommand = (requestMessage.getDeviceCommand() + '\r').getBytes();
-            connectionManager.getCommandOut().write(deviceCommand);
-            connectionManager.getCommandOut().flush();
+        /*
+         * Replies are of the form name,m:c,... or ERR_m:c,eee, except for the completeir reply which is matched by
+         * the id sent with sendir, and some error replies which don't identify the connector at all. Those can only
+         * be matched while a single command is outstanding on the command port.
+         */
+        private RequestMessage findRequestForReply(String deviceReply) {
+            String[] fields = deviceReply.split(",", 4);
+
+            if ((fields[0].equals("completeir") || fields[0].equals("busyIR")) && fields.length > 2) {
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    RequestMessage inFlight = connectorQueue.getInFlight();
+                    if (inFlight != null && fields[2].equals(inFlight.getSendirId())) {
+                        return inFlight;
+                    }
+                }
+            }
+
+            String address = null;
+            if (fields[0].startsWith("ERR_")) {
+                address = fields[0].substring(4);
+            } else if (fields.length > 1) {
+                address = fields[1];
+            }
+            if (RequestMessage.isConnectorAddress(address)) {
+                return getInFlight(address);
+            }
+
+            // Replies to commands that aren't addressed to a connector, like getversion
+            if (!deviceReply.startsWith("ERR") && !deviceReply.startsWith("unknowncommand")) {
+                RequestMessage inFlight = getInFlight(RequestMessage.DEVICE_KEY);
+                if (inFlight != null) {
+                    return inFlight;
+                }
+            }
+
+            RequestMessage outstanding = null;
+            for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                RequestMessage inFlight = connectorQueue.getInFlight();
+                if (inFlight != null && inFlight.isCommand()) {
+                    if (outstanding != null) {
+                        return null;
+                    }
+                    outstanding = inFlight;
+                }
+            }
+            return outstanding;
+        }
+
+        private RequestMessage getInFlight(String connectorKey) {
+            ConnectorQueue connectorQueue = connectorQueues.get(connectorKey);
+            return connectorQueue == null ? null : connectorQueue.getInFlight();
+        }
+
+        /*
+         * Called by the reply reader when the command connection fails. The connection is closed by the processor.
+         */
+        private void replyReaderFailed(String errorMessage) {
+            replyReaderError = errorMessage;
+            wakeupSignal.release();
+        }
+
+        private void checkReplyReader() {
+            String errorMessage = replyReaderError;
+            if (errorMessage != null) {
+                replyReaderError = null;
+                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), errorMessage);
+                connectionManager.setCommError("ERROR: " + errorMessage);
+                connectionManager.disconnect();
+            }
         }
 
         /*
-         * Read command reply from the device, then remove the CR at the end of the line.
+         * Fail the commands waiting for a reply, e.g. because the connection was closed.
          */
-        private String readReplyFromDevice(RequestMessage requestMessage) throws IOException {
-            logger.trace("Processor for thing {} reading reply from device", thingID());
+        private void failInFlight(String deviceReply) {
+            List<RequestMessage> requests = new ArrayList<>();
+            synchronized (connectorQueues) {
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    if (connectorQueue.isBusy()) {
+                        requests.add(connectorQueue.getInFlight());
+                    }
+                }
+            }
+            for (RequestMessage requestMessage : requests) {
+                complete(requestMessage, deviceReply);
+            }
+        }
+
+        private void failAll(String deviceReply) {
+            failInFlight(deviceReply);
+            synchronized (connectorQueues) {
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    connectorQueue.clear(deviceReply);
+                }
+            }
+        }
+
+        private boolean canPipeline() {
+            // GC-100 error replies don't contain the connector, so they can't be matched to parallel commands
+            ThingTypeUID typeUID = thing.getThingTypeUID();
+            return !typeUID.equals(THING_TYPE_GC_100_06) && !typeUID.equals(THING_TYPE_GC_100_12);
+        }
+
+        /*
+         * Log queue depth and latency of the connectors that had traffic since the last call.
+         */
+        public void logStatistics() {
+            if (!logger.isDebugEnabled()) {
+                return;
+            }
+            synchronized (connectorQueues) {
+                for (ConnectorQueue connectorQueue : connectorQueues.values()) {
+                    connectorQueue.logStatistics();
+                }
+            }
+        }
+
+        /*
+         * Write the command to the device.
+         */
+        private void writeCommandToDevice(RequestMessage requestMessage) throws IOException {
+            logger.trace("Processor for thing {} writing command to device", thingID());
 
-            if (connectionManager.getCommandIn() == null) {
-                logger.debug("Error reading from device because input stream object is null");
-                return "ERROR: BufferedReader is null!";
+            DataOutputStream out = connectionManager.getCommandOut();
+            if (out == null) {
+                logger.debug("Error writing to device because output stream object is null");
+                throw new IOException("Command output stream is null");
             }
 
-            logger.trace("Processor for thing {} reading response from device", thingID());
-            return connectionManager.getCommandIn().readLine().trim();
+            byte[] deviceCommand = (requestMessage.getDeviceCommand() + '\r').getBytes();
+            out.write(deviceCommand);
+            out.flush();
         }
 
         /*
@@ -578,6 +807,180 @@ public class GlobalCacheHandler extends BaseThingHandler {
         }
     }
 
+    /*
+     * The {@link ConnectorQueue} class holds the commands waiting to be sent to one connector (or serial port)
+     * of the device, the command currently waiting for its reply, and the queue depth and latency statistics of
+     * the connector. It is guarded by the command processor's connector queue map.
+     *
+     * @author agent - Initial contribution
+     */
+    private class ConnectorQueue {
+        private Logger logger = LoggerFactory.getLogger(ConnectorQueue.class);
+
+        private final String connectorKey;
+        private final Queue<RequestMessage> requests = new ArrayDeque<>();
+        private RequestMessage inFlight;
+        private long inFlightSince;
+
+        // Queued commands older than this are dropped; the caller has stopped waiting for them by then
+        private final int REQUEST_TIMEOUT = 3000;
+
+        // Commands not answered within this time, plus the time needed to send their IR code, are failed. A sendir
+        // keeps its connector until the device has sent the code, even if the caller has stopped waiting, as the
+        // device would answer the next sendir with busyIR.
+        private final int REPLY_TIMEOUT = 3000;
+
+        private long sent;
+        private long completed;
+        private long failed;
+        private long expired;
+        private int maxDepth;
+        private long totalLatency;
+        private long maxLatency;
+        private long lastLoggedCompleted;
+
+        ConnectorQueue(String connectorKey) {
+            this.connectorKey = connectorKey;
+        }
+
+        public String getConnectorKey() {
+            return connectorKey;
+        }
+
+        public void add(RequestMessage requestMessage) {
+            requests.add(requestMessage);
+            maxDepth = Math.max(maxDepth, getDepth());
+        }
+
+        public int getDepth() {
+            return requests.size() + (inFlight == null ? 0 : 1);
+        }
+
+        public boolean isBusy() {
+            return inFlight != null;
+        }
+
+        public RequestMessage getInFlight() {
+            return inFlight;
+        }
+
+        public RequestMessage peek() {
+            return requests.peek();
+        }
+
+        public RequestMessage start(long now) {
+            inFlight = requests.poll();
+            inFlightSince = now;
+            sent++;
+            return inFlight;
+        }
+
+        public boolean finish(RequestMessage requestMessage, String deviceReply) {
+            if (inFlight != requestMessage) {
+                return false;
+            }
+            inFlight = null;
+            completed++;
+            if (isFailure(deviceReply)) {
+                failed++;
+            }
+            long latency = System.currentTimeMillis() - requestMessage.getCreateTime();
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+            return true;
+        }
+
+        /*
+         * Drop the commands the caller has stopped waiting for, and release the connector if its command
+         * hasn't been answered in time.
+         */
+        public void expire(long now) {
+            Iterator<RequestMessage> iterator = requests.iterator();
+            while (iterator.hasNext()) {
+                RequestMessage requestMessage = iterator.next();
+                if (now - requestMessage.getCreateTime() > REQUEST_TIMEOUT) {
+                    iterator.remove();
+                    expired++;
+                    logger.debug("Dropping expired '{}' for {} on thing {}", requestMessage.getCommandName(),
+                            connectorKey, thingID());
+                }
+            }
+            if (inFlight != null && now - inFlightSince > REPLY_TIMEOUT + inFlight.getTransmitTime()) {
+                logger.debug("No reply to '{}' for {} on thing {}", inFlight.getCommandName(), connectorKey,
+                        thingID());
+                inFlight.getReceiveQueue().offer(new ResponseMessage("ERROR: Timed out waiting for reply"));
+                inFlight = null;
+                completed++;
+                failed++;
+            }
+        }
+
+        public void clear(String deviceReply) {
+            RequestMessage requestMessage;
+            while ((requestMessage = requests.poll()) != null) {
+                requestMessage.getReceiveQueue().offer(new ResponseMessage(deviceReply));
+                failed++;
+            }
+        }
+
+        private boolean isFailure(String deviceReply) {
+            return deviceReply.startsWith("ERR") || deviceReply.startsWith("unknowncommand")
+                    || deviceReply.startsWith("busyIR");
+        }
+
+        public void logStatistics() {
+            if (completed == lastLoggedCompleted && requests.isEmpty()) {
+                return;
+            }
+            lastLoggedCompleted = completed;
+            logger.debug(
+                    "Connector {} on thing {}: {} sent, {} completed, {} failed, {} expired, depth {} (max {}), latency avg {} ms, max {} ms",
+                    connectorKey, thingID(), sent, completed, failed, expired, getDepth(), maxDepth,
+                    completed == 0 ? 0 : totalLatency / completed, maxLatency);
+        }
+    }
+
+    /*
+     * The {@link SendQueue} class is the queue the commands put their requests on. Adding a request wakes up the
+     * command processor, which waits for requests and for the replies of the device at the same time.
+     *
+     * @author agent - Initial contribution
+     */
+    private static class SendQueue extends LinkedBlockingQueue<RequestMessage> {
+        private static final long serialVersionUID = -2934658105326215617L;
+
+        private final transient Semaphore wakeupSignal;
+
+        SendQueue(int capacity, Semaphore wakeupSignal) {
+            super(capacity);
+            this.wakeupSignal = wakeupSignal;
+        }
+
+        @Override
+        public void put(RequestMessage requestMessage) throws InterruptedException {
+            super.put(requestMessage);
+            wakeupSignal.release();
+        }
+
+        @Override
+        public boolean offer(RequestMessage requestMessage) {
+            boolean added = super.offer(requestMessage);
+            if (added) {
+                wakeupSignal.release();
+            }
+            return added;
+        }
+
+        @Override
+        public boolean offer(RequestMessage requestMessage, long timeout, TimeUnit unit) throws InterruptedException {
+            boolean added = super.offer(requestMessage, timeout, unit);
+            if (added) {
+                wakeupSignal.release();
+            }
+            return added;
+        }
+    }
+
     /*
      * The {@link ConnectionManager} class is responsible for managing the state of the connections to the
      * command port and the serial port(s) of the device.
@@ -594,13 +997,14 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private SerialPortReader serialReaderPort1;
         private SerialPortReader serialReaderPort2;
 
+        private CommandReplyReader commandReplyReader;
+
         private boolean deviceIsConnected;
 
         private final String COMMAND_NAME = "command";
         private final String SERIAL1_NAME = "serial-1";
         private final String SERIAL2_NAME = "serial-2";
 
-        private final int COMMAND_PORT = 4998;
         private final int SERIAL1_PORT = 4999;
         private final int SERIAL2_PORT = 5000;
 
@@ -613,10 +1017,11 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private Runnable connectionMonitorRunnable = () -> {
             logger.trace("Performing connection check for thing {} at IP {}", thingID(), commandConnection.getIP());
             checkConnection();
+            commandProcessor.logStatistics();
         };
 
         public ConnectionManager() {
-            commandConnection = new DeviceConnection(COMMAND_NAME, COMMAND_PORT);
+            commandConnection = new DeviceConnection(COMMAND_NAME, getCommandPort());
             serialPort1Connection = new DeviceConnection(SERIAL1_NAME, SERIAL1_PORT);
             serialPort2Connection = new DeviceConnection(SERIAL2_NAME, SERIAL2_PORT);
 
@@ -673,6 +1078,7 @@ public class GlobalCacheHandler extends BaseThingHandler {
              */
             markThingOnline();
             deviceIsConnected = true;
+            startCommandReplyReader();
             startSerialPortReaders();
         }
 
@@ -749,7 +1155,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
             if (!isConnected()) {
                 return;
             }
+            stopCommandReplyReader();
             commandDisconnect(commandConnection);
+            commandProcessor.failInFlight("ERROR: Disconnected from device");
 
             stopSerialPortReaders();
             if (deviceSupportsSerialPort1()) {
@@ -884,6 +1292,20 @@ public class GlobalCacheHandler extends BaseThingHandler {
             }
         }
 
+        private void startCommandReplyReader() {
+            commandReplyReader = new CommandReplyReader(getCommandIn());
+            commandReplyReader.start();
+        }
+
+        private void stopCommandReplyReader() {
+            if (commandReplyReader != null) {
+                logger.debug("Stopping command reply reader for thing {} at IP {}", thingID(),
+                        commandConnection.getIP());
+                commandReplyReader.stop();
+                commandReplyReader = null;
+            }
+        }
+
         private void startSerialPortReaders() {
             if (deviceSupportsSerialPort1()) {
                 serialReaderPort1 = startSerialPortReader(CommandType.SERIAL1, CONFIG_ENABLE_TWO_WAY_PORT_1,
@@ -942,6 +1364,68 @@ public class GlobalCacheHandler extends BaseThingHandler {
         }
     }
 
+    /*
+     * The {@link CommandReplyReader} class reads the replies from the command connection and hands them to the
+     * command processor, which matches them to the outstanding commands.
+     *
+     * @author agent - Initial contribution
+     */
+    private class CommandReplyReader {
+        private Logger logger = LoggerFactory.getLogger(CommandReplyReader.class);
+
+        private BufferedReader commandIn;
+        private ScheduledFuture<?> commandReplyReaderJob;
+        private volatile boolean terminateCommandReplyReader;
+
+        CommandReplyReader(BufferedReader commandIn) {
+            if (commandIn == null) {
+                throw new IllegalArgumentException("Command input stream is not set");
+            }
+            this.commandIn = commandIn;
+            commandReplyReaderJob = null;
+            terminateCommandReplyReader = false;
+        }
+
+        public void start() {
+            commandReplyReaderJob = scheduledExecutorService.schedule(this::commandReplyReader, 0, TimeUnit.SECONDS);
+        }
+
+        public void stop() {
+            if (commandReplyReaderJob != null) {
+                terminateCommandReplyReader = true;
+                commandReplyReaderJob.cancel(true);
+                commandReplyReaderJob = null;
+            }
+        }
+
+        private void commandReplyReader() {
+            logger.debug("Command reply reader RUNNING for {} on {}", thingID(), getIP());
+
+            while (!terminateCommandReplyReader) {
+                String deviceReply;
+                try {
+                    deviceReply = commandIn.readLine();
+                    if (deviceReply == null) {
+                        throw new IOException("Unexpected end of stream");
+                    }
+                } catch (IOException e) {
+                    if (!terminateCommandReplyReader) {
+                        logger.debug("Command reply reader got IOException: {}", e.getMessage());
+                        commandProcessor.replyReaderFailed(e.getMessage());
+                    }
+                    break;
+                }
+
+                deviceReply = deviceReply.trim();
+                if (!deviceReply.isEmpty()) {
+                    logger.trace("Command reply reader for thing {} received reply '{}'", thingID(), deviceReply);
+                    commandProcessor.replyReceived(deviceReply);
+                }
+            }
+            logger.debug("Command reply reader STOPPING for {} on {}", thingID(), getIP());
+        }
+    }
+
     /*
      * The {@link SerialReader} class reads data from the serial connection. When data is
      * received, the receive channel is updated with the data. Data is read up to the
@@ -9,20 +9,33 @@
 package org.openhab.binding.globalcache.internal.command;
 
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Pattern;
 
 import org.openhab.binding.globalcache.GlobalCacheBindingConstants.CommandType;
 
 /**
  * The {@link RequestMessage} class is responsible for storing the command to be sent to the GlobalCache
- * device and for storing whether the command is serial or not.
+ * device and for storing whether the command is serial or not. It also knows the connector the command is
+ * addressed to, which is used to queue the command and to match the device's reply to it.
  *
  * @author Mark Hilbush - Initial contribution
  */
 public class RequestMessage {
+    /*
+     * Key of the commands that aren't addressed to a connector, like getversion
+     */
+    public static final String DEVICE_KEY = "device";
+
+    private static final Pattern CONNECTOR_ADDRESS = Pattern.compile("\\d+:\\d+");
+
     private LinkedBlockingQueue<ResponseMessage> rcvQueue;
     private String deviceCommand;
     private CommandType commandType;
     private String commandName;
+    private String connectorKey;
+    private String sendirId;
+    private long transmitTime;
+    private long createTime;
 
     public RequestMessage(String commandName, CommandType commandType, String deviceCommand,
             LinkedBlockingQueue<ResponseMessage> rcvQueue) {
@@ -30,6 +43,65 @@ public class RequestMessage {
         this.commandType = commandType;
         this.deviceCommand = deviceCommand;
         this.rcvQueue = rcvQueue;
+        this.createTime = System.currentTimeMillis();
+        parseAddress();
+    }
+
+    /*
+     * Determine the connector and, for sendir, the id that the device will echo in the completeir reply.
+     * Commands are of the form name,m:c,... where m is the module and c is the connector.
+     */
+    private void parseAddress() {
+        if (commandType == CommandType.SERIAL1 || commandType == CommandType.SERIAL2) {
+            connectorKey = commandType.toString();
+            return;
+        }
+
+        connectorKey = DEVICE_KEY;
+        if (deviceCommand == null) {
+            return;
+        }
+        String[] fields = deviceCommand.split(",", 4);
+        if (fields.length > 1 && isConnectorAddress(fields[1])) {
+            connectorKey = fields[1];
+            if (fields[0].equals("sendir") && fields.length > 2) {
+                sendirId = fields[2];
+                transmitTime = estimateTransmitTime(deviceCommand.split(","));
+            }
+        }
+    }
+
+    /*
+     * Estimate the time in ms the device needs to send the IR code of a sendir command, which is of the form
+     * sendir,m:c,id,frequency,repeat,offset,on1,off1,... The on/off durations are given in periods of the frequency.
+     * All of them are sent once, then the ones starting at offset are repeated. Returns 0 if the code can't be parsed.
+     */
+    private static long estimateTransmitTime(String[] fields) {
+        try {
+            long frequency = Long.parseLong(fields[3].trim());
+            int repeat = Integer.parseInt(fields[4].trim());
+            int offset = Integer.parseInt(fields[5].trim());
+            if (frequency <= 0) {
+                return 0;
+            }
+
+            long periods = 0;
+            long repeatedPeriods = 0;
+            for (int i = 6; i < fields.length; i++) {
+                long duration = Long.parseLong(fields[i].trim());
+                periods += duration;
+                if (i - 6 >= offset - 1) {
+                    repeatedPeriods += duration;
+                }
+            }
+            return (periods + Math.max(0, repeat - 1) * repeatedPeriods) * 1000 / frequency;
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return 0;
+        }
+    }
+
+    public static boolean isConnectorAddress(String address) {
+        return address != null && CONNECTOR_ADDRESS.matcher(address).matches();
     }
 
     public String getDeviceCommand() {
@@ -60,6 +132,29 @@ public class RequestMessage {
         return commandType == CommandType.SERIAL2;
     }
 
+    /*
+     * Returns the module:connector address of the command, the serial port type for serial commands, or
+     * DEVICE_KEY for commands that aren't addressed to a connector
+     */
+    public String getConnectorKey() {
+        return connectorKey;
+    }
+
+    public String getSendirId() {
+        return sendirId;
+    }
+
+    /*
+     * Returns the estimated time in ms the device needs to send the IR code of a sendir command, 0 for other commands
+     */
+    public long getTransmitTime() {
+        return transmitTime;
+    }
+
+    public long getCreateTime() {
+        return createTime;
+    }
+
     public LinkedBlockingQueue<ResponseMessage> getReceiveQueue() {
         return rcvQueue;
     }
@@ -105,7 +105,8 @@ public class HeliosHandler27 extends BaseThingHandler implements NotificationCon
 
     private static final String SUBSCRIPTION_PERIOD = "PT1H";
 
-    private JAXBContext context = null;
+    // The context is expensive to create and thread safe, so it is shared by all handlers
+    private static JAXBContext context = null;
     private Endpoint endpoint = null;
     private NotificationProducer notificationProducer = null;
     private PausableSubscriptionManager subscription = null;
@@ -152,8 +153,7 @@ public class HeliosHandler27 extends BaseThingHandler implements NotificationCon
         handlerChain.add(new SOAPActionHandler());
 
         try {
-            context = JAXBContext.newInstance(SOAPObjectFactory.class, SOAPEvent.class, SOAPKeyPressed.class,
-                    SOAPCallStateChanged.class, SOAPCodeEntered.class, SOAPCardEntered.class, SOAPDeviceState.class);
+            getJAXBContext();
         } catch (JAXBException e) {
             logger.error("An exception occurred while setting up the JAXB Context factory: {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
@@ -237,7 +237,6 @@ public class HeliosHandler27 extends BaseThingHandler implements NotificationCon
             }
             endpoint = null;
             terminationTime = null;
-            context = null;
             notificationProducer = null;
             subscription = null;
         } catch (Exception e) {
@@ -250,13 +249,22 @@ public class HeliosHandler27 extends BaseThingHandler implements NotificationCon
             @WebParam(partName = "Notify", name = "Notify", targetNamespace = "http://docs.oasis-open.org/wsn/b-2") Notify notify) {
         for (Object object : notify.getAny()) {
             try {
-                this.processNotification(context.createUnmarshaller().unmarshal((Element) object, SOAPEvent.class));
+                this.processNotification(
+                        getJAXBContext().createUnmarshaller().unmarshal((Element) object, SOAPEvent.class));
             } catch (JAXBException e) {
                 logger.error("An exception occurred while processing a notification message : {}", e.getMessage(), e);
             }
         }
     }
 
+    private static synchronized JAXBContext getJAXBContext() throws JAXBException {
+        if (context == null) {
+            context = JAXBContext.newInstance(SOAPObjectFactory.class, SOAPEvent.class, SOAPKeyPressed.class,
+                    SOAPCallStateChanged.class, SOAPCodeEntered.class, SOAPCardEntered.class, SOAPDeviceState.class);
+        }
+        return context;
+    }
+
     public void processNotification(JAXBElement<SOAPEvent> message) {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
             SOAPEvent event = message.getValue();
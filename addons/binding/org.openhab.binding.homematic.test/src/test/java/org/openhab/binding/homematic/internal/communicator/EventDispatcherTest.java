@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link EventDispatcher} processes the events of a device in order and the events of different
+ * devices in parallel.
+ *
+ * @author agent - Initial contribution
+ */
+public class EventDispatcherTest {
+
+    private static final int TIMEOUT = 5000;
+    private static final String DEVICE_1 = "NEQ0000001";
+    private static final String DEVICE_2 = "NEQ0000002";
+
+    private ExecutorService executor;
+    private EventDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        dispatcher = new EventDispatcher("test", executor);
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void eventsOfADeviceAreProcessedInOrder() throws InterruptedException {
+        int count = 1000;
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(3 * count);
+
+        for (int i = 0; i < count; i++) {
+            for (String address : new String[] { DEVICE_1, DEVICE_2, "NEQ0000003" }) {
+                int number = i;
+                processed.computeIfAbsent(address, key -> Collections.synchronizedList(new ArrayList<>()));
+                running.computeIfAbsent(address, key -> new AtomicInteger());
+                dispatcher.dispatch(address, () -> {
+                    if (running.get(address).incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    processed.get(address).add(number);
+                    running.get(address).decrementAndGet();
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertFalse("Events of a device were processed concurrently", overlapped.get());
+        for (List<Integer> numbers : processed.values()) {
+            assertEquals(count, numbers.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, (int) numbers.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void devicesAreProcessedInParallel() throws InterruptedException {
+        CountDownLatch device2Processed = new CountDownLatch(1);
+        CountDownLatch device1Processed = new CountDownLatch(1);
+
+        // the event of the first device can only finish while the second device is being processed
+        dispatcher.dispatch(DEVICE_1, () -> {
+            try {
+                if (device2Processed.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    device1Processed.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch(DEVICE_2, device2Processed::countDown);
+
+        assertTrue(device1Processed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void failingEventDoesNotStopTheDevice() throws InterruptedException {
+        CountDownLatch processed = new CountDownLatch(1);
+
+        dispatcher.dispatch(DEVICE_1, () -> {
+            throw new IllegalStateException("failed");
+        });
+        dispatcher.dispatch(DEVICE_1, processed::countDown);
+
+        assertTrue(processed.await(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void removedDeviceDiscardsItsQueuedEvents() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger processed = new AtomicInteger();
+
+        dispatcher.dispatch(DEVICE_1, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        dispatcher.dispatch(DEVICE_1, processed::incrementAndGet);
+        dispatcher.dispatch(DEVICE_1, processed::incrementAndGet);
+
+        dispatcher.remove(DEVICE_1);
+        release.countDown();
+
+        // a new event of the device is processed after the ones that have been discarded
+        CountDownLatch processedAgain = new CountDownLatch(1);
+        dispatcher.dispatch(DEVICE_1, processedAgain::countDown);
+        assertTrue(processedAgain.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(0, processed.get());
+    }
+
+    @Test
+    public void eventsAreDiscardedWhenTheExecutorIsShutDown() {
+        executor.shutdownNow();
+        AtomicInteger processed = new AtomicInteger();
+
+        dispatcher.dispatch(DEVICE_1, processed::incrementAndGet);
+
+        assertEquals(0, processed.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
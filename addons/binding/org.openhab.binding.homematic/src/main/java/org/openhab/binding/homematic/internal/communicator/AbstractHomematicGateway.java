@@ -13,7 +13,6 @@ import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +20,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -85,6 +85,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     public static final double DEFAULT_DISABLE_DELAY = 2.0;
     private static final long CONNECTION_TRACKER_INTERVAL_SECONDS = 15;
     private static final String GATEWAY_POOL_NAME = "homematicGateway";
+    private static final String EVENT_POOL_NAME = "homematicEvents";
 
     private Map<TransferMode, RpcClient<?>> rpcClients = new HashMap<TransferMode, RpcClient<?>>();
     private Map<TransferMode, RpcServer> rpcServers = new HashMap<TransferMode, RpcServer>();
@@ -95,10 +96,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private HomematicGatewayAdapter gatewayAdapter;
     private DelayedExecuter sendDelayedExecutor = new DelayedExecuter();
     private DelayedExecuter receiveDelayedExecutor = new DelayedExecuter();
-    private Set<HmDatapointInfo> echoEvents = Collections.synchronizedSet(new HashSet<HmDatapointInfo>());
+    private Set<HmDatapointInfo> echoEvents = ConcurrentHashMap.newKeySet();
     private ScheduledFuture<?> connectionTrackerFuture;
     private ConnectionTrackerThread connectionTrackerThread;
-    private Map<String, HmDevice> devices = Collections.synchronizedMap(new HashMap<String, HmDevice>());
+    // concurrent, a device is looked up by its address for every event received from the gateway
+    private Map<String, HmDevice> devices = new ConcurrentHashMap<String, HmDevice>();
     private Map<HmInterface, TransferMode> availableInterfaces = new TreeMap<HmInterface, TransferMode>();
     private static List<VirtualDatapointHandler> virtualDatapointHandlers = new ArrayList<VirtualDatapointHandler>();
     private boolean cancelLoadAllMetadata;
@@ -106,6 +108,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private EventDispatcher eventDispatcher;
 
     static {
         // loads all virtual datapoints
@@ -134,6 +137,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
         this.httpClient = httpClient;
+        this.eventDispatcher = new EventDispatcher(id, ThreadPoolManager.getPool(EVENT_POOL_NAME));
     }
 
     @Override
@@ -205,6 +209,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         receiveDelayedExecutor.stop();
         stopServers();
         stopClients();
+        eventDispatcher.stop();
         devices.clear();
         echoEvents.clear();
         availableInterfaces.clear();
@@ -705,35 +710,52 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         }
     }
 
+    /**
+     * Called by the RPC server for every event of the gateway. The event is only checked for echoes and pongs here,
+     * everything else is done asynchronously by the {@link EventDispatcher}, in the order the events of a device have
+     * been received.
+     */
     @Override
     public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
-        String className = newValue == null ? "Unknown" : newValue.getClass().getSimpleName();
-        logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue, dpInfo,
-                id);
+        if (logger.isDebugEnabled()) {
+            String className = newValue == null ? "Unknown" : newValue.getClass().getSimpleName();
+            logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue,
+                    dpInfo, id);
+        }
 
         if (echoEvents.remove(dpInfo)) {
             logger.debug("Echo event detected, ignoring '{}'", dpInfo);
         } else {
-            try {
-                if (connectionTrackerThread != null && dpInfo.isPong() && id.equals(newValue)) {
-                    connectionTrackerThread.pongReceived();
-                }
-                if (initialized) {
-                    final HmDatapoint dp = getDatapoint(dpInfo);
-                    HmDatapointConfig config = gatewayAdapter.getDatapointConfig(dp);
-                    receiveDelayedExecutor.start(dpInfo, config.getReceiveDelay(), () -> {
-                        dp.setValue(newValue);
+            if (connectionTrackerThread != null && dpInfo.isPong() && id.equals(newValue)) {
+                connectionTrackerThread.pongReceived();
+            }
+            if (initialized) {
+                eventDispatcher.dispatch(dpInfo.getAddress(), () -> processEvent(dpInfo, newValue));
+            }
+        }
+    }
 
-                        gatewayAdapter.onStateUpdated(dp);
-                        handleVirtualDatapointEvent(dp, true);
-                        if (dp.isPressDatapoint() && MiscUtils.isTrueValue(dp.getValue())) {
-                            disableDatapoint(dp, DEFAULT_DISABLE_DELAY);
-                        }
-                    });
+    /**
+     * Updates the datapoint with the value received from the gateway and publishes it.
+     */
+    private void processEvent(HmDatapointInfo dpInfo, Object newValue) {
+        if (!initialized) {
+            return;
+        }
+        try {
+            final HmDatapoint dp = getDatapoint(dpInfo);
+            HmDatapointConfig config = gatewayAdapter.getDatapointConfig(dp);
+            receiveDelayedExecutor.start(dpInfo, config.getReceiveDelay(), () -> {
+                dp.setValue(newValue);
+
+                gatewayAdapter.onStateUpdated(dp);
+                handleVirtualDatapointEvent(dp, true);
+                if (dp.isPressDatapoint() && MiscUtils.isTrueValue(dp.getValue())) {
+                    disableDatapoint(dp, DEFAULT_DISABLE_DELAY);
                 }
-            } catch (HomematicClientException | IOException ex) {
-                // ignore
-            }
+            });
+        } catch (HomematicClientException | IOException ex) {
+            // ignore
         }
     }
 
@@ -767,6 +789,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             for (String address : addresses) {
                 logger.debug("Device '{}' removed from gateway with id '{}'", address, id);
                 HmDevice device = devices.remove(address);
+                eventDispatcher.remove(address);
                 if (device != null) {
                     gatewayAdapter.onDeviceDeleted(device);
                 }
@@ -889,6 +912,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
 
         @Override
         public void run() {
+            eventDispatcher.logStatistics();
             try {
                 if (ping && !pong) {
                     handleInvalidConnection();
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches the events received from a Homematic gateway asynchronously, so that the RPC call of the gateway returns
+ * immediately. The events of one device are processed one after the other in the order they were received, the events
+ * of different devices are processed in parallel by the threads of the executor.
+ *
+ * @author agent - Initial contribution
+ */
+public class EventDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(EventDispatcher.class);
+
+    private final String gatewayId;
+    private final ExecutorService executor;
+    private final Map<String, DeviceQueue> deviceQueues = new ConcurrentHashMap<>();
+
+    private final AtomicLong receivedEvents = new AtomicLong();
+    private final AtomicLong processedEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicInteger maxPendingEvents = new AtomicInteger();
+    private volatile long lastProcessedEvents;
+
+    public EventDispatcher(String gatewayId, ExecutorService executor) {
+        this.gatewayId = gatewayId;
+        this.executor = executor;
+    }
+
+    /**
+     * Queues the event processing for the device with the given address.
+     */
+    public void dispatch(String address, Runnable event) {
+        receivedEvents.incrementAndGet();
+        int pending = pendingEvents.incrementAndGet();
+        int maxPending = maxPendingEvents.get();
+        while (pending > maxPending && !maxPendingEvents.compareAndSet(maxPending, pending)) {
+            maxPending = maxPendingEvents.get();
+        }
+
+        deviceQueues.computeIfAbsent(address, key -> new DeviceQueue()).add(new TimedEvent(event));
+    }
+
+    /**
+     * Removes the queue of a device, e.g. when it has been deleted from the gateway.
+     */
+    public void remove(String address) {
+        DeviceQueue queue = deviceQueues.remove(address);
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * Discards all queued events.
+     */
+    public void stop() {
+        for (DeviceQueue queue : deviceQueues.values()) {
+            queue.clear();
+        }
+        deviceQueues.clear();
+        logStatistics();
+    }
+
+    /**
+     * Logs the throughput and latency of the event processing, if events have been processed since the last call.
+     */
+    public void logStatistics() {
+        long processed = processedEvents.get();
+        if (processed == lastProcessedEvents) {
+            return;
+        }
+        lastProcessedEvents = processed;
+        logger.debug(
+                "Events on gateway '{}': {} received, {} processed, {} failed, {} pending (max {}), latency avg {} ms, max {} ms",
+                gatewayId, receivedEvents.get(), processed, failedEvents.get(), pendingEvents.get(),
+                maxPendingEvents.get(), processed == 0 ? 0 : totalLatency.get() / processed / 1000000,
+                maxLatency.get() / 1000000);
+    }
+
+    private void processed(TimedEvent event, boolean failed) {
+        pendingEvents.decrementAndGet();
+        processedEvents.incrementAndGet();
+        if (failed) {
+            failedEvents.incrementAndGet();
+        }
+        long latency = System.nanoTime() - event.received;
+        totalLatency.addAndGet(latency);
+        long max = maxLatency.get();
+        while (latency > max && !maxLatency.compareAndSet(max, latency)) {
+            max = maxLatency.get();
+        }
+    }
+
+    /**
+     * An event together with the time it has been received.
+     */
+    private static class TimedEvent {
+        private final Runnable event;
+        private final long received = System.nanoTime();
+
+        TimedEvent(Runnable event) {
+            this.event = event;
+        }
+    }
+
+    /**
+     * The events of a device. At most one thread of the executor drains the queue at a time.
+     */
+    private class DeviceQueue implements Runnable {
+        private final Queue<TimedEvent> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void add(TimedEvent event) {
+            events.add(event);
+            schedule();
+        }
+
+        void clear() {
+            while (events.poll() != null) {
+                pendingEvents.decrementAndGet();
+            }
+        }
+
+        private void schedule() {
+            if (!events.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException ex) {
+                    scheduled.set(false);
+                    logger.warn("Can't process events of gateway '{}': {}", gatewayId, ex.getMessage());
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                TimedEvent event;
+                while ((event = events.poll()) != null) {
+                    boolean failed = false;
+                    try {
+                        event.event.run();
+                    } catch (Exception ex) {
+                        failed = true;
+                        logger.error("{}", ex.getMessage(), ex);
+                    }
+                    processed(event, failed);
+                }
+            } finally {
+                scheduled.set(false);
+                // an event might have been added after the last poll, but before the flag was reset
+                schedule();
+            }
+        }
+    }
+}
@@ -26,7 +26,7 @@ import org.slf4j.LoggerFactory;
 public class DelayedExecuter {
     private final Logger logger = LoggerFactory.getLogger(DelayedExecuter.class);
 
-    private Map<HmDatapointInfo, Timer> delayedEvents = new HashMap<HmDatapointInfo, Timer>();
+    private final Map<HmDatapointInfo, Timer> delayedEvents = new HashMap<HmDatapointInfo, Timer>();
 
     /**
      * Executes a callback method either immediately or after a given delay.
@@ -34,7 +34,7 @@ public class DelayedExecuter {
     public void start(final HmDatapointInfo dpInfo, final double delay, final DelayedExecuterCallback callback)
             throws IOException, HomematicClientException {
         if (delay > 0.0) {
-            synchronized (DelayedExecuter.class) {
+            synchronized (delayedEvents) {
                 logger.debug("Delaying event for {} seconds: '{}'", delay, dpInfo);
 
                 Timer timer = delayedEvents.get(dpInfo);
@@ -48,7 +48,9 @@ public class DelayedExecuter {
                     @Override
                     public void run() {
                         logger.debug("Executing delayed event for '{}'", dpInfo);
-                        delayedEvents.remove(dpInfo);
+                        synchronized (delayedEvents) {
+                            delayedEvents.remove(dpInfo);
+                        }
                         try {
                             callback.execute();
                         } catch (Exception ex) {
@@ -66,10 +68,12 @@ public class DelayedExecuter {
      * Stops all delayed events.
      */
     public void stop() {
-        for (Timer timer : delayedEvents.values()) {
-            timer.cancel();
+        synchronized (delayedEvents) {
+            for (Timer timer : delayedEvents.values()) {
+                timer.cancel();
+            }
+            delayedEvents.clear();
         }
-        delayedEvents.clear();
     }
 
     /**
@@ -16,6 +16,7 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -23,6 +24,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -89,6 +91,14 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
     private ScheduledFuture<?> reinitJob;
 
+    // devices, which must be reloaded, because an event could not be applied to the known state
+    private final Set<String> pendingDeviceRefreshes = new HashSet<>();
+    private ScheduledFuture<?> deviceRefreshJob;
+
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong deviceRefreshesPerformed = new AtomicLong();
+    private final AtomicLong deviceRefreshesAvoided = new AtomicLong();
+
     /**
      * The {@link Initializer} class implements the initialization process of the bridge including starting the
      * {@link DeviceStructureManager} (who loads all the {@link Device}s and states) and the {@link InnogyWebSocket}.
@@ -326,6 +336,14 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
             reinitJob = null;
         }
 
+        synchronized (pendingDeviceRefreshes) {
+            if (deviceRefreshJob != null) {
+                deviceRefreshJob.cancel(true);
+                deviceRefreshJob = null;
+            }
+            pendingDeviceRefreshes.clear();
+        }
+
         if (webSocket != null) {
             webSocket.stop();
             webSocket = null;
@@ -342,6 +360,8 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
         deviceStructMan = null;
 
+        logger.debug("Events applied: {}, device refreshes performed: {}, device refreshes avoided: {}",
+                eventsApplied.get(), deviceRefreshesPerformed.get(), deviceRefreshesAvoided.get());
         super.dispose();
         logger.debug("innogy SmartHome bridge handler shut down.");
     }
@@ -416,6 +436,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
         Device device = null;
         try {
+            deviceRefreshesPerformed.incrementAndGet();
             deviceStructMan.refreshDevice(deviceId);
             device = deviceStructMan.getDeviceById(deviceId);
         } catch (Exception e) {
@@ -517,6 +538,48 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         }
     }
 
+    /**
+     * Schedules a refresh of the {@link Device} with the given id. All refreshes requested within
+     * {@link InnogyBindingConstants#DEVICE_REFRESH_DELAY_MILLISECONDS} are combined, so that every {@link Device} is
+     * only reloaded once.
+     *
+     * @param deviceId
+     */
+    private void scheduleDeviceRefresh(String deviceId) {
+        synchronized (pendingDeviceRefreshes) {
+            if (!pendingDeviceRefreshes.add(deviceId)) {
+                deviceRefreshesAvoided.incrementAndGet();
+            }
+            if (deviceRefreshJob == null) {
+                deviceRefreshJob = scheduler.schedule(this::refreshPendingDevices, DEVICE_REFRESH_DELAY_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Reloads all {@link Device}s, for which a refresh was scheduled, and informs the {@link DeviceStatusListener}s.
+     */
+    private void refreshPendingDevices() {
+        Set<String> deviceIds;
+        synchronized (pendingDeviceRefreshes) {
+            deviceIds = new HashSet<>(pendingDeviceRefreshes);
+            pendingDeviceRefreshes.clear();
+            deviceRefreshJob = null;
+        }
+
+        for (String deviceId : deviceIds) {
+            Device device = refreshDevice(deviceId);
+            if (device != null) {
+                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+                    deviceStatusListener.onDeviceStateChanged(device);
+                }
+            } else {
+                logger.debug("Unknown/unsupported device {}.", deviceId);
+            }
+        }
+    }
+
     /**
      * Handles the event that occurs, when the state of a device (like reachability) or a capability (like a temperature
      * value) has changed.
@@ -535,6 +598,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         if (event.isLinkedtoCapability()) {
             Device device = deviceStructMan.getDeviceByCapabilityLink(event.getLink().getValue());
             if (device != null) {
+                eventsApplied.incrementAndGet();
                 for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
                     deviceStatusListener.onDeviceStateChanged(device, event);
                 }
@@ -544,14 +608,15 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
             // DEVICE
         } else if (event.isLinkedtoDevice()) {
-            deviceStructMan.refreshDevice(event.getLinkId());
-            Device device = deviceStructMan.getDeviceById(event.getLinkId());
-            if (device != null) {
+            if (deviceStructMan.applyDeviceStateChange(event.getLinkId(), event.getPropertyList())) {
+                eventsApplied.incrementAndGet();
+                deviceRefreshesAvoided.incrementAndGet();
+                Device device = deviceStructMan.getDeviceById(event.getLinkId());
                 for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
                     deviceStatusListener.onDeviceStateChanged(device, event);
                 }
             } else {
-                logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                scheduleDeviceRefresh(event.getLinkId());
             }
 
         } else {
@@ -600,14 +665,15 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         for (Message m : messageList) {
             if (Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType())) {
                 for (Link dl : m.getDeviceLinkList()) {
-                    deviceStructMan.refreshDevice(dl.getId());
-                    Device device = deviceStructMan.getDeviceById(dl.getId());
-                    if (device != null) {
+                    if (deviceStructMan.applyMessageReceived(dl.getId(), m)) {
+                        eventsApplied.incrementAndGet();
+                        deviceRefreshesAvoided.incrementAndGet();
+                        Device device = deviceStructMan.getDeviceById(dl.getId());
                         for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
                             deviceStatusListener.onDeviceStateChanged(device);
                         }
                     } else {
-                        logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                        logger.debug("Unknown/unsupported device {}.", dl.getId());
                     }
                 }
             } else {
@@ -619,8 +685,8 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
     /**
      * Handle the event that occurs, when a message was deleted. In case of a low battery message this means, that the
-     * device is back to normal. Currently, only messages linked to devices are handled by refreshing the device data
-     * and informing the {@link InnogyDeviceHandler} about the changed device.
+     * device is back to normal. Currently, only messages linked to devices are handled by removing the message from the
+     * device data and informing the {@link InnogyDeviceHandler} about the changed device.
      *
      * @param event
      * @throws ApiException
@@ -629,10 +695,10 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     public void handleMessageDeletedEvent(Event event) throws ApiException, IOException {
         if (deviceStructMan != null) {
             if (Link.LINK_TYPE_MESSAGE.equals(event.getLinkType())) {
-                Device device = deviceStructMan.getDeviceWithMessageId(event.getLinkId());
+                Device device = deviceStructMan.applyMessageDeleted(event.getLinkId());
                 if (device != null) {
-                    deviceStructMan.refreshDevice(device.getId());
-                    device = deviceStructMan.getDeviceById(device.getId());
+                    eventsApplied.incrementAndGet();
+                    deviceRefreshesAvoided.incrementAndGet();
                     for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
                         deviceStatusListener.onDeviceStateChanged(device);
                     }
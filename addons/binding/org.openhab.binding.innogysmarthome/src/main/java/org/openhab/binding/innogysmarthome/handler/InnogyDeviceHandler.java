@@ -959,13 +959,10 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
                 }
 
             } else if (event.isLinkedtoDevice()) {
+                // the device state has already been updated by the DeviceStructureManager
                 if (device.hasState()) {
-                    Map<String, Property> stateMap = device.getDeviceState().getStateMap();
                     for (Property p : event.getPropertyList()) {
                         logger.debug("State changed {} to {}.", p.getName(), p.getValue());
-
-                        stateMap.get(p.getName()).setValue(p.getValue());
-                        stateMap.get(p.getName()).setLastchanged((p.getLastchanged()));
                     }
                     onDeviceStateChanged(device);
                 } else {
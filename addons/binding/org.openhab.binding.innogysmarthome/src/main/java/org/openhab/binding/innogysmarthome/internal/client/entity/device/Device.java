@@ -393,14 +393,25 @@ public class Device extends ConfigPropertyList {
     }
 
     /**
+     * Sets the messageList and derives the low battery and reachable flags from all of its {@link Message}s. The
+     * reachable flag is only set, if the {@link Device} has a state.
+     *
      * @param messageList the messageList to set
      */
     public void setMessageList(List<Message> messageList) {
         this.messageList = messageList;
 
-        for (Message m : messageList) {
-            setLowBattery(m.getType().equals(Message.TYPE_DEVICE_LOW_BATTERY));
-            setReachable(!m.getType().equals(Message.TYPE_DEVICE_UNREACHABLE));
+        boolean hasLowBattery = false;
+        boolean isReachable = true;
+        if (messageList != null) {
+            for (Message m : messageList) {
+                hasLowBattery |= Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType());
+                isReachable &= !Message.TYPE_DEVICE_UNREACHABLE.equals(m.getType());
+            }
+        }
+        setLowBattery(hasLowBattery);
+        if (hasState()) {
+            setReachable(isReachable);
         }
     }
 
@@ -9,6 +9,7 @@
 package org.openhab.binding.innogysmarthome.internal.manager;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -147,6 +148,93 @@ public class DeviceStructureManager {
         }
     }
 
+    /**
+     * Applies the changed device state {@link Property}s of a state changed event to the state of the {@link Device}
+     * with the given id, without reloading the {@link Device}.
+     *
+     * @param deviceId
+     * @param properties the changed {@link Property}s
+     * @return true, if all {@link Property}s were applied, false if the {@link Device} is unknown or the state is
+     *         incomplete and the {@link Device} must be refreshed
+     */
+    public boolean applyDeviceStateChange(String deviceId, List<Property> properties) {
+        Device device = getDeviceMap().get(deviceId);
+        if (device == null || !device.hasState()) {
+            return false;
+        }
+
+        synchronized (device) {
+            Map<String, Property> stateMap = device.getDeviceState().getStateMap();
+            for (Property p : properties) {
+                if (!stateMap.containsKey(p.getName())) {
+                    logger.debug("Device {} has no state {}.", deviceId, p.getName());
+                    return false;
+                }
+            }
+            for (Property p : properties) {
+                Property state = stateMap.get(p.getName());
+                state.setValue(p.getValue());
+                state.setLastchanged(p.getLastchanged());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the newly received {@link Message} to the {@link Device} with the given id, without reloading the
+     * {@link Device}.
+     *
+     * @param deviceId
+     * @param message
+     * @return true, if the {@link Message} was added, false if the {@link Device} is unknown
+     */
+    public boolean applyMessageReceived(String deviceId, Message message) {
+        Device device = getDeviceMap().get(deviceId);
+        if (device == null) {
+            return false;
+        }
+
+        synchronized (device) {
+            List<Message> messageList = new ArrayList<>();
+            if (device.hasMessages()) {
+                for (Message m : device.getMessageList()) {
+                    if (!m.getId().equals(message.getId())) {
+                        messageList.add(m);
+                    }
+                }
+            }
+            messageList.add(message);
+            device.setMessageList(messageList);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the deleted {@link Message} from the {@link Device}, that has the {@link Message}, without reloading the
+     * {@link Device}.
+     *
+     * @param messageId the id of the deleted {@link Message}
+     * @return the {@link Device}, that had the {@link Message}, or null if none found
+     */
+    public Device applyMessageDeleted(String messageId) {
+        Device device = getDeviceWithMessageId(messageId);
+        if (device == null) {
+            return null;
+        }
+
+        synchronized (device) {
+            List<Message> messageList = new ArrayList<>();
+            for (Message m : device.getMessageList()) {
+                if (!messageId.equals(m.getId())) {
+                    messageList.add(m);
+                }
+            }
+            // recalculates the low battery and reachable flags from the remaining messages
+            device.setMessageList(messageList);
+        }
+        return device;
+    }
+
     /**
      * Adds the {@link Device} to the structure.
      *
@@ -19,4 +19,9 @@ public class IgnoringConverter implements JeeLinkReadingConverter<Reading> {
     public Reading createReading(String inputLine) {
         return null;
     }
+
+    @Override
+    public String getSensorId(String inputLine) {
+        return null;
+    }
 }
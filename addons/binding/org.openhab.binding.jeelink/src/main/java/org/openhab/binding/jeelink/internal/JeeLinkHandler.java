@@ -8,16 +8,15 @@
  */
 package org.openhab.binding.jeelink.internal;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -39,13 +38,11 @@ import org.slf4j.LoggerFactory;
  * @author Volker Bier - Initial contribution
  */
 public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler, ConnectionListener {
-    private static final Pattern READING_P = Pattern.compile("^OK\\s+([0-9]+)(?:\\s+([0-9]+))+$");
-
     private final Logger logger = LoggerFactory.getLogger(JeeLinkHandler.class);
 
     private JeeLinkConnection connection;
     private Map<String, JeeLinkReadingConverter<?>> sensorTypeConvertersMap = new HashMap<>();
-    private Map<Class<?>, List<ReadingHandler<? extends Reading>>> readingClassHandlerMap = new HashMap<>();
+    private final Map<String, List<ReadingHandler<? extends Reading>>> sensorIdHandlerMap = new ConcurrentHashMap<>();
 
     private final AtomicReference<ReadingHandler<Reading>> discoveryHandler = new AtomicReference<>();
 
@@ -117,15 +114,22 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
     }
 
     public void addReadingHandler(ReadingHandler<? extends Reading> h) {
-        synchronized (readingClassHandlerMap) {
-            List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(h.getReadingClass());
+        String sensorId = h.getSensorId();
+        if (sensorId == null) {
+            logger.debug("Ignoring reading handler without sensor id: {}", h);
+            return;
+        }
+
+        synchronized (sensorIdHandlerMap) {
+            List<ReadingHandler<? extends Reading>> handlers = sensorIdHandlerMap.get(sensorId);
             if (handlers == null) {
-                handlers = new ArrayList<>();
-                readingClassHandlerMap.put(h.getReadingClass(), handlers);
+                handlers = new CopyOnWriteArrayList<>();
+                sensorIdHandlerMap.put(sensorId, handlers);
             }
 
             if (!handlers.contains(h)) {
-                logger.debug("Adding reading handler for class {}: {}", h.getReadingClass(), h);
+                logger.debug("Adding reading handler for sensor {} of class {}: {}", sensorId, h.getReadingClass(),
+                        h);
 
                 handlers.add(h);
             }
@@ -133,16 +137,15 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
     }
 
     public void removeReadingHandler(ReadingHandler<? extends Reading> h) {
-        synchronized (readingClassHandlerMap) {
-            List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(h.getReadingClass());
-            if (handlers != null) {
-                logger.debug("Removing reading handler for class {}: {}", h.getReadingClass(), h);
-                handlers.remove(h);
-
-                if (handlers.isEmpty()) {
-                    readingClassHandlerMap.remove(h.getReadingClass());
+        synchronized (sensorIdHandlerMap) {
+            // the sensor id of the handler might already have been reset, so look for the handler itself
+            sensorIdHandlerMap.entrySet().removeIf(entry -> {
+                if (entry.getValue().remove(h)) {
+                    logger.debug("Removing reading handler for sensor {} of class {}: {}", entry.getKey(),
+                            h.getReadingClass(), h);
                 }
-            }
+                return entry.getValue().isEmpty();
+            });
         }
     }
 
@@ -152,11 +155,10 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
 
     @Override
     public void handleInput(String input) {
-        Matcher matcher = READING_P.matcher(input);
-        if (matcher.matches()) {
+        String sensorType = getSensorType(input);
+        if (sensorType != null) {
             intializeConnection();
 
-            String sensorType = matcher.group(1);
             JeeLinkReadingConverter<?> converter;
 
             synchronized (sensorTypeConvertersMap) {
@@ -175,24 +177,80 @@ public class JeeLinkHandler extends BaseBridgeHandler implements BridgeHandler,
                 }
             }
 
+            ReadingHandler<Reading> d = discoveryHandler.get();
+            if (d == null) {
+                // without discovery only the readings of known sensors are needed, drop the others before converting
+                String sensorId = converter.getSensorId(input);
+                if (sensorId != null && !sensorIdHandlerMap.containsKey(sensorId)) {
+                    logger.trace("Ignoring reading of unknown sensor {}", sensorId);
+                    return;
+                }
+            }
+
             Reading r = converter.createReading(input);
             if (r != null) {
-                ReadingHandler<Reading> d = discoveryHandler.get();
                 if (d != null) {
                     d.handleReading(r);
                 }
 
-                // propagate to the appropriate sensor handler
-                synchronized (readingClassHandlerMap) {
-                    List<ReadingHandler<? extends Reading>> handlers = readingClassHandlerMap.get(r.getClass());
-                    if (handlers != null) {
-                        for (ReadingHandler h : handlers) {
+                // propagate to the sensor handler(s) of the sensor, readings of unknown sensors are dropped
+                List<ReadingHandler<? extends Reading>> handlers = sensorIdHandlerMap.get(r.getSensorId());
+                if (handlers != null) {
+                    for (ReadingHandler h : handlers) {
+                        if (h.getReadingClass() == r.getClass()) {
                             h.handleReading(r);
                         }
                     }
+                } else if (d == null) {
+                    logger.trace("Ignoring reading of unknown sensor {}", r.getSensorId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the sensor type of a reading line ("OK &lt;type&gt; &lt;value&gt; ..." with numeric type and values),
+     * without running a regular expression on each line received.
+     *
+     * @return the sensor type or null if the line is not a reading
+     */
+    private static String getSensorType(String input) {
+        int length = input.length();
+        if (length < 5 || !input.startsWith("OK") || !Character.isWhitespace(input.charAt(2))) {
+            return null;
+        }
+
+        int typeStart = -1;
+        int typeEnd = -1;
+        int valueCount = 0;
+        boolean inToken = false;
+        for (int i = 2; i < length; i++) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    inToken = false;
+                    if (typeEnd < 0) {
+                        typeEnd = i;
+                    }
                 }
+            } else if (c >= '0' && c <= '9') {
+                if (!inToken) {
+                    inToken = true;
+                    if (typeStart < 0) {
+                        typeStart = i;
+                    } else {
+                        valueCount++;
+                    }
+                }
+            } else {
+                return null;
             }
         }
+
+        if (inToken && typeEnd < 0) {
+            typeEnd = length;
+        }
+        return inToken && valueCount > 0 ? input.substring(typeStart, typeEnd) : null;
     }
 
     private void intializeConnection() {
@@ -15,4 +15,40 @@ package org.openhab.binding.jeelink.internal;
  */
 public interface JeeLinkReadingConverter<R extends Reading> {
     public R createReading(String inputLine);
+
+    /**
+     * Returns the id of the sensor that sent the input line without converting the line, so that the lines of
+     * unknown sensors can be dropped cheaply.
+     *
+     * @return the sensor id of the reading the line would be converted to or null if it cannot be determined
+     */
+    public String getSensorId(String inputLine);
+
+    /**
+     * Returns a whitespace separated token of an input line.
+     *
+     * @param inputLine the input line ("OK &lt;type&gt; &lt;value&gt; ...")
+     * @param index the index of the token, 0 being the "OK"
+     * @return the token or null if the line has less tokens
+     */
+    public static String getToken(String inputLine, int index) {
+        int length = inputLine.length();
+        int token = -1;
+        int start = -1;
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(inputLine.charAt(i))) {
+                if (start >= 0) {
+                    if (token == index) {
+                        return inputLine.substring(start, i);
+                    }
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+                token++;
+            }
+        }
+
+        return start >= 0 && token == index ? inputLine.substring(start) : null;
+    }
 }
@@ -37,6 +37,11 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
 
     public abstract ReadingPublisher<R> createPublisher();
 
+    @Override
+    public String getSensorId() {
+        return id;
+    }
+
     @Override
     public void handleReading(R r) {
         if (r != null && id.equals(r.getSensorId())) {
@@ -55,12 +60,12 @@ public abstract class JeeLinkSensorHandler<R extends Reading> extends BaseThingH
 
     @Override
     public synchronized void initialize() {
-        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
-        jlh.addReadingHandler(this);
-
         JeeLinkSensorConfig cfg = getConfigAs(JeeLinkSensorConfig.class);
         id = cfg.sensorId;
 
+        JeeLinkHandler jlh = (JeeLinkHandler) getBridge().getHandler();
+        jlh.addReadingHandler(this);
+
         statusUpdateJob = createStatusUpdateJob(scheduler, cfg.sensorTimeout);
 
         publisher = createPublisher();
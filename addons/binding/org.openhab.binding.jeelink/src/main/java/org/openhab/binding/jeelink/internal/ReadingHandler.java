@@ -17,4 +17,9 @@ public interface ReadingHandler<R extends Reading> {
     public void handleReading(R r);
 
     public Class<R> getReadingClass();
+
+    /**
+     * @return the ID of the sensor whose readings are handled, or null if readings of all sensors are handled.
+     */
+    public String getSensorId();
 }
@@ -11,48 +11,86 @@ package org.openhab.binding.jeelink.internal;
 /**
  * Computes a rolling average of readings.
  *
+ * The numeric values of the readings are kept in a ring buffer of doubles together with their running totals, so
+ * adding a reading neither allocates nor keeps the reading itself. Only {@link #getAverage()} creates a reading, which
+ * takes its non-averaged values from the last reading added.
+ *
  * @author Volker Bier - Initial contribution
  */
 public abstract class RollingReadingAverage<R extends Reading> {
+    private final int maxSize;
+    private final int valueCount;
+    private final double[] samples;
+    private final double[] totals;
+    private final double[] values;
+
     private int size = 0;
-    private int maxSize;
-    private R total = null;
     private int index = 0;
-    private R[] samples;
+    private R lastReading;
 
-    public RollingReadingAverage(R[] array) {
-        maxSize = array.length;
-        samples = array;
+    /**
+     * @param bufferSize the number of readings the average is computed of
+     * @param valueCount the number of values of a reading that are averaged
+     */
+    public RollingReadingAverage(int bufferSize, int valueCount) {
+        this.maxSize = bufferSize;
+        this.valueCount = valueCount;
+        this.samples = new double[bufferSize * valueCount];
+        this.totals = new double[valueCount];
+        this.values = new double[valueCount];
     }
 
-    public void add(R reading) {
-        if (size < maxSize) {
-            size++;
-        }
+    public synchronized void add(R reading) {
+        getValues(reading, values);
 
-        if (total == null) {
-            total = reading;
-        } else {
-            total = add(total, reading);
-            total = substract(total, samples[index]);
+        int offset = index * valueCount;
+        for (int i = 0; i < valueCount; i++) {
+            totals[i] += values[i] - samples[offset + i];
+            samples[offset + i] = values[i];
         }
 
-        samples[index] = reading;
+        if (size < maxSize) {
+            size++;
+        }
         if (++index == maxSize) {
             index = 0;
+            recomputeTotals();
         }
+        lastReading = reading;
     }
 
-    public R getAverage() {
-        if (total == null) {
+    public synchronized R getAverage() {
+        if (lastReading == null) {
             return null;
         }
-        return divide(total, size);
+
+        double[] averages = new double[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            averages[i] = totals[i] / size;
+        }
+        return createAverage(lastReading, averages);
     }
 
-    protected abstract R add(R value1, R value2);
+    /**
+     * Sums up the buffer once per round, so rounding errors of the running totals don't accumulate.
+     */
+    private void recomputeTotals() {
+        for (int i = 0; i < valueCount; i++) {
+            double total = 0;
+            for (int offset = i; offset < samples.length; offset += valueCount) {
+                total += samples[offset];
+            }
+            totals[i] = total;
+        }
+    }
 
-    protected abstract R substract(R from, R value);
+    /**
+     * Copies the values of the reading that are averaged into the given array.
+     */
+    protected abstract void getValues(R reading, double[] values);
 
-    protected abstract R divide(R value, int count);
+    /**
+     * Creates the average reading from the averaged values and the other values of the last reading.
+     */
+    protected abstract R createAverage(R lastReading, double[] averages);
 }
@@ -134,4 +134,9 @@ public class SensorDiscoveryService extends AbstractDiscoveryService implements
     public Class<Reading> getReadingClass() {
         return Reading.class;
     }
+
+    @Override
+    public String getSensorId() {
+        return null;
+    }
 }
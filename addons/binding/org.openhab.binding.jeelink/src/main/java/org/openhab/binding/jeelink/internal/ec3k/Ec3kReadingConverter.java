@@ -69,4 +69,20 @@ public class Ec3kReadingConverter implements JeeLinkReadingConverter<Ec3kReading
 
         return null;
     }
+
+    @Override
+    public String getSensorId(String inputLine) {
+        // OK 22 188 129 ... (ID = BC81)
+        String id1 = JeeLinkReadingConverter.getToken(inputLine, 2);
+        String id2 = JeeLinkReadingConverter.getToken(inputLine, 3);
+        if (id1 != null && id2 != null) {
+            try {
+                return String.format("%02X%02X", Long.parseLong(id1), Long.parseLong(id2));
+            } catch (NumberFormatException e) {
+                // not a reading of this converter
+            }
+        }
+
+        return null;
+    }
 }
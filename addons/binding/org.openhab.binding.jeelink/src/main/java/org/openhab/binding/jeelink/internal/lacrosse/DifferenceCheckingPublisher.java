@@ -24,7 +24,8 @@ public class DifferenceCheckingPublisher implements ReadingPublisher<LaCrosseTem
     private final ReadingPublisher<LaCrosseTemperatureReading> publisher;
     private final float allowedDifference;
 
-    private LaCrosseTemperatureReading lastReading;
+    private boolean hasLastTemperature;
+    private float lastTemperature;
 
     public DifferenceCheckingPublisher(float difference, ReadingPublisher<LaCrosseTemperatureReading> p) {
         allowedDifference = difference;
@@ -33,14 +34,14 @@ public class DifferenceCheckingPublisher implements ReadingPublisher<LaCrosseTem
 
     @Override
     public void publish(LaCrosseTemperatureReading reading) {
-        if (lastReading == null
-                || Math.abs(reading.getTemperature() - lastReading.getTemperature()) < allowedDifference) {
+        if (!hasLastTemperature || Math.abs(reading.getTemperature() - lastTemperature) < allowedDifference) {
             publisher.publish(reading);
         } else {
             logger.debug("Ignoring reading {} differing too much from previous value", reading.getTemperature());
         }
 
-        lastReading = reading;
+        lastTemperature = reading.getTemperature();
+        hasLastTemperature = true;
     }
 
     @Override
@@ -70,4 +70,19 @@ public class LaCrosseTemperatureReadingConverter implements JeeLinkReadingConver
 
         return null;
     }
+
+    @Override
+    public String getSensorId(String inputLine) {
+        // OK 9 ID XXX XXX XXX XXX
+        String id = JeeLinkReadingConverter.getToken(inputLine, 2);
+        if (id != null) {
+            try {
+                return String.valueOf(Integer.parseInt(id));
+            } catch (NumberFormatException e) {
+                logger.trace("Invalid sensor id in: {}", inputLine);
+            }
+        }
+
+        return null;
+    }
 }
@@ -66,4 +66,13 @@ public class Pca301ReadingConverter implements JeeLinkReadingConverter<Pca301Rea
 
         return null;
     }
+
+    @Override
+    public String getSensorId(String inputLine) {
+        // OK 24 1 4 1 160 236 ...
+        String id1 = JeeLinkReadingConverter.getToken(inputLine, 4);
+        String id2 = JeeLinkReadingConverter.getToken(inputLine, 5);
+        String id3 = JeeLinkReadingConverter.getToken(inputLine, 6);
+        return id1 != null && id2 != null && id3 != null ? id1 + "-" + id2 + "-" + id3 : null;
+    }
 }
@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.kodi.internal.protocol;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.kodi.internal.protocol.KodiClientSocket.KodiWebSocketListener;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Tests the correlation of the responses with the pending requests of the {@link KodiClientSocket}, the batch
+ * requests, the timeouts and the serialization of the messages sent over the websocket.
+ *
+ * @author agent - Initial contribution
+ */
+public class KodiClientSocketTest {
+
+    private static final int TIMEOUT = 5000;
+
+    private final JsonParser parser = new JsonParser();
+    private final List<String> sentMessages = new CopyOnWriteArrayList<>();
+
+    private ManualScheduler scheduler;
+    private RemoteEndpoint remote;
+    private KodiClientSocket socket;
+    private KodiWebSocketListener listener;
+
+    @Before
+    public void setUp() throws IOException {
+        scheduler = new ManualScheduler();
+        remote = mock(RemoteEndpoint.class);
+        doAnswer(invocation -> {
+            sentMessages.add((String) invocation.getArguments()[0]);
+            return null;
+        }).when(remote).sendString(anyString());
+        Session session = mock(Session.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getRemote()).thenReturn(remote);
+
+        socket = new KodiClientSocket(null, URI.create("ws://localhost:9090/jsonrpc"), scheduler);
+        listener = socket.new KodiWebSocketListener();
+        listener.onConnect(session);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void responsesAreMatchedByTheirId() throws Exception {
+        CompletableFuture<JsonElement> volume = socket.callMethodAsync("Application.GetProperties", null);
+        CompletableFuture<JsonElement> players = socket.callMethodAsync("Player.GetActivePlayers", null);
+        int volumeId = getId(sentMessages.get(0));
+        int playersId = getId(sentMessages.get(1));
+        assertNotEquals(volumeId, playersId);
+
+        // responses may arrive in any order
+        listener.onMessage(response(playersId, new JsonArray()));
+        assertFalse(volume.isDone());
+        listener.onMessage(response(volumeId, new JsonPrimitive(50)));
+
+        assertEquals(50, volume.get().getAsInt());
+        assertTrue(players.get().isJsonArray());
+        assertEquals(2, getStatistics("Application.GetProperties").getCalls()
+                + getStatistics("Player.GetActivePlayers").getCalls());
+    }
+
+    @Test
+    public void responseToAnUnknownRequestIsIgnored() throws Exception {
+        CompletableFuture<JsonElement> result = socket.callMethodAsync("JSONRPC.Ping", null);
+        int id = getId(sentMessages.get(0));
+
+        listener.onMessage(response(id + 100, new JsonPrimitive("pong")));
+        assertFalse(result.isDone());
+
+        listener.onMessage(response(id, new JsonPrimitive("pong")));
+        assertEquals("pong", result.get().getAsString());
+
+        // a second response with the same id has no request anymore
+        listener.onMessage(response(id, new JsonPrimitive("pong")));
+        assertEquals(1, getStatistics("JSONRPC.Ping").getCalls());
+    }
+
+    @Test
+    public void errorResponseFailsTheRequest() throws Exception {
+        CompletableFuture<JsonElement> result = socket.callMethodAsync("Player.Open", null);
+        int id = getId(sentMessages.get(0));
+
+        JsonObject error = new JsonObject();
+        error.addProperty("code", -32602);
+        error.addProperty("message", "Invalid params.");
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", "2.0");
+        response.addProperty("id", id);
+        response.add("error", error);
+        listener.onMessage(response.toString());
+
+        assertCause(IOException.class, result);
+        assertEquals(1, getStatistics("Player.Open").getFailures());
+        assertTrue(scheduler.timeouts.get(0).isCancelled());
+    }
+
+    @Test
+    public void batchIsSentAsOneMessage() throws Exception {
+        KodiClientSocket.Batch batch = socket.newBatch();
+        CompletableFuture<JsonElement> volume = batch.add("Application.GetProperties", null);
+        CompletableFuture<JsonElement> players = batch.add("Player.GetActivePlayers", null);
+        assertTrue(sentMessages.isEmpty());
+
+        batch.send();
+
+        assertEquals(1, sentMessages.size());
+        JsonArray requests = parser.parse(sentMessages.get(0)).getAsJsonArray();
+        assertEquals(2, requests.size());
+        JsonArray responses = new JsonArray();
+        responses.add(parser.parse(response(requests.get(1).getAsJsonObject().get("id").getAsInt(),
+                new JsonArray())));
+        responses.add(parser.parse(response(requests.get(0).getAsJsonObject().get("id").getAsInt(),
+                new JsonPrimitive(50))));
+        listener.onMessage(responses.toString());
+
+        assertEquals(50, volume.get().getAsInt());
+        assertTrue(players.get().isJsonArray());
+    }
+
+    @Test
+    public void failedBatchFailsAllItsRequests() throws Exception {
+        doThrow(new IOException("broken pipe")).when(remote).sendString(anyString());
+        KodiClientSocket.Batch batch = socket.newBatch();
+        CompletableFuture<JsonElement> volume = batch.add("Application.GetProperties", null);
+        CompletableFuture<JsonElement> players = batch.add("Player.GetActivePlayers", null);
+
+        batch.send();
+
+        assertCause(IOException.class, volume);
+        assertCause(IOException.class, players);
+        for (ScheduledFuture<?> timeout : scheduler.timeouts) {
+            assertTrue(timeout.isCancelled());
+        }
+    }
+
+    @Test
+    public void unansweredRequestTimesOut() throws Exception {
+        CompletableFuture<JsonElement> result = socket.callMethodAsync("VideoLibrary.GetMovies", null);
+        int id = getId(sentMessages.get(0));
+
+        assertEquals(1, scheduler.jobs.size());
+        assertEquals(60000, (long) scheduler.delays.get(0));
+        scheduler.jobs.get(0).run();
+
+        assertCause(TimeoutException.class, result);
+        assertEquals(1, getStatistics("VideoLibrary.GetMovies").getFailures());
+
+        // a late response is ignored
+        listener.onMessage(response(id, new JsonArray()));
+        assertEquals(1, getStatistics("VideoLibrary.GetMovies").getCalls());
+    }
+
+    @Test
+    public void callMethodReturnsNullOnTimeout() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<JsonElement> result = executor.submit(() -> socket.callMethod("VideoLibrary.GetMovies"));
+            while (scheduler.jobs.isEmpty()) {
+                Thread.sleep(10);
+            }
+            scheduler.jobs.get(0).run();
+
+            assertNull(result.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedSendFailsTheRequestImmediately() throws Exception {
+        doThrow(new IllegalStateException("Blocking message pending 10000 for BLOCKING")).when(remote)
+                .sendString(anyString());
+
+        assertNull(socket.callMethod("Player.PlayPause"));
+
+        assertEquals(1, getStatistics("Player.PlayPause").getFailures());
+        assertTrue(scheduler.timeouts.get(0).isCancelled());
+    }
+
+    @Test
+    public void failedSendFailsTheBatchImmediately() throws Exception {
+        doThrow(new IllegalStateException("Blocking message pending 10000 for BLOCKING")).when(remote)
+                .sendString(anyString());
+        KodiClientSocket.Batch batch = socket.newBatch();
+        CompletableFuture<JsonElement> volume = batch.add("Application.GetProperties", null);
+
+        batch.send();
+
+        assertCause(IllegalStateException.class, volume);
+        assertTrue(scheduler.timeouts.get(0).isCancelled());
+    }
+
+    @Test
+    public void closedConnectionFailsThePendingRequests() throws Exception {
+        CompletableFuture<JsonElement> result = socket.callMethodAsync("Player.GetItem", null);
+
+        listener.onClose(1006, "disconnected");
+
+        assertCause(IOException.class, result);
+        assertCause(IOException.class, socket.callMethodAsync("Player.GetItem", null));
+    }
+
+    @Test
+    public void messagesAreSentOneAtATime() throws Exception {
+        AtomicInteger sending = new AtomicInteger();
+        AtomicInteger maxSending = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxSending.accumulateAndGet(sending.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            sending.decrementAndGet();
+            return null;
+        }).when(remote).sendString(anyString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                calls.add(executor.submit(() -> socket.callMethodAsync("JSONRPC.Ping", null)));
+            }
+            for (Future<?> call : calls) {
+                call.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(remote, times(20)).sendString(anyString());
+        assertEquals(1, maxSending.get());
+    }
+
+    private KodiClientSocket.MethodStatistics getStatistics(String methodName) {
+        return socket.getMethodStatistics().get(methodName);
+    }
+
+    private int getId(String message) {
+        return parser.parse(message).getAsJsonObject().get("id").getAsInt();
+    }
+
+    private String response(int id, JsonElement result) {
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", "2.0");
+        response.addProperty("id", id);
+        response.add("result", result);
+        return response.toString();
+    }
+
+    private void assertCause(Class<? extends Exception> expected, CompletableFuture<JsonElement> result)
+            throws InterruptedException {
+        assertTrue(result.isDone());
+        try {
+            result.get();
+            fail("The request should have failed");
+        } catch (ExecutionException e) {
+            assertTrue("Unexpected cause " + e.getCause(), expected.isInstance(e.getCause()));
+        }
+    }
+
+    /**
+     * A scheduler which only records the scheduled timeouts, they are run by the test.
+     */
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> jobs = new CopyOnWriteArrayList<>();
+        private final List<Long> delays = new CopyOnWriteArrayList<>();
+        private final List<ScheduledFuture<?>> timeouts = new CopyOnWriteArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            jobs.add(command);
+            delays.add(unit.toMillis(delay));
+            // a future for the socket to cancel, the job itself is never run by the executor
+            ScheduledFuture<?> timeout = super.schedule(() -> {
+            }, 1, TimeUnit.DAYS);
+            timeouts.add(timeout);
+            return timeout;
+        }
+    }
+}
@@ -10,9 +10,19 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -25,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -33,6 +44,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Requests are pipelined: any number of calls may be in flight at the same time, their responses are correlated by
+ * the JSON-RPC id. Several calls can be sent as one JSON-RPC batch request, see {@link #newBatch()}.
+ *
  * @author Paul Frank
  *
  */
@@ -43,9 +57,9 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, MethodStatistics> methodStatistics = new ConcurrentHashMap<>();
 
     private boolean connected = false;
 
@@ -87,6 +101,8 @@ public class KodiClientSocket {
      * Close this connection to the Kodi instance
      */
     public void close() {
+        failPendingRequests("connection closed");
+        logStatistics();
         // if there is an old web socket then clean up and destroy
         if (session != null) {
             try {
@@ -133,13 +149,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -160,6 +182,7 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            failPendingRequests("connection closed: " + reason);
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -172,7 +195,11 @@ public class KodiClientSocket {
         }
     }
 
-    private void sendMessage(String str) throws IOException {
+    /*
+     * Sends a message to Kodi. The blocking send of the websocket allows only one message at a time, so concurrent
+     * callers are serialized.
+     */
+    private synchronized void sendMessage(String str) throws IOException {
         if (isConnected()) {
             logger.debug("send message: {}", str);
             session.getRemote().sendString(str);
@@ -185,40 +212,243 @@ public class KodiClientSocket {
         return callMethod(methodName, null);
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
+    /**
+     * Calls a method and waits for its result.
+     *
+     * @return the result of the call, or null if the call failed or timed out
+     */
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        return getResult(methodName, params, callMethodAsync(methodName, params));
+    }
+
+    /**
+     * Calls a method without waiting for its result.
+     *
+     * @return a future, which is completed with the result of the call, or exceptionally if the call failed or timed
+     *         out
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, JsonObject params) {
+        PendingRequest request = createRequest(methodName, params);
         try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+            sendMessage(mapper.toJson(request.payload));
+        } catch (IOException | RuntimeException e) {
+            completeExceptionally(request, e);
+        }
+        return request.result;
+    }
+
+    /**
+     * Creates a batch, which sends several calls to Kodi as one JSON-RPC batch request.
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
+    /**
+     * Waits for the result of a call.
+     *
+     * @return the result of the call, or null if the call failed or timed out
+     */
+    JsonElement getResult(String methodName, JsonObject params, CompletableFuture<JsonElement> result) {
+        try {
+            JsonElement response = result.get();
+            logger.debug("callMethod returns {}", response);
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted during callMethod({})", methodName);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                logger.debug("Timeout during callMethod({}, {})", methodName, params);
+            } else {
+                logger.debug("Error during callMethod({}): {}", methodName, e.getCause().getMessage());
             }
+        }
+        return null;
+    }
+
+    /**
+     * @return the statistics of all methods called so far, by method name
+     */
+    public Map<String, MethodStatistics> getMethodStatistics() {
+        return Collections.unmodifiableMap(new TreeMap<>(methodStatistics));
+    }
+
+    private PendingRequest createRequest(String methodName, JsonObject params) {
+        int id = nextMessageId.getAndIncrement();
+
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", id);
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
 
-            String message = mapper.toJson(payloadObject);
-
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
-
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
+        PendingRequest request = new PendingRequest(id, methodName, payloadObject);
+        pendingRequests.put(id, request);
+        request.timeout = scheduler.schedule(() -> {
+            completeExceptionally(request, new TimeoutException("no response within " + REQUEST_TIMEOUT_MS + "ms"));
+        }, REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        return request;
+    }
+
+    private void handleResponse(JsonObject response) {
+        JsonElement id = response.get("id");
+        if (id == null || !id.isJsonPrimitive()) {
+            logger.debug("Response without valid id received from server: {}", response);
+            return;
+        }
+        PendingRequest request = pendingRequests.remove(id.getAsInt());
+        if (request == null) {
+            logger.debug("Response to unknown or timed out request {} received from server", id);
+            return;
+        }
+        request.timeout.cancel(false);
+        long duration = System.nanoTime() - request.startTime;
+        if (response.has("result")) {
+            getStatistics(request.methodName).record(duration, true);
+            request.result.complete(response.get("result"));
+        } else {
+            getStatistics(request.methodName).record(duration, false);
+            JsonElement error = response.get("error");
+            logger.debug("Error received from server: {}", error);
+            request.result.completeExceptionally(new IOException("error received from server: " + error));
+        }
+    }
+
+    private void completeExceptionally(PendingRequest request, Exception e) {
+        if (pendingRequests.remove(request.id, request)) {
+            if (request.timeout != null) {
+                request.timeout.cancel(false);
+            }
+            getStatistics(request.methodName).record(System.nanoTime() - request.startTime, false);
+            request.result.completeExceptionally(e);
+        }
+    }
+
+    private void failPendingRequests(String reason) {
+        for (PendingRequest request : pendingRequests.values()) {
+            completeExceptionally(request, new IOException(reason));
+        }
+    }
+
+    private MethodStatistics getStatistics(String methodName) {
+        return methodStatistics.computeIfAbsent(methodName, k -> new MethodStatistics());
+    }
+
+    private void logStatistics() {
+        if (logger.isDebugEnabled()) {
+            for (Map.Entry<String, MethodStatistics> entry : getMethodStatistics().entrySet()) {
+                logger.debug("{}: {}", entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * A request, which has been sent to Kodi and waits for its response.
+     */
+    private static class PendingRequest {
+        private final int id;
+        private final String methodName;
+        private final JsonObject payload;
+        private final long startTime = System.nanoTime();
+        private final CompletableFuture<JsonElement> result = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingRequest(int id, String methodName, JsonObject payload) {
+            this.id = id;
+            this.methodName = methodName;
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * Collects several calls, which are sent to Kodi as one JSON-RPC batch request.
+     */
+    public class Batch {
+        private final List<PendingRequest> requests = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Adds a call to the batch.
+         *
+         * @return a future, which is completed with the result of the call once the batch has been sent
+         */
+        public CompletableFuture<JsonElement> add(String methodName, JsonObject params) {
+            PendingRequest request = createRequest(methodName, params);
+            requests.add(request);
+            return request.result;
+        }
+
+        /**
+         * Sends all calls of the batch.
+         */
+        public void send() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            JsonArray payload = new JsonArray();
+            for (PendingRequest request : requests) {
+                payload.add(request.payload);
+            }
+            try {
+                sendMessage(mapper.toJson(payload));
+            } catch (IOException | RuntimeException e) {
+                for (PendingRequest request : requests) {
+                    completeExceptionally(request, e);
                 }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
             }
-        } catch (Exception e) {
-            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
-            return null;
+        }
+    }
+
+    /**
+     * Latency statistics of the calls of a method.
+     */
+    public static class MethodStatistics {
+        private long calls;
+        private long failures;
+        private long totalNanos;
+        private long maxNanos;
+
+        private synchronized void record(long nanos, boolean success) {
+            calls++;
+            if (!success) {
+                failures++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public synchronized long getCalls() {
+            return calls;
+        }
+
+        public synchronized long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the average time in milliseconds between sending a call and receiving its response
+         */
+        public synchronized long getAverageLatency() {
+            return calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / calls);
+        }
+
+        /**
+         * @return the longest time in milliseconds between sending a call and receiving its response
+         */
+        public synchronized long getMaxLatency() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%d calls, %d failed, average %d ms, max %d ms", calls, failures,
+                    getAverageLatency(), getMaxLatency());
         }
     }
 }
@@ -15,6 +15,7 @@ import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -398,13 +399,19 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private int getSpeed(int activePlayer) {
+        return getSpeed(socket.callMethod("Player.GetProperties", getSpeedParams(activePlayer)));
+    }
+
+    private JsonObject getSpeedParams(int activePlayer) {
         final String[] properties = { "speed", "position" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return params;
+    }
 
+    private int getSpeed(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("speed")) {
@@ -418,7 +425,15 @@ public class KodiConnection implements KodiClientSocketEventListener {
         if (socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
+                // speed and current item are requested within one round trip
+                JsonObject speedParams = getSpeedParams(activePlayer);
+                JsonObject itemParams = getPlayerItemParams(activePlayer);
+                KodiClientSocket.Batch batch = socket.newBatch();
+                CompletableFuture<JsonElement> speedResponse = batch.add("Player.GetProperties", speedParams);
+                CompletableFuture<JsonElement> itemResponse = batch.add("Player.GetItem", itemParams);
+                batch.send();
+
+                int speed = getSpeed(socket.getResult("Player.GetProperties", speedParams, speedResponse));
                 if (speed == 0) {
                     updateState(KodiState.Stop);
                 } else if (speed == 1) {
@@ -428,7 +443,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
                 } else {
                     updateState(KodiState.FastForward);
                 }
-                requestPlayerUpdate(activePlayer);
+                processPlayerItem(socket.getResult("Player.GetItem", itemParams, itemResponse));
             } else {
                 updateState(KodiState.Stop);
             }
@@ -436,14 +451,20 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private void requestPlayerUpdate(int activePlayer) {
+        processPlayerItem(socket.callMethod("Player.GetItem", getPlayerItemParams(activePlayer)));
+    }
+
+    private JsonObject getPlayerItemParams(int activePlayer) {
         final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
                 "showtitle", "streamdetails", "channel", "channeltype" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+        return params;
+    }
 
+    private void processPlayerItem(JsonElement response) {
         if (response instanceof JsonObject) {
             JsonObject result = response.getAsJsonObject();
             if (result.has("item")) {
@@ -11,14 +11,17 @@ package org.openhab.binding.lutron.handler;
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -28,6 +31,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.lutron.internal.config.IPBridgeConfig;
 import org.openhab.binding.lutron.internal.discovery.LutronDeviceDiscoveryService;
@@ -36,6 +40,7 @@ import org.openhab.binding.lutron.internal.net.TelnetSessionListener;
 import org.openhab.binding.lutron.internal.protocol.LutronCommand;
 import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
 import org.openhab.binding.lutron.internal.protocol.LutronOperation;
+import org.openhab.binding.lutron.internal.protocol.LutronUpdate;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,8 +51,6 @@ import org.slf4j.LoggerFactory;
  * @author Allan Tong - Initial contribution
  */
 public class IPBridgeHandler extends BaseBridgeHandler {
-    private static final Pattern STATUS_REGEX = Pattern.compile("~(OUTPUT|DEVICE|SYSTEM),([^,]+),(.*)");
-
     private static final String DB_UPDATE_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
 
     private static final Integer MONITOR_PROMPT = 12;
@@ -72,6 +75,9 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     private ScheduledFuture<?> keepAliveReconnect;
 
     private Date lastDbUpdateDate;
+
+    // Child handlers by integration ID, maintained as child things are initialized and disposed
+    private final Map<Integer, LutronHandler> handlersByIntegrationId = new ConcurrentHashMap<>();
     private ServiceRegistration<DiscoveryService> discoveryServiceRegistration;
 
     public IPBridgeHandler(Bridge bridge) {
@@ -271,13 +277,48 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         this.sendQueue.add(command);
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof LutronHandler) {
+            LutronHandler handler = (LutronHandler) childHandler;
+
+            // The integration ID may have changed since the handler was last initialized
+            this.handlersByIntegrationId.values().removeIf(registered -> registered == handler);
+
+            try {
+                this.handlersByIntegrationId.put(handler.getIntegrationId(), handler);
+            } catch (IllegalStateException e) {
+                // Handler failed to initialize, it is looked up again when an update for it arrives
+                this.logger.debug("No integration ID for thing {}", childThing.getUID());
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        this.handlersByIntegrationId.values().removeIf(handler -> handler == childHandler);
+    }
+
     private LutronHandler findThingHandler(int integrationId) {
+        LutronHandler handler = this.handlersByIntegrationId.get(integrationId);
+
+        if (handler != null) {
+            return handler;
+        }
+
+        // Updates may arrive before childHandlerInitialized() has been called, fall back to a scan
         for (Thing thing : getThing().getThings()) {
             if (thing.getHandler() instanceof LutronHandler) {
-                LutronHandler handler = (LutronHandler) thing.getHandler();
+                handler = (LutronHandler) thing.getHandler();
+
+                try {
+                    if (handler.getIntegrationId() == integrationId) {
+                        this.handlersByIntegrationId.put(integrationId, handler);
 
-                if (handler.getIntegrationId() == integrationId) {
-                    return handler;
+                        return handler;
+                    }
+                } catch (IllegalStateException e) {
+                    // Handler not initialized yet
                 }
             }
         }
@@ -286,6 +327,11 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     }
 
     private void parseUpdates() {
+        List<LutronUpdate> updates = new ArrayList<>();
+
+        // Position of the pending output update by integration ID and action, used to coalesce level changes
+        Map<String, Integer> outputUpdates = new HashMap<>();
+
         for (String line : this.session.readLines()) {
             if (line.trim().equals("")) {
                 // Sometimes we get an empty line (possibly only when prompts are disabled). Ignore them.
@@ -299,35 +345,61 @@ public class IPBridgeHandler extends BaseBridgeHandler {
                 this.keepAliveReconnect.cancel(true);
             }
 
-            Matcher matcher = STATUS_REGEX.matcher(line);
+            LutronUpdate update = LutronUpdate.parse(line);
+
+            if (update == null) {
+                this.logger.info("Ignoring message {}", line);
+
+                continue;
+            }
+
+            if (update.getType() == LutronCommandType.SYSTEM) {
+                // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
+                // query. The response returns the last time the device database was updated.
+                setDbUpdateDate(update.getTarget(), update.getParameterString());
 
-            if (matcher.find()) {
-                LutronCommandType type = LutronCommandType.valueOf(matcher.group(1));
+                continue;
+            }
+
+            if (update.getType() == LutronCommandType.OUTPUT && update.getParameters().length > 0) {
+                // A scene may report many level changes at once, only the last one per output and action is
+                // passed to the handler
+                String key = update.getTarget() + "," + update.getParameters()[0];
+                Integer position = outputUpdates.get(key);
 
-                if (type == LutronCommandType.SYSTEM) {
-                    // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
-                    // query. The response returns the last time the device database was updated.
-                    setDbUpdateDate(matcher.group(2), matcher.group(3));
+                if (position != null) {
+                    updates.set(position, update);
 
                     continue;
                 }
 
-                Integer integrationId = new Integer(matcher.group(2));
-                LutronHandler handler = findThingHandler(integrationId);
+                outputUpdates.put(key, updates.size());
+            }
 
-                if (handler != null) {
-                    String paramString = matcher.group(3);
+            updates.add(update);
+        }
 
-                    try {
-                        handler.handleUpdate(type, paramString.split(","));
-                    } catch (Exception e) {
-                        this.logger.error("Error processing update", e);
-                    }
-                } else {
-                    this.logger.info("No thing configured for integration ID {}", integrationId);
+        for (LutronUpdate update : updates) {
+            int integrationId;
+
+            try {
+                integrationId = update.getIntegrationId();
+            } catch (NumberFormatException e) {
+                this.logger.info("Ignoring message with invalid integration ID {}", update);
+
+                continue;
+            }
+
+            LutronHandler handler = findThingHandler(integrationId);
+
+            if (handler != null) {
+                try {
+                    handler.handleUpdate(update.getType(), update.getParameters());
+                } catch (Exception e) {
+                    this.logger.error("Error processing update", e);
                 }
             } else {
-                this.logger.info("Ignoring message {}", line);
+                this.logger.info("No thing configured for integration ID {}", integrationId);
             }
         }
     }
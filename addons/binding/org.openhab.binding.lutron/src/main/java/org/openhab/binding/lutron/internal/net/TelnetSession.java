@@ -15,7 +15,6 @@ import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.nio.CharBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.MatchResult;
@@ -186,28 +185,39 @@ public class TelnetSession implements Closeable {
         }
     }
 
-    public Iterable<String> readLines() {
+    /**
+     * Removes all complete lines from the input buffer. An incomplete last line is kept in the buffer until the rest of
+     * it has been received.
+     *
+     * @return the complete lines without line terminators, in the order they were received
+     */
+    public List<String> readLines() {
         synchronized (this.charBuffer) {
-            this.charBuffer.flip();
-
-            String bufdata = this.charBuffer.toString();
-            int n = bufdata.lastIndexOf('\n');
-            String leftover;
-            String[] lines = null;
-
-            if (n != -1) {
-                leftover = bufdata.substring(n + 1);
-                bufdata = bufdata.substring(0, n).trim();
-
-                lines = bufdata.split("\r\n");
-            } else {
-                leftover = bufdata;
+            char[] data = this.charBuffer.array();
+            int end = this.charBuffer.position();
+            int start = 0;
+            List<String> lines = null;
+
+            // Scan the buffer in place instead of copying it into a string and splitting it
+            for (int i = 0; i < end; i++) {
+                if (data[i] == '\n') {
+                    int lineEnd = i > start && data[i - 1] == '\r' ? i - 1 : i;
+
+                    if (lines == null) {
+                        lines = new ArrayList<>();
+                    }
+                    lines.add(new String(data, start, lineEnd - start));
+                    start = i + 1;
+                }
             }
 
-            this.charBuffer.clear();
-            this.charBuffer.put(leftover);
+            if (start > 0) {
+                // Move the leftover to the start of the buffer
+                System.arraycopy(data, start, data, 0, end - start);
+                this.charBuffer.position(end - start);
+            }
 
-            return lines == null ? Collections.<String> emptyList() : Arrays.asList(lines);
+            return lines == null ? Collections.<String> emptyList() : lines;
         }
     }
 
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.internal.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Status update received from a Lutron integration access point, like <code>~OUTPUT,12,1,75.00</code>.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class LutronUpdate {
+    private static final char STATUS_PREFIX = '~';
+    private static final char SEPARATOR = ',';
+
+    private final LutronCommandType type;
+    private final String target;
+    private final String parameterString;
+    private final String[] parameters;
+
+    private LutronUpdate(LutronCommandType type, String target, String parameterString) {
+        this.type = type;
+        this.target = target;
+        this.parameterString = parameterString;
+        this.parameters = split(parameterString);
+    }
+
+    /**
+     * Parses a line received from the access point.
+     *
+     * @return the update, or null if the line is not an OUTPUT, DEVICE or SYSTEM status update
+     */
+    public static LutronUpdate parse(String line) {
+        int start = line.indexOf(STATUS_PREFIX);
+
+        if (start < 0) {
+            return null;
+        }
+
+        int typeEnd = line.indexOf(SEPARATOR, start + 1);
+        int targetEnd = typeEnd < 0 ? -1 : line.indexOf(SEPARATOR, typeEnd + 1);
+
+        if (targetEnd < 0 || targetEnd == typeEnd + 1) {
+            return null;
+        }
+
+        LutronCommandType type;
+
+        switch (line.substring(start + 1, typeEnd)) {
+            case "OUTPUT":
+                type = LutronCommandType.OUTPUT;
+                break;
+            case "DEVICE":
+                type = LutronCommandType.DEVICE;
+                break;
+            case "SYSTEM":
+                type = LutronCommandType.SYSTEM;
+                break;
+            default:
+                return null;
+        }
+
+        return new LutronUpdate(type, line.substring(typeEnd + 1, targetEnd), line.substring(targetEnd + 1));
+    }
+
+    private static String[] split(String parameterString) {
+        List<String> result = new ArrayList<>(4);
+        int start = 0;
+        int end;
+
+        while ((end = parameterString.indexOf(SEPARATOR, start)) >= 0) {
+            result.add(parameterString.substring(start, end));
+            start = end + 1;
+        }
+
+        // Trailing empty parameters are dropped, like String.split() does
+        if (start < parameterString.length()) {
+            result.add(parameterString.substring(start));
+        }
+
+        int size = result.size();
+
+        while (size > 0 && result.get(size - 1).isEmpty()) {
+            size--;
+        }
+
+        return result.subList(0, size).toArray(new String[size]);
+    }
+
+    public LutronCommandType getType() {
+        return this.type;
+    }
+
+    /**
+     * @return the integration ID of the update, or the action of SYSTEM updates
+     */
+    public String getTarget() {
+        return this.target;
+    }
+
+    /**
+     * @return the integration ID of the update
+     * @throws NumberFormatException if the target is not an integration ID
+     */
+    public int getIntegrationId() {
+        return Integer.parseInt(this.target);
+    }
+
+    /**
+     * @return everything following the target, as received
+     */
+    public String getParameterString() {
+        return this.parameterString;
+    }
+
+    public String[] getParameters() {
+        return this.parameters;
+    }
+
+    @Override
+    public String toString() {
+        return STATUS_PREFIX + this.type.toString() + SEPARATOR + this.target + SEPARATOR + this.parameterString;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.handler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.max.internal.command.C_Command;
+import org.openhab.binding.max.internal.command.Q_Command;
+
+/**
+ * Tests cases for {@link SendCommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+public class SendCommandQueueTest {
+
+    private SendCommandQueue queue;
+
+    @Before
+    public void before() {
+        queue = new SendCommandQueue(2);
+    }
+
+    @Test
+    public void pollReturnsCommandsInQueueOrder() {
+        SendCommand first = new SendCommand("KEQ0000001", new Q_Command(), "first");
+        SendCommand second = new SendCommand("KEQ0000002", new Q_Command(), "second");
+
+        queue.offer(first.getKey(), first);
+        queue.offer(second.getKey(), second);
+
+        assertSame(first, queue.poll());
+        assertSame(second, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void latestCommandReplacesQueuedCommandInPlace() {
+        SendCommand first = new SendCommand("KEQ0000001", new Q_Command(), "first");
+        SendCommand second = new SendCommand("KEQ0000002", new Q_Command(), "second");
+        SendCommand update = new SendCommand("KEQ0000001", new Q_Command(), "update");
+        first.setQueuedTime(1000);
+
+        queue.offer(first.getKey(), first);
+        queue.offer(second.getKey(), second);
+        assertSame(first, queue.offer(update.getKey(), update));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.getMergedCommands());
+        assertEquals(1000, update.getQueuedTime());
+        assertSame(update, queue.poll());
+        assertSame(second, queue.poll());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void offerFailsIfQueueIsFull() {
+        queue.offer("1", new SendCommand("KEQ0000001", new Q_Command(), "first"));
+        queue.offer("2", new SendCommand("KEQ0000002", new Q_Command(), "second"));
+        queue.offer("3", new SendCommand("KEQ0000003", new Q_Command(), "third"));
+    }
+
+    @Test
+    public void requeueKeepsNewerCommand() {
+        SendCommand sent = new SendCommand("KEQ0000001", new C_Command("0b0da3"), "sent");
+        SendCommand newer = new SendCommand("KEQ0000001", new C_Command("0b0da3"), "newer");
+
+        queue.offer(newer.getKey(), newer);
+
+        assertFalse(queue.requeue(sent.getKey(), sent));
+        assertSame(newer, queue.poll());
+        assertTrue(queue.requeue(sent.getKey(), sent));
+        assertSame(sent, queue.poll());
+    }
+
+    @Test
+    public void commandSentRecordsLatency() {
+        SendCommand sendCommand = new SendCommand("KEQ0000001", new Q_Command(), "first");
+        sendCommand.setQueuedTime(System.currentTimeMillis() - 1000);
+
+        long latency = queue.commandSent(sendCommand);
+
+        assertTrue(latency >= 1000);
+        assertEquals(1, queue.getSentCommands());
+        assertEquals(latency, queue.getAverageLatency());
+        assertEquals(latency, queue.getMaxLatency());
+    }
+}
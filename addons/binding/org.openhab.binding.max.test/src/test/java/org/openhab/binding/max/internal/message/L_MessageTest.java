@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.message;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.net.util.Base64;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.max.internal.device.Device;
+import org.openhab.binding.max.internal.device.DeviceConfiguration;
+import org.openhab.binding.max.internal.device.DeviceInformation;
+import org.openhab.binding.max.internal.device.HeatingThermostat;
+
+/**
+ * Tests cases for {@link L_Message}.
+ *
+ * @author agent - Initial contribution
+ */
+public class L_MessageTest {
+
+    private final String mRawData = "M:00,01,VgIFAQhiYWRrYW1lcgsNowIMU3R1ZGVlcmthbWVyB7bnAwlXb29ua2FtZXIL6aIEDFN6b25qYSBLYW1lcgjDSQUGWm9sZGVyCMHWCAILDaNLRVEwNTQ0MjQyEUJhZGthbWVyIFJhZGlhdG9yAQEHtudLRVEwMTQ1MTcyFVJhZGlhdG9yIFN0dWRlZXJrYW1lcgIDDhXMTEVRMDAxNTM0MBlXYWxsIFRoZXJtb3N0YXQgV29vbmthbWVyAwEL6aJLRVE5MDE1NDMyG1BsdWcgQWRhcHRlciBNdXVydmVyd2FybWluZwMFBDNvSkVRMDM4MDg3OBdFY28gU3dpdGNoIFN0dWRlZXJrYW1lcgAEDnX2S0VRMTEwNDM4MBpXaW5kb3cgU2Vuc29yIFN0dWRlZXJrYW1lcgIBCMNJS0VRMDY0ODk0ORJUaGVybW9zdGFhdCBTem9uamEEAQjB1ktFUTA2NDkzMTIRU3R1ZGVlcmthbWVyIElybWEFAQ==";
+    private final String lRawData = "L:CwsNowkSGE0kALAACwjB1gkSGGAiAAAABg519gkSEAYEM28JAAALC+miCRIYACIAAAAMDhXMCRIYBCIAAACtCwjDSQkSGGQqAGMACwe25wkSGGQkAAAA";
+
+    private List<DeviceConfiguration> configurations = new ArrayList<>();
+    private List<Device> devices = new ArrayList<>();
+
+    @Before
+    public void Before() {
+        for (DeviceInformation di : new M_Message(mRawData).devices) {
+            configurations.add(DeviceConfiguration.create(di));
+        }
+    }
+
+    @Test
+    public void getMessageTypeTest() {
+        assertEquals(MessageType.L, new L_Message(lRawData).getType());
+    }
+
+    @Test
+    public void updateDevicesCreatesDevicesTest() {
+        new L_Message(lRawData).updateDevices(devices, configurations);
+
+        assertEquals(8, devices.size());
+        HeatingThermostat thermostat = (HeatingThermostat) getDevice("0B0DA3");
+        assertEquals(new DecimalType(18.0), thermostat.getTemperatureSetpoint());
+        assertEquals(new DecimalType(77), thermostat.getValvePosition());
+        assertTrue(thermostat.isUpdated());
+    }
+
+    @Test
+    public void unchangedRecordsAreSkippedTest() {
+        new L_Message(lRawData).updateDevices(devices, configurations);
+        for (Device device : devices) {
+            device.setUpdated(false);
+        }
+
+        new L_Message(lRawData).updateDevices(devices, configurations);
+
+        assertEquals(8, devices.size());
+        for (Device device : devices) {
+            assertFalse(device.getRFAddress(), device.isUpdated());
+        }
+    }
+
+    @Test
+    public void changedRecordIsUpdatedTest() {
+        new L_Message(lRawData).updateDevices(devices, configurations);
+        for (Device device : devices) {
+            device.setUpdated(false);
+        }
+
+        // the setpoint of the first device (0B0DA3) is in byte 8 of the message
+        byte[] payload = Base64.decodeBase64(lRawData.substring(2).getBytes());
+        payload[8] = 0x2A;
+        new L_Message("L:" + new String(Base64.encodeBase64(payload, false))).updateDevices(devices, configurations);
+
+        HeatingThermostat thermostat = (HeatingThermostat) getDevice("0B0DA3");
+        assertTrue(thermostat.isUpdated());
+        assertEquals(new DecimalType(21.0), thermostat.getTemperatureSetpoint());
+        for (Device device : devices) {
+            if (device != thermostat) {
+                assertFalse(device.getRFAddress(), device.isUpdated());
+            }
+        }
+    }
+
+    private Device getDevice(String rfAddress) {
+        for (Device device : devices) {
+            if (device.getRFAddress().equalsIgnoreCase(rfAddress)) {
+                return device;
+            }
+        }
+        return null;
+    }
+}
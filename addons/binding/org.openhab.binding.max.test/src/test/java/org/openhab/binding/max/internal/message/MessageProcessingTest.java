@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.message;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.max.internal.device.Device;
+import org.openhab.binding.max.internal.device.DeviceConfiguration;
+import org.openhab.binding.max.internal.device.DeviceInformation;
+
+/**
+ * Replays the cube transcript in sampleMessage.txt through the {@link MessageProcessor} the way the bridge handler
+ * does, and checks that the L messages of repeated polls update the known devices instead of adding new ones.
+ *
+ * @author agent - Initial contribution
+ */
+public class MessageProcessingTest {
+
+    private static final String TRANSCRIPT = "sampleMessage.txt";
+    private static final int POLLS = 5;
+
+    private final MessageProcessor processor = new MessageProcessor();
+    private final List<DeviceConfiguration> configurations = new ArrayList<>();
+    private final List<Device> devices = new ArrayList<>();
+
+    private List<String> transcript;
+    private List<String> pollLines;
+
+    @Before
+    public void Before() throws Exception {
+        transcript = readTranscript();
+        pollLines = new ArrayList<>();
+        for (String line : transcript) {
+            if (line.startsWith("L:")) {
+                pollLines.add(line);
+            }
+        }
+    }
+
+    @Test
+    public void replayTranscript() throws Exception {
+        for (String line : transcript) {
+            processLine(line);
+        }
+        assertFalse(devices.isEmpty());
+        assertFalse(pollLines.isEmpty());
+
+        Set<String> rfAddresses = new HashSet<>();
+        for (Device device : devices) {
+            assertTrue("Duplicate device " + device.getRFAddress(), rfAddresses.add(device.getRFAddress()));
+        }
+
+        List<Device> knownDevices = new ArrayList<>(devices);
+        for (int i = 0; i < POLLS; i++) {
+            poll();
+        }
+
+        assertEquals(knownDevices.size(), devices.size());
+        for (int i = 0; i < knownDevices.size(); i++) {
+            assertSame(knownDevices.get(i), devices.get(i));
+        }
+    }
+
+    private void poll() throws Exception {
+        for (String line : pollLines) {
+            processLine(line);
+        }
+    }
+
+    private void processLine(String line) throws Exception {
+        processor.addReceivedLine(line);
+        if (!processor.isMessageAvailable()) {
+            return;
+        }
+        Message message = processor.pull();
+        switch (message.getType()) {
+            case M:
+                for (DeviceInformation di : ((M_Message) message).devices) {
+                    configurations.add(DeviceConfiguration.create(di));
+                }
+                break;
+            case C:
+                String serialNumber = ((C_Message) message).getSerialNumber();
+                for (DeviceConfiguration configuration : configurations) {
+                    if (configuration.getSerialNumber().equalsIgnoreCase(serialNumber)) {
+                        configuration.setValues((C_Message) message);
+                    }
+                }
+                break;
+            case L:
+                ((L_Message) message).updateDevices(devices, configurations);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private List<String> readTranscript() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(TRANSCRIPT);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    lines.add(line.trim());
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -8,6 +8,7 @@
  */
 package org.openhab.binding.max.internal.device;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +49,9 @@ public abstract class Device {
     private boolean linkStatusError;
     private HashMap<String, Object> properties = new HashMap<>();
 
+    /** the device record of the last L message, used to skip decoding if it did not change */
+    private byte[] lastRecord;
+
     public Device(DeviceConfiguration c) {
         this.serialNumber = c.getSerialNumber();
         this.rfAddress = c.getRFAddress();
@@ -128,6 +132,12 @@ public abstract class Device {
 
         String rfAddress = device.getRFAddress();
 
+        if (Arrays.equals(raw, device.lastRecord)) {
+            logger.trace("Device {} ({}): L Message unchanged", rfAddress, device.getType());
+            return device;
+        }
+        device.lastRecord = raw;
+
         // byte 4 is skipped
 
         // multiple device information are encoded in those particular bytes
@@ -24,7 +24,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -115,9 +115,22 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
 
     /** maximum queue size that we're allowing */
     private static final int MAX_COMMANDS = 50;
-    private ArrayBlockingQueue<SendCommand> commandQueue = new ArrayBlockingQueue<SendCommand>(MAX_COMMANDS);
+    private SendCommandQueue commandQueue = new SendCommandQueue(MAX_COMMANDS);
 
-    private SendCommand lastCommandId = null;
+    /**
+     * Duty cycle (in percent of the allowed radio time) from which no further commands are sent to the devices until
+     * the cube reports a lower value
+     */
+    private static final int DUTY_CYCLE_LIMIT = 90;
+
+    /**
+     * The cube reports its duty cycle only in response to commands, if the budget is exhausted a single command is
+     * sent after this interval (in milliseconds) to get an update
+     */
+    private static final long DUTY_CYCLE_RETRY_INTERVAL = 60000;
+
+    private long lastRadioCommandTime = 0;
+    private boolean lastCommandDiscarded = false;
 
     private String ipAddress;
     private int port;
@@ -137,9 +150,9 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     private int dutyCycle = 0;
 
     /**
-     * The available memory slots of the cube
+     * The available memory slots of the cube, -1 until reported by the cube
      */
-    private int freeMemorySlots;
+    private int freeMemorySlots = -1;
 
     /**
      * connection socket and reader/writer for execute method
@@ -152,6 +165,13 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
 
     private Set<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArraySet<>();
 
+    /**
+     * Listeners interested in the state of all devices, and listeners of a single device indexed by its serial number.
+     * Device state changes are dispatched using these, all other events are sent to all deviceStatusListeners.
+     */
+    private Set<DeviceStatusListener> allDevicesStatusListeners = new CopyOnWriteArraySet<>();
+    private Map<String, DeviceStatusListener> deviceStatusListenersBySerial = new ConcurrentHashMap<>();
+
     private ScheduledFuture<?> pollingJob;
     private Runnable pollingRunnable = new Runnable() {
         @Override
@@ -327,34 +347,75 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Takes a command from the command queue and send it to
-     * {@link executeCommand} for execution.
+     * Takes the commands from the command queue and sends them to the MAX! Cube
+     * for execution, as long as the duty cycle of the cube allows to.
      *
      */
     private synchronized void sendCommands() {
 
-        SendCommand sendCommand = commandQueue.poll();
-        if (sendCommand != null) {
+        int sent = 0;
+        SendCommand sendCommand;
+        while ((sendCommand = commandQueue.poll()) != null) {
             CubeCommand cmd = sendCommand.getCubeCommand();
             if (cmd == null) {
                 cmd = getCommand(sendCommand);
             }
-            if (cmd != null) {
-                // Actual sending of the data to the Max! Cube Lan Gateway
-                logger.debug("Command {} ({}:{}) sent to MAX! Cube at IP: {}", sendCommand.getId(),
-                        sendCommand.getKey(), sendCommand.getCommandText(), ipAddress);
+            if (cmd == null) {
+                continue;
+            }
+            boolean radioCommand = isRadioCommand(cmd);
+            if (radioCommand && !hasRadioBudget()) {
+                logger.debug(
+                        "Duty cycle budget of MAX! Cube at IP: {} exhausted (duty cycle: {}, free memory slots: {}), {} command(s) waiting",
+                        ipAddress, dutyCycle, freeMemorySlots, commandQueue.size() + 1);
+                commandQueue.requeue(getMergeKey(sendCommand), sendCommand);
+                break;
+            }
 
-                if (sendCubeCommand(cmd)) {
-                    logger.trace("Command {} ({}:{}) completed for MAX! Cube at IP: {}", sendCommand.getId(),
-                            sendCommand.getKey(), sendCommand.getCommandText(), ipAddress);
-                } else {
-                    logger.warn("Error sending command {} ({}:{}) to MAX! Cube at IP: {}", sendCommand.getId(),
-                            sendCommand.getKey(), sendCommand.getCommandText(), ipAddress);
-                }
+            // Actual sending of the data to the Max! Cube Lan Gateway
+            logger.debug("Command {} ({}:{}) sent to MAX! Cube at IP: {} after {} ms in queue", sendCommand.getId(),
+                    sendCommand.getKey(), sendCommand.getCommandText(), ipAddress,
+                    commandQueue.commandSent(sendCommand));
+
+            sent++;
+            if (radioCommand) {
+                lastRadioCommandTime = System.currentTimeMillis();
+                lastCommandDiscarded = false;
+            }
+            if (!sendCubeCommand(cmd)) {
+                logger.warn("Error sending command {} ({}:{}) to MAX! Cube at IP: {}", sendCommand.getId(),
+                        sendCommand.getKey(), sendCommand.getCommandText(), ipAddress);
+                break;
             }
+            if (radioCommand && lastCommandDiscarded) {
+                // the cube did not accept the command, try again with the next run
+                commandQueue.requeue(getMergeKey(sendCommand), sendCommand);
+                break;
+            }
+            logger.trace("Command {} ({}:{}) completed for MAX! Cube at IP: {}", sendCommand.getId(),
+                    sendCommand.getKey(), sendCommand.getCommandText(), ipAddress);
+        }
+        if (sent > 0) {
+            logger.debug("MAX! Cube at IP: {} sent {} commands ({} merged), queue latency avg {} ms, max {} ms",
+                    ipAddress, commandQueue.getSentCommands(), commandQueue.getMergedCommands(),
+                    commandQueue.getAverageLatency(), commandQueue.getMaxLatency());
         }
     }
 
+    /**
+     * Commands answered with a S message are sent by the cube to the devices and count against its duty cycle.
+     */
+    private boolean isRadioCommand(CubeCommand command) {
+        return "S:".equals(command.getReturnStrings());
+    }
+
+    private boolean hasRadioBudget() {
+        if (dutyCycle < DUTY_CYCLE_LIMIT && freeMemorySlots != 0) {
+            return true;
+        }
+        return System.currentTimeMillis() - lastRadioCommandTime >= DUTY_CYCLE_RETRY_INTERVAL;
+    }
+
     /**
      * initiates read data from the MAX! Cube bridge
      */
@@ -366,13 +427,12 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
                 previousOnline = true;
                 for (Device di : devices) {
                     if (lastActiveDevices != null && lastActiveDevices.contains(di.getSerialNumber())) {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            try {
-                                deviceStatusListener.onDeviceStateChanged(getThing().getUID(), di);
-                            } catch (Exception e) {
-                                logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                                unregisterDeviceStatusListener(deviceStatusListener);
-                            }
+                        DeviceStatusListener deviceListener = deviceStatusListenersBySerial.get(di.getSerialNumber());
+                        if (deviceListener != null) {
+                            notifyDeviceStateChanged(deviceListener, di);
+                        }
+                        for (DeviceStatusListener deviceStatusListener : allDevicesStatusListeners) {
+                            notifyDeviceStateChanged(deviceStatusListener, di);
                         }
                     }
                     // New device, not seen before, pass to Discovery
@@ -398,6 +458,15 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    private void notifyDeviceStateChanged(DeviceStatusListener deviceStatusListener, Device device) {
+        try {
+            deviceStatusListener.onDeviceStateChanged(getThing().getUID(), device);
+        } catch (Exception e) {
+            logger.error("An exception occurred while calling the DeviceStatusListener", e);
+            unregisterDeviceStatusListener(deviceStatusListener);
+        }
+    }
+
     public void onConnectionLost() {
         logger.debug("Bridge connection lost. Updating thing status to OFFLINE.");
         previousOnline = false;
@@ -422,7 +491,30 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         }
         boolean result = deviceStatusListeners.add(deviceStatusListener);
         if (result) {
-            // onUpdate();
+            allDevicesStatusListeners.add(deviceStatusListener);
+        }
+        return result;
+    }
+
+    /**
+     * Registers a listener for the state changes of a single device. Other events are sent to the listener like to
+     * the listeners registered with {@link #registerDeviceStatusListener(DeviceStatusListener)}.
+     *
+     * @param serialNumber the serial number of the device
+     * @param deviceStatusListener the listener
+     * @return true if the listener has been registered
+     */
+    public boolean registerDeviceStatusListener(String serialNumber, DeviceStatusListener deviceStatusListener) {
+        if (deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
+        }
+        boolean result = deviceStatusListeners.add(deviceStatusListener);
+        if (result) {
+            if (serialNumber != null) {
+                deviceStatusListenersBySerial.put(serialNumber, deviceStatusListener);
+            } else {
+                allDevicesStatusListeners.add(deviceStatusListener);
+            }
         }
         return result;
     }
@@ -433,6 +525,8 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
         }
         boolean result = deviceStatusListeners.remove(deviceStatusListener);
         if (result) {
+            allDevicesStatusListeners.remove(deviceStatusListener);
+            deviceStatusListenersBySerial.values().remove(deviceStatusListener);
             clearDeviceList();
         }
         return result;
@@ -450,68 +544,66 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      * @return boolean success
      */
     private synchronized boolean sendCubeCommand(CubeCommand command) {
-        synchronized (MaxCubeBridgeHandler.class) {
-            boolean sendSuccess = false;
-            try {
-                if (socket == null || socket.isClosed()) {
-                    this.socketConnect();
-                }
+        boolean sendSuccess = false;
+        try {
+            if (socket == null || socket.isClosed()) {
+                this.socketConnect();
+            }
 
-                if (maxRequestsPerConnection > 0 && requestCount >= maxRequestsPerConnection) {
-                    logger.debug("maxRequestsPerConnection reached, reconnecting.");
-                    socket.close();
-                    this.socketConnect();
-                } else {
+            if (maxRequestsPerConnection > 0 && requestCount >= maxRequestsPerConnection) {
+                logger.debug("maxRequestsPerConnection reached, reconnecting.");
+                socket.close();
+                this.socketConnect();
+            } else {
 
-                    if (requestCount == 0) {
-                        logger.debug("Connect to MAX! Cube");
-                        readliness("L:");
+                if (requestCount == 0) {
+                    logger.debug("Connect to MAX! Cube");
+                    readliness("L:");
 
-                    }
-                    if (!(requestCount == 0 && command instanceof L_Command)) {
+                }
+                if (!(requestCount == 0 && command instanceof L_Command)) {
 
-                        logger.debug("Sending request #{} to MAX! Cube", this.requestCount);
-                        if (writer == null) {
-                            logger.warn("Can't write to MAX! Cube");
-                            this.socketConnect();
-                        }
+                    logger.debug("Sending request #{} to MAX! Cube", this.requestCount);
+                    if (writer == null) {
+                        logger.warn("Can't write to MAX! Cube");
+                        this.socketConnect();
+                    }
 
-                        writer.write(command.getCommandString());
-                        logger.trace("Write string to Max! Cube {}: {}", ipAddress, command.getCommandString());
-                        writer.flush();
-                        if (command.getReturnStrings() != null) {
-                            readliness(command.getReturnStrings());
-                        } else {
-                            socketClose();
-                        }
+                    writer.write(command.getCommandString());
+                    logger.trace("Write string to Max! Cube {}: {}", ipAddress, command.getCommandString());
+                    writer.flush();
+                    if (command.getReturnStrings() != null) {
+                        readliness(command.getReturnStrings());
+                    } else {
+                        socketClose();
                     }
                 }
+            }
 
-                requestCount++;
-                sendSuccess = true;
+            requestCount++;
+            sendSuccess = true;
 
-                if (!exclusive) {
-                    socketClose();
-                }
-            } catch (ConnectException e) {
-                logger.debug("Connection timed out on {} port {}", ipAddress, port);
-                sendSuccess = false;
-                socketClose(); // reconnect on next execution
-            } catch (UnknownHostException e) {
-                logger.debug("Host error occurred during execution: {}", e.getMessage());
-                sendSuccess = false;
-                socketClose(); // reconnect on next execution
-            } catch (IOException e) {
-                logger.debug("IO error occurred during execution: {}", e.getMessage());
-                sendSuccess = false;
-                socketClose(); // reconnect on next execution
-            } catch (Exception e) {
-                logger.debug("Exception occurred during execution: {}", e.getMessage(), e);
-                sendSuccess = false;
-                socketClose(); // reconnect on next execution
+            if (!exclusive) {
+                socketClose();
             }
-            return sendSuccess;
+        } catch (ConnectException e) {
+            logger.debug("Connection timed out on {} port {}", ipAddress, port);
+            sendSuccess = false;
+            socketClose(); // reconnect on next execution
+        } catch (UnknownHostException e) {
+            logger.debug("Host error occurred during execution: {}", e.getMessage());
+            sendSuccess = false;
+            socketClose(); // reconnect on next execution
+        } catch (IOException e) {
+            logger.debug("IO error occurred during execution: {}", e.getMessage());
+            sendSuccess = false;
+            socketClose(); // reconnect on next execution
+        } catch (Exception e) {
+            logger.debug("Exception occurred during execution: {}", e.getMessage(), e);
+            sendSuccess = false;
+            socketClose(); // reconnect on next execution
         }
+        return sendSuccess;
     }
 
     /**
@@ -659,6 +751,7 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
                 freeMemorySlots = ((S_Message) message).getFreeMemorySlots();
                 updateCubeState();
                 if (((S_Message) message).isCommandDiscarded()) {
+                    lastCommandDiscarded = true;
                     logger.warn("Last Send Command discarded. Duty Cycle: {}, Free Memory Slots: {}", dutyCycle,
                             freeMemorySlots);
                 } else {
@@ -770,33 +863,46 @@ public class MaxCubeBridgeHandler extends BaseBridgeHandler {
      * Takes the device command and puts it on the command queue to be processed
      * by the MAX! Cube Lan Gateway. Note that if multiple commands for the same
      * item-channel combination are send prior that they are processed by the
-     * Max! Cube, they will be removed from the queue as they would not be
+     * Max! Cube, only the latest one is kept in the queue as the others would not be
      * meaningful. This will improve the behavior when using sliders in the GUI.
+     * As the cube sends thermostat commands to all devices of a room, commands
+     * for different thermostats in the same room are merged as well.
      *
      * @param SendCommand
      *            the SendCommand containing the serial number of the device as
      *            String the channelUID used to send the command and the the
      *            command data
      */
-    public synchronized void queueCommand(SendCommand sendCommand) {
-
-        if (commandQueue.offer(sendCommand)) {
-            if (lastCommandId != null) {
-                if (lastCommandId.getKey().equals(sendCommand.getKey())) {
-                    if (commandQueue.remove(lastCommandId)) {
-                        logger.debug("Removed Command id {} ({}) from queue. Superceeded by {}", lastCommandId.getId(),
-                                lastCommandId.getKey(), sendCommand.getId());
-                    }
-                }
+    public void queueCommand(SendCommand sendCommand) {
+        try {
+            SendCommand replaced = commandQueue.offer(getMergeKey(sendCommand), sendCommand);
+            if (replaced != null) {
+                logger.debug("Removed Command id {} ({}) from queue. Superceeded by {}", replaced.getId(),
+                        replaced.getKey(), sendCommand.getId());
             }
-            lastCommandId = sendCommand;
             logger.debug("Command queued id {} ({}:{}).", sendCommand.getId(), sendCommand.getKey(),
                     sendCommand.getCommandText());
-
-        } else {
+        } catch (IllegalStateException e) {
             logger.debug("Command queued full dropping command id {} ({}).", sendCommand.getId(), sendCommand.getKey());
         }
+    }
 
+    /**
+     * Returns the key used to merge queued commands with the same target. Thermostat
+     * commands for devices assigned to a room are sent as room commands by the cube,
+     * so they share the key of the room.
+     */
+    private String getMergeKey(SendCommand sendCommand) {
+        if (sendCommand.getCubeCommand() == null) {
+            String channelId = sendCommand.getChannelUID().getId();
+            if (channelId.equals(CHANNEL_SETTEMP) || channelId.equals(CHANNEL_MODE)) {
+                Device device = getDevice(sendCommand.getDeviceSerial(), devices);
+                if (device instanceof HeatingThermostat && device.getRoomId() != 0) {
+                    return "Room" + device.getRoomId() + "-" + channelId;
+                }
+            }
+        }
+        return sendCommand.getKey();
     }
 
     /**
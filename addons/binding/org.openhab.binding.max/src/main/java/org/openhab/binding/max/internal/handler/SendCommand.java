@@ -29,6 +29,7 @@ public final class SendCommand {
     private String serialNumber;
     private String key;
     private String commandText;
+    private long queuedTime = System.currentTimeMillis();
 
     public SendCommand(String serialNumber, ChannelUID channelUID, Command command) {
         commandId += 1;
@@ -147,4 +148,18 @@ public final class SendCommand {
         this.commandText = commandText;
     }
 
+    /**
+     * @return the time in milliseconds the command has been queued
+     */
+    public long getQueuedTime() {
+        return queuedTime;
+    }
+
+    /**
+     * @param queuedTime the time in milliseconds the command has been queued
+     */
+    public void setQueuedTime(long queuedTime) {
+        this.queuedTime = queuedTime;
+    }
+
 }
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.max.internal.handler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link SendCommandQueue} holds the commands waiting to be sent to a MAX! Cube.
+ *
+ * Commands are queued under a merge key. A command queued under the key of a command that is still waiting replaces
+ * that command (latest wins), but keeps its position in the queue and its queue time, so that a stream of updates (e.g.
+ * from a slider) neither starves nor floods the cube.
+ *
+ * The queue also keeps track of how long commands have been waiting before they were sent.
+ *
+ * @author agent - Initial contribution
+ */
+public class SendCommandQueue {
+
+    private final int capacity;
+    private final Map<String, SendCommand> commands = new LinkedHashMap<>();
+
+    private long mergedCommands;
+    private long sentCommands;
+    private long totalLatency;
+    private long maxLatency;
+
+    public SendCommandQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a command to the queue.
+     *
+     * @param mergeKey key identifying the target of the command
+     * @param sendCommand the command to queue
+     * @return the command which was replaced by the new command, or null if nothing was replaced
+     * @throws IllegalStateException if the queue is full
+     */
+    public synchronized SendCommand offer(String mergeKey, SendCommand sendCommand) {
+        SendCommand replaced = commands.get(mergeKey);
+        if (replaced != null) {
+            sendCommand.setQueuedTime(replaced.getQueuedTime());
+            mergedCommands++;
+        } else if (commands.size() >= capacity) {
+            throw new IllegalStateException("Command queue is full");
+        }
+        commands.put(mergeKey, sendCommand);
+        return replaced;
+    }
+
+    /**
+     * Puts a command, that could not be executed, back into the queue. It is dropped if a newer command with the same
+     * merge key has been queued in the meantime or the queue is full.
+     *
+     * @return true if the command was queued again
+     */
+    public synchronized boolean requeue(String mergeKey, SendCommand sendCommand) {
+        if (commands.size() >= capacity) {
+            return false;
+        }
+        return commands.putIfAbsent(mergeKey, sendCommand) == null;
+    }
+
+    /**
+     * Removes the command that has been waiting longest from the queue.
+     *
+     * @return the command, or null if the queue is empty
+     */
+    public synchronized SendCommand poll() {
+        Iterator<SendCommand> iterator = commands.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        SendCommand sendCommand = iterator.next();
+        iterator.remove();
+        return sendCommand;
+    }
+
+    /**
+     * Records that a command has been sent to the cube.
+     *
+     * @return the time in milliseconds the command has been waiting in the queue
+     */
+    public synchronized long commandSent(SendCommand sendCommand) {
+        long latency = System.currentTimeMillis() - sendCommand.getQueuedTime();
+        sentCommands++;
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
+        return latency;
+    }
+
+    public synchronized int size() {
+        return commands.size();
+    }
+
+    public synchronized void clear() {
+        commands.clear();
+    }
+
+    /**
+     * @return the number of commands that have been replaced by a newer command before they were sent
+     */
+    public synchronized long getMergedCommands() {
+        return mergedCommands;
+    }
+
+    /**
+     * @return the number of commands that have been sent
+     */
+    public synchronized long getSentCommands() {
+        return sentCommands;
+    }
+
+    /**
+     * @return the average time in milliseconds sent commands have been waiting in the queue
+     */
+    public synchronized long getAverageLatency() {
+        return sentCommands == 0 ? 0 : totalLatency / sentCommands;
+    }
+
+    /**
+     * @return the longest time in milliseconds a sent command has been waiting in the queue
+     */
+    public synchronized long getMaxLatency() {
+        return maxLatency;
+    }
+}
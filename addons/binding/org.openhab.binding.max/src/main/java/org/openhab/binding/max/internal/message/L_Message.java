@@ -10,7 +10,9 @@ package org.openhab.binding.max.internal.message;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.net.util.Base64;
 import org.openhab.binding.max.internal.Utils;
@@ -57,27 +59,24 @@ public final class L_Message extends Message {
 
         MaxTokenizer tokenizer = new MaxTokenizer(decodedRawMessage);
 
+        Map<String, Device> devicesByRfAddress = new HashMap<>();
+        for (Device device : devices) {
+            devicesByRfAddress.put(device.getRFAddress().toUpperCase(), device);
+        }
+
         while (tokenizer.hasMoreElements()) {
             byte[] token = tokenizer.nextElement();
             String rfAddress = Utils.toHex(token[0] & 0xFF, token[1] & 0xFF, token[2] & 0xFF);
-            // logger.debug("token: "+token+" rfaddress: "+rfAddress);
-
-            Device foundDevice = null;
-            for (Device device : devices) {
-                // logger.debug(device.getRFAddress().toUpperCase()+ " vs "+rfAddress);
-                if (device.getRFAddress().toUpperCase().equals(rfAddress)) {
-                    // logger.debug("Updating device..."+rfAddress);
-                    foundDevice = device;
-                }
-            }
+
+            Device foundDevice = devicesByRfAddress.get(rfAddress);
             if (foundDevice != null) {
-                foundDevice = Device.update(token, configurations, foundDevice);
-                // devices.remove(token);
-                // devices.add(foundDevice);
+                // unchanged device records are skipped by the update
+                Device.update(token, configurations, foundDevice);
             } else {
                 Device tempDevice = Device.create(token, configurations);
                 if (tempDevice != null) {
                     devices.add(tempDevice);
+                    devicesByRfAddress.put(rfAddress, tempDevice);
                 }
             }
         }
@@ -52,6 +52,17 @@ public class MessageProcessor {
     private List<String> receivedLines = new ArrayList<String>();
     private MessageType currentMessageType = null;
 
+    /**
+     * The message types indexed by their indicator character
+     */
+    private static final MessageType[] MESSAGE_TYPES = new MessageType[128];
+
+    static {
+        for (MessageType msgType : MessageType.values()) {
+            MESSAGE_TYPES[msgType.name().charAt(0)] = msgType;
+        }
+    }
+
     /**
      * Resets the current status and processed lines. Should be used after
      * processing a message
@@ -229,12 +240,10 @@ public class MessageProcessor {
      */
     private static MessageType getMessageType(String line) {
 
-        for (MessageType msgType : MessageType.values()) {
-            if (line.startsWith(msgType.name() + SEPARATOR)) {
-                return msgType;
-            }
+        if (line.length() < 2 || !line.startsWith(SEPARATOR, 1)) {
+            return null;
         }
-
-        return null;
+        char indicator = line.charAt(0);
+        return indicator < MESSAGE_TYPES.length ? MESSAGE_TYPES[indicator] : null;
     }
 }
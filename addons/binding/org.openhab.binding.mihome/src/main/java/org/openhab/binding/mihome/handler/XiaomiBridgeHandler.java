@@ -13,13 +13,13 @@ import static org.openhab.binding.mihome.XiaomiGatewayBindingConstants.*;
 import java.math.BigDecimal;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.core.Configuration;
@@ -35,13 +35,14 @@ import org.openhab.binding.mihome.internal.EncryptionHelper;
 import org.openhab.binding.mihome.internal.XiaomiItemUpdateListener;
 import org.openhab.binding.mihome.internal.discovery.XiaomiItemDiscoveryService;
 import org.openhab.binding.mihome.internal.socket.XiaomiBridgeSocket;
+import org.openhab.binding.mihome.internal.socket.XiaomiMessage;
 import org.openhab.binding.mihome.internal.socket.XiaomiSocketListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 
 /**
@@ -58,12 +59,12 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Collections.singleton(THING_TYPE_BRIDGE);
     private static final JsonParser PARSER = new JsonParser();
     private static final EncryptionHelper CRYPTER = new EncryptionHelper();
-    private static Map<String, JsonObject> retentionInbox = new ConcurrentHashMap<>();
+    private static Map<String, XiaomiMessage> retentionInbox = new ConcurrentHashMap<>();
 
     private final Logger logger = LoggerFactory.getLogger(XiaomiBridgeHandler.class);
 
-    private List<XiaomiItemUpdateListener> itemListeners = new ArrayList<>();
-    private List<XiaomiItemUpdateListener> itemDiscoveryListeners = new ArrayList<>();
+    private Map<String, XiaomiItemUpdateListener> itemListeners = new ConcurrentHashMap<>();
+    private List<XiaomiItemUpdateListener> itemDiscoveryListeners = new CopyOnWriteArrayList<>();
 
     private String gatewayToken;
     private long lastDiscoveryTime;
@@ -96,9 +97,7 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
             return;
         }
         logger.debug("Init socket on Port: {}", port);
-        socket = new XiaomiBridgeSocket(port);
-        socket.intialize();
-        socket.registerListener(this);
+        socket = XiaomiBridgeSocket.registerListener(port, this);
 
         scheduler.schedule(() -> {
             discoverItems();
@@ -108,7 +107,10 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
     @Override
     public void dispose() {
         logger.debug("dispose");
-        socket.unregisterListener(this);
+        if (socket != null) {
+            socket.unregisterListener(this);
+            socket = null;
+        }
         super.dispose();
     }
 
@@ -118,23 +120,36 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
     }
 
     @Override
-    public void onDataReceived(JsonObject message) {
+    public void onDataReceived(XiaomiMessage message) {
         logger.trace("Received message {}", message);
-        String sid = message.has("sid") ? message.get("sid").getAsString() : null;
-        String command = message.get("cmd").getAsString();
+        String sid = message.getSid();
+        String command = message.getCommand();
+        if (command == null) {
+            logger.debug("Ignoring message without command: {}", message);
+            return;
+        }
 
         updateDeviceStatus(sid);
-        updateStatus(ThingStatus.ONLINE);
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
+        }
         switch (command) {
             case "iam":
                 return;
             case "heartbeat":
-                if (message.has("token")) {
-                    this.gatewayToken = message.get("token").getAsString();
+                String token = message.getString("token");
+                if (token != null) {
+                    this.gatewayToken = token;
                 }
                 break;
             case "get_id_list_ack":
-                JsonArray devices = PARSER.parse(message.get("data").getAsString()).getAsJsonArray();
+                JsonArray devices;
+                try {
+                    devices = PARSER.parse(message.getString("data")).getAsJsonArray();
+                } catch (JsonParseException | IllegalStateException e) {
+                    logger.warn("Unable to parse device list: {}", message);
+                    return;
+                }
                 for (JsonElement deviceId : devices) {
                     String device = deviceId.getAsString();
                     sendCommandToBridge("read", device);
@@ -153,7 +168,7 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         notifyListeners(command, message);
     }
 
-    private synchronized void defer(String sid, JsonObject message) {
+    private synchronized void defer(String sid, XiaomiMessage message) {
         synchronized (retentionInbox) {
             retentionInbox.remove(sid);
             retentionInbox.put(sid, message);
@@ -176,9 +191,9 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         }
     }
 
-    public synchronized JsonObject getDeferredMessage(String sid) {
+    public synchronized XiaomiMessage getDeferredMessage(String sid) {
         synchronized (retentionInbox) {
-            JsonObject ret = retentionInbox.get(sid);
+            XiaomiMessage ret = retentionInbox.get(sid);
             if (ret != null) {
                 retentionInbox.remove(sid);
             }
@@ -186,23 +201,19 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         }
     }
 
-    private synchronized void notifyListeners(String command, JsonObject message) {
-        boolean knownDevice = false;
-        String sid = message.get("sid").getAsString();
+    private void notifyListeners(String command, XiaomiMessage message) {
+        String sid = message.getSid();
 
         // Not a message to pass to any itemListener
         if (sid == null) {
             return;
         }
-        for (XiaomiItemUpdateListener itemListener : itemListeners) {
-            if (sid.equals(itemListener.getItemId())) {
-                itemListener.onItemUpdate(sid, command, message);
-                knownDevice = true;
-            }
-        }
-        if (!knownDevice) {
-            for (XiaomiItemUpdateListener itemListener : itemDiscoveryListeners) {
-                itemListener.onItemUpdate(sid, command, message);
+        XiaomiItemUpdateListener itemListener = itemListeners.get(sid);
+        if (itemListener != null) {
+            itemListener.onItemUpdate(sid, command, message);
+        } else {
+            for (XiaomiItemUpdateListener discoveryListener : itemDiscoveryListeners) {
+                discoveryListener.onItemUpdate(sid, command, message);
             }
         }
     }
@@ -214,16 +225,19 @@ public class XiaomiBridgeHandler extends ConfigStatusBridgeHandler implements Xi
         } else if (listener instanceof XiaomiItemDiscoveryService) {
             result = !(itemDiscoveryListeners.contains(listener)) ? itemDiscoveryListeners.add(listener) : false;
             logger.debug("Having {} Item Discovery listeners", itemDiscoveryListeners.size());
+        } else if (listener.getItemId() == null) {
+            logger.warn("It's not allowed to pass a XiaomiItemUpdateListener without item id");
         } else {
             logger.debug("Adding item listener for device {}", listener.getItemId());
-            result = !(itemListeners.contains(listener)) ? itemListeners.add(listener) : false;
+            result = itemListeners.put(listener.getItemId(), listener) != listener;
             logger.debug("Having {} Item listeners", itemListeners.size());
         }
         return result;
     }
 
     public synchronized boolean unregisterItemListener(XiaomiItemUpdateListener listener) {
-        return itemListeners.remove(listener);
+        boolean result = itemListeners.values().remove(listener);
+        return itemDiscoveryListeners.remove(listener) || result;
     }
 
     private void sendMessageToBridge(String message) {
@@ -27,12 +27,12 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.mihome.internal.XiaomiItemUpdateListener;
+import org.openhab.binding.mihome.internal.socket.XiaomiMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 
 /**
  * The {@link XiaomiDeviceBaseHandler} is responsible for handling commands, which are
@@ -58,8 +58,6 @@ public abstract class XiaomiDeviceBaseHandler extends BaseThingHandler implement
     private static final long ONLINE_TIMEOUT_MILLIS = 2 * 60 * 60 * 1000; // 2 hours
     private ScheduledFuture<?> onlineCheckTask;
 
-    private JsonParser parser = new JsonParser();
-
     private XiaomiBridgeHandler bridgeHandler;
 
     private String itemId;
@@ -101,11 +99,10 @@ public abstract class XiaomiDeviceBaseHandler extends BaseThingHandler implement
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("Device {} on channel {} received command {}", getItemId(), channelUID, command);
         if (command instanceof RefreshType) {
-            JsonObject message = getXiaomiBridgeHandler().getDeferredMessage(getItemId());
+            XiaomiMessage message = getXiaomiBridgeHandler().getDeferredMessage(getItemId());
             if (message != null) {
-                String cmd = message.get("cmd").getAsString();
                 logger.debug("Update Item {} with retented message", getItemId());
-                onItemUpdate(getItemId(), cmd, message);
+                onItemUpdate(getItemId(), message.getCommand(), message);
             }
             return;
         }
@@ -113,16 +110,18 @@ public abstract class XiaomiDeviceBaseHandler extends BaseThingHandler implement
     }
 
     @Override
-    public void onItemUpdate(String sid, String command, JsonObject message) {
+    public void onItemUpdate(String sid, String command, XiaomiMessage message) {
         if (getItemId() != null && getItemId().equals(sid)) {
             if (getThing().getStatus() != ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
             }
             logger.debug("Item got update: {}", message);
             try {
-                JsonObject data = parser.parse(message.get("data").getAsString()).getAsJsonObject();
-                parseCommand(command, data);
-            } catch (JsonSyntaxException e) {
+                JsonObject data = message.getData();
+                if (data != null) {
+                    parseCommand(command, data);
+                }
+            } catch (JsonParseException | IllegalStateException e) {
                 logger.warn("Unable to parse message as valid JSON: {}", message);
             }
         }
@@ -8,7 +8,7 @@
  */
 package org.openhab.binding.mihome.internal;
 
-import com.google.gson.JsonObject;
+import org.openhab.binding.mihome.internal.socket.XiaomiMessage;
 
 /**
  * Listener for item/sensor updates.
@@ -26,7 +26,7 @@ public interface XiaomiItemUpdateListener {
      * @author Patrick Boos - Initial contribution
      */
 
-    void onItemUpdate(String sid, String command, JsonObject message);
+    void onItemUpdate(String sid, String command, XiaomiMessage message);
 
     /**
      * Returns the itemID, to which the listener listens
@@ -25,6 +25,7 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.mihome.handler.XiaomiBridgeHandler;
 import org.openhab.binding.mihome.internal.socket.XiaomiDiscoverySocket;
+import org.openhab.binding.mihome.internal.socket.XiaomiMessage;
 import org.openhab.binding.mihome.internal.socket.XiaomiSocketListener;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
@@ -86,10 +87,10 @@ public class XiaomiBridgeDiscoveryService extends AbstractDiscoveryService
     }
 
     @Override
-    public void onDataReceived(JsonObject data) {
-        logger.debug("Received message {}", data);
-        if (data.get("cmd").getAsString().equals("iam")) {
-            getGatewayInfo(data);
+    public void onDataReceived(XiaomiMessage message) {
+        logger.debug("Received message {}", message);
+        if ("iam".equals(message.getCommand())) {
+            getGatewayInfo(message.getJson());
         }
     }
 
@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.MulticastSocket;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,17 +21,58 @@ import org.slf4j.LoggerFactory;
 /**
  * Takes care of the multicast communication with the bridge.
  *
+ * All bridges using the same port share one {@link XiaomiBridgeSocket}, so that every received datagram is only
+ * decoded once and then routed to the bridge it has been sent from.
+ *
  * @author Dieter Schmidt - Initial contribution
  *
  */
 public class XiaomiBridgeSocket extends XiaomiSocket {
 
+    private static final Map<Integer, XiaomiBridgeSocket> SOCKETS = new HashMap<>();
+
     private final Logger logger = LoggerFactory.getLogger(XiaomiBridgeSocket.class);
 
     public XiaomiBridgeSocket(int port) {
         super(port);
     }
 
+    /**
+     * Registers a {@link XiaomiSocketListener} on the {@link XiaomiBridgeSocket} for the given port.
+     * If there is no socket for the port yet, it is being set up.
+     *
+     * @param port - the port of the socket
+     * @param listener - {@link XiaomiSocketListener} to be called back
+     * @return - the {@link XiaomiBridgeSocket} the listener has been registered on
+     */
+    public static XiaomiBridgeSocket registerListener(int port, XiaomiSocketListener listener) {
+        synchronized (SOCKETS) {
+            XiaomiBridgeSocket socket = SOCKETS.get(port);
+            if (socket == null) {
+                socket = new XiaomiBridgeSocket(port);
+                SOCKETS.put(port, socket);
+            }
+            socket.registerListener(listener);
+            return socket;
+        }
+    }
+
+    /**
+     * Unregisters a {@link XiaomiSocketListener}. If there are no listeners left,
+     * the {@link XiaomiBridgeSocket} is being closed and no longer shared.
+     *
+     * @param listener - {@link XiaomiSocketListener} to be unregistered
+     */
+    @Override
+    public void unregisterListener(XiaomiSocketListener listener) {
+        synchronized (SOCKETS) {
+            super.unregisterListener(listener);
+            if (getListeners().isEmpty()) {
+                SOCKETS.remove(getPort(), this);
+            }
+        }
+    }
+
     /**
      * Sets up the {@link XiaomiBridgeSocket}.
      *
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.mihome.internal.socket;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * A message received from a MiHome gateway.
+ *
+ * The message is decoded once by the {@link XiaomiSocket} and then passed to all listeners. The fields used for
+ * routing are extracted when the message is received, the embedded data object is only parsed when it is asked for, and
+ * then shared by all listeners.
+ *
+ * @author agent - Initial contribution
+ */
+public class XiaomiMessage {
+
+    private static final JsonParser PARSER = new JsonParser();
+
+    private final JsonObject json;
+    private final String command;
+    private final String sid;
+
+    private volatile JsonObject data;
+
+    public XiaomiMessage(JsonObject json) {
+        this.json = json;
+        this.command = getString(json, "cmd");
+        this.sid = getString(json, "sid");
+    }
+
+    /**
+     * Parses a received message.
+     *
+     * @param message - the received message
+     * @return the decoded message
+     * @throws JsonSyntaxException if the message is not a valid JSON object
+     */
+    public static XiaomiMessage parse(String message) {
+        JsonElement element = PARSER.parse(message);
+        if (!element.isJsonObject()) {
+            throw new JsonSyntaxException("Message is not a JSON object: " + message);
+        }
+        return new XiaomiMessage(element.getAsJsonObject());
+    }
+
+    /**
+     * @return - the command of the message ("cmd")
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * @return - the id of the device the message is about ("sid"), or null if the message has no sid
+     */
+    public String getSid() {
+        return sid;
+    }
+
+    /**
+     * @return - the value of the given key in the message, or null if the message doesn't contain the key
+     */
+    public String getString(String key) {
+        return getString(json, key);
+    }
+
+    /**
+     * Returns the data object of the message, which is sent as a string within the message.
+     *
+     * @return - the data object, or null if the message contains no data
+     * @throws JsonSyntaxException if the data is not a valid JSON object
+     */
+    public JsonObject getData() {
+        JsonObject result = data;
+        if (result == null) {
+            String dataString = getString(json, "data");
+            if (dataString == null) {
+                return null;
+            }
+            result = PARSER.parse(dataString).getAsJsonObject();
+            data = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return - the complete message
+     */
+    public JsonObject getJson() {
+        return json;
+    }
+
+    private static String getString(JsonObject json, String key) {
+        JsonElement element = json.get(key);
+        return (element == null || element.isJsonNull()) ? null : element.getAsString();
+    }
+
+    @Override
+    public String toString() {
+        return json.toString();
+    }
+}
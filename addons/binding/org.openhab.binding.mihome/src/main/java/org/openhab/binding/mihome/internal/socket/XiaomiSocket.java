@@ -12,7 +12,9 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -21,8 +23,7 @@ import org.openhab.binding.mihome.internal.discovery.XiaomiBridgeDiscoveryServic
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonParseException;
 
 /**
  * Takes care of the communication with MiHome devices.
@@ -39,8 +40,8 @@ public abstract class XiaomiSocket {
     private DatagramPacket datagramPacket = new DatagramPacket(new byte[BUFFER_LENGTH], BUFFER_LENGTH);
 
     private List<XiaomiSocketListener> listeners = new CopyOnWriteArrayList<>();
-
-    private static final JsonParser PARSER = new JsonParser();
+    private Map<InetAddress, XiaomiSocketListener> bridgeListeners = new ConcurrentHashMap<>();
+    private List<XiaomiSocketListener> discoveryListeners = new CopyOnWriteArrayList<>();
 
     private final Logger logger = LoggerFactory.getLogger(XiaomiSocket.class);
 
@@ -105,12 +106,22 @@ public abstract class XiaomiSocket {
      * Registers a {@link XiaomiSocketListener} to be called back, when data is received.
      * If no {@link XiaomiSocket} exists, when the method is called, it is being set up.
      *
+     * A {@link XiaomiBridgeHandler} is only called back for data received from its gateway.
+     *
      * @param listener - {@link XiaomiSocketListener} to be called back
      */
     public synchronized void registerListener(XiaomiSocketListener listener) {
         if (!getListeners().contains(listener)) {
             logger.trace("Adding socket listener {}", listener);
             getListeners().add(listener);
+            if (listener instanceof XiaomiBridgeHandler) {
+                InetAddress host = ((XiaomiBridgeHandler) listener).getHost();
+                if (host != null) {
+                    bridgeListeners.put(host, listener);
+                }
+            } else if (listener instanceof XiaomiBridgeDiscoveryService) {
+                discoveryListeners.add(listener);
+            }
         }
         if (getSocket() == null) {
             intialize();
@@ -125,6 +136,8 @@ public abstract class XiaomiSocket {
      */
     public synchronized void unregisterListener(XiaomiSocketListener listener) {
         getListeners().remove(listener);
+        bridgeListeners.values().remove(listener);
+        discoveryListeners.remove(listener);
 
         if (getListeners().isEmpty()) {
             closeSocket();
@@ -191,8 +204,8 @@ public abstract class XiaomiSocket {
 
         /**
          * This method is the main method of the {@link ReceiverThread} for the {@link XiaomiBridgeSocket}.
-         * If the socket has data, it parses the data to a json object and calls all
-         * {@link XiaomiSocketListener} and passes the data to them.
+         * If the socket has data, it decodes the data to a {@link XiaomiMessage} once and passes it to the
+         * {@link XiaomiSocketListener}s interested in it. The datagram and its buffer are reused for every receive.
          *
          * @param socket - The multicast socket to listen to
          * @param dgram - The datagram to receive
@@ -205,10 +218,17 @@ public abstract class XiaomiSocket {
                     InetAddress address = dgram.getAddress();
                     logger.debug("Received Datagram from {}:{} on Port {}", address.getHostAddress(), dgram.getPort(),
                             socket.getLocalPort());
-                    String sentence = new String(dgram.getData(), 0, dgram.getLength());
-                    JsonObject message = PARSER.parse(sentence).getAsJsonObject();
-                    notifyAll(getListeners(), message, address);
-                    logger.trace("Data received and notified {} listeners", getListeners().size());
+                    String sentence = new String(dgram.getData(), dgram.getOffset(), dgram.getLength(),
+                            StandardCharsets.UTF_8);
+                    XiaomiMessage message;
+                    try {
+                        message = XiaomiMessage.parse(sentence);
+                    } catch (JsonParseException e) {
+                        logger.warn("Ignoring invalid message from {}: {}", address.getHostAddress(), sentence);
+                        continue;
+                    }
+                    notifyAll(message, address);
+                    logger.trace("Data received and notified listeners");
                 }
             } catch (IOException e) {
                 if (!isInterrupted()) {
@@ -221,21 +241,20 @@ public abstract class XiaomiSocket {
         }
 
         /**
-         * Notifies all {@link XiaomiSocketListener} on the parent {@link XiaomiSocket}. First checks for any matching
-         * {@link XiaomiBridgeHandler}, before passing to any {@link XiaomiBridgeDiscoveryService}.
+         * Notifies the {@link XiaomiSocketListener}s on the parent {@link XiaomiSocket}. First passes the message to
+         * the {@link XiaomiBridgeHandler} of the sending gateway, looked up by its address, and then to any
+         * {@link XiaomiBridgeDiscoveryService}.
          *
-         * @param listeners - a list of all {@link XiaomiSocketListener} to notify
-         * @param message - the data message as {@link JsonObject}
+         * @param message - the received {@link XiaomiMessage}
+         * @param address - the address the message has been received from
          */
-        synchronized void notifyAll(List<XiaomiSocketListener> listeners, JsonObject message, InetAddress address) {
-            for (XiaomiSocketListener listener : listeners) {
-                if (listener instanceof XiaomiBridgeHandler) {
-                    if (((XiaomiBridgeHandler) listener).getHost().equals(address)) {
-                        listener.onDataReceived(message);
-                    }
-                } else if (listener instanceof XiaomiBridgeDiscoveryService) {
-                    listener.onDataReceived(message);
-                }
+        void notifyAll(XiaomiMessage message, InetAddress address) {
+            XiaomiSocketListener bridgeListener = bridgeListeners.get(address);
+            if (bridgeListener != null) {
+                bridgeListener.onDataReceived(message);
+            }
+            for (XiaomiSocketListener listener : discoveryListeners) {
+                listener.onDataReceived(message);
             }
         }
     }
@@ -0,0 +1,528 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.openhab.binding.russound.internal.net.SocketSession;
+import org.openhab.binding.russound.internal.net.SocketSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the routing of the responses by the {@link RioNotificationDispatcher} with the per-listener parsing it
+ * replaced, on the RIO session recorded in rio-session.txt. The session is replayed to the protocol handlers of a
+ * system with two controllers of six zones each and six sources. The legacy handlers receive every response and match
+ * it against the regular expressions of the protocol handlers, the routed handlers apply the checks of the protocol
+ * handlers to the notifications routed to them.
+ *
+ * The benchmark is not part of the unit tests, its name doesn't match the test includes. Run it as a JUnit test from
+ * the IDE.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioNotificationDispatcherBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(RioNotificationDispatcherBenchmark.class);
+
+    private static final String SESSION = "rio-session.txt";
+    private static final int WARMUP_ROUNDS = 2000;
+    private static final int ROUNDS = 20000;
+
+    private static final int CONTROLLERS = 2;
+    private static final int ZONES = 6;
+    private static final int SOURCES = 6;
+
+    @Test
+    public void compareDispatching() throws IOException, InterruptedException {
+        List<String> session = readSession();
+
+        ReplaySession legacySession = new ReplaySession();
+        List<Handler> legacyHandlers = createLegacyHandlers(legacySession);
+        ReplaySession routedSession = new ReplaySession();
+        List<Handler> routedHandlers = createRoutedHandlers(routedSession);
+        try {
+            // each protocol handler handles the same responses
+            replay(legacySession, legacyHandlers, session, 1);
+            replay(routedSession, routedHandlers, session, 1);
+            for (int i = 0; i < legacyHandlers.size(); i++) {
+                assertFalse(legacyHandlers.get(i).handled.isEmpty());
+                assertEquals(legacyHandlers.get(i).handled, routedHandlers.get(i).handled);
+            }
+
+            replay(legacySession, legacyHandlers, session, WARMUP_ROUNDS);
+            replay(routedSession, routedHandlers, session, WARMUP_ROUNDS);
+
+            long responses = (long) ROUNDS * session.size();
+            long routedTime = replay(routedSession, routedHandlers, session, ROUNDS);
+            long legacyTime = replay(legacySession, legacyHandlers, session, ROUNDS);
+            logger.info("Dispatched {} RIO responses to {} protocol handlers: routed {} ns/response, "
+                    + "per-listener parsing {} ns/response", responses, routedHandlers.size(),
+                    routedTime / responses, legacyTime / responses);
+        } finally {
+            for (Handler handler : routedHandlers) {
+                RioNotificationDispatcher.unsubscribe(routedSession, (RioNotificationListener) handler);
+            }
+        }
+    }
+
+    /**
+     * Passes the session a number of times to the listeners of the replay session.
+     *
+     * @return the time taken in nanoseconds
+     */
+    private long replay(ReplaySession replaySession, List<Handler> handlers, List<String> session, int rounds)
+            throws InterruptedException {
+        long time = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (Handler handler : handlers) {
+                handler.handled.clear();
+            }
+            long start = System.nanoTime();
+            for (String response : session) {
+                replaySession.receive(response);
+            }
+            time += System.nanoTime() - start;
+        }
+        return time;
+    }
+
+    private List<String> readSession() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(SESSION);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private List<Handler> createLegacyHandlers(ReplaySession session) {
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(new LegacySystemHandler());
+        handlers.add(new LegacySystemFavoritesHandler());
+        handlers.add(new LegacyPresetsHandler());
+        for (int controller = 1; controller <= CONTROLLERS; controller++) {
+            handlers.add(new LegacyControllerHandler(controller));
+            for (int zone = 1; zone <= ZONES; zone++) {
+                handlers.add(new LegacyZoneHandler(controller, zone));
+            }
+        }
+        for (int source = 1; source <= SOURCES; source++) {
+            handlers.add(new LegacySourceHandler(source));
+        }
+        for (Handler handler : handlers) {
+            session.addListener((SocketSessionListener) handler);
+        }
+        return handlers;
+    }
+
+    private List<Handler> createRoutedHandlers(ReplaySession session) {
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(subscribe(session, new RoutedSystemHandler(), RioNotification.ROUTE_SYSTEM,
+                RioNotification.ROUTE_VERSION, RioNotification.ROUTE_FAILURE));
+        handlers.add(subscribe(session, new RoutedSystemFavoritesHandler(), RioNotification.ROUTE_SYSTEM));
+        handlers.add(subscribe(session, new RoutedPresetsHandler(), RioNotification.ROUTE_ALL_SOURCES));
+        for (int controller = 1; controller <= CONTROLLERS; controller++) {
+            handlers.add(subscribe(session, new RoutedControllerHandler(),
+                    RioNotification.getControllerRoute(controller)));
+            for (int zone = 1; zone <= ZONES; zone++) {
+                handlers.add(subscribe(session, new RoutedZoneHandler(),
+                        RioNotification.getZoneRoute(controller, zone)));
+            }
+        }
+        for (int source = 1; source <= SOURCES; source++) {
+            handlers.add(subscribe(session, new RoutedSourceHandler(), RioNotification.getSourceRoute(source),
+                    RioNotification.ROUTE_MENU));
+        }
+        return handlers;
+    }
+
+    private <T extends Handler & RioNotificationListener> Handler subscribe(SocketSession session, T handler,
+            String... routes) {
+        RioNotificationDispatcher.subscribe(session, handler, routes);
+        return handler;
+    }
+
+    /**
+     * A protocol handler recording the keys and values of the responses it handled
+     */
+    private abstract static class Handler {
+        protected final List<String> handled = new ArrayList<>();
+
+        protected void handle(String key, String value) {
+            handled.add(key + "=" + value);
+        }
+    }
+
+    /**
+     * The response handling of the protocol handlers before the {@link RioNotificationDispatcher}, where every
+     * protocol handler received every response
+     */
+    private abstract static class LegacyHandler extends Handler implements SocketSessionListener {
+        @Override
+        public void responseException(IOException e) {
+        }
+    }
+
+    private static class LegacySystemHandler extends LegacyHandler {
+        private static final Pattern RSP_VERSION = Pattern.compile("(?i)^S VERSION=\"(.+)\"$");
+        private static final Pattern RSP_FAILURE = Pattern.compile("(?i)^E (.*)");
+        private static final Pattern RSP_SYSTEMNOTIFICATION = Pattern
+                .compile("(?i)^[SN] System\\.(\\w+)=\"(.*)\"$");
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            Matcher m = RSP_VERSION.matcher(response);
+            if (m.matches()) {
+                handle("version", m.group(1));
+                return;
+            }
+
+            m = RSP_SYSTEMNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                handle(m.group(1).toLowerCase(), m.group(2));
+                return;
+            }
+
+            m = RSP_FAILURE.matcher(response);
+            if (m.matches()) {
+                handle("failure", m.group(1));
+                return;
+            }
+        }
+    }
+
+    private static class LegacySystemFavoritesHandler extends LegacyHandler {
+        private static final Pattern RSP_SYSTEMFAVORITENOTIFICATION = Pattern
+                .compile("(?i)^[SN] System.favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            final Matcher m = RSP_SYSTEMFAVORITENOTIFICATION.matcher(response);
+            if (m.matches()) {
+                Integer.parseInt(m.group(1));
+                handle(m.group(2).toLowerCase(), m.group(3));
+            }
+        }
+    }
+
+    private static class LegacyPresetsHandler extends LegacyHandler {
+        private static final Pattern RSP_PRESETNOTIFICATION = Pattern
+                .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+        private static final Pattern RSP_SRCTYPENOTIFICATION = Pattern
+                .compile("^[SN] S\\[(\\d+)\\]\\.type=\"(.*)\"$");
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            Matcher m = RSP_PRESETNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                Integer.parseInt(m.group(1));
+                Integer.parseInt(m.group(2));
+                Integer.parseInt(m.group(3));
+                handle(m.group(4).toLowerCase(), m.group(5));
+            }
+
+            m = RSP_SRCTYPENOTIFICATION.matcher(response);
+            if (m.matches()) {
+                Integer.parseInt(m.group(1));
+                handle("type", m.group(2));
+            }
+        }
+    }
+
+    private static class LegacyControllerHandler extends LegacyHandler {
+        private static final Pattern RSP_CONTROLLERNOTIFICATION = Pattern
+                .compile("(?i)^[SN] C\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
+
+        private final int controller;
+
+        LegacyControllerHandler(int controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            final Matcher m = RSP_CONTROLLERNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                final int notifyController = Integer.parseInt(m.group(1));
+                if (notifyController != controller) {
+                    return;
+                }
+                handle(m.group(2).toLowerCase(), m.group(3));
+            }
+        }
+    }
+
+    private static class LegacyZoneHandler extends LegacyHandler {
+        private static final Pattern RSP_ZONENOTIFICATION = Pattern
+                .compile("(?i)^[SN] C\\[(\\d+)\\]\\.Z\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
+        private static final Pattern RSP_ZONEFAVORITENOTIFICATION = Pattern
+                .compile("(?i)^[SN] C\\[(\\d+)\\].Z\\[(\\d+)\\].favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+
+        private final int controller;
+        private final int zone;
+
+        LegacyZoneHandler(int controller, int zone) {
+            this.controller = controller;
+            this.zone = zone;
+        }
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            Matcher m = RSP_ZONENOTIFICATION.matcher(response);
+            if (m.matches() && Integer.parseInt(m.group(1)) == controller
+                    && Integer.parseInt(m.group(2)) == zone) {
+                handle(m.group(3).toLowerCase(), m.group(4));
+            }
+
+            m = RSP_ZONEFAVORITENOTIFICATION.matcher(response);
+            if (m.matches() && Integer.parseInt(m.group(1)) == controller
+                    && Integer.parseInt(m.group(2)) == zone) {
+                Integer.parseInt(m.group(3));
+                handle(m.group(4).toLowerCase(), m.group(5));
+            }
+        }
+    }
+
+    private static class LegacySourceHandler extends LegacyHandler {
+        private static final Pattern RSP_MMMENUNOTIFICATION = Pattern.compile("^\\{.*\\}$");
+        private static final Pattern RSP_SRCNOTIFICATION = Pattern
+                .compile("(?i)^[SN] S\\[(\\d+)\\]\\.([a-zA-Z_0-9.\\[\\]]+)=\"(.*)\"$");
+        private static final Pattern RSP_BANKNOTIFICATION = Pattern
+                .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+        private static final Pattern RSP_PRESETNOTIFICATION = Pattern
+                .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+
+        private final int source;
+
+        LegacySourceHandler(int source) {
+            this.source = source;
+        }
+
+        @Override
+        public void responseReceived(String response) {
+            if (response == null || response.isEmpty()) {
+                return;
+            }
+
+            Matcher m = RSP_BANKNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                if (Integer.parseInt(m.group(1)) == source) {
+                    Integer.parseInt(m.group(2));
+                    handle(m.group(3).toLowerCase(), m.group(4));
+                }
+                return;
+            }
+
+            m = RSP_PRESETNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                // does nothing
+                return;
+            }
+
+            m = RSP_SRCNOTIFICATION.matcher(response);
+            if (m.matches() && Integer.parseInt(m.group(1)) == source) {
+                handle(m.group(2).toLowerCase(), m.group(3));
+            }
+
+            m = RSP_MMMENUNOTIFICATION.matcher(response);
+            if (m.matches()) {
+                handle("menu", response);
+            }
+        }
+    }
+
+    /**
+     * The checks of the protocol handlers on the notifications routed to them by the
+     * {@link RioNotificationDispatcher}
+     */
+    private abstract static class RoutedHandler extends Handler implements RioNotificationListener {
+        @Override
+        public void responseException(IOException e) {
+        }
+    }
+
+    private static class RoutedSystemHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            switch (notification.getRoute()) {
+                case RioNotification.ROUTE_VERSION:
+                    if (notification.getType() == 'S' && notification.getSegmentCount() == 1
+                            && !notification.getValue().isEmpty()) {
+                        handle("version", notification.getValue());
+                    }
+                    break;
+
+                case RioNotification.ROUTE_SYSTEM:
+                    if (notification.getSegmentCount() == 2 && notification.getIndex(1) < 0) {
+                        handle(notification.getKey(), notification.getValue());
+                    }
+                    break;
+
+                case RioNotification.ROUTE_FAILURE:
+                    handle("failure", notification.getValue().substring(2));
+                    break;
+
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static class RoutedSystemFavoritesHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            if (notification.getSegmentCount() == 3 && notification.isIndexed(1, "favorite")
+                    && notification.getIndex(2) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            }
+        }
+    }
+
+    private static class RoutedPresetsHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            final int segments = notification.getSegmentCount();
+            if (segments == 4 && notification.isIndexed(1, "B") && notification.isIndexed(2, "P")
+                    && notification.getIndex(3) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            } else if (segments == 2 && "type".equals(notification.getKey())) {
+                handle("type", notification.getValue());
+            }
+        }
+    }
+
+    private static class RoutedControllerHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            if (notification.getSegmentCount() == 2 && notification.getIndex(1) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            }
+        }
+    }
+
+    private static class RoutedZoneHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            final int segments = notification.getSegmentCount();
+            if (segments == 3 && notification.getIndex(2) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            } else if (segments == 4 && notification.isIndexed(2, "favorite") && notification.getIndex(3) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            }
+        }
+    }
+
+    private static class RoutedSourceHandler extends RoutedHandler {
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            if (RioNotification.ROUTE_MENU.equals(notification.getRoute())) {
+                handle("menu", notification.getResponse());
+                return;
+            }
+
+            final int segments = notification.getSegmentCount();
+            if (segments == 4 && notification.isIndexed(1, "B") && notification.isIndexed(2, "P")) {
+                // does nothing
+                return;
+            }
+
+            if (segments == 3 && notification.isIndexed(1, "B") && notification.getIndex(2) < 0) {
+                handle(notification.getKey(), notification.getValue());
+            } else if (segments >= 2) {
+                handle(notification.getKey(1), notification.getValue());
+            }
+        }
+    }
+
+    /**
+     * A session without a connection, which passes the replayed responses to its listeners
+     */
+    private static class ReplaySession implements SocketSession {
+        private final List<SocketSessionListener> listeners = new ArrayList<>();
+
+        void receive(String response) throws InterruptedException {
+            for (SocketSessionListener listener : listeners) {
+                listener.responseReceived(response);
+            }
+        }
+
+        @Override
+        public void addListener(SocketSessionListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void clearListeners() {
+            listeners.clear();
+        }
+
+        @Override
+        public boolean removeListener(SocketSessionListener listener) {
+            return listeners.remove(listener);
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void connect(int timeout) {
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void sendCommand(String command) {
+        }
+    }
+}
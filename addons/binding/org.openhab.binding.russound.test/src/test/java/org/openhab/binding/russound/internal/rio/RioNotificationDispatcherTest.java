@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.russound.internal.net.SocketSession;
+import org.openhab.binding.russound.internal.net.SocketSessionListener;
+
+/**
+ * Tests cases for the routing of responses by the {@link RioNotificationDispatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioNotificationDispatcherTest {
+
+    private FakeSession session;
+    private RecordingListener system;
+    private RecordingListener zone;
+    private RecordingListener controller;
+    private RecordingListener source;
+    private RecordingListener allSources;
+
+    @Before
+    public void setUp() {
+        session = new FakeSession();
+        system = new RecordingListener();
+        zone = new RecordingListener();
+        controller = new RecordingListener();
+        source = new RecordingListener();
+        allSources = new RecordingListener();
+
+        RioNotificationDispatcher.subscribe(session, system, RioNotification.ROUTE_SYSTEM,
+                RioNotification.ROUTE_VERSION, RioNotification.ROUTE_FAILURE);
+        RioNotificationDispatcher.subscribe(session, zone, RioNotification.getZoneRoute(1, 2),
+                RioNotification.ROUTE_MENU);
+        RioNotificationDispatcher.subscribe(session, controller, RioNotification.getControllerRoute(1));
+        RioNotificationDispatcher.subscribe(session, source, RioNotification.getSourceRoute(3));
+        RioNotificationDispatcher.subscribe(session, allSources, RioNotification.ROUTE_ALL_SOURCES);
+    }
+
+    @After
+    public void tearDown() {
+        for (RecordingListener listener : new RecordingListener[] { system, zone, controller, source,
+                allSources }) {
+            RioNotificationDispatcher.unsubscribe(session, listener);
+        }
+    }
+
+    @Test
+    public void oneDispatcherIsRegisteredPerSession() {
+        assertEquals(1, session.listeners.size());
+    }
+
+    @Test
+    public void systemAndVersionAndFailures() throws InterruptedException {
+        session.receive("N System.status=\"ON\"");
+        session.receive("S VERSION=\"00.02.48\"");
+        session.receive("E Invalid Command");
+
+        assertEquals(3, system.received.size());
+        assertEquals(RioNotification.ROUTE_SYSTEM, system.received.get(0).getRoute());
+        assertEquals(RioNotification.ROUTE_VERSION, system.received.get(1).getRoute());
+        assertEquals(RioNotification.ROUTE_FAILURE, system.received.get(2).getRoute());
+        assertNothingReceived(zone, controller, source, allSources);
+    }
+
+    @Test
+    public void menus() throws InterruptedException {
+        session.receive("{\"action\":\"update\"}");
+
+        assertEquals(1, zone.received.size());
+        assertEquals(RioNotification.ROUTE_MENU, zone.received.get(0).getRoute());
+        assertNothingReceived(system, controller, source, allSources);
+    }
+
+    @Test
+    public void zonesAndControllers() throws InterruptedException {
+        session.receive("N C[1].Z[2].volume=\"10\"");
+        session.receive("N C[1].Z[3].volume=\"10\"");
+        session.receive("N C[2].Z[2].volume=\"10\"");
+        session.receive("S C[1].type=\"MCA-C5\"");
+
+        assertEquals(1, zone.received.size());
+        assertEquals("10", zone.received.get(0).getValue());
+        assertEquals(1, controller.received.size());
+        assertEquals("MCA-C5", controller.received.get(0).getValue());
+        assertNothingReceived(system, source, allSources);
+    }
+
+    @Test
+    public void sources() throws InterruptedException {
+        session.receive("N S[3].name=\"Tuner\"");
+        session.receive("N S[4].name=\"Streamer\"");
+
+        assertEquals(1, source.received.size());
+        assertEquals("Tuner", source.received.get(0).getValue());
+
+        // the wildcard route receives the notifications of all sources
+        assertEquals(2, allSources.received.size());
+        assertEquals("S[3]", allSources.received.get(0).getRoute());
+        assertEquals("S[4]", allSources.received.get(1).getRoute());
+        assertNothingReceived(system, zone, controller);
+    }
+
+    @Test
+    public void malformedLinesAreIgnored() throws InterruptedException {
+        session.receive(null);
+        session.receive("");
+        session.receive("login:");
+        session.receive("S C[1].Z[2].volume=10");
+        session.receive("S C[1]..volume=\"10\"");
+        session.receive("X S[3].name=\"Tuner\"");
+
+        assertNothingReceived(system, zone, controller, source, allSources);
+    }
+
+    @Test
+    public void failingListenerDoesNotStopDispatching() throws InterruptedException {
+        RecordingListener failing = new RecordingListener() {
+            @Override
+            public void notificationReceived(RioNotification notification) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        RioNotificationDispatcher.subscribe(session, failing, RioNotification.getSourceRoute(3));
+        try {
+            session.receive("N S[3].name=\"Tuner\"");
+
+            assertEquals(1, source.received.size());
+            assertEquals(1, allSources.received.size());
+        } finally {
+            RioNotificationDispatcher.unsubscribe(session, failing);
+        }
+    }
+
+    @Test
+    public void exceptionsArePassedToAllListeners() throws InterruptedException {
+        session.fail(new IOException("connection reset"));
+
+        for (RecordingListener listener : new RecordingListener[] { system, zone, controller, source,
+                allSources }) {
+            assertEquals(1, listener.exceptions.size());
+        }
+    }
+
+    @Test
+    public void unsubscribedListenersReceiveNothing() throws InterruptedException {
+        RioNotificationDispatcher.unsubscribe(session, source);
+        session.receive("N S[3].name=\"Tuner\"");
+
+        assertTrue(source.received.isEmpty());
+        assertEquals(1, allSources.received.size());
+    }
+
+    @Test
+    public void dispatcherIsRemovedWithTheLastListener() {
+        tearDown();
+
+        assertTrue(session.listeners.isEmpty());
+    }
+
+    private void assertNothingReceived(RecordingListener... listeners) {
+        for (RecordingListener listener : listeners) {
+            assertTrue(listener.received.isEmpty());
+        }
+    }
+
+    /**
+     * A listener recording the notifications and exceptions it receives
+     */
+    private static class RecordingListener implements RioNotificationListener {
+        private final List<RioNotification> received = new ArrayList<>();
+        private final List<IOException> exceptions = new ArrayList<>();
+
+        @Override
+        public void notificationReceived(RioNotification notification) {
+            received.add(notification);
+        }
+
+        @Override
+        public void responseException(IOException e) {
+            exceptions.add(e);
+        }
+    }
+
+    /**
+     * A session without a connection, which passes the given responses to its listeners
+     */
+    private static class FakeSession implements SocketSession {
+        private final List<SocketSessionListener> listeners = new ArrayList<>();
+
+        void receive(String response) throws InterruptedException {
+            for (SocketSessionListener listener : listeners) {
+                listener.responseReceived(response);
+            }
+        }
+
+        void fail(IOException e) throws InterruptedException {
+            for (SocketSessionListener listener : listeners) {
+                listener.responseException(e);
+            }
+        }
+
+        @Override
+        public void addListener(SocketSessionListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void clearListeners() {
+            listeners.clear();
+        }
+
+        @Override
+        public boolean removeListener(SocketSessionListener listener) {
+            return listeners.remove(listener);
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void connect(int timeout) {
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void sendCommand(String command) {
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests cases for the tokenizing of responses by {@link RioNotification}.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioNotificationTest {
+
+    @Test
+    public void zoneNotification() {
+        RioNotification notification = RioNotification.parse("N C[1].Z[2].volume=\"10\"");
+
+        assertNotNull(notification);
+        assertEquals('N', notification.getType());
+        assertEquals("C[1].Z[2].volume", notification.getPath());
+        assertEquals("10", notification.getValue());
+        assertEquals(3, notification.getSegmentCount());
+        assertEquals("C", notification.getName(0));
+        assertEquals(1, notification.getIndex(0));
+        assertEquals("Z", notification.getName(1));
+        assertEquals(2, notification.getIndex(1));
+        assertEquals("volume", notification.getName(2));
+        assertEquals(-1, notification.getIndex(2));
+        assertTrue(notification.isIndexed(1, "z"));
+        assertFalse(notification.isIndexed(2, "volume"));
+        assertEquals("volume", notification.getKey());
+        assertEquals(RioNotification.getZoneRoute(1, 2), notification.getRoute());
+        assertEquals("C[1].Z[2]", notification.getRoute());
+        assertEquals("C[*]", notification.getWildcardRoute());
+    }
+
+    @Test
+    public void controllerNotification() {
+        RioNotification notification = RioNotification.parse("S C[6].type=\"MCA-C5\"");
+
+        assertNotNull(notification);
+        assertEquals('S', notification.getType());
+        assertEquals("MCA-C5", notification.getValue());
+        assertEquals("type", notification.getKey());
+        assertEquals(RioNotification.getControllerRoute(6), notification.getRoute());
+        assertEquals("C[6]", notification.getRoute());
+    }
+
+    @Test
+    public void sourceNotification() {
+        RioNotification notification = RioNotification.parse("S S[3].MMTitle.text=\"Now Playing\"");
+
+        assertNotNull(notification);
+        assertEquals("Now Playing", notification.getValue());
+        assertEquals("text", notification.getKey());
+        assertEquals("mmtitle.text", notification.getKey(1));
+        assertEquals(RioNotification.getSourceRoute(3), notification.getRoute());
+        assertEquals("S[3]", notification.getRoute());
+        assertEquals(RioNotification.ROUTE_ALL_SOURCES, notification.getWildcardRoute());
+    }
+
+    @Test
+    public void systemNotification() {
+        RioNotification notification = RioNotification.parse("N System.status=\"ON\"");
+
+        assertNotNull(notification);
+        assertEquals(RioNotification.ROUTE_SYSTEM, notification.getRoute());
+        assertNull(notification.getWildcardRoute());
+        assertEquals("status", notification.getKey());
+        assertEquals("ON", notification.getValue());
+    }
+
+    @Test
+    public void versionNotification() {
+        RioNotification notification = RioNotification.parse("S VERSION=\"00.02.48\"");
+
+        assertNotNull(notification);
+        assertEquals(RioNotification.ROUTE_VERSION, notification.getRoute());
+        assertEquals(1, notification.getSegmentCount());
+        assertEquals("00.02.48", notification.getValue());
+    }
+
+    @Test
+    public void emptyValue() {
+        RioNotification notification = RioNotification.parse("S C[1].Z[1].name=\"\"");
+
+        assertNotNull(notification);
+        assertEquals("", notification.getValue());
+    }
+
+    @Test
+    public void valueWithSeparators() {
+        RioNotification notification = RioNotification.parse("S S[1].name=\"A.B=C\"");
+
+        assertNotNull(notification);
+        assertEquals("S[1].name", notification.getPath());
+        assertEquals("A.B=C", notification.getValue());
+    }
+
+    @Test
+    public void failure() {
+        RioNotification notification = RioNotification.parse("E Invalid Command");
+
+        assertNotNull(notification);
+        assertEquals('E', notification.getType());
+        assertEquals(RioNotification.ROUTE_FAILURE, notification.getRoute());
+        assertEquals("E Invalid Command", notification.getValue());
+        assertNull(notification.getPath());
+        assertNull(notification.getKey());
+        assertNull(notification.getWildcardRoute());
+        assertEquals(0, notification.getSegmentCount());
+    }
+
+    @Test
+    public void menu() {
+        RioNotification notification = RioNotification.parse("{\"action\":\"update\",\"id\":{\"source\":\"1\"}}");
+
+        assertNotNull(notification);
+        assertEquals('{', notification.getType());
+        assertEquals(RioNotification.ROUTE_MENU, notification.getRoute());
+        assertNull(notification.getPath());
+    }
+
+    @Test
+    public void lowerCaseType() {
+        RioNotification notification = RioNotification.parse("s C[1].Z[3].status=\"OFF\"");
+
+        assertNotNull(notification);
+        assertEquals('S', notification.getType());
+        assertEquals("C[1].Z[3]", notification.getRoute());
+    }
+
+    @Test
+    public void malformedResponses() {
+        assertNull(RioNotification.parse(null));
+        assertNull(RioNotification.parse(""));
+        assertNull(RioNotification.parse("S"));
+        assertNull(RioNotification.parse("S "));
+        assertNull(RioNotification.parse("login:"));
+        assertNull(RioNotification.parse("X C[1].Z[2].volume=\"10\""));
+        assertNull(RioNotification.parse("SC[1].Z[2].volume=\"10\""));
+        assertNull(RioNotification.parse("S C[1].Z[2].volume=10"));
+        assertNull(RioNotification.parse("S C[1].Z[2].volume=\"10"));
+        assertNull(RioNotification.parse("S C[1].Z[2].volume"));
+        assertNull(RioNotification.parse("S =\"10\""));
+        assertNull(RioNotification.parse("S C[1]..volume=\"10\""));
+        assertNull(RioNotification.parse("S C[1].Z[2].=\"10\""));
+        assertNull(RioNotification.parse("S .volume=\"10\""));
+    }
+
+    @Test
+    public void invalidIndexIsPartOfTheName() {
+        RioNotification notification = RioNotification.parse("S C[x].name=\"test\"");
+
+        assertNotNull(notification);
+        assertEquals("C[x]", notification.getName(0));
+        assertEquals(-1, notification.getIndex(0));
+        assertEquals("C[X]", notification.getRoute());
+        assertNull(notification.getWildcardRoute());
+    }
+}
@@ -9,30 +9,40 @@
 package org.openhab.binding.russound.internal.net;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.nio.ByteBuffer;
-import java.nio.channels.AsynchronousCloseException;
-import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openhab.io.transport.linesocket.FrameDecoder;
+import org.openhab.io.transport.linesocket.LineDecoder;
+import org.openhab.io.transport.linesocket.LineSocketConfig;
+import org.openhab.io.transport.linesocket.LineSocketConnection;
+import org.openhab.io.transport.linesocket.LineSocketListener;
+import org.openhab.io.transport.linesocket.LineSocketReactor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Represents a restartable socket connection to the underlying telnet session. Commands can be sent via
  * {@link #sendCommand(String)} and responses will be received on any {@link SocketSessionListener}. This implementation
- * of {@link SocketSession} communicates using a {@link SocketChannel} connection.
+ * of {@link SocketSession} communicates using a {@link LineSocketConnection} served by the shared
+ * {@link LineSocketReactor}, so no threads are held per connection.
  *
  * @author Tim Roberts - Initial contribution
  */
 public class SocketChannelSession implements SocketSession {
     private final Logger logger = LoggerFactory.getLogger(SocketChannelSession.class);
 
+    /**
+     * A 'response' is anything that ends with a carriage-return/newline combo. Additionally, the special "Login: " and
+     * "Password: " prompts are treated as responses for purposes of logging in.
+     */
+    private static final FrameDecoder DECODER = new LineDecoder(StandardCharsets.ISO_8859_1, new String[] { "\r\n" },
+            new String[] { "Login: ", "Password: " });
+
     /**
      * The host/ip address to connect to
      */
@@ -44,29 +54,24 @@ public class SocketChannelSession implements SocketSession {
     private final int port;
 
     /**
-     * The actual socket being used. Will be null if not connected
+     * The actual connection being used. Will be null if not connected
      */
-    private final AtomicReference<SocketChannel> socketChannel = new AtomicReference<>();
+    private volatile LineSocketConnection connection;
 
     /**
-     * The responses read from the {@link #responseReader}
+     * The responses (and exceptions) received but not dispatched yet
      */
     private final BlockingQueue<Object> responses = new ArrayBlockingQueue<>(50);
 
     /**
-     * The {@link SocketSessionListener} that the {@link #dispatcher} will call
-     */
-    private List<SocketSessionListener> sessionListeners = new CopyOnWriteArrayList<>();
-
-    /**
-     * The thread dispatching responses - will be null if not connected
+     * The number of responses dropped because the queue was full
      */
-    private Thread dispatchingThread = null;
+    private final AtomicLong droppedResponses = new AtomicLong();
 
     /**
-     * The thread processing responses - will be null if not connected
+     * The {@link SocketSessionListener} that responses will be dispatched to
      */
-    private Thread responseThread = null;
+    private List<SocketSessionListener> sessionListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates the socket session from the given host and port
@@ -92,6 +97,7 @@ public class SocketChannelSession implements SocketSession {
             throw new IllegalArgumentException("listener cannot be null");
         }
         sessionListeners.add(listener);
+        dispatch();
     }
 
     @Override
@@ -113,36 +119,31 @@ public class SocketChannelSession implements SocketSession {
     public void connect(int timeout) throws IOException {
         disconnect();
 
-        final SocketChannel channel = SocketChannel.open();
-        channel.configureBlocking(true);
+        final LineSocketConfig config = new LineSocketConfig(host, port);
+        config.setConnectTimeout(timeout);
 
         logger.debug("Connecting to {}:{}", host, port);
-        channel.socket().connect(new InetSocketAddress(host, port), timeout);
-
-        socketChannel.set(channel);
-
         responses.clear();
 
-        dispatchingThread = new Thread(new Dispatcher());
-        responseThread = new Thread(new ResponseReader());
-
-        dispatchingThread.start();
-        responseThread.start();
+        final LineSocketConnection newConnection = LineSocketReactor.getInstance().open(config, DECODER,
+                new Receiver());
+        try {
+            newConnection.awaitConnected(timeout);
+        } catch (IOException e) {
+            newConnection.close();
+            throw e;
+        }
+        connection = newConnection;
     }
 
     @Override
     public void disconnect() throws IOException {
-        if (isConnected()) {
+        final LineSocketConnection current = connection;
+        if (current != null) {
             logger.debug("Disconnecting from {}:{}", host, port);
 
-            final SocketChannel channel = socketChannel.getAndSet(null);
-            channel.close();
-
-            dispatchingThread.interrupt();
-            dispatchingThread = null;
-
-            responseThread.interrupt();
-            responseThread = null;
+            connection = null;
+            current.close();
 
             responses.clear();
         }
@@ -150,166 +151,83 @@ public class SocketChannelSession implements SocketSession {
 
     @Override
     public boolean isConnected() {
-        final SocketChannel channel = socketChannel.get();
-        return channel != null && channel.isConnected();
+        final LineSocketConnection current = connection;
+        return current != null && current.isConnected();
     }
 
     @Override
-    public synchronized void sendCommand(String command) throws IOException {
+    public void sendCommand(String command) throws IOException {
         if (command == null) {
             throw new IllegalArgumentException("command cannot be null");
         }
 
-        // if (command.trim().length() == 0) {
-        // throw new IllegalArgumentException("Command cannot be empty");
-        // }
-
-        if (!isConnected()) {
+        final LineSocketConnection current = connection;
+        if (current == null || !current.isConnected()) {
             throw new IOException("Cannot send message - disconnected");
         }
 
-        ByteBuffer toSend = ByteBuffer.wrap((command + "\r\n").getBytes());
-
-        final SocketChannel channel = socketChannel.get();
-        if (channel == null) {
-            logger.debug("Cannot send command '{}' - socket channel was closed", command);
-        } else {
-            logger.debug("Sending Command: '{}'", command);
-            channel.write(toSend);
-        }
+        logger.debug("Sending Command: '{}'", command);
+        current.send(command + "\r\n");
     }
 
     /**
-     * This is the runnable that will read from the socket and add messages to the responses queue (to be processed by
-     * the dispatcher)
-     *
-     * @author Tim Roberts
-     *
+     * Dispatches the queued responses to the current listeners. Since responses are only dispatched once a listener
+     * has been added, responses may pile up in the queue and be dispatched when the first listener is added.
      */
-    private class ResponseReader implements Runnable {
-
-        /**
-         * Runs the logic to read from the socket until {@link #isRunning} is false. A 'response' is anything that ends
-         * with a carriage-return/newline combo. Additionally, the special "Login: " and "Password: " prompts are
-         * treated as responses for purposes of logging in.
-         */
-        @Override
-        public void run() {
-            final StringBuilder sb = new StringBuilder(100);
-            final ByteBuffer readBuffer = ByteBuffer.allocate(1024);
-
-            responses.clear();
+    private synchronized void dispatch() {
+        final SocketSessionListener[] listeners = sessionListeners.toArray(new SocketSessionListener[0]);
 
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    // if reader is null, sleep and try again
-                    if (readBuffer == null) {
-                        Thread.sleep(250);
-                        continue;
-                    }
-
-                    final SocketChannel channel = socketChannel.get();
-                    if (channel == null) {
-                        // socket was closed
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-
-                    int bytesRead = channel.read(readBuffer);
-                    if (bytesRead == -1) {
-                        responses.put(new IOException("server closed connection"));
-                        break;
-                    } else if (bytesRead == 0) {
-                        readBuffer.clear();
-                        continue;
-                    }
+        // if no listeners, we don't want to start dispatching yet.
+        if (listeners.length == 0) {
+            return;
+        }
 
-                    readBuffer.flip();
-                    while (readBuffer.hasRemaining()) {
-                        final char ch = (char) readBuffer.get();
-                        sb.append(ch);
-                        if (ch == '\n' || ch == ' ') {
-                            final String str = sb.toString();
-                            if (str.endsWith("\r\n") || str.endsWith("Login: ") || str.endsWith("Password: ")) {
-                                sb.setLength(0);
-                                final String response = str.substring(0, str.length() - 2);
-                                responses.put(response);
-                            }
-                        }
+        Object response;
+        while ((response = responses.poll()) != null) {
+            try {
+                if (response instanceof String) {
+                    logger.debug("Dispatching response: {}", response);
+                    for (SocketSessionListener listener : listeners) {
+                        listener.responseReceived((String) response);
                     }
-
-                    readBuffer.flip();
-                } catch (InterruptedException e) {
-                    // Ending thread execution
-                    Thread.currentThread().interrupt();
-                } catch (AsynchronousCloseException e) {
-                    // socket was closed by another thread but interrupt our loop anyway
-                    Thread.currentThread().interrupt();
-                } catch (IOException e) {
-                    // set before pushing the response since we'll likely call back our stop
-                    Thread.currentThread().interrupt();
-
-                    try {
-                        responses.put(e);
-                        break;
-                    } catch (InterruptedException e1) {
-                        // Do nothing - probably shutting down
-                        // Since we set isRunning to false, will drop out of loop and end the thread
+                } else if (response instanceof IOException) {
+                    logger.debug("Dispatching exception: {}", response);
+                    for (SocketSessionListener listener : listeners) {
+                        listener.responseException((IOException) response);
                     }
+                } else {
+                    logger.warn("Unknown response class: {}", response);
                 }
+            } catch (Exception e) {
+                logger.debug("Uncaught exception {}: ", e.getMessage(), e);
             }
         }
     }
 
     /**
-     * The dispatcher runnable is responsible for reading the response queue and dispatching it to the current callable.
-     * Since the dispatcher is ONLY started when a callable is set, responses may pile up in the queue and be dispatched
-     * when a callable is set. Unlike the socket reader, this can be assigned to another thread (no state outside of the
-     * class).
+     * Receives the events of the current connection (called in order on a thread of the reactor's executor) and
+     * queues them for the listeners. The queue only fills up while no listener has been added - since the thread
+     * belongs to the shared executor, it must not block then and responses exceeding the queue are dropped.
      *
-     * @author Tim Roberts
+     * @author agent
      */
-    private class Dispatcher implements Runnable {
-        /**
-         * Runs the logic to dispatch any responses to the current listeners until {@link #isRunning} is false.
-         */
+    private class Receiver implements LineSocketListener {
         @Override
-        public void run() {
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    final SocketSessionListener[] listeners = sessionListeners.toArray(new SocketSessionListener[0]);
-
-                    // if no listeners, we don't want to start dispatching yet.
-                    if (listeners.length == 0) {
-                        Thread.sleep(250);
-                        continue;
-                    }
+        public void frameReceived(String frame) {
+            queue(frame);
+        }
 
-                    final Object response = responses.poll(1, TimeUnit.SECONDS);
-
-                    if (response != null) {
-                        if (response instanceof String) {
-                            logger.debug("Dispatching response: {}", response);
-                            for (SocketSessionListener listener : listeners) {
-                                listener.responseReceived((String) response);
-                            }
-                        } else if (response instanceof IOException) {
-                            logger.debug("Dispatching exception: {}", response);
-                            for (SocketSessionListener listener : listeners) {
-                                listener.responseException((IOException) response);
-                            }
-                        } else {
-                            logger.warn("Unknown response class: {}", response);
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    // Ending thread execution
-                    Thread.currentThread().interrupt();
-                } catch (Exception e) {
-                    logger.debug("Uncaught exception {}: ", e.getMessage(), e);
-                    Thread.currentThread().interrupt();
-                }
+        @Override
+        public void disconnected(IOException cause) {
+            queue(cause);
+        }
+
+        private void queue(Object response) {
+            if (!responses.offer(response)) {
+                logger.warn("Response queue for {}:{} is full - dropping response ({} dropped so far): {}", host,
+                        port, droppedResponses.incrementAndGet(), response);
             }
+            dispatch();
         }
     }
 }
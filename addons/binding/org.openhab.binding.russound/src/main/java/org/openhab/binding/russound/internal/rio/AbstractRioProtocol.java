@@ -14,16 +14,16 @@ import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.system.RioSystemHandler;
 
 /**
  * Defines the abstract base for a protocol handler. This base provides managment of the {@link SocketSession} and
- * provides helper methods that will callback {@link RioHandlerCallback}
+ * provides helper methods that will callback {@link RioHandlerCallback}. Notifications are routed to the protocol
+ * handler by the {@link RioNotificationDispatcher} of the session for the routes given to {@link #subscribe(String...)}
  *
  * @author Tim Roberts - Initial contribution
  */
-public abstract class AbstractRioProtocol implements SocketSessionListener {
+public abstract class AbstractRioProtocol implements RioNotificationListener {
     /**
      * The {@link SocketSession} used by this protocol handler
      */
@@ -35,9 +35,8 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
     private final RioHandlerCallback callback;
 
     /**
-     * Constructs the protocol handler from given parameters and will add this handler as a
-     * {@link SocketSessionListener} to the specified {@link SocketSession} via
-     * {@link SocketSession#addListener(SocketSessionListener)}
+     * Constructs the protocol handler from given parameters. Subclasses call {@link #subscribe(String...)} once they
+     * are ready to receive notifications.
      *
      * @param session a non-null {@link SocketSession} (may be connected or disconnected)
      * @param callback a non-null {@link RioHandlerCallback} to update state and status
@@ -52,10 +51,19 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
         }
 
         this.session = session;
-        this.session.addListener(this);
         this.callback = callback;
     }
 
+    /**
+     * Subscribes this handler to the notifications of the given routes via
+     * {@link RioNotificationDispatcher#subscribe(SocketSession, RioNotificationListener, String...)}
+     *
+     * @param routes the routes (see {@link RioNotification})
+     */
+    protected void subscribe(String... routes) {
+        RioNotificationDispatcher.subscribe(session, this, routes);
+    }
+
     /**
      * Sends the command and puts the thing into {@link ThingStatus#OFFLINE} if an IOException occurs
      *
@@ -105,16 +113,16 @@ public abstract class AbstractRioProtocol implements SocketSessionListener {
     }
 
     /**
-     * Disposes of the protocol by removing ourselves from listening to the socket via
-     * {@link SocketSession#removeListener(SocketSessionListener)}
+     * Disposes of the protocol by unsubscribing from all notifications via
+     * {@link RioNotificationDispatcher#unsubscribe(SocketSession, RioNotificationListener)}
      */
     public void dispose() {
-        session.removeListener(this);
+        RioNotificationDispatcher.unsubscribe(session, this);
     }
 
     /**
-     * Implements the {@link SocketSessionListener#responseException(Exception)} to automatically take the thing offline
-     * via {@link RioHandlerCallback#statusChanged(ThingStatus, ThingStatusDetail, String)}
+     * Implements the {@link RioNotificationListener#responseException(IOException)} to automatically take the thing
+     * offline via {@link RioHandlerCallback#statusChanged(ThingStatus, ThingStatusDetail, String)}
      *
      * @param e the exception
      */
@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response line received from the russound system, tokenized once by the {@link RioNotificationDispatcher}.
+ *
+ * A notification has the form <code>S C[1].Z[2].volume="10"</code> (or <code>N ...</code> for a watched change). The
+ * path is split into its segments (name and optional index) and the route is calculated from the leading indexed
+ * segments, so that the notification can be handed straight to the protocol handler owning it. Failures
+ * (<code>E ...</code>) and media management menus (<code>{...}</code>) have their own routes.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioNotification {
+
+    /** Route of failure responses ("E ...") */
+    public static final String ROUTE_FAILURE = "E";
+
+    /** Route of media management menu responses ("{...}") */
+    public static final String ROUTE_MENU = "{}";
+
+    /** Route of all system notifications ("System. ...") */
+    public static final String ROUTE_SYSTEM = "SYSTEM";
+
+    /** Route of the version response ("S VERSION=...") */
+    public static final String ROUTE_VERSION = "VERSION";
+
+    /** Route of the notifications of all sources ("S[x]. ...") */
+    public static final String ROUTE_ALL_SOURCES = "S[*]";
+
+    private static final String CONTROLLER = "C";
+    private static final String ZONE = "Z";
+    private static final String SOURCE = "S";
+
+    private final String response;
+    private final char type;
+    private final String path;
+    private final String value;
+    private final String[] names;
+    private final int[] indexes;
+    private final int[] offsets;
+    private final String route;
+
+    private RioNotification(String response, char type, String route) {
+        this.response = response;
+        this.type = type;
+        this.path = null;
+        this.value = response;
+        this.names = new String[0];
+        this.indexes = new int[0];
+        this.offsets = new int[0];
+        this.route = route;
+    }
+
+    private RioNotification(String response, char type, String path, String value, String[] names, int[] indexes,
+            int[] offsets) {
+        this.response = response;
+        this.type = type;
+        this.path = path;
+        this.value = value;
+        this.names = names;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.route = createRoute(names, indexes);
+    }
+
+    /**
+     * Parses a response from the russound system.
+     *
+     * @param response a possibly null, possibly empty response
+     * @return the notification or null if the response is not a notification, failure or menu
+     */
+    public static RioNotification parse(String response) {
+        if (response == null || response.isEmpty()) {
+            return null;
+        }
+
+        final int length = response.length();
+        if (response.charAt(0) == '{' && response.charAt(length - 1) == '}') {
+            return new RioNotification(response, '{', ROUTE_MENU);
+        }
+
+        if (length < 2 || response.charAt(1) != ' ') {
+            return null;
+        }
+
+        final char type = Character.toUpperCase(response.charAt(0));
+        if (type == 'E') {
+            return new RioNotification(response, type, ROUTE_FAILURE);
+        }
+        if (type != 'S' && type != 'N') {
+            return null;
+        }
+
+        final int eq = response.indexOf('=', 2);
+        if (eq <= 2 || eq + 2 >= length || response.charAt(eq + 1) != '"' || response.charAt(length - 1) != '"') {
+            return null;
+        }
+
+        final String path = response.substring(2, eq);
+        final List<String> names = new ArrayList<>(4);
+        final List<Integer> indexes = new ArrayList<>(4);
+        final List<Integer> offsets = new ArrayList<>(4);
+
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('.', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end == start) {
+                return null;
+            }
+
+            String name = path.substring(start, end);
+            int index = -1;
+            final int bracket = name.indexOf('[');
+            if (bracket > 0 && name.charAt(name.length() - 1) == ']') {
+                index = parseIndex(name, bracket + 1, name.length() - 1);
+                if (index >= 0) {
+                    name = name.substring(0, bracket);
+                }
+            }
+
+            names.add(name);
+            indexes.add(index);
+            offsets.add(start);
+            start = end + 1;
+        }
+
+        final int[] indexArray = new int[indexes.size()];
+        final int[] offsetArray = new int[offsets.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indexes.get(i);
+            offsetArray[i] = offsets.get(i);
+        }
+
+        return new RioNotification(response, type, path, response.substring(eq + 2, length - 1),
+                names.toArray(new String[names.size()]), indexArray, offsetArray);
+    }
+
+    /**
+     * Parses the digits between start and end
+     *
+     * @return the number or -1 if there are no digits or the number is too large
+     */
+    private static int parseIndex(String name, int start, int end) {
+        if (start >= end || end - start > 9) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final char ch = name.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+            result = result * 10 + (ch - '0');
+        }
+        return result;
+    }
+
+    private static String createRoute(String[] names, int[] indexes) {
+        if (indexes[0] < 0) {
+            return names[0].toUpperCase();
+        }
+        if (CONTROLLER.equalsIgnoreCase(names[0]) && names.length > 1 && indexes[1] >= 0
+                && ZONE.equalsIgnoreCase(names[1])) {
+            return getZoneRoute(indexes[0], indexes[1]);
+        }
+        return names[0].toUpperCase() + "[" + indexes[0] + "]";
+    }
+
+    /**
+     * Returns the route of the notifications of a controller ("C[x]. ...")
+     *
+     * @param controller the controller identifier
+     * @return a non-null route
+     */
+    public static String getControllerRoute(int controller) {
+        return CONTROLLER + "[" + controller + "]";
+    }
+
+    /**
+     * Returns the route of the notifications of a zone ("C[x].Z[y]. ...")
+     *
+     * @param controller the controller identifier
+     * @param zone the zone identifier
+     * @return a non-null route
+     */
+    public static String getZoneRoute(int controller, int zone) {
+        return CONTROLLER + "[" + controller + "]." + ZONE + "[" + zone + "]";
+    }
+
+    /**
+     * Returns the route of the notifications of a source ("S[x]. ...")
+     *
+     * @param source the source identifier
+     * @return a non-null route
+     */
+    public static String getSourceRoute(int source) {
+        return SOURCE + "[" + source + "]";
+    }
+
+    /**
+     * Returns the route of this notification, which identifies the protocol handler(s) owning it
+     *
+     * @return a non-null route
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Returns the route of all notifications of the same kind (like {@link #ROUTE_ALL_SOURCES}) or null if the
+     * notification doesn't start with an indexed segment
+     *
+     * @return a possibly null route
+     */
+    public String getWildcardRoute() {
+        return indexes.length > 0 && indexes[0] >= 0 ? names[0].toUpperCase() + "[*]" : null;
+    }
+
+    /**
+     * Returns the type of the response ('S', 'N', 'E' or '{')
+     *
+     * @return the type
+     */
+    public char getType() {
+        return type;
+    }
+
+    /**
+     * Returns the complete response
+     *
+     * @return a non-null, non-empty response
+     */
+    public String getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns the path of the notification (like "C[1].Z[2].volume")
+     *
+     * @return the path or null for failures and menus
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the value of the notification, or the complete response for failures and menus
+     *
+     * @return a non-null, possibly empty value
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the number of segments of the path
+     *
+     * @return the number of segments (0 for failures and menus)
+     */
+    public int getSegmentCount() {
+        return names.length;
+    }
+
+    /**
+     * Returns the name of a segment, without its index
+     *
+     * @param segment the segment number
+     * @return a non-null, non-empty name
+     */
+    public String getName(int segment) {
+        return names[segment];
+    }
+
+    /**
+     * Returns the index of a segment
+     *
+     * @param segment the segment number
+     * @return the index or -1 if the segment has no index
+     */
+    public int getIndex(int segment) {
+        return indexes[segment];
+    }
+
+    /**
+     * Checks if a segment has the given name and an index
+     *
+     * @param segment the segment number
+     * @param name a non-null name
+     * @return true if the segment has the name (ignoring case) and an index
+     */
+    public boolean isIndexed(int segment, String name) {
+        return segment < names.length && indexes[segment] >= 0 && name.equalsIgnoreCase(names[segment]);
+    }
+
+    /**
+     * Returns the key of the notification, which is the lower case name of the last segment
+     *
+     * @return the key or null for failures and menus
+     */
+    public String getKey() {
+        return names.length == 0 ? null : names[names.length - 1].toLowerCase();
+    }
+
+    /**
+     * Returns the lower case path starting with the given segment (like "mmtitle.text" for segment 1 of
+     * "S[1].MMTitle.text")
+     *
+     * @param segment the first segment of the key
+     * @return the key or null for failures and menus
+     */
+    public String getKey(int segment) {
+        return path == null ? null : path.substring(offsets[segment]).toLowerCase();
+    }
+
+    @Override
+    public String toString() {
+        return response;
+    }
+}
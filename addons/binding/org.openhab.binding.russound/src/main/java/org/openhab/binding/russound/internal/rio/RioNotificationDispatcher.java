@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.openhab.binding.russound.internal.net.SocketSession;
+import org.openhab.binding.russound.internal.net.SocketSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches the responses of a {@link SocketSession} to the protocol handlers. Every response is tokenized once into
+ * a {@link RioNotification} and then handed to the {@link RioNotificationListener}s subscribed to its route (like
+ * "C[1].Z[2]" for zone 2 of controller 1), instead of letting every protocol handler match every response.
+ *
+ * There is one dispatcher per session, which is registered as a {@link SocketSessionListener} with the session as
+ * long as there are subscribed listeners.
+ *
+ * @author agent - Initial contribution
+ */
+public class RioNotificationDispatcher implements SocketSessionListener {
+    // logger
+    private final Logger logger = LoggerFactory.getLogger(RioNotificationDispatcher.class);
+
+    /**
+     * The dispatchers by session
+     */
+    private static final Map<SocketSession, RioNotificationDispatcher> DISPATCHERS = new HashMap<>();
+
+    /**
+     * The session the dispatcher is registered with
+     */
+    private final SocketSession session;
+
+    /**
+     * The subscribed listeners by route
+     */
+    private final Map<String, List<RioNotificationListener>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * All subscribed listeners
+     */
+    private final Set<RioNotificationListener> listeners = new CopyOnWriteArraySet<>();
+
+    private RioNotificationDispatcher(SocketSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Subscribes the listener to the notifications of the given routes. The dispatcher of the session is created and
+     * registered with the session if needed.
+     *
+     * @param session a non-null {@link SocketSession}
+     * @param listener a non-null {@link RioNotificationListener}
+     * @param routes the routes (see {@link RioNotification})
+     */
+    public static void subscribe(SocketSession session, RioNotificationListener listener, String... routes) {
+        if (session == null) {
+            throw new IllegalArgumentException("session cannot be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+
+        synchronized (DISPATCHERS) {
+            RioNotificationDispatcher dispatcher = DISPATCHERS.get(session);
+            if (dispatcher == null) {
+                dispatcher = new RioNotificationDispatcher(session);
+                DISPATCHERS.put(session, dispatcher);
+                session.addListener(dispatcher);
+            }
+            for (String route : routes) {
+                dispatcher.routes.computeIfAbsent(route, k -> new CopyOnWriteArrayList<>()).add(listener);
+            }
+            dispatcher.listeners.add(listener);
+        }
+    }
+
+    /**
+     * Unsubscribes the listener from all routes. The dispatcher of the session is removed from the session once it
+     * has no listeners left.
+     *
+     * @param session a non-null {@link SocketSession}
+     * @param listener a non-null {@link RioNotificationListener}
+     */
+    public static void unsubscribe(SocketSession session, RioNotificationListener listener) {
+        synchronized (DISPATCHERS) {
+            final RioNotificationDispatcher dispatcher = DISPATCHERS.get(session);
+            if (dispatcher == null) {
+                return;
+            }
+            for (List<RioNotificationListener> routeListeners : dispatcher.routes.values()) {
+                routeListeners.remove(listener);
+            }
+            dispatcher.routes.values().removeIf(List::isEmpty);
+            dispatcher.listeners.remove(listener);
+
+            if (dispatcher.listeners.isEmpty()) {
+                DISPATCHERS.remove(session);
+                dispatcher.session.removeListener(dispatcher);
+            }
+        }
+    }
+
+    /**
+     * Implements {@link SocketSessionListener#responseReceived(String)} to parse the response and route it to the
+     * subscribed listeners. Responses that are not notifications (like the login prompts) are ignored.
+     *
+     * @param response a possibly null, possibly empty response
+     */
+    @Override
+    public void responseReceived(String response) {
+        final RioNotification notification = RioNotification.parse(response);
+        if (notification == null) {
+            return;
+        }
+
+        dispatch(notification.getRoute(), notification);
+
+        final String wildcardRoute = notification.getWildcardRoute();
+        if (wildcardRoute != null) {
+            dispatch(wildcardRoute, notification);
+        }
+    }
+
+    private void dispatch(String route, RioNotification notification) {
+        final List<RioNotificationListener> routeListeners = routes.get(route);
+        if (routeListeners != null) {
+            for (RioNotificationListener listener : routeListeners) {
+                try {
+                    listener.notificationReceived(notification);
+                } catch (RuntimeException e) {
+                    logger.debug("Exception processing notification '{}': {}", notification, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Implements {@link SocketSessionListener#responseException(IOException)} to pass the exception to all subscribed
+     * listeners
+     *
+     * @param e a non-null io exception
+     */
+    @Override
+    public void responseException(IOException e) {
+        for (RioNotificationListener listener : listeners) {
+            listener.responseException(e);
+        }
+    }
+}
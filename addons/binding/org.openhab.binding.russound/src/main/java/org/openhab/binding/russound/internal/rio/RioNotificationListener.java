@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.russound.internal.rio;
+
+import java.io.IOException;
+
+/**
+ * Interface definition for any protocol handler that wants to receive the notifications routed to it by the
+ * {@link RioNotificationDispatcher}
+ *
+ * @author agent - Initial contribution
+ */
+public interface RioNotificationListener {
+    /**
+     * Called when a notification for one of the routes the listener subscribed to has been received
+     *
+     * @param notification a non-null notification
+     */
+    void notificationReceived(RioNotification notification);
+
+    /**
+     * Called when an exception occurred while reading from the socket
+     *
+     * @param e a non-null io exception
+     */
+    void responseException(IOException e);
+}
@@ -18,7 +18,6 @@ import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.models.GsonUtilities;
 import org.openhab.binding.russound.internal.rio.models.RioPreset;
 import org.slf4j.Logger;
@@ -45,15 +44,15 @@ public class RioPresetsProtocol extends AbstractRioProtocol {
     private static final String PRESET_VALID = "valid";
 
     /**
-     * The pattern representing preset notifications
+     * The segment names of preset notifications ("S[x].B[y].P[z].name")
      */
-    private static final Pattern RSP_PRESETNOTIFICATION = Pattern
-            .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+    private static final String BANK = "B";
+    private static final String PRESET = "P";
 
     /**
-     * The pattern representing a source type notification
+     * The key of source type notifications ("S[x].type")
      */
-    private static final Pattern RSP_SRCTYPENOTIFICATION = Pattern.compile("^[SN] S\\[(\\d+)\\]\\.type=\"(.*)\"$");
+    private static final String SOURCE_TYPE = "type";
 
     /**
      * All 36 presets represented by two dimensions - 8 source by 36 presets
@@ -107,12 +106,15 @@ public class RioPresetsProtocol extends AbstractRioProtocol {
 
         gson = GsonUtilities.createGson();
         for (int s = 1; s <= 8; s++) {
-            sendCommand("GET S[" + s + "].type");
-
             for (int x = 1; x <= 36; x++) {
                 presets[s - 1][x - 1] = new RioPreset(x);
             }
         }
+
+        subscribe(RioNotification.ROUTE_ALL_SOURCES);
+        for (int s = 1; s <= 8; s++) {
+            sendCommand("GET S[" + s + "].type");
+        }
     }
 
     /**
@@ -325,128 +327,96 @@ public class RioPresetsProtocol extends AbstractRioProtocol {
     }
 
     /**
-     * Handles any system notifications returned by the russound system
+     * Handles any preset notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    void handlePresetNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-
-        if (m.groupCount() == 5) {
-            try {
-                final int source = Integer.parseInt(m.group(1));
-                if (source >= 1 && source <= 8) {
-                    final int bank = Integer.parseInt(m.group(2));
-                    if (bank >= 1 && bank <= 6) {
-                        final int preset = Integer.parseInt(m.group(3));
-                        if (preset >= 1 && preset <= 6) {
-                            final String key = m.group(4).toLowerCase();
-                            final String value = m.group(5);
-
-                            final RioPreset rioPreset = presets[source - 1][(bank - 1) * 6 + preset - 1];
-
-                            switch (key) {
-                                case PRESET_NAME:
-                                    rioPreset.setName(value);
-                                    fireUpdate(source);
-                                    break;
-
-                                case PRESET_VALID:
-                                    rioPreset.setValid(!"false".equalsIgnoreCase(value));
-                                    fireUpdate(source);
-                                    break;
-
-                                default:
-                                    logger.warn("Unknown preset notification: '{}'", resp);
-                                    break;
-                            }
-                        } else {
-                            logger.debug("Preset ID must be between 1 and 6: {}", resp);
-                        }
-                    } else {
-                        logger.debug("Bank ID must be between 1 and 6: {}", resp);
-
+    void handlePresetNotification(RioNotification notification) {
+        final int source = notification.getIndex(0);
+        if (source >= 1 && source <= 8) {
+            final int bank = notification.getIndex(1);
+            if (bank >= 1 && bank <= 6) {
+                final int preset = notification.getIndex(2);
+                if (preset >= 1 && preset <= 6) {
+                    final String key = notification.getKey();
+                    final String value = notification.getValue();
+
+                    final RioPreset rioPreset = presets[source - 1][(bank - 1) * 6 + preset - 1];
+
+                    switch (key) {
+                        case PRESET_NAME:
+                            rioPreset.setName(value);
+                            fireUpdate(source);
+                            break;
+
+                        case PRESET_VALID:
+                            rioPreset.setValid(!"false".equalsIgnoreCase(value));
+                            fireUpdate(source);
+                            break;
+
+                        default:
+                            logger.warn("Unknown preset notification: '{}'", notification);
+                            break;
                     }
                 } else {
-                    logger.debug("Source ID must be between 1 and 8: {}", resp);
+                    logger.debug("Preset ID must be between 1 and 6: {}", notification);
                 }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Preset Notification (source/bank/preset not a parsable integer): '{}')", resp);
+            } else {
+                logger.debug("Bank ID must be between 1 and 6: {}", notification);
+
             }
         } else {
-            logger.warn("Invalid Preset Notification: '{}')", resp);
+            logger.debug("Source ID must be between 1 and 8: {}", notification);
         }
     }
 
     /**
-     * Handles any preset notifications returned by the russound system
+     * Handles any source type notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handlerSourceTypeNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
+    private void handlerSourceTypeNotification(RioNotification notification) {
+        final int sourceId = notification.getIndex(0);
+        if (sourceId >= 1 && sourceId <= 8) {
+            final String sourceType = notification.getValue();
 
-        if (m.groupCount() == 2) {
-            try {
-                final int sourceId = Integer.parseInt(m.group(1));
-                if (sourceId >= 1 && sourceId <= 8) {
-                    final String sourceType = m.group(2);
+            final Matcher matcher = IS_TUNER.matcher(sourceType);
+            final boolean srcIsTuner = matcher.matches();
 
-                    final Matcher matcher = IS_TUNER.matcher(sourceType);
-                    final boolean srcIsTuner = matcher.matches();
+            if (srcIsTuner != isTuner[sourceId - 1]) {
+                isTuner[sourceId - 1] = srcIsTuner;
 
-                    if (srcIsTuner != isTuner[sourceId - 1]) {
-                        isTuner[sourceId - 1] = srcIsTuner;
-
-                        if (srcIsTuner) {
-                            // force a refresh on the source
-                            lastUpdateTime[sourceId - 1] = 0;
-                            refreshPresets(sourceId);
-                        } else {
-                            for (int p = 0; p < 36; p++) {
-                                presets[sourceId - 1][p].setValid(false);
-                                presets[sourceId - 1][p].setName(null);
-                            }
-                        }
-                        fireUpdate(sourceId);
-                    }
+                if (srcIsTuner) {
+                    // force a refresh on the source
+                    lastUpdateTime[sourceId - 1] = 0;
+                    refreshPresets(sourceId);
                 } else {
-                    logger.debug("Source is not between 1 and 8, Response: {}", resp);
+                    for (int p = 0; p < 36; p++) {
+                        presets[sourceId - 1][p].setValid(false);
+                        presets[sourceId - 1][p].setName(null);
+                    }
                 }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Preset Notification (source/bank/preset not a parsable integer): '{}')", resp);
+                fireUpdate(sourceId);
             }
         } else {
-            logger.warn("Invalid Preset Notification: '{}')", resp);
+            logger.debug("Source is not between 1 and 8, Response: {}", notification);
         }
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the preset and
+     * source type notifications of all sources.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
-        }
-
-        Matcher m = RSP_PRESETNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handlePresetNotification(m, response);
-        }
-
-        m = RSP_SRCTYPENOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handlerSourceTypeNotification(m, response);
+    public void notificationReceived(RioNotification notification) {
+        final int segments = notification.getSegmentCount();
+        if (segments == 4 && notification.isIndexed(1, BANK) && notification.isIndexed(2, PRESET)
+                && notification.getIndex(3) < 0) {
+            handlePresetNotification(notification);
+        } else if (segments == 2 && SOURCE_TYPE.equals(notification.getKey())) {
+            handlerSourceTypeNotification(notification);
         }
     }
 
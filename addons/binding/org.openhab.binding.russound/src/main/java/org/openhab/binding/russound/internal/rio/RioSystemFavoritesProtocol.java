@@ -13,12 +13,9 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.models.GsonUtilities;
 import org.openhab.binding.russound.internal.rio.models.RioFavorite;
 import org.slf4j.Logger;
@@ -44,10 +41,9 @@ public class RioSystemFavoritesProtocol extends AbstractRioProtocol {
     private static final String FAV_VALID = "valid";
 
     /**
-     * The pattern representing system favorite notifications
+     * The name of the favorite segment in system favorite notifications ("System.favorite[x].name")
      */
-    private static final Pattern RSP_SYSTEMFAVORITENOTIFICATION = Pattern
-            .compile("(?i)^[SN] System.favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+    private static final String FAVORITE = "favorite";
 
     /**
      * The current state of all 32 system favorites
@@ -95,6 +91,7 @@ public class RioSystemFavoritesProtocol extends AbstractRioProtocol {
             systemFavorites[x - 1] = new RioFavorite(x);
         }
 
+        subscribe(RioNotification.ROUTE_SYSTEM);
     }
 
     /**
@@ -257,65 +254,49 @@ public class RioSystemFavoritesProtocol extends AbstractRioProtocol {
     }
 
     /**
-     * Handles any system notifications returned by the russound system
+     * Handles any system favorite notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleSystemFavoriteNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 3) {
-            try {
-                final int favoriteId = Integer.parseInt(m.group(1));
-
-                if (favoriteId >= 1 && favoriteId <= 32) {
-                    final RioFavorite fav = systemFavorites[favoriteId - 1];
-
-                    final String key = m.group(2).toLowerCase();
-                    final String value = m.group(3);
-
-                    switch (key) {
-                        case FAV_NAME:
-                            fav.setName(value);
-                            fireUpdate();
-                            break;
-                        case FAV_VALID:
-                            fav.setValid(!"false".equalsIgnoreCase(value));
-                            fireUpdate();
-                            break;
-
-                        default:
-                            logger.warn("Unknown system favorite notification: '{}'", resp);
-                            break;
-                    }
-                } else {
-                    logger.warn("Invalid System Favorite Notification (favorite < 1 or > 32): '{}')", resp);
-                }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid System Favorite Notification (favorite not a parsable integer): '{}')", resp);
+    private void handleSystemFavoriteNotification(RioNotification notification) {
+        final int favoriteId = notification.getIndex(1);
+
+        if (favoriteId >= 1 && favoriteId <= 32) {
+            final RioFavorite fav = systemFavorites[favoriteId - 1];
+
+            final String key = notification.getKey();
+            final String value = notification.getValue();
+
+            switch (key) {
+                case FAV_NAME:
+                    fav.setName(value);
+                    fireUpdate();
+                    break;
+                case FAV_VALID:
+                    fav.setValid(!"false".equalsIgnoreCase(value));
+                    fireUpdate();
+                    break;
+
+                default:
+                    logger.warn("Unknown system favorite notification: '{}'", notification);
+                    break;
             }
         } else {
-            logger.warn("Invalid System Notification response: '{}'", resp);
+            logger.warn("Invalid System Favorite Notification (favorite < 1 or > 32): '{}')", notification);
         }
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the system favorite
+     * notifications. Other system notifications are handled by the system protocol and ignored here.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
-        }
-
-        final Matcher m = RSP_SYSTEMFAVORITENOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleSystemFavoriteNotification(m, response);
+    public void notificationReceived(RioNotification notification) {
+        if (notification.getSegmentCount() == 3 && notification.isIndexed(1, FAVORITE)
+                && notification.getIndex(2) < 0) {
+            handleSystemFavoriteNotification(notification);
         }
     }
 
@@ -8,15 +8,12 @@
  */
 package org.openhab.binding.russound.internal.rio.controller;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang.StringUtils;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.binding.russound.internal.rio.RioNotification;
+import org.openhab.binding.russound.internal.rio.RioNotificationListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +37,6 @@ class RioControllerProtocol extends AbstractRioProtocol {
     private static final String CTL_IPADDRESS = "ipaddress";
     private static final String CTL_MACADDRESS = "macaddress";
 
-    // Response patterns
-    private static final Pattern RSP_CONTROLLERNOTIFICATION = Pattern
-            .compile("(?i)^[SN] C\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
-
     /**
      * Constructs the protocol handler from given parameters
      *
@@ -54,6 +47,7 @@ class RioControllerProtocol extends AbstractRioProtocol {
     RioControllerProtocol(int controller, SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
         this.controller = controller;
+        subscribe(RioNotification.getControllerRoute(controller));
     }
 
     /**
@@ -102,65 +96,41 @@ class RioControllerProtocol extends AbstractRioProtocol {
     /**
      * Handles any controller notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleControllerNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 3) {
-            try {
-                final int notifyController = Integer.parseInt(m.group(1));
-                if (notifyController != controller) {
-                    return;
-                }
-
-                final String key = m.group(2).toLowerCase();
-                final String value = m.group(3);
-
-                switch (key) {
-                    case CTL_TYPE:
-                        setProperty(RioConstants.PROPERTY_CTLTYPE, value);
-                        break;
-
-                    case CTL_IPADDRESS:
-                        setProperty(RioConstants.PROPERTY_CTLIPADDRESS, value);
-                        break;
-
-                    case CTL_MACADDRESS:
-                        setProperty(RioConstants.PROPERTY_CTLMACADDRESS, value);
-                        break;
-
-                    default:
-                        logger.debug("Unknown controller notification: '{}'", resp);
-                        break;
-                }
-            } catch (NumberFormatException e) {
-                logger.debug("Invalid Controller Notification (controller not a parsable integer): '{}')", resp);
-            }
-        } else {
-            logger.debug("Invalid Controller Notification response: '{}'", resp);
+    private void handleControllerNotification(RioNotification notification) {
+        final String key = notification.getKey();
+        final String value = notification.getValue();
+
+        switch (key) {
+            case CTL_TYPE:
+                setProperty(RioConstants.PROPERTY_CTLTYPE, value);
+                break;
+
+            case CTL_IPADDRESS:
+                setProperty(RioConstants.PROPERTY_CTLIPADDRESS, value);
+                break;
+
+            case CTL_MACADDRESS:
+                setProperty(RioConstants.PROPERTY_CTLMACADDRESS, value);
+                break;
+
+            default:
+                logger.debug("Unknown controller notification: '{}'", notification);
+                break;
         }
-
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the notifications
+     * of our controller. Zone notifications have their own routes and never reach this handler.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
-        }
-
-        final Matcher m = RSP_CONTROLLERNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleControllerNotification(m, response);
-            return;
+    public void notificationReceived(RioNotification notification) {
+        if (notification.getSegmentCount() == 2 && notification.getIndex(1) < 0) {
+            handleControllerNotification(notification);
         }
     }
 }
@@ -14,8 +14,6 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.NullArgumentException;
 import org.apache.commons.lang.StringUtils;
@@ -23,10 +21,12 @@ import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.binding.russound.internal.rio.RioNotification;
+import org.openhab.binding.russound.internal.rio.RioNotificationListener;
+import org.openhab.binding.russound.internal.rio.RioPresetsProtocol;
 import org.openhab.binding.russound.internal.rio.StatefulHandlerCallback;
 import org.openhab.binding.russound.internal.rio.models.GsonUtilities;
 import org.openhab.binding.russound.internal.rio.models.RioBank;
@@ -90,14 +90,9 @@ class RioSourceProtocol extends AbstractRioProtocol {
 
     private static final String BANK_NAME = "name";
 
-    // Response patterns
-    private static final Pattern RSP_MMMENUNOTIFICATION = Pattern.compile("^\\{.*\\}$");
-    private static final Pattern RSP_SRCNOTIFICATION = Pattern
-            .compile("(?i)^[SN] S\\[(\\d+)\\]\\.([a-zA-Z_0-9.\\[\\]]+)=\"(.*)\"$");
-    private static final Pattern RSP_BANKNOTIFICATION = Pattern
-            .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
-    private static final Pattern RSP_PRESETNOTIFICATION = Pattern
-            .compile("(?i)^[SN] S\\[(\\d+)\\].B\\[(\\d+)\\].P\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+    // Segment names of bank ("S[x].B[y].name") and preset ("S[x].B[y].P[z].name") notifications
+    private static final String BANK = "B";
+    private static final String PRESET = "P";
 
     /**
      * Current banks
@@ -166,6 +161,8 @@ class RioSourceProtocol extends AbstractRioProtocol {
         for (int x = 1; x <= 6; x++) {
             banks[x - 1] = new RioBank(x);
         }
+
+        subscribe(RioNotification.getSourceRoute(source), RioNotification.ROUTE_MENU);
     }
 
     /**
@@ -482,238 +479,193 @@ class RioSourceProtocol extends AbstractRioProtocol {
     /**
      * Handles any source notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleSourceNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 3) {
-            try {
-                final int notifySource = Integer.parseInt(m.group(1));
-                if (notifySource != source) {
-                    return;
-                }
-                final String key = m.group(2).toLowerCase();
-                final String value = m.group(3);
+    private void handleSourceNotification(RioNotification notification) {
+        final String key = notification.getKey(1);
+        final String value = notification.getValue();
 
-                switch (key) {
-                    case SRC_NAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCENAME, new StringType(value));
-                        break;
+        switch (key) {
+            case SRC_NAME:
+                stateChanged(RioConstants.CHANNEL_SOURCENAME, new StringType(value));
+                break;
 
-                    case SRC_TYPE:
-                        stateChanged(RioConstants.CHANNEL_SOURCETYPE, new StringType(value));
-                        break;
+            case SRC_TYPE:
+                stateChanged(RioConstants.CHANNEL_SOURCETYPE, new StringType(value));
+                break;
 
-                    case SRC_IPADDRESS:
-                        setProperty(RioConstants.PROPERTY_SOURCEIPADDRESS, value);
-                        break;
+            case SRC_IPADDRESS:
+                setProperty(RioConstants.PROPERTY_SOURCEIPADDRESS, value);
+                break;
 
-                    case SRC_COMPOSERNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCECOMPOSERNAME, new StringType(value));
-                        break;
+            case SRC_COMPOSERNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCECOMPOSERNAME, new StringType(value));
+                break;
 
-                    case SRC_CHANNEL:
-                        stateChanged(RioConstants.CHANNEL_SOURCECHANNEL, new StringType(value));
-                        break;
-
-                    case SRC_CHANNELNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCECHANNELNAME, new StringType(value));
-                        break;
-
-                    case SRC_GENRE:
-                        stateChanged(RioConstants.CHANNEL_SOURCEGENRE, new StringType(value));
-                        break;
-
-                    case SRC_ARTISTNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCEARTISTNAME, new StringType(value));
-                        break;
-
-                    case SRC_ALBUMNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCEALBUMNAME, new StringType(value));
-                        break;
-
-                    case SRC_COVERARTURL:
-                        stateChanged(RioConstants.CHANNEL_SOURCECOVERARTURL, new StringType(value));
-                        break;
-
-                    case SRC_PLAYLISTNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCEPLAYLISTNAME, new StringType(value));
-                        break;
-
-                    case SRC_SONGNAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCESONGNAME, new StringType(value));
-                        break;
-
-                    case SRC_MODE:
-                        stateChanged(RioConstants.CHANNEL_SOURCEMODE, new StringType(value));
-                        break;
-
-                    case SRC_SHUFFLEMODE:
-                        stateChanged(RioConstants.CHANNEL_SOURCESHUFFLEMODE, new StringType(value));
-                        break;
-
-                    case SRC_REPEATMODE:
-                        stateChanged(RioConstants.CHANNEL_SOURCEREPEATMODE, new StringType(value));
-                        break;
-
-                    case SRC_RATING:
-                        stateChanged(RioConstants.CHANNEL_SOURCERATING, new StringType(value));
-                        break;
-
-                    case SRC_PROGRAMSERVICENAME:
-                        stateChanged(RioConstants.CHANNEL_SOURCEPROGRAMSERVICENAME, new StringType(value));
-                        break;
-
-                    case SRC_RADIOTEXT:
-                        stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT, new StringType(value));
-                        break;
-
-                    case SRC_RADIOTEXT2:
-                        stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT2, new StringType(value));
-                        break;
-
-                    case SRC_RADIOTEXT3:
-                        stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT3, new StringType(value));
-                        break;
-
-                    case SRC_RADIOTEXT4:
-                        stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT4, new StringType(value));
-                        break;
-
-                    case SRC_VOLUME:
-                        stateChanged(RioConstants.CHANNEL_SOURCEVOLUME, new StringType(value));
-                        break;
-
-                    case SRC_MMSCREEN:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMSCREEN, value);
-                        break;
-
-                    case SRC_MMTITLE:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMTITLE, value);
-                        break;
-
-                    case SRC_MMATTR:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMATTR, value);
-                        break;
-
-                    case SRC_MMBTNOK:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMBUTTONOKTEXT, value);
-                        break;
+            case SRC_CHANNEL:
+                stateChanged(RioConstants.CHANNEL_SOURCECHANNEL, new StringType(value));
+                break;
 
-                    case SRC_MMBTNBACK:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMBUTTONBACKTEXT, value);
-                        break;
+            case SRC_CHANNELNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCECHANNELNAME, new StringType(value));
+                break;
+
+            case SRC_GENRE:
+                stateChanged(RioConstants.CHANNEL_SOURCEGENRE, new StringType(value));
+                break;
+
+            case SRC_ARTISTNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCEARTISTNAME, new StringType(value));
+                break;
+
+            case SRC_ALBUMNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCEALBUMNAME, new StringType(value));
+                break;
+
+            case SRC_COVERARTURL:
+                stateChanged(RioConstants.CHANNEL_SOURCECOVERARTURL, new StringType(value));
+                break;
+
+            case SRC_PLAYLISTNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCEPLAYLISTNAME, new StringType(value));
+                break;
+
+            case SRC_SONGNAME:
+                stateChanged(RioConstants.CHANNEL_SOURCESONGNAME, new StringType(value));
+                break;
+
+            case SRC_MODE:
+                stateChanged(RioConstants.CHANNEL_SOURCEMODE, new StringType(value));
+                break;
+
+            case SRC_SHUFFLEMODE:
+                stateChanged(RioConstants.CHANNEL_SOURCESHUFFLEMODE, new StringType(value));
+                break;
+
+            case SRC_REPEATMODE:
+                stateChanged(RioConstants.CHANNEL_SOURCEREPEATMODE, new StringType(value));
+                break;
+
+            case SRC_RATING:
+                stateChanged(RioConstants.CHANNEL_SOURCERATING, new StringType(value));
+                break;
+
+            case SRC_PROGRAMSERVICENAME:
+                stateChanged(RioConstants.CHANNEL_SOURCEPROGRAMSERVICENAME, new StringType(value));
+                break;
+
+            case SRC_RADIOTEXT:
+                stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT, new StringType(value));
+                break;
+
+            case SRC_RADIOTEXT2:
+                stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT2, new StringType(value));
+                break;
+
+            case SRC_RADIOTEXT3:
+                stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT3, new StringType(value));
+                break;
+
+            case SRC_RADIOTEXT4:
+                stateChanged(RioConstants.CHANNEL_SOURCERADIOTEXT4, new StringType(value));
+                break;
+
+            case SRC_VOLUME:
+                stateChanged(RioConstants.CHANNEL_SOURCEVOLUME, new StringType(value));
+                break;
+
+            case SRC_MMSCREEN:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMSCREEN, value);
+                break;
+
+            case SRC_MMTITLE:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMTITLE, value);
+                break;
+
+            case SRC_MMATTR:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMATTR, value);
+                break;
+
+            case SRC_MMBTNOK:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMBUTTONOKTEXT, value);
+                break;
 
-                    case SRC_MMHELP:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMHELPTEXT, value);
-                        break;
+            case SRC_MMBTNBACK:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMBUTTONBACKTEXT, value);
+                break;
 
-                    case SRC_MMTEXTFIELD:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMTEXTFIELD, value);
-                        break;
+            case SRC_MMHELP:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMHELPTEXT, value);
+                break;
 
-                    case SRC_MMINFOBLOCK:
-                        handleMMChange(RioConstants.CHANNEL_SOURCEMMINFOTEXT, value);
-                        break;
-                    default:
-                        logger.warn("Unknown source notification: '{}'", resp);
-                        break;
-                }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Source Notification (source not a parsable integer): '{}')", resp);
-            }
-        } else {
-            logger.warn("Invalid Source Notification response: '{}'", resp);
-        }
+            case SRC_MMTEXTFIELD:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMTEXTFIELD, value);
+                break;
 
+            case SRC_MMINFOBLOCK:
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMINFOTEXT, value);
+                break;
+            default:
+                logger.warn("Unknown source notification: '{}'", notification);
+                break;
+        }
     }
 
     /**
      * Handles any bank notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleBankNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
+    private void handleBankNotification(RioNotification notification) {
+        final int bank = notification.getIndex(1);
+        if (bank < 1 || bank > 6) {
+            logger.debug("Bank ID must be between 1 and 6: {}", notification);
+            return;
         }
 
-        // System notification
-        if (m.groupCount() == 4) {
-            try {
-                final int bank = Integer.parseInt(m.group(2));
-                if (bank >= 1 && bank <= 6) {
-                    final int notifySource = Integer.parseInt(m.group(1));
-                    if (notifySource != source) {
-                        return;
-                    }
-
-                    final String key = m.group(3).toLowerCase();
-                    final String value = m.group(4);
-
-                    switch (key) {
-                        case BANK_NAME:
-                            banks[bank - 1].setName(value);
-                            updateBanksChannel();
-                            break;
-
-                        default:
-                            logger.warn("Unknown bank name notification: '{}'", resp);
-                            break;
-                    }
-                } else {
-                    logger.debug("Bank ID must be between 1 and 6: {}", resp);
-                }
+        final String key = notification.getKey();
+        final String value = notification.getValue();
 
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Bank Name Notification (bank/source not a parsable integer): '{}')", resp);
-            }
+        switch (key) {
+            case BANK_NAME:
+                banks[bank - 1].setName(value);
+                updateBanksChannel();
+                break;
 
-        } else {
-            logger.warn("Invalid Bank Notification: '{}')", resp);
+            default:
+                logger.warn("Unknown bank name notification: '{}'", notification);
+                break;
         }
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the notifications
+     * of our source and the media management menus. Preset notifications are handled by the {@link RioPresetsProtocol}
+     * and ignored here.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
-        }
-
-        Matcher m = RSP_BANKNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleBankNotification(m, response);
+    public void notificationReceived(RioNotification notification) {
+        if (RioNotification.ROUTE_MENU.equals(notification.getRoute())) {
+            try {
+                handleMMChange(RioConstants.CHANNEL_SOURCEMMMENU, notification.getResponse());
+            } catch (NumberFormatException e) {
+                logger.debug("Could not parse the menu text (1) from {}", notification);
+            }
             return;
         }
 
-        m = RSP_PRESETNOTIFICATION.matcher(response);
-        if (m.matches()) {
+        final int segments = notification.getSegmentCount();
+        if (segments == 4 && notification.isIndexed(1, BANK) && notification.isIndexed(2, PRESET)) {
             // does nothing
             return;
         }
 
-        m = RSP_SRCNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleSourceNotification(m, response);
-        }
-
-        m = RSP_MMMENUNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            try {
-                handleMMChange(RioConstants.CHANNEL_SOURCEMMMENU, response);
-            } catch (NumberFormatException e) {
-                logger.debug("Could not parse the menu text (1) from {}", response);
-            }
+        if (segments == 3 && notification.isIndexed(1, BANK) && notification.getIndex(2) < 0) {
+            handleBankNotification(notification);
+        } else if (segments >= 2) {
+            handleSourceNotification(notification);
         }
     }
 
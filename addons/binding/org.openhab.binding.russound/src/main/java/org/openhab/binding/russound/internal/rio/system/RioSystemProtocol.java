@@ -9,19 +9,18 @@
 package org.openhab.binding.russound.internal.rio.system;
 
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.binding.russound.internal.rio.RioNotification;
+import org.openhab.binding.russound.internal.rio.RioNotificationListener;
+import org.openhab.binding.russound.internal.rio.RioSystemFavoritesProtocol;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,11 +39,6 @@ class RioSystemProtocol extends AbstractRioProtocol {
     private static final String SYS_STATUS = "status"; // 12 max
     private static final String SYS_LANG = "language"; // 12 max
 
-    // Response patterns
-    private static final Pattern RSP_VERSION = Pattern.compile("(?i)^S VERSION=\"(.+)\"$");
-    private static final Pattern RSP_FAILURE = Pattern.compile("(?i)^E (.*)");
-    private static final Pattern RSP_SYSTEMNOTIFICATION = Pattern.compile("(?i)^[SN] System\\.(\\w+)=\"(.*)\"$");
-
     // all on state (there is no corresponding value)
     private final AtomicBoolean allOn = new AtomicBoolean(false);
 
@@ -62,6 +56,7 @@ class RioSystemProtocol extends AbstractRioProtocol {
      */
     RioSystemProtocol(SocketSession session, RioHandlerCallback callback) {
         super(session, callback);
+        subscribe(RioNotification.ROUTE_SYSTEM, RioNotification.ROUTE_VERSION, RioNotification.ROUTE_FAILURE);
     }
 
     /**
@@ -178,92 +173,74 @@ class RioSystemProtocol extends AbstractRioProtocol {
     /**
      * Handles the version notification
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    void handleVersionNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 1) {
-            final String version = m.group(1);
-            setProperty(RioConstants.PROPERTY_SYSVERSION, version);
-        } else {
-            logger.warn("Invalid System Notification response: '{}'", resp);
-        }
+    void handleVersionNotification(RioNotification notification) {
+        setProperty(RioConstants.PROPERTY_SYSVERSION, notification.getValue());
     }
 
     /**
      * Handles any system notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
-     */
-    void handleSystemNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 2) {
-            final String key = m.group(1).toLowerCase();
-            final String value = m.group(2);
-
-            switch (key) {
-                case SYS_LANG:
-                    stateChanged(RioConstants.CHANNEL_SYSLANG, new StringType(value));
-                    break;
-                case SYS_STATUS:
-                    stateChanged(RioConstants.CHANNEL_SYSSTATUS, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                    break;
-
-                default:
-                    logger.warn("Unknown system notification: '{}'", resp);
-                    break;
-            }
-        } else {
-            logger.warn("Invalid System Notification response: '{}'", resp);
+     * @param notification a non-null notification
+     */
+    void handleSystemNotification(RioNotification notification) {
+        final String key = notification.getKey();
+        final String value = notification.getValue();
+
+        switch (key) {
+            case SYS_LANG:
+                stateChanged(RioConstants.CHANNEL_SYSLANG, new StringType(value));
+                break;
+            case SYS_STATUS:
+                stateChanged(RioConstants.CHANNEL_SYSSTATUS, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            default:
+                logger.warn("Unknown system notification: '{}'", notification);
+                break;
         }
     }
 
     /**
      * Handles any error notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleFailureNotification(Matcher m, String resp) {
-        logger.debug("Error notification: {}", resp);
+    private void handleFailureNotification(RioNotification notification) {
+        logger.debug("Error notification: {}", notification);
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the version, system
+     * and failure notifications routed to this handler. System favorite notifications are handled by the
+     * {@link RioSystemFavoritesProtocol} and ignored here.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
+    public void notificationReceived(RioNotification notification) {
+        switch (notification.getRoute()) {
+            case RioNotification.ROUTE_VERSION:
+                if (notification.getType() == 'S' && notification.getSegmentCount() == 1
+                        && !notification.getValue().isEmpty()) {
+                    handleVersionNotification(notification);
+                }
+                break;
+
+            case RioNotification.ROUTE_SYSTEM:
+                if (notification.getSegmentCount() == 2 && notification.getIndex(1) < 0) {
+                    handleSystemNotification(notification);
+                }
+                break;
+
+            case RioNotification.ROUTE_FAILURE:
+                handleFailureNotification(notification);
+                break;
+
+            default:
+                break;
         }
-
-        Matcher m = RSP_VERSION.matcher(response);
-        if (m.matches()) {
-            handleVersionNotification(m, response);
-            return;
-        }
-
-        m = RSP_SYSTEMNOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleSystemNotification(m, response);
-            return;
-        }
-
-        m = RSP_FAILURE.matcher(response);
-        if (m.matches()) {
-            handleFailureNotification(m, response);
-            return;
-        }
-
     }
 
     /**
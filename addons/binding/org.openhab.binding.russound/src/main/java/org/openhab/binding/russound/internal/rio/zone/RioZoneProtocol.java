@@ -11,8 +11,6 @@ package org.openhab.binding.russound.internal.rio.zone;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -20,10 +18,11 @@ import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.PercentType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.openhab.binding.russound.internal.net.SocketSession;
-import org.openhab.binding.russound.internal.net.SocketSessionListener;
 import org.openhab.binding.russound.internal.rio.AbstractRioProtocol;
 import org.openhab.binding.russound.internal.rio.RioConstants;
 import org.openhab.binding.russound.internal.rio.RioHandlerCallback;
+import org.openhab.binding.russound.internal.rio.RioNotification;
+import org.openhab.binding.russound.internal.rio.RioNotificationListener;
 import org.openhab.binding.russound.internal.rio.RioPresetsProtocol;
 import org.openhab.binding.russound.internal.rio.RioSystemFavoritesProtocol;
 import org.openhab.binding.russound.internal.rio.models.GsonUtilities;
@@ -82,12 +81,8 @@ class RioZoneProtocol extends AbstractRioProtocol
     private static final String FAV_NAME = "name";
     private static final String FAV_VALID = "valid";
 
-    // Respone patterns
-    private static final Pattern RSP_ZONENOTIFICATION = Pattern
-            .compile("(?i)^[SN] C\\[(\\d+)\\]\\.Z\\[(\\d+)\\]\\.(\\w+)=\"(.*)\"$");
-
-    private static final Pattern RSP_ZONEFAVORITENOTIFICATION = Pattern
-            .compile("(?i)^[SN] C\\[(\\d+)\\].Z\\[(\\d+)\\].favorite\\[(\\d+)\\].(\\w+)=\"(.*)\"$");
+    // Segment name of zone favorite notifications ("C[x].Z[y].favorite[z].name")
+    private static final String FAVORITE = "favorite";
 
     // The zone favorites
     private final RioFavorite[] zoneFavorites = new RioFavorite[2];
@@ -139,6 +134,7 @@ class RioZoneProtocol extends AbstractRioProtocol
         this.zoneFavorites[0] = new RioFavorite(1);
         this.zoneFavorites[1] = new RioFavorite(2);
 
+        subscribe(RioNotification.getZoneRoute(controller, zone));
     }
 
     /**
@@ -678,202 +674,160 @@ class RioZoneProtocol extends AbstractRioProtocol
     /**
      * Handles any zone notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    private void handleZoneNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
-        }
-        if (m.groupCount() == 4) {
-            try {
-                final int notifyController = Integer.parseInt(m.group(1));
-                if (notifyController != controller) {
-                    return;
+    private void handleZoneNotification(RioNotification notification) {
+        final String key = notification.getKey();
+        final String value = notification.getValue();
+
+        switch (key) {
+            case ZONE_NAME:
+                stateChanged(RioConstants.CHANNEL_ZONENAME, new StringType(value));
+                break;
+
+            case ZONE_SOURCE:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONESOURCE, new DecimalType(nbr));
+
+                    if (nbr != sourceId.getAndSet(nbr)) {
+                        sourceId.set(nbr);
+                        presetsUpdated(nbr, presetsProtocol.getJson(nbr));
+                    }
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (source not parsable): '{}')", notification);
                 }
-                final int notifyZone = Integer.parseInt(m.group(2));
-                if (notifyZone != zone) {
-                    return;
+                break;
+
+            case ZONE_BASS:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONEBASS, new DecimalType(nbr));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (bass not parsable): '{}')", notification);
                 }
-                final String key = m.group(3).toLowerCase();
-                final String value = m.group(4);
-
-                switch (key) {
-                    case ZONE_NAME:
-                        stateChanged(RioConstants.CHANNEL_ZONENAME, new StringType(value));
-                        break;
-
-                    case ZONE_SOURCE:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONESOURCE, new DecimalType(nbr));
-
-                            if (nbr != sourceId.getAndSet(nbr)) {
-                                sourceId.set(nbr);
-                                presetsUpdated(nbr, presetsProtocol.getJson(nbr));
-                            }
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (source not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_BASS:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONEBASS, new DecimalType(nbr));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (bass not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_TREBLE:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONETREBLE, new DecimalType(nbr));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (treble not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_BALANCE:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONEBALANCE, new DecimalType(nbr));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (balance not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_LOUDNESS:
-                        stateChanged(RioConstants.CHANNEL_ZONELOUDNESS,
-                                "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-
-                    case ZONE_TURNONVOLUME:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONETURNONVOLUME, new PercentType(nbr * 2));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (turnonvolume not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_DONOTDISTURB:
-                        stateChanged(RioConstants.CHANNEL_ZONEDONOTDISTURB, new StringType(value));
-                        break;
-
-                    case ZONE_PARTYMODE:
-                        stateChanged(RioConstants.CHANNEL_ZONEPARTYMODE, new StringType(value));
-                        break;
-
-                    case ZONE_STATUS:
-                        stateChanged(RioConstants.CHANNEL_ZONESTATUS,
-                                "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-                    case ZONE_MUTE:
-                        stateChanged(RioConstants.CHANNEL_ZONEMUTE, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-
-                    case ZONE_SHAREDSOURCE:
-                        stateChanged(RioConstants.CHANNEL_ZONESHAREDSOURCE,
-                                "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-
-                    case ZONE_LASTERROR:
-                        stateChanged(RioConstants.CHANNEL_ZONELASTERROR, new StringType(value));
-                        break;
-
-                    case ZONE_PAGE:
-                        stateChanged(RioConstants.CHANNEL_ZONEPAGE, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-
-                    case ZONE_SLEEPTIMEREMAINING:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONESLEEPTIMEREMAINING, new DecimalType(nbr));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (sleeptimeremaining not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    case ZONE_ENABLED:
-                        stateChanged(RioConstants.CHANNEL_ZONEENABLED,
-                                "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
-                        break;
-
-                    case ZONE_VOLUME:
-                        try {
-                            final int nbr = Integer.parseInt(value);
-                            stateChanged(RioConstants.CHANNEL_ZONEVOLUME, new PercentType(nbr * 2));
-                        } catch (NumberFormatException e) {
-                            logger.warn("Invalid zone notification (volume not parsable): '{}')", resp);
-                        }
-                        break;
-
-                    default:
-                        logger.warn("Unknown zone notification: '{}'", resp);
-                        break;
+                break;
+
+            case ZONE_TREBLE:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONETREBLE, new DecimalType(nbr));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (treble not parsable): '{}')", notification);
                 }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Zone Notification (controller/zone not a parsable integer): '{}')", resp);
-            }
-        } else {
-            logger.warn("Invalid Zone Notification response: '{}'", resp);
-        }
+                break;
+
+            case ZONE_BALANCE:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONEBALANCE, new DecimalType(nbr));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (balance not parsable): '{}')", notification);
+                }
+                break;
+
+            case ZONE_LOUDNESS:
+                stateChanged(RioConstants.CHANNEL_ZONELOUDNESS,
+                        "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            case ZONE_TURNONVOLUME:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONETURNONVOLUME, new PercentType(nbr * 2));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (turnonvolume not parsable): '{}')", notification);
+                }
+                break;
+
+            case ZONE_DONOTDISTURB:
+                stateChanged(RioConstants.CHANNEL_ZONEDONOTDISTURB, new StringType(value));
+                break;
+
+            case ZONE_PARTYMODE:
+                stateChanged(RioConstants.CHANNEL_ZONEPARTYMODE, new StringType(value));
+                break;
+
+            case ZONE_STATUS:
+                stateChanged(RioConstants.CHANNEL_ZONESTATUS,
+                        "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+            case ZONE_MUTE:
+                stateChanged(RioConstants.CHANNEL_ZONEMUTE, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            case ZONE_SHAREDSOURCE:
+                stateChanged(RioConstants.CHANNEL_ZONESHAREDSOURCE,
+                        "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            case ZONE_LASTERROR:
+                stateChanged(RioConstants.CHANNEL_ZONELASTERROR, new StringType(value));
+                break;
+
+            case ZONE_PAGE:
+                stateChanged(RioConstants.CHANNEL_ZONEPAGE, "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            case ZONE_SLEEPTIMEREMAINING:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONESLEEPTIMEREMAINING, new DecimalType(nbr));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (sleeptimeremaining not parsable): '{}')", notification);
+                }
+                break;
+
+            case ZONE_ENABLED:
+                stateChanged(RioConstants.CHANNEL_ZONEENABLED,
+                        "ON".equals(value) ? OnOffType.ON : OnOffType.OFF);
+                break;
+
+            case ZONE_VOLUME:
+                try {
+                    final int nbr = Integer.parseInt(value);
+                    stateChanged(RioConstants.CHANNEL_ZONEVOLUME, new PercentType(nbr * 2));
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid zone notification (volume not parsable): '{}')", notification);
+                }
+                break;
 
+            default:
+                logger.warn("Unknown zone notification: '{}'", notification);
+                break;
+        }
     }
 
     /**
-     * Handles any system notifications returned by the russound system
+     * Handles any zone favorite notifications returned by the russound system
      *
-     * @param m a non-null matcher
-     * @param resp a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
-    void handleZoneFavoriteNotification(Matcher m, String resp) {
-        if (m == null) {
-            throw new IllegalArgumentException("m (matcher) cannot be null");
+    void handleZoneFavoriteNotification(RioNotification notification) {
+        final int favoriteId = notification.getIndex(2);
+        if (favoriteId < 1 || favoriteId > 2) {
+            logger.warn("Invalid Zone Favorite Notification (favorite < 1 or > 2): '{}')", notification);
+            return;
         }
-        if (m.groupCount() == 5) {
-            try {
-                final int notifyController = Integer.parseInt(m.group(1));
-                if (notifyController != controller) {
-                    return;
-                }
-                final int notifyZone = Integer.parseInt(m.group(2));
-                if (notifyZone != zone) {
-                    return;
-                }
-
-                final int favoriteId = Integer.parseInt(m.group(3));
 
-                if (favoriteId >= 1 && favoriteId <= 2) {
-                    final RioFavorite fav = zoneFavorites[favoriteId - 1];
+        final RioFavorite fav = zoneFavorites[favoriteId - 1];
 
-                    final String key = m.group(4);
-                    final String value = m.group(5);
+        final String key = notification.getKey();
+        final String value = notification.getValue();
 
-                    switch (key) {
-                        case FAV_NAME:
-                            fav.setName(value);
-                            updateZoneFavoritesChannel();
-                            break;
-                        case FAV_VALID:
-                            fav.setValid(!"false".equalsIgnoreCase(value));
-                            updateZoneFavoritesChannel();
-                            break;
+        switch (key) {
+            case FAV_NAME:
+                fav.setName(value);
+                updateZoneFavoritesChannel();
+                break;
+            case FAV_VALID:
+                fav.setValid(!"false".equalsIgnoreCase(value));
+                updateZoneFavoritesChannel();
+                break;
 
-                        default:
-                            logger.warn("Unknown zone favorite notification: '{}'", resp);
-                            break;
-                    }
-                } else {
-                    logger.warn("Invalid Zone Favorite Notification (favorite < 1 or > 2): '{}')", resp);
-                }
-            } catch (NumberFormatException e) {
-                logger.warn("Invalid Zone Favorite Notification (favorite not a parsable integer): '{}')", resp);
-            }
-        } else {
-            logger.warn("Invalid Zone Notification response: '{}'", resp);
+            default:
+                logger.warn("Unknown zone favorite notification: '{}'", notification);
+                break;
         }
     }
 
@@ -914,27 +868,19 @@ class RioZoneProtocol extends AbstractRioProtocol
     }
 
     /**
-     * Implements {@link SocketSessionListener#responseReceived(String)} to try to process the response from the
-     * russound system. This response may be for other protocol handler - so ignore if we don't recognize the response.
+     * Implements {@link RioNotificationListener#notificationReceived(RioNotification)} to process the notifications
+     * of our zone and its favorites.
      *
-     * @param a possibly null, possibly empty response
+     * @param notification a non-null notification
      */
     @Override
-    public void responseReceived(String response) {
-        if (StringUtils.isEmpty(response)) {
-            return;
-        }
-
-        Matcher m = RSP_ZONENOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleZoneNotification(m, response);
-        }
-
-        m = RSP_ZONEFAVORITENOTIFICATION.matcher(response);
-        if (m.matches()) {
-            handleZoneFavoriteNotification(m, response);
+    public void notificationReceived(RioNotification notification) {
+        final int segments = notification.getSegmentCount();
+        if (segments == 3 && notification.getIndex(2) < 0) {
+            handleZoneNotification(notification);
+        } else if (segments == 4 && notification.isIndexed(2, FAVORITE) && notification.getIndex(3) < 0) {
+            handleZoneFavoriteNotification(notification);
         }
-
     }
 
     /**
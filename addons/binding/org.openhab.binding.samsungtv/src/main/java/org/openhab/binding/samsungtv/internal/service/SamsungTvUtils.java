@@ -27,6 +27,14 @@ import org.xml.sax.SAXException;
  */
 public class SamsungTvUtils {
 
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
+
+    /**
+     * Document builders are not thread safe, but they can be reused, so every thread keeps its own one instead of
+     * creating a new one for each UPnP response.
+     */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = new ThreadLocal<>();
+
     /**
      * Build {@link String} type {@link HashMap} from variable number of
      * {@link String}s.
@@ -71,10 +79,8 @@ public class SamsungTvUtils {
      */
     public static Document loadXMLFromString(String xml) {
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
             InputSource is = new InputSource(new StringReader(xml));
-            return builder.parse(is);
+            return getDocumentBuilder().parse(is);
 
         } catch (ParserConfigurationException | SAXException | IOException e) {
             // Silently ignore exception and return null.
@@ -82,4 +88,17 @@ public class SamsungTvUtils {
 
         return null;
     }
+
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        if (builder == null) {
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                builder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
+            DOCUMENT_BUILDER.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
 }
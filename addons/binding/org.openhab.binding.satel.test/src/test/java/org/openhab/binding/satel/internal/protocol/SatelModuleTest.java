@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.satel.internal.protocol;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.satel.internal.command.IntegraStateCommand;
+import org.openhab.binding.satel.internal.command.SatelCommand;
+import org.openhab.binding.satel.internal.command.SatelCommand.State;
+import org.openhab.binding.satel.internal.types.ZoneState;
+
+/**
+ * Tests that the {@link SatelModule} queues a single command for equal state requests of several things.
+ *
+ * @author agent - Initial contribution
+ */
+public class SatelModuleTest {
+
+    private SatelModule module;
+
+    @Before
+    public void setUp() {
+        // the module is never opened, so the queued commands stay in the queue
+        module = new SatelModule(1000) {
+            @Override
+            protected CommunicationChannel connect() throws ConnectionFailureException {
+                throw new ConnectionFailureException("Not connected", null);
+            }
+        };
+    }
+
+    @Test
+    public void sameStateRefreshedByTwoThingsIsQueuedOnce() {
+        // each thing handler creates its own refresh command
+        SatelCommand thing1Refresh = new IntegraStateCommand(ZoneState.VIOLATION, false);
+        SatelCommand thing2Refresh = new IntegraStateCommand(ZoneState.VIOLATION, false);
+
+        assertTrue(module.sendCommand(thing1Refresh));
+        assertTrue(module.sendCommand(thing2Refresh));
+
+        assertEquals(State.ENQUEUED, thing1Refresh.getState());
+        assertEquals(State.NEW, thing2Refresh.getState());
+    }
+
+    @Test
+    public void differentStatesAreQueued() {
+        SatelCommand violation = new IntegraStateCommand(ZoneState.VIOLATION, false);
+        SatelCommand tamper = new IntegraStateCommand(ZoneState.TAMPER, false);
+        SatelCommand extendedViolation = new IntegraStateCommand(ZoneState.VIOLATION, true);
+
+        module.sendCommand(violation);
+        module.sendCommand(tamper);
+        module.sendCommand(extendedViolation);
+
+        assertEquals(State.ENQUEUED, violation.getState());
+        assertEquals(State.ENQUEUED, tamper.getState());
+        assertEquals(State.ENQUEUED, extendedViolation.getState());
+    }
+
+    @Test
+    public void forcedCommandIsQueuedAgain() {
+        SatelCommand refresh = new IntegraStateCommand(ZoneState.VIOLATION, false);
+        SatelCommand forcedRefresh = new IntegraStateCommand(ZoneState.VIOLATION, false);
+
+        module.sendCommand(refresh);
+        module.sendCommand(forcedRefresh, true);
+
+        assertEquals(State.ENQUEUED, forcedRefresh.getState());
+    }
+
+    @Test
+    public void commandsSendingTheSameRequestAreEqual() {
+        SatelCommand violation = new IntegraStateCommand(ZoneState.VIOLATION, false);
+
+        assertEquals(violation, new IntegraStateCommand(ZoneState.VIOLATION, false));
+        assertEquals(violation.hashCode(), new IntegraStateCommand(ZoneState.VIOLATION, false).hashCode());
+        assertNotEquals(violation, new IntegraStateCommand(ZoneState.TAMPER, false));
+        assertNotEquals(violation, new IntegraStateCommand(ZoneState.VIOLATION, true));
+    }
+}
@@ -22,10 +22,13 @@ import org.openhab.binding.satel.internal.command.NewStatesCommand;
 import org.openhab.binding.satel.internal.command.SatelCommand;
 import org.openhab.binding.satel.internal.config.SatelBridgeConfig;
 import org.openhab.binding.satel.internal.event.ConnectionStatusEvent;
+import org.openhab.binding.satel.internal.event.IntegraStateEvent;
+import org.openhab.binding.satel.internal.event.NewStatesEvent;
 import org.openhab.binding.satel.internal.event.SatelEvent;
 import org.openhab.binding.satel.internal.event.SatelEventListener;
 import org.openhab.binding.satel.internal.protocol.SatelModule;
 import org.openhab.binding.satel.internal.types.IntegraType;
+import org.openhab.binding.satel.internal.types.PartitionState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,10 +41,23 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
 
     private final Logger logger = LoggerFactory.getLogger(SatelBridgeHandler.class);
 
+    /**
+     * Polling interval used while the system is armed or has recently changed its state
+     */
+    private static final int ACTIVE_REFRESH_INTERVAL = 1000;
+
+    /**
+     * Time after the last change of states, during which polling is done at the active interval
+     */
+    private static final long ACTIVE_PERIOD = 60000;
+
     private SatelBridgeConfig config;
     private SatelModule satelModule;
     private ScheduledFuture<?> pollingJob;
     private String userCodeOverride;
+    private volatile long lastPollTime;
+    private volatile long lastChangeTime;
+    private volatile boolean armed;
 
     public SatelBridgeHandler(Bridge bridge) {
         super(bridge);
@@ -59,6 +75,15 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR,
                         statusEvent.getReason());
             }
+        } else if (event instanceof NewStatesEvent) {
+            if (((NewStatesEvent) event).hasNewStates()) {
+                lastChangeTime = System.currentTimeMillis();
+            }
+        } else if (event instanceof IntegraStateEvent) {
+            IntegraStateEvent stateEvent = (IntegraStateEvent) event;
+            if (stateEvent.hasDataForState(PartitionState.ARMED)) {
+                armed = stateEvent.statesSet(PartitionState.ARMED) > 0;
+            }
         }
     }
 
@@ -79,17 +104,27 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
 
         if (satelModule != null) {
             if (pollingJob == null || pollingJob.isCancelled()) {
+                // the job runs at the shorter of both intervals, polls at the configured interval are skipped
+                // unless the system is active
+                int pollingInterval = Math.min(config.getRefresh(), ACTIVE_REFRESH_INTERVAL);
                 Runnable pollingCommand = () -> {
                     if (!satelModule.isInitialized()) {
                         logger.debug("Module not initialized yet, skipping refresh");
                         return;
                     }
 
+                    long now = System.currentTimeMillis();
+                    boolean active = armed || now - lastChangeTime < ACTIVE_PERIOD;
+                    if (!active && now - lastPollTime < config.getRefresh() - pollingInterval / 2) {
+                        return;
+                    }
+                    lastPollTime = now;
+
                     // get list of states that have changed
                     logger.trace("Sending 'get new states' command");
                     satelModule.sendCommand(new NewStatesCommand(satelModule.getIntegraType().hasExtPayload()));
                 };
-                pollingJob = scheduler.scheduleWithFixedDelay(pollingCommand, 0, config.getRefresh(),
+                pollingJob = scheduler.scheduleWithFixedDelay(pollingCommand, 0, pollingInterval,
                         TimeUnit.MILLISECONDS);
             }
         }
@@ -177,7 +212,8 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
      * Sends given command to communication module.
      *
      * @param command a command to send
-     * @param async if <code>true</code> method waits for the response
+     * @param async if <code>false</code> method waits for the response, otherwise the command is only enqueued
+     *            unless an equal command is already waiting in the queue
      * @return <code>true</code> if send succeeded
      */
     public boolean sendCommand(SatelCommand command, boolean async) {
@@ -105,7 +105,7 @@ public abstract class SatelThingHandler extends BaseThingHandler implements Sate
                 requiresRefresh.set(true);
             }
         } else if (event instanceof NewStatesEvent) {
-            // refresh all states that have changed
+            // refresh all states that have changed, commands already queued by other things are not queued again
             for (SatelCommand command : getRefreshCommands((NewStatesEvent) event)) {
                 bridgeHandler.sendCommand(command, true);
             }
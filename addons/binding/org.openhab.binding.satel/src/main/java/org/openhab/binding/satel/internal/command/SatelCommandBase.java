@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.satel.internal.command;
 
+import java.util.Arrays;
+
 import org.openhab.binding.satel.internal.event.EventDispatcher;
 import org.openhab.binding.satel.internal.protocol.SatelMessage;
 import org.slf4j.Logger;
@@ -94,6 +96,30 @@ public abstract class SatelCommandBase extends SatelMessage implements SatelComm
         return true;
     }
 
+    /**
+     * Commands are equal when they send the same request. This lets the module queue a single command for state
+     * requests made by several things.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || !obj.getClass().equals(this.getClass())) {
+            return false;
+        }
+        SatelMessage request = getRequest();
+        SatelMessage otherRequest = ((SatelCommandBase) obj).getRequest();
+        return request.getCommand() == otherRequest.getCommand()
+                && Arrays.equals(request.getPayload(), otherRequest.getPayload());
+    }
+
+    @Override
+    public int hashCode() {
+        SatelMessage request = getRequest();
+        return 31 * request.getCommand() + Arrays.hashCode(request.getPayload());
+    }
+
     public void ignoreResponseError() {
         this.logResponseError = false;
     }
@@ -51,6 +51,15 @@ public class NewStatesEvent implements SatelEvent {
         return newStates.get(nbr);
     }
 
+    /**
+     * Checks if any state has changed since last read.
+     *
+     * @return <code>true</code> if at least one state has changed
+     */
+    public boolean hasNewStates() {
+        return !newStates.isEmpty();
+    }
+
     @Override
     public String toString() {
         StringBuilder newStatesStr = new StringBuilder();
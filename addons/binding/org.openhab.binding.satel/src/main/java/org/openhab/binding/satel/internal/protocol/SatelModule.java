@@ -12,9 +12,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import org.openhab.binding.satel.internal.command.IntegraVersionCommand;
@@ -47,7 +50,12 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
     private static final byte[] FRAME_START = { FRAME_SYNC, FRAME_SYNC };
     private static final byte[] FRAME_END = { FRAME_SYNC, (byte) 0x0d };
 
+    private static final int STATISTICS_LOG_INTERVAL = 100;
+
     private final BlockingQueue<SatelCommand> sendQueue = new LinkedBlockingQueue<SatelCommand>();
+    // commands in the send queue, for fast lookup of duplicates
+    private final Set<SatelCommand> queuedCommands = ConcurrentHashMap.newKeySet();
+    private final Map<Byte, CommandStatistics> commandStatistics = new ConcurrentHashMap<>();
 
     private IntegraType integraType;
     private int timeout;
@@ -204,7 +212,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
      */
     public boolean sendCommand(SatelCommand cmd, boolean force) {
         try {
-            if (force || !this.sendQueue.contains(cmd)) {
+            if (this.queuedCommands.add(cmd) || force) {
                 this.sendQueue.put(cmd);
                 cmd.setState(State.ENQUEUED);
                 logger.trace("Command enqueued: {}", cmd);
@@ -213,6 +221,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
             }
             return true;
         } catch (InterruptedException e) {
+            this.queuedCommands.remove(cmd);
             return false;
         }
     }
@@ -330,6 +339,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
         // notifying about send failure
         while (!this.sendQueue.isEmpty()) {
             SatelCommand cmd = this.sendQueue.poll();
+            this.queuedCommands.remove(cmd);
             cmd.setState(State.FAILED);
         }
         synchronized (this.channelLock) {
@@ -370,7 +380,9 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
 
                 // get next command and send it
                 command = this.sendQueue.take();
+                this.queuedCommands.remove(command);
                 logger.debug("Sending message: {}", command.getRequest());
+                long sendTime = System.currentTimeMillis();
                 timeoutTimer.start();
                 boolean sent = this.writeMessage(command.getRequest());
                 timeoutTimer.stop();
@@ -388,6 +400,7 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
                     break;
                 }
                 logger.debug("Got response: {}", response);
+                updateStatistics(command, System.currentTimeMillis() - sendTime);
 
                 if (!receivedResponse) {
                     receivedResponse = true;
@@ -423,6 +436,40 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
         disconnect(disconnectReason);
     }
 
+    private void updateStatistics(SatelCommand command, long roundTripTime) {
+        byte commandCode = command.getRequest().getCommand();
+        CommandStatistics statistics = this.commandStatistics.computeIfAbsent(commandCode,
+                code -> new CommandStatistics());
+        long count = statistics.add(roundTripTime);
+        if (count % STATISTICS_LOG_INTERVAL == 0) {
+            logger.debug("Command {}: {} responses, round trip time avg {} ms, max {} ms",
+                    String.format("%02X", commandCode), count, statistics.getAverage(), statistics.getMax());
+        }
+    }
+
+    /*
+     * Round trip times of a single command type.
+     */
+    private static class CommandStatistics {
+        private long count;
+        private long total;
+        private long max;
+
+        public synchronized long add(long roundTripTime) {
+            total += roundTripTime;
+            max = Math.max(max, roundTripTime);
+            return ++count;
+        }
+
+        public synchronized long getAverage() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        public synchronized long getMax() {
+            return max;
+        }
+    }
+
     /*
      * Respawns communication thread in case on any error and interrupts it in
      * case read/write operations take too long.
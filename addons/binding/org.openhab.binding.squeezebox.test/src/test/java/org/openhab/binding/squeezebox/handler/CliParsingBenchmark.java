@@ -0,0 +1,504 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.squeezebox.handler;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.openhab.binding.squeezebox.SqueezeBoxBindingConstants.SQUEEZEBOXSERVER_THING_TYPE;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.eclipse.smarthome.core.thing.binding.builder.BridgeBuilder;
+import org.junit.Test;
+import org.openhab.binding.squeezebox.internal.model.Favorite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the table-driven parsing of the CLI messages by the {@link SqueezeBoxServerHandler} with the regex split
+ * and startsWith chain it replaced, on the CLI session recorded in cli-session.txt. Both parsers read the session
+ * from a loopback socket and pass their events to the same kind of listener, so the difference in time is spent in
+ * parsing.
+ *
+ * The benchmark is not part of the unit tests, its name doesn't match the test includes. Run it as a JUnit test from
+ * the IDE.
+ *
+ * @author agent - Initial contribution
+ */
+public class CliParsingBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(CliParsingBenchmark.class);
+
+    private static final String SESSION = "cli-session.txt";
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int ROUNDS = 2000;
+    private static final int TIMEOUT = 120000;
+
+    // an ir message of this player marks the end of a replay
+    private static final String END_OF_REPLAY = "00%3A00%3A00%3A00%3A00%3A00 ir end 0";
+
+    @Test
+    public void compareParsers() throws IOException, InterruptedException {
+        List<String> session = readSession();
+
+        try (Replay handlerReplay = new HandlerReplay(); Replay legacyReplay = new LegacyReplay()) {
+            // both parsers pass the same events to the listeners
+            handlerReplay.listener.events = new ArrayList<>();
+            legacyReplay.listener.events = new ArrayList<>();
+            handlerReplay.replay(session, 1);
+            legacyReplay.replay(session, 1);
+            assertFalse(handlerReplay.listener.events.isEmpty());
+            assertEquals(legacyReplay.listener.events, handlerReplay.listener.events);
+            handlerReplay.listener.events = null;
+            legacyReplay.listener.events = null;
+
+            handlerReplay.replay(session, WARMUP_ROUNDS);
+            legacyReplay.replay(session, WARMUP_ROUNDS);
+
+            long messages = (long) ROUNDS * session.size();
+            long handlerTime = handlerReplay.replay(session, ROUNDS);
+            long legacyTime = legacyReplay.replay(session, ROUNDS);
+            logger.info("Parsed {} CLI messages: table-driven {} ns/message, regex split {} ns/message", messages,
+                    handlerTime / messages, legacyTime / messages);
+        }
+    }
+
+    private List<String> readSession() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(SESSION);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Sends the recorded session to a parser reading from a loopback socket.
+     */
+    private abstract static class Replay implements Closeable {
+        protected final ServerSocket serverSocket;
+        protected final RecordingListener listener = new RecordingListener();
+        protected Socket socket;
+        protected Writer writer;
+
+        Replay() throws IOException {
+            serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            serverSocket.setSoTimeout(TIMEOUT);
+        }
+
+        /**
+         * Sends the session a number of times and waits until the parser has handled it.
+         *
+         * @return the time taken in nanoseconds
+         */
+        long replay(List<String> session, int rounds) throws IOException, InterruptedException {
+            CountDownLatch endOfReplay = new CountDownLatch(1);
+            listener.endOfReplay = endOfReplay;
+            long start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                for (String line : session) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+            writer.write(END_OF_REPLAY + "\n");
+            writer.flush();
+            assertTrue(endOfReplay.await(TIMEOUT, TimeUnit.MILLISECONDS));
+            return System.nanoTime() - start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (socket != null) {
+                socket.close();
+            }
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * Replays the session to a {@link SqueezeBoxServerHandler} connected to a fake server.
+     */
+    private static class HandlerReplay extends Replay {
+        private final SqueezeBoxServerHandler handler;
+
+        HandlerReplay() throws IOException {
+            Configuration configuration = new Configuration();
+            configuration.put("ipAddress", InetAddress.getLoopbackAddress().getHostAddress());
+            configuration.put("cliport", new BigDecimal(serverSocket.getLocalPort()));
+            configuration.put("webport", new BigDecimal(9000));
+            Bridge bridge = BridgeBuilder.create(SQUEEZEBOXSERVER_THING_TYPE, "benchmark")
+                    .withConfiguration(configuration).build();
+
+            handler = new SqueezeBoxServerHandler(bridge);
+            handler.setCallback(mock(ThingHandlerCallback.class));
+            handler.registerSqueezeBoxPlayerListener(listener);
+            handler.initialize();
+
+            socket = serverSocket.accept();
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            handler.dispose();
+            super.close();
+        }
+    }
+
+    /**
+     * Replays the session to {@link LegacyParser}, reading the messages the way the handler does.
+     */
+    private static class LegacyReplay extends Replay {
+        private final Socket clientSocket;
+
+        LegacyReplay() throws IOException {
+            clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+            socket = serverSocket.accept();
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+            LegacyParser parser = new LegacyParser(listener);
+            Thread reader = new Thread(() -> {
+                try (BufferedReader in = new BufferedReader(new InputStreamReader(clientSocket.getInputStream()))) {
+                    String message;
+                    while ((message = in.readLine()) != null) {
+                        parser.handlePlayerUpdate(message);
+                    }
+                } catch (IOException e) {
+                    // closed by the benchmark
+                }
+            }, "LegacyCliParser");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        @Override
+        public void close() throws IOException {
+            clientSocket.close();
+            super.close();
+        }
+    }
+
+    /**
+     * The parsing of the player messages before the parameters of status messages were dispatched through a table.
+     */
+    private static class LegacyParser {
+        private final SqueezeBoxPlayerEventListener listener;
+
+        LegacyParser(SqueezeBoxPlayerEventListener listener) {
+            this.listener = listener;
+        }
+
+        void handlePlayerUpdate(String message) {
+            String[] messageParts = message.split("\\s");
+            if (messageParts.length < 2) {
+                return;
+            }
+
+            final String mac = decode(messageParts[0]);
+            switch (messageParts[1]) {
+                case "status":
+                    handleStatusMessage(mac, messageParts);
+                    break;
+                case "playlist":
+                    handlePlaylistMessage(mac, messageParts);
+                    break;
+                case "prefset":
+                    handlePrefsetMessage(mac, messageParts);
+                    break;
+                case "mixer":
+                    if (messageParts[2].equals("volume")) {
+                        String volume = decode(messageParts[3]);
+                        if (volume.contains("+") || volume.contains("-")) {
+                            listener.relativeVolumeChangeEvent(mac, Integer.parseInt(volume));
+                        } else {
+                            listener.absoluteVolumeChangeEvent(mac, Integer.parseInt(volume));
+                        }
+                    }
+                    break;
+                case "ir":
+                    listener.irCodeChangeEvent(mac, messageParts[2]);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void handleStatusMessage(String mac, String[] messageParts) {
+            String remoteTitle = "", artist = "", album = "", genre = "", year = "";
+            boolean coverart = false;
+            String coverid = null;
+            String artworkUrl = null;
+
+            for (String messagePart : messageParts) {
+                if (messagePart.startsWith("power%3A")) {
+                    listener.powerChangeEvent(mac, "1".matches(messagePart.substring("power%3A".length())));
+                } else if (messagePart.startsWith("mixer%20volume%3A")) {
+                    String value = messagePart.substring("mixer%20volume%3A".length());
+                    listener.absoluteVolumeChangeEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("mode%3A")) {
+                    listener.modeChangeEvent(mac, messagePart.substring("mode%3A".length()));
+                } else if (messagePart.startsWith("time%3A")) {
+                    String value = messagePart.substring("time%3A".length());
+                    listener.currentPlayingTimeEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("duration%3A")) {
+                    String value = messagePart.substring("duration%3A".length());
+                    listener.durationEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("playlist_cur_index%3A")) {
+                    String value = messagePart.substring("playlist_cur_index%3A".length());
+                    listener.currentPlaylistIndexEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("playlist_tracks%3A")) {
+                    String value = messagePart.substring("playlist_tracks%3A".length());
+                    listener.numberPlaylistTracksEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("playlist%20repeat%3A")) {
+                    String value = messagePart.substring("playlist%20repeat%3A".length());
+                    listener.currentPlaylistRepeatEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("playlist%20shuffle%3A")) {
+                    String value = messagePart.substring("playlist%20shuffle%3A".length());
+                    listener.currentPlaylistShuffleEvent(mac, (int) Double.parseDouble(value));
+                } else if (messagePart.startsWith("title%3A")) {
+                    listener.titleChangeEvent(mac, decode(messagePart.substring("title%3A".length())));
+                } else if (messagePart.startsWith("remote_title%3A")) {
+                    remoteTitle = messagePart.substring("remote_title%3A".length());
+                } else if (messagePart.startsWith("artist%3A")) {
+                    artist = messagePart.substring("artist%3A".length());
+                } else if (messagePart.startsWith("album%3A")) {
+                    album = messagePart.substring("album%3A".length());
+                } else if (messagePart.startsWith("genre%3A")) {
+                    genre = messagePart.substring("genre%3A".length());
+                } else if (messagePart.startsWith("year%3A")) {
+                    year = messagePart.substring("year%3A".length());
+                } else if (messagePart.startsWith("artwork_url%3A")) {
+                    artworkUrl = messagePart.substring("artwork_url%3A".length());
+                } else if (messagePart.startsWith("coverart%3A")) {
+                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
+                } else if (messagePart.startsWith("coverid%3A")) {
+                    coverid = messagePart.substring("coverid%3A".length());
+                }
+            }
+
+            listener.coverArtChangeEvent(mac, constructCoverArtUrl(mac, coverart, coverid, artworkUrl));
+            listener.remoteTitleChangeEvent(mac, decode(remoteTitle));
+            listener.artistChangeEvent(mac, decode(artist));
+            listener.albumChangeEvent(mac, decode(album));
+            listener.genreChangeEvent(mac, decode(genre));
+            listener.yearChangeEvent(mac, decode(year));
+        }
+
+        private void handlePlaylistMessage(String mac, String[] messageParts) {
+            String action = messageParts[2];
+            String mode;
+            if (action.equals("newsong")) {
+                mode = "play";
+                listener.durationEvent(mac, 0);
+            } else if (action.equals("pause")) {
+                mode = messageParts[3].equals("0") ? "play" : "pause";
+            } else if (action.equals("stop")) {
+                mode = "stop";
+            } else {
+                return;
+            }
+            listener.modeChangeEvent(mac, mode);
+        }
+
+        private void handlePrefsetMessage(String mac, String[] messageParts) {
+            if (messageParts.length < 5 || !messageParts[2].equals("server")) {
+                return;
+            }
+            if (messageParts[3].equals("power")) {
+                listener.powerChangeEvent(mac, messageParts[4].equals("1"));
+            } else if (messageParts[3].equals("volume")) {
+                listener.absoluteVolumeChangeEvent(mac, (int) Double.parseDouble(messageParts[4]));
+            }
+        }
+
+        private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artworkUrl) {
+            String hostAndPort = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":9000";
+            String url = hostAndPort + "/music/current/cover.jpg?player=" + encode(mac);
+            if (coverart) {
+                if (coverid != null) {
+                    url = hostAndPort + "/music/" + coverid + "/cover.jpg";
+                }
+            } else if (artworkUrl != null) {
+                if (artworkUrl.startsWith("http")) {
+                    url = decode(artworkUrl);
+                } else if (artworkUrl.startsWith("%2F")) {
+                    url = hostAndPort + decode(artworkUrl);
+                } else {
+                    url = hostAndPort + "/" + decode(artworkUrl);
+                }
+            }
+            return url;
+        }
+
+        private String decode(String raw) {
+            try {
+                return URLDecoder.decode(raw, StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                return null;
+            }
+        }
+
+        private String encode(String raw) {
+            try {
+                return URLEncoder.encode(raw, StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Counts the events of a replay, and records them while a list is set.
+     */
+    private static class RecordingListener implements SqueezeBoxPlayerEventListener {
+        private volatile List<String> events;
+        private volatile CountDownLatch endOfReplay;
+
+        private void record(String mac, String event, Object value) {
+            List<String> events = this.events;
+            if (events != null) {
+                events.add(mac + " " + event + " " + value);
+            }
+        }
+
+        @Override
+        public void playerAdded(SqueezeBoxPlayer player) {
+        }
+
+        @Override
+        public void powerChangeEvent(String mac, boolean power) {
+            record(mac, "power", power);
+        }
+
+        @Override
+        public void modeChangeEvent(String mac, String mode) {
+            record(mac, "mode", mode);
+        }
+
+        @Override
+        public void absoluteVolumeChangeEvent(String mac, int volume) {
+            record(mac, "volume", volume);
+        }
+
+        @Override
+        public void relativeVolumeChangeEvent(String mac, int volumeChange) {
+            record(mac, "volumeChange", volumeChange);
+        }
+
+        @Override
+        public void muteChangeEvent(String mac, boolean mute) {
+            record(mac, "mute", mute);
+        }
+
+        @Override
+        public void currentPlaylistIndexEvent(String mac, int index) {
+            record(mac, "index", index);
+        }
+
+        @Override
+        public void currentPlayingTimeEvent(String mac, int time) {
+            record(mac, "time", time);
+        }
+
+        @Override
+        public void durationEvent(String mac, int duration) {
+            record(mac, "duration", duration);
+        }
+
+        @Override
+        public void numberPlaylistTracksEvent(String mac, int track) {
+            record(mac, "tracks", track);
+        }
+
+        @Override
+        public void currentPlaylistShuffleEvent(String mac, int shuffle) {
+            record(mac, "shuffle", shuffle);
+        }
+
+        @Override
+        public void currentPlaylistRepeatEvent(String mac, int repeat) {
+            record(mac, "repeat", repeat);
+        }
+
+        @Override
+        public void titleChangeEvent(String mac, String title) {
+            record(mac, "title", title);
+        }
+
+        @Override
+        public void albumChangeEvent(String mac, String album) {
+            record(mac, "album", album);
+        }
+
+        @Override
+        public void artistChangeEvent(String mac, String artist) {
+            record(mac, "artist", artist);
+        }
+
+        @Override
+        public void coverArtChangeEvent(String mac, String coverArtUrl) {
+            record(mac, "coverArt", coverArtUrl);
+        }
+
+        @Override
+        public void yearChangeEvent(String mac, String year) {
+            record(mac, "year", year);
+        }
+
+        @Override
+        public void genreChangeEvent(String mac, String genre) {
+            record(mac, "genre", genre);
+        }
+
+        @Override
+        public void remoteTitleChangeEvent(String mac, String title) {
+            record(mac, "remoteTitle", title);
+        }
+
+        @Override
+        public void irCodeChangeEvent(String mac, String ircode) {
+            if ("end".equals(ircode)) {
+                endOfReplay.countDown();
+            } else {
+                record(mac, "ir", ircode);
+            }
+        }
+
+        @Override
+        public void updateFavoritesListEvent(List<Favorite> favorites) {
+        }
+    }
+}
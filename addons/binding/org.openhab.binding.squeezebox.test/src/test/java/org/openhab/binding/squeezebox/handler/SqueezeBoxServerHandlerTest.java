@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.squeezebox.handler;
+
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the parsing of the CLI messages by the {@link SqueezeBoxServerHandler}. Recorded status and player messages
+ * are sent by a fake server.
+ *
+ * @author agent - Initial contribution
+ */
+public class SqueezeBoxServerHandlerTest {
+
+    private static final int TIMEOUT = 5000;
+
+    private static final String MAC = "00:04:20:12:34:56";
+    private static final String ENCODED_MAC = "00%3A04%3A20%3A12%3A34%3A56";
+
+    private static final String STATUS = ENCODED_MAC
+            + " status - 1 subscribe%3A10 tags%3AyagJlNKjc player_name%3AKitchen player_connected%3A1"
+            + " player_ip%3A192.168.1.20%3A40128 power%3A1 signalstrength%3A0 mode%3Aplay time%3A12.345 rate%3A1"
+            + " duration%3A245.6 can_seek%3A1 mixer%20volume%3A40 playlist%20repeat%3A0 playlist%20shuffle%3A1"
+            + " playlist%20mode%3Aoff seq_no%3A0 playlist_cur_index%3A3 playlist_timestamp%3A1520000000.12"
+            + " playlist_tracks%3A12 id%3A42 title%3AHello%20World genre%3ARock artist%3AThe%20Band"
+            + " album%3AGreatest%20Hits year%3A1999 coverart%3A0";
+
+    private static final String PLAYING_TIME = ENCODED_MAC + " status - 1 subscribe%3A10 tags%3AyagJlNKjc"
+            + " power%3A1 mode%3Aplay mixer%20volume%3A40 title%3AHello%20World time%3A";
+
+    private final Configuration configuration = new Configuration();
+
+    private ServerSocket serverSocket;
+    private Socket socket;
+    private Writer writer;
+
+    private SqueezeBoxServerHandler handler;
+    private SqueezeBoxPlayerEventListener listener;
+    private SqueezeBoxPlayerHandler player;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        serverSocket.setSoTimeout(TIMEOUT);
+        configuration.put("ipAddress", InetAddress.getLoopbackAddress().getHostAddress());
+        configuration.put("cliport", new BigDecimal(serverSocket.getLocalPort()));
+        configuration.put("webport", new BigDecimal(9000));
+
+        player = mock(SqueezeBoxPlayerHandler.class);
+        Thing playerThing = mock(Thing.class);
+        when(playerThing.getHandler()).thenReturn(player);
+
+        Bridge bridge = mock(Bridge.class);
+        when(bridge.getUID()).thenReturn(new ThingUID("squeezebox:squeezeboxserver:test"));
+        when(bridge.getConfiguration()).thenReturn(configuration);
+        when(bridge.getThings()).thenReturn(Collections.singletonList(playerThing));
+
+        handler = new SqueezeBoxServerHandler(bridge);
+        handler.setCallback(mock(ThingHandlerCallback.class));
+        listener = mock(SqueezeBoxPlayerEventListener.class);
+        handler.registerSqueezeBoxPlayerListener(listener);
+        handler.initialize();
+
+        socket = serverSocket.accept();
+        writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        handler.dispose();
+        if (socket != null) {
+            socket.close();
+        }
+        serverSocket.close();
+    }
+
+    @Test
+    public void statusParametersAreDispatchedToTheirEvents() throws IOException {
+        send(STATUS);
+        awaitIrCode("1");
+
+        verify(player).powerChangeEvent(MAC, true);
+        verify(player).modeChangeEvent(MAC, "play");
+        verify(player).currentPlayingTimeEvent(MAC, 12);
+        verify(player).durationEvent(MAC, 245);
+        verify(player).absoluteVolumeChangeEvent(MAC, 40);
+        verify(player).currentPlaylistRepeatEvent(MAC, 0);
+        verify(player).currentPlaylistShuffleEvent(MAC, 1);
+        verify(player).currentPlaylistIndexEvent(MAC, 3);
+        verify(player).numberPlaylistTracksEvent(MAC, 12);
+        verify(player).titleChangeEvent(MAC, "Hello World");
+        verify(player).artistChangeEvent(MAC, "The Band");
+        verify(player).albumChangeEvent(MAC, "Greatest Hits");
+        verify(player).genreChangeEvent(MAC, "Rock");
+        verify(player).yearChangeEvent(MAC, "1999");
+        verify(player).remoteTitleChangeEvent(MAC, "");
+    }
+
+    @Test
+    public void unknownAndMalformedParametersAreSkipped() throws IOException {
+        send(ENCODED_MAC + " status - 1 player_name%3AKitchen unknown_tag%3Avalue no_separator %3Aempty_key"
+                + " time%3Anot_a_number power%3A0");
+        send(ENCODED_MAC + " unknownmessage 1 2 3");
+        send(ENCODED_MAC);
+        awaitIrCode("1");
+
+        // the parameters after an unknown or malformed one are still handled
+        verify(player).powerChangeEvent(MAC, false);
+        verify(player, never()).currentPlayingTimeEvent(anyString(), anyInt());
+    }
+
+    @Test
+    public void unchangedParametersAreOnlyPassedToListeners() throws IOException {
+        send(PLAYING_TIME + "10");
+        send(PLAYING_TIME + "11");
+        send(PLAYING_TIME + "12");
+        awaitIrCode("1");
+
+        verify(player, times(1)).powerChangeEvent(MAC, true);
+        verify(player, times(1)).modeChangeEvent(MAC, "play");
+        verify(player, times(1)).absoluteVolumeChangeEvent(MAC, 40);
+        verify(player, times(1)).titleChangeEvent(MAC, "Hello World");
+        verify(player, times(3)).currentPlayingTimeEvent(eq(MAC), anyInt());
+
+        // registered listeners receive every event
+        verify(listener, times(3)).powerChangeEvent(MAC, true);
+        verify(listener, times(3)).titleChangeEvent(MAC, "Hello World");
+    }
+
+    @Test
+    public void otherMessagesInvalidateTheLastStatus() throws IOException {
+        send(PLAYING_TIME + "10");
+        send(ENCODED_MAC + " playlist pause 1");
+        send(ENCODED_MAC + " mixer volume 25");
+        send(PLAYING_TIME + "11");
+        awaitIrCode("1");
+
+        // the status after the playlist and mixer messages restores mode and volume
+        verify(player, times(2)).modeChangeEvent(MAC, "play");
+        verify(player).modeChangeEvent(MAC, "pause");
+        verify(player).absoluteVolumeChangeEvent(MAC, 25);
+        verify(player, times(2)).absoluteVolumeChangeEvent(MAC, 40);
+        verify(player, times(1)).powerChangeEvent(MAC, true);
+    }
+
+    private void send(String message) throws IOException {
+        writer.write(message + "\n");
+        writer.flush();
+    }
+
+    /**
+     * Sends an ir message and waits until it has been passed to the player, so that all messages sent before have
+     * been handled.
+     */
+    private void awaitIrCode(String code) throws IOException {
+        send(ENCODED_MAC + " ir " + code + " 1520000000.12");
+        verify(player, timeout(TIMEOUT)).irCodeChangeEvent(MAC, code);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
@@ -81,12 +82,25 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String CHANNEL_CONFIG_QUOTE_LIST = "quoteList";
 
+    // separator of key and value of the (url encoded) parameters of a CLI message
+    private static final String ENCODED_COLON = "%3A";
+
+    // status keys, under which the last values of the parameters are kept
+    private static final String POWER = "power";
+    private static final String MIXER_VOLUME = "mixer%20volume";
+    private static final String MODE = "mode";
+    private static final String DURATION = "duration";
+    private static final String TRACK_INFO = " track info";
+
     private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
             .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
 
     private Map<String, SqueezeBoxPlayer> players = Collections
             .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
 
+    // last (url encoded) values of the status parameters of each player, by mac address and status key
+    private final Map<String, Map<String, String>> playerStatus = new ConcurrentHashMap<>();
+
     // client socket and listener thread
     private Socket clientSocket;
     private SqueezeServerListener listener;
@@ -123,6 +137,12 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        // the new handler has to receive the complete state of its player
+        playerStatus.clear();
+    }
+
     /**
      * Checks if we have a connection to the Server
      *
@@ -387,12 +407,16 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             listener = null;
         }
         players.clear();
+        playerStatus.clear();
         logger.trace("Squeeze Server connection stopped.");
     }
 
     private class SqueezeServerListener extends Thread {
         private boolean terminate = false;
 
+        // handlers for the parameters of status messages by their url encoded key
+        private final Map<String, StatusParameterHandler> statusParameterHandlers = createStatusParameterHandlers();
+
         public SqueezeServerListener() {
             super("Squeeze Server Listener");
         }
@@ -472,6 +496,85 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             }
         }
 
+        /**
+         * Splits a CLI message into its (url encoded) parts.
+         */
+        private String[] split(String message) {
+            List<String> parts = new ArrayList<>();
+            int start = 0;
+            int end;
+            while ((end = message.indexOf(' ', start)) >= 0) {
+                parts.add(message.substring(start, end));
+                start = end + 1;
+            }
+            parts.add(message.substring(start));
+            return parts.toArray(new String[parts.size()]);
+        }
+
+        private Map<String, StatusParameterHandler> createStatusParameterHandlers() {
+            Map<String, StatusParameterHandler> handlers = new HashMap<>();
+            // Parameter Power
+            handlers.put(POWER, (status, value) -> {
+                final boolean power = "1".equals(value);
+                updatePlayer(listener -> listener.powerChangeEvent(status.mac, power), status.hasChanged(POWER, value));
+            });
+            // Parameter Volume
+            handlers.put(MIXER_VOLUME, intParameter(MIXER_VOLUME,
+                    (listener, mac, volume) -> listener.absoluteVolumeChangeEvent(mac, volume)));
+            // Parameter Mode
+            handlers.put(MODE, (status, value) -> {
+                updatePlayer(listener -> listener.modeChangeEvent(status.mac, value), status.hasChanged(MODE, value));
+            });
+            // Parameter Playing Time
+            handlers.put("time",
+                    intParameter("time", (listener, mac, time) -> listener.currentPlayingTimeEvent(mac, time)));
+            // Parameter duration
+            handlers.put(DURATION,
+                    intParameter(DURATION, (listener, mac, duration) -> listener.durationEvent(mac, duration)));
+            // Parameter Playing Playlist Index
+            handlers.put("playlist_cur_index", intParameter("playlist_cur_index",
+                    (listener, mac, index) -> listener.currentPlaylistIndexEvent(mac, index)));
+            // Parameter Playlist Number Tracks
+            handlers.put("playlist_tracks", intParameter("playlist_tracks",
+                    (listener, mac, track) -> listener.numberPlaylistTracksEvent(mac, track)));
+            // Parameter Playlist Repeat Mode
+            handlers.put("playlist%20repeat", intParameter("playlist%20repeat",
+                    (listener, mac, repeat) -> listener.currentPlaylistRepeatEvent(mac, repeat)));
+            // Parameter Playlist Shuffle Mode
+            handlers.put("playlist%20shuffle", intParameter("playlist%20shuffle",
+                    (listener, mac, shuffle) -> listener.currentPlaylistShuffleEvent(mac, shuffle)));
+            // Parameter Title
+            handlers.put("title", (status, value) -> {
+                updatePlayer(listener -> listener.titleChangeEvent(status.mac, decode(value)),
+                        status.hasChanged("title", value));
+            });
+            // Parameter Remote Title (radio)
+            handlers.put("remote_title", (status, value) -> status.remoteTitle = value);
+            // Parameter Artist
+            handlers.put("artist", (status, value) -> status.artist = value);
+            // Parameter Album
+            handlers.put("album", (status, value) -> status.album = value);
+            // Parameter Genre
+            handlers.put("genre", (status, value) -> status.genre = value);
+            // Parameter Year
+            handlers.put("year", (status, value) -> status.year = value);
+            // Parameter artwork_url contains url to cover art
+            handlers.put("artwork_url", (status, value) -> status.artworkUrl = value);
+            // When coverart is "1" coverid will contain a unique coverart id
+            handlers.put("coverart", (status, value) -> status.coverart = "1".equals(value));
+            // Id for covert art (only valid when coverart is "1")
+            handlers.put("coverid", (status, value) -> status.coverid = value);
+            return handlers;
+        }
+
+        private StatusParameterHandler intParameter(String key, IntParameterEvent event) {
+            return (status, value) -> {
+                final int intValue = (int) Double.parseDouble(value);
+                updatePlayer(listener -> event.updateListener(listener, status.mac, intValue),
+                        status.hasChanged(key, value));
+            };
+        }
+
         private String encode(String raw) {
             try {
                 return URLEncoder.encode(raw, UTF8_NAME);
@@ -537,7 +640,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = split(message);
             if (messageParts.length < 2) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
@@ -581,6 +684,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             switch (action) {
                 case "volume":
                     String volumeStringValue = decode(messageParts[3]);
+                    invalidateStatus(mac, MIXER_VOLUME);
 
                     updatePlayer(new PlayerUpdateEvent() {
                         @Override
@@ -609,163 +713,37 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private void handleStatusMessage(final String mac, String[] messageParts) {
-            String remoteTitle = "", artist = "", album = "", genre = "", year = "";
-            boolean coverart = false;
-            String coverid = null;
-            String artworkUrl = null;
-
-            for (String messagePart : messageParts) {
-                // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
-                }
-                // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-                    });
-                }
-                // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.modeChangeEvent(mac, mode);
-                        }
-                    });
-                }
-                // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
-                    final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlayingTimeEvent(mac, time);
-                        }
-                    });
-                }
-                // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
-                    final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.durationEvent(mac, duration);
-                        }
-                    });
-                }
-                // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
-                    final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistIndexEvent(mac, index);
-                        }
-                    });
-                }
-                // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
-                    final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.numberPlaylistTracksEvent(mac, track);
-                        }
-                    });
-                }
-                // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
-                    final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistRepeatEvent(mac, repeat);
-                        }
-                    });
-                }
-                // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
-                    final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistShuffleEvent(mac, shuffle);
-                        }
-                    });
-                }
-                // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
-                        }
-                    });
-                }
-                // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
-                }
-                // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
-                }
-                // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
-                }
-                // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
-                }
-                // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
-                }
-                // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
-                }
-                // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
-                }
-                // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
+            Map<String, String> lastStatus = playerStatus.computeIfAbsent(mac, k -> new ConcurrentHashMap<>());
+            StatusMessage status = new StatusMessage(mac, lastStatus);
+
+            // the first parts are the mac address, "status" and the parameters of the status request
+            for (int i = 2; i < messageParts.length; i++) {
+                String messagePart = messageParts[i];
+                int separator = messagePart.indexOf(ENCODED_COLON);
+                StatusParameterHandler parameterHandler = separator > 0
+                        ? statusParameterHandlers.get(messagePart.substring(0, separator))
+                        : null;
+                if (parameterHandler != null) {
+                    try {
+                        parameterHandler.handle(status, messagePart.substring(separator + ENCODED_COLON.length()));
+                    } catch (NumberFormatException e) {
+                        logger.debug("Unable to parse status message part '{}'", messagePart);
+                    }
                 } else {
                     // Added to be able to see additional status message types
                     logger.trace("Unhandled status message type '{}'", messagePart);
                 }
             }
 
-            final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
+            final String finalUrl = constructCoverArtUrl(mac, status.coverart, status.coverid, status.artworkUrl);
+            final String finalRemoteTitle = status.remoteTitle;
+            final String finalArtist = status.artist;
+            final String finalAlbum = status.album;
+            final String finalGenre = status.genre;
+            final String finalYear = status.year;
 
+            String trackInfo = String.join(" ", finalUrl, finalRemoteTitle, finalArtist, finalAlbum, finalGenre,
+                    finalYear);
             updatePlayer(new PlayerUpdateEvent() {
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -776,7 +754,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     listener.genreChangeEvent(mac, decode(finalGenre));
                     listener.yearChangeEvent(mac, decode(finalYear));
                 }
-            });
+            }, status.hasChanged(TRACK_INFO, trackInfo));
         }
 
         private String constructCoverArtUrl(String mac, boolean coverart, String coverid, String artwork_url) {
@@ -812,6 +790,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             String mode;
             if (action.equals("newsong")) {
                 mode = "play";
+                invalidateStatus(mac, DURATION);
                 // Set the track duration to 0
                 updatePlayer(new PlayerUpdateEvent() {
                     @Override
@@ -829,6 +808,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 return;
             }
             final String value = mode;
+            invalidateStatus(mac, MODE);
             updatePlayer(new PlayerUpdateEvent() {
 
                 @Override
@@ -851,6 +831,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
                 if (function.equals("power")) {
                     final boolean power = value.equals("1");
+                    invalidateStatus(mac, POWER);
                     updatePlayer(new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -859,6 +840,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 } else if (function.equals("volume")) {
                     final int volume = (int) Double.parseDouble(value);
+                    invalidateStatus(mac, MIXER_VOLUME);
                     updatePlayer(new PlayerUpdateEvent() {
 
                         @Override
@@ -874,7 +856,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         private void handleFavorites(String message) {
             logger.trace("Handle favorites message: {}", message);
 
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = split(message);
             if (messageParts.length == 2 && "changed".equals(messageParts[1])) {
                 // LMS informing us that favorites have changed; request an update to the favorites list
                 requestFavorites();
@@ -969,16 +951,84 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         void updateListener(SqueezeBoxPlayerEventListener listener);
     }
 
+    /**
+     * Handles the url encoded value of a parameter of a status message
+     */
+    @FunctionalInterface
+    private interface StatusParameterHandler {
+        void handle(StatusMessage status, String value);
+    }
+
+    /**
+     * Passes the integer value of a parameter of a status message to a listener
+     */
+    @FunctionalInterface
+    private interface IntParameterEvent {
+        void updateListener(SqueezeBoxPlayerEventListener listener, String mac, int value);
+    }
+
+    /**
+     * Collects the parameters of a status message, which are passed to the listeners together, and keeps track of the
+     * parameters, which have changed since the last status message of the player.
+     */
+    private static class StatusMessage {
+        private final String mac;
+        private final Map<String, String> lastStatus;
+
+        private String remoteTitle = "";
+        private String artist = "";
+        private String album = "";
+        private String genre = "";
+        private String year = "";
+        private boolean coverart = false;
+        private String coverid = null;
+        private String artworkUrl = null;
+
+        private StatusMessage(String mac, Map<String, String> lastStatus) {
+            this.mac = mac;
+            this.lastStatus = lastStatus;
+        }
+
+        private boolean hasChanged(String key, String value) {
+            return !value.equals(lastStatus.put(key, value));
+        }
+    }
+
+    /**
+     * Forgets the last value of a status parameter of a player, which has been updated by another message, so that it
+     * is passed to the player again with the next status message.
+     */
+    private void invalidateStatus(String mac, String key) {
+        Map<String, String> lastStatus = playerStatus.get(mac);
+        if (lastStatus != null) {
+            lastStatus.remove(key);
+        }
+    }
+
     /**
      * Update Listeners and child Squeeze Player Things
      *
      * @param event
      */
     private void updatePlayer(PlayerUpdateEvent event) {
+        updatePlayer(event, true);
+    }
+
+    /**
+     * Update Listeners and, if the state has changed, child Squeeze Player Things. The listeners are always updated,
+     * as they may wait for an event, even if it does not change the state of the player.
+     *
+     * @param event
+     * @param changed whether the event changes the state of the player
+     */
+    private void updatePlayer(PlayerUpdateEvent event, boolean changed) {
         // update listeners like disco services
         for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
             event.updateListener(listener);
         }
+        if (!changed) {
+            return;
+        }
         // update our children
         Bridge bridge = getThing();
 
@@ -1021,6 +1071,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
      */
     public void removePlayerCache(String mac) {
         players.remove(mac);
+        playerStatus.remove(mac);
     }
 
     /**
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.net.UnknownHostException;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
 
@@ -782,6 +783,21 @@ public class SysteminfoOSGiTest extends JavaOSGiTest {
         assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedNetworkMacValue);
     }
 
+    @Test
+    public void assertOnlyGroupsOfLinkedChannelsAreSampled() throws DeviceNotFoundException {
+        String channnelID = SysteminfoBindingConstants.CHANNEL_NETWORK_MAC;
+        String acceptedItemType = "String";
+
+        StringType mockedNetworkMacValue = new StringType("AB-10-11-12-13-14");
+        when(mockedSystemInfo.getNetworkMac(DEFAULT_DEVICE_INDEX)).thenReturn(mockedNetworkMacValue);
+
+        initializeThingWithChannel(channnelID, acceptedItemType);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedNetworkMacValue);
+
+        verify(mockedSystemInfo, atLeastOnce())
+                .sample(Collections.singleton(SysteminfoBindingConstants.CHANNEL_GROUP_NETWORK));
+    }
+
     @Test
     public void assertChannelNetworkDataSentIsUpdated() throws DeviceNotFoundException {
         String channnelID = SysteminfoBindingConstants.CHANNEL_NETWORK_DATA_SENT;
@@ -227,6 +227,11 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_CPU_THREADS = "cpu#threads";
 
+    /**
+     * Duration of the last refresh of the channel states (sampling the system and updating the channels) in ms
+     */
+    public static final String CHANNEL_CPU_SAMPLING_DURATION = "cpu#samplingDuration";
+
     /**
      * Information about the display device
      */
@@ -272,6 +277,37 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_NETWORK_MAC = "network#mac";
 
+    // Channel groups, without device index
+    /**
+     * Name of the channel group for physical memory information
+     */
+    public static final String CHANNEL_GROUP_MEMORY = "memory";
+
+    /**
+     * Name of the channel group for swap memory information
+     */
+    public static final String CHANNEL_GROUP_SWAP = "swap";
+
+    /**
+     * Name of the channel group for logical storage information
+     */
+    public static final String CHANNEL_GROUP_STORAGE = "storage";
+
+    /**
+     * Name of the channel group for sensors information
+     */
+    public static final String CHANNEL_GROUP_SENSORS = "sensors";
+
+    /**
+     * Name of the channel group for battery information
+     */
+    public static final String CHANNEL_GROUP_BATTERY = "battery";
+
+    /**
+     * Name of the channel group for network information
+     */
+    public static final String CHANNEL_GROUP_NETWORK = "network";
+
     /**
      * Name of the channel group for process information
      */
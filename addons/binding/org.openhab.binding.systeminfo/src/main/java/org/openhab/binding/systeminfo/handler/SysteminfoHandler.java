@@ -11,6 +11,7 @@ package org.openhab.binding.systeminfo.handler;
 import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -21,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Channel;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
@@ -84,6 +86,12 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     private SysteminfoInterface systeminfo;
 
+    /**
+     * Duration of the last refresh of the channel states in milliseconds, published at
+     * {@link org.openhab.binding.systeminfo.SysteminfoBindingConstants#CHANNEL_CPU_SAMPLING_DURATION}
+     */
+    private volatile DecimalType samplingDuration;
+
     ScheduledFuture<?> highPriorityTasks;
     ScheduledFuture<?> mediumPriorityTasks;
 
@@ -235,13 +243,58 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     private void publishData(Set<ChannelUID> channels) {
         if (channels != null) {
+            long start = System.currentTimeMillis();
+
+            // Only the data of the channel groups with linked channels is sampled
+            Set<ChannelUID> linkedChannels = new HashSet<ChannelUID>();
+            Set<String> channelGroups = new HashSet<String>();
             Iterator<ChannelUID> iter = channels.iterator();
             while (iter.hasNext()) {
                 ChannelUID channeUID = iter.next();
-                if (isLinked(channeUID.getId())) {
-                    publishDataForChannel(channeUID);
+                if (isLinked(channeUID.getId())
+                        && !CHANNEL_CPU_SAMPLING_DURATION.equals(getChannelIDWithoutDeviceIndex(channeUID))) {
+                    linkedChannels.add(channeUID);
+                    channelGroups.add(getChannelGroupWithoutDeviceIndex(channeUID));
                 }
             }
+
+            if (linkedChannels.isEmpty() || !sample(channelGroups)) {
+                return;
+            }
+
+            for (ChannelUID channelUID : linkedChannels) {
+                publishDataForChannel(channelUID);
+            }
+
+            samplingDuration = new DecimalType(System.currentTimeMillis() - start);
+            if (isLinked(CHANNEL_CPU_SAMPLING_DURATION)) {
+                updateState(CHANNEL_CPU_SAMPLING_DURATION, samplingDuration);
+            }
+        }
+    }
+
+    /**
+     * Samples the information of the given channel groups through the {@link SysteminfoInterface} at once, so that
+     * all channel states of a refresh are derived from the same sample.
+     *
+     * @param channelGroups the IDs of the channel groups without device index
+     * @return true if the sample was taken successfully
+     */
+    private boolean sample(Set<String> channelGroups) {
+        try {
+            systeminfo.sample(channelGroups);
+            return true;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while sampling system information!", e);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "Can not get system info as result of unexpected error. Please try to restart the binding (remove and re-add the thing)!");
+            return false;
+        }
+    }
+
+    private void refreshDataForChannel(ChannelUID channelUID) {
+        if (sample(Collections.singleton(getChannelGroupWithoutDeviceIndex(channelUID)))) {
+            publishDataForChannel(channelUID);
         }
     }
 
@@ -278,19 +331,18 @@ public class SysteminfoHandler extends BaseThingHandler {
      */
     private State getInfoForChannel(ChannelUID channelUID) {
         State state = null;
-        String channelID = channelUID.getId();
-        String channelIDWithoutGroup = channelUID.getIdWithoutGroup();
-        String channelGroupID = channelUID.getGroupId();
 
         int deviceIndex = getDeviceIndex(channelUID);
 
         // The channelGroup may contain deviceIndex. It must be deleted from the channelID, because otherwise the
         // switch will not find the correct method below.
-        // All digits are deleted from the ID
-        channelID = channelGroupID.replaceAll("\\d+", "") + "#" + channelIDWithoutGroup;
+        String channelID = getChannelIDWithoutDeviceIndex(channelUID);
 
         try {
             switch (channelID) {
+                case CHANNEL_CPU_SAMPLING_DURATION:
+                    state = samplingDuration;
+                    break;
                 case CHANNEL_DISPLAY_INFORMATION:
                     state = systeminfo.getDisplayInformation(deviceIndex);
                     break;
@@ -451,6 +503,20 @@ public class SysteminfoHandler extends BaseThingHandler {
         return state != null ? state : UnDefType.UNDEF;
     }
 
+    /**
+     * All digits (the optional device index) are deleted from the group ID of the channel
+     *
+     * @param channelUID the UID of the channel
+     * @return the ID of the channel group without device index
+     */
+    private String getChannelGroupWithoutDeviceIndex(ChannelUID channelUID) {
+        return channelUID.getGroupId().replaceAll("\\d+", "");
+    }
+
+    private String getChannelIDWithoutDeviceIndex(ChannelUID channelUID) {
+        return getChannelGroupWithoutDeviceIndex(channelUID) + "#" + channelUID.getIdWithoutGroup();
+    }
+
     /**
      * The device index is an optional part of the channelID - the last characters of the groupID. It is used to
      * identify unique device, when more than one devices are available (e.g. local disks with names C:\, D:\, E"\ - the
@@ -509,7 +575,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {}!", channelUID);
-                publishDataForChannel(channelUID);
+                refreshDataForChannel(channelUID);
             } else {
                 logger.debug("Unsupported command {}! Supported commands: REFRESH", command);
             }
@@ -579,7 +645,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         Object newValue = newConfig.get(parameter);
         logger.debug("Channel with UID : {} has changed its {} from {} to {}", channel.getUID(), parameter, oldValue,
                 newValue);
-        publishDataForChannel(channel.getUID());
+        refreshDataForChannel(channel.getUID());
     }
 
     private void stopScheduledUpdates() {
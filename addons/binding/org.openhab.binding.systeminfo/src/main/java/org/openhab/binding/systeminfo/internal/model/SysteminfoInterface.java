@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.systeminfo.internal.model;
 
+import java.util.Set;
+
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
 
@@ -23,6 +25,15 @@ public interface SysteminfoInterface {
      */
     public void initializeSysteminfo();
 
+    /**
+     * Samples the dynamic information of the given channel groups at once. Until the next sample is taken, the get
+     * methods for these groups return values derived from this sample, so that refreshing several channels queries the
+     * system only once.
+     *
+     * @param channelGroups the IDs of the channel groups (without device index) that are about to be refreshed
+     */
+    public void sample(Set<String> channelGroups);
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows,Unix,.../
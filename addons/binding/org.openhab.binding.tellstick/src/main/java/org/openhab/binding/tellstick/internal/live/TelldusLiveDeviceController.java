@@ -38,6 +38,8 @@ import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.tellstick.handler.TelldusDeviceController;
 import org.openhab.binding.tellstick.internal.live.xml.TelldusLiveResponse;
 import org.openhab.binding.tellstick.internal.live.xml.TellstickNetDevice;
+import org.openhab.binding.tellstick.internal.live.xml.TellstickNetDevices;
+import org.openhab.binding.tellstick.internal.live.xml.TellstickNetSensors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tellstick.JNA;
@@ -73,6 +75,10 @@ public class TelldusLiveDeviceController implements DeviceChangeListener, Sensor
     static final String HTTP_TELLDUS_DEVICE_TURNON = HTTP_API_TELLDUS_COM_XML + "device/turnOn?id=%d";
     private static final int MAX_RETRIES = 3;
 
+    // Creating a JAXBContext is expensive, so one context for all responses is created on first use
+    private static JAXBContext jaxbContext;
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
     public TelldusLiveDeviceController() {
     }
 
@@ -307,19 +313,25 @@ public class TelldusLiveDeviceController implements DeviceChangeListener, Sensor
         Future<Response> future = client.prepareGet(uri).execute();
         Response resp = future.get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
         // TelldusLiveHandler.logger.info("Devices" + resp.getResponseBody());
-        JAXBContext jc = JAXBContext.newInstance(response);
-        XMLInputFactory xif = XMLInputFactory.newInstance();
-        XMLStreamReader xsr = xif.createXMLStreamReader(resp.getResponseBodyAsStream());
+        XMLStreamReader xsr = XML_INPUT_FACTORY.createXMLStreamReader(resp.getResponseBodyAsStream());
         // xsr = new PropertyRenamerDelegate(xsr);
 
         @SuppressWarnings("unchecked")
-        T obj = (T) jc.createUnmarshaller().unmarshal(xsr);
+        T obj = (T) getJAXBContext().createUnmarshaller().unmarshal(xsr);
         if (logger.isTraceEnabled()) {
             logger.trace("Request [{}] Response:{}", uri, resp.getResponseBody());
         }
         return obj;
     }
 
+    private static synchronized JAXBContext getJAXBContext() throws JAXBException {
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(TellstickNetDevices.class, TellstickNetSensors.class,
+                    TelldusLiveResponse.class);
+        }
+        return jaxbContext;
+    }
+
     private void logResponse(String uri, Exception e) {
         if (e != null) {
             logger.warn("Request [{}] Failure:{}", uri, e.getMessage());
@@ -29,6 +29,7 @@ public class TeslaBindingConstants {
     public static final String USERNAME = "username";
     public static final String PASSWORD = "password";
     public static final String VIN = "vin";
+    public static final String ADAPTIVE_POLLING = "adaptivePolling";
     public static final String VEHICLES = "vehicles";
     public static final String COMMAND_PATH = "command/{cmd}";
     public static final String DATA_REQUEST_PATH = "data_request/{cmd}";
@@ -86,5 +87,6 @@ public class TeslaBindingConstants {
     public static final String CHANNEL_CHARGE = "charge";
     public static final String CHANNEL_ALLOWWAKEUP = "allowwakeup";
     public static final String CHANNEL_ENABLEEVENTS = "enableevents";
+    public static final String CHANNEL_REQUESTSSAVED = "requestssaved";
 
 }
@@ -22,8 +22,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.ws.rs.client.Client;
@@ -92,6 +94,7 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int EVENT_STREAM_READ_TIMEOUT = 200000;
     private static final int EVENT_TIMESTAMP_AGE_LIMIT = 3000;
     private static final int EVENT_TIMESTAMP_MAX_DELTA = 10000;
+    private static final int EVENT_STREAM_ACTIVE_INTERVAL = 10000;
     private static final int FAST_STATUS_REFRESH_INTERVAL = 15000;
     private static final int SLOW_STATUS_REFRESH_INTERVAL = 60000;
     private static final int CONNECT_RETRY_INTERVAL = 15000;
@@ -99,6 +102,7 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int API_ERROR_INTERVAL_SECONDS = 15;
     private static final int EVENT_MAXIMUM_ERRORS_IN_INTERVAL = 10;
     private static final int EVENT_ERROR_INTERVAL_SECONDS = 15;
+    private static final EventKeys[] EVENT_KEYS = EventKeys.values();
 
     private final Logger logger = LoggerFactory.getLogger(TeslaHandler.class);
 
@@ -111,6 +115,59 @@ public class TeslaHandler extends BaseThingHandler {
     protected ChargeState chargeState;
     protected ClimateState climateState;
 
+    // Last published channel states, so that unchanged values are not pushed to the framework on every poll
+    protected final Map<String, State> channelStates = new ConcurrentHashMap<>();
+
+    // Adaptive polling variables
+    protected boolean adaptivePolling;
+    protected volatile PollMode pollMode;
+    protected volatile long lastFastPoll;
+    protected volatile long lastSlowPoll;
+    protected volatile long lastEventReceived;
+    protected volatile String streamedShiftState;
+    protected final AtomicLong baselineRequests = new AtomicLong();
+    protected final AtomicLong savedRequests = new AtomicLong();
+
+    /**
+     * The {@link PollMode} defines how often the fast and slow changing data is polled, and the share of the throttler
+     * budget that is allocated to data requests, depending on the state of the vehicle. It is only used when adaptive
+     * polling is enabled. The intervals are multiples of the fixed refresh intervals, which remain the fastest rate.
+     */
+    protected enum PollMode {
+        // only wake up calls are issued, leave the budget to the commands
+        ASLEEP(1, 10, 60000, 300000),
+        // a parked vehicle hardly changes, its state is refreshed once a minute and the rest every five minutes
+        IDLE(1, 2, 60000, 300000),
+        // the charge state is followed every minute
+        CHARGING(1, 2, 60000, 60000),
+        // the drive and vehicle state are followed closely, the charge state is skipped altogether
+        DRIVING(1, 1, 15000, 300000);
+
+        private final int numberCalls;
+        private final int seconds;
+        private final int fastInterval;
+        private final int slowInterval;
+
+        private PollMode(int numberCalls, int seconds, int fastInterval, int slowInterval) {
+            this.numberCalls = numberCalls;
+            this.seconds = seconds;
+            this.fastInterval = fastInterval;
+            this.slowInterval = slowInterval;
+        }
+
+        public Rate getDataRate() {
+            return new Rate(numberCalls, seconds, TimeUnit.SECONDS);
+        }
+
+        public int getFastInterval() {
+            return fastInterval;
+        }
+
+        public int getSlowInterval() {
+            return slowInterval;
+        }
+    }
+
     // REST Client API variables
     protected final Client teslaClient = ClientBuilder.newClient();
     protected Client eventClient = ClientBuilder.newClient();
@@ -153,6 +210,13 @@ public class TeslaHandler extends BaseThingHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
 
+        channelStates.clear();
+        adaptivePolling = Boolean.parseBoolean(String.valueOf(getConfig().get(ADAPTIVE_POLLING)));
+        pollMode = null;
+        lastFastPoll = 0;
+        lastSlowPoll = 0;
+        baselineRequests.set(0);
+        savedRequests.set(0);
         lock = new ReentrantLock();
 
         lock.lock();
@@ -224,6 +288,8 @@ public class TeslaHandler extends BaseThingHandler {
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
         if (command instanceof RefreshType) {
+            // make sure the next received value gets published, even if it did not change
+            channelStates.remove(channelID);
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
                 // throttled so we are safe not to break the Tesla SLA
@@ -432,6 +498,22 @@ public class TeslaHandler extends BaseThingHandler {
         requestData(command, null);
     }
 
+    /**
+     * Requests data as part of the periodic polling, unless adaptive polling considers the request redundant.
+     *
+     * @param command the data request to issue
+     * @param redundant <code>true</code> if the requested data is already provided by other means
+     */
+    protected void pollData(String command, boolean redundant) {
+        baselineRequests.incrementAndGet();
+        if (adaptivePolling && redundant) {
+            savedRequests.incrementAndGet();
+            logger.trace("Skipping the redundant '{}' request for {}", command, getThing().getUID());
+        } else {
+            requestData(command);
+        }
+    }
+
     public void queryVehicle(String parameter) {
         WebTarget target = vehicleTarget.path(parameter);
         sendCommand(parameter, null, target);
@@ -527,9 +609,9 @@ public class TeslaHandler extends BaseThingHandler {
                     case TESLA_CHARGE_STATE: {
                         chargeState = gson.fromJson(result, ChargeState.class);
                         if (chargeState.charging_state != null && "Charging".equals(chargeState.charging_state)) {
-                            updateState(CHANNEL_CHARGE, OnOffType.ON);
+                            updateStateIfChanged(CHANNEL_CHARGE, OnOffType.ON);
                         } else {
-                            updateState(CHANNEL_CHARGE, OnOffType.OFF);
+                            updateStateIfChanged(CHANNEL_CHARGE, OnOffType.OFF);
                         }
 
                         break;
@@ -589,22 +671,25 @@ public class TeslaHandler extends BaseThingHandler {
                         }
 
                         if (proceed) {
+                            Map<String, String> properties = editProperties();
+                            boolean propertiesChanged = false;
+
                             for (Map.Entry<String, JsonElement> entry : entrySet) {
                                 try {
                                     TeslaChannelSelector selector = TeslaChannelSelector
                                             .getValueSelectorFromRESTID(entry.getKey());
                                     if (!selector.isProperty()) {
                                         if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                            updateStateIfChanged(selector.getChannelID(),
+                                                    teslaChannelSelectorProxy.getState(entry.getValue().getAsString(),
+                                                            selector, properties));
                                         } else {
-                                            updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                            updateStateIfChanged(selector.getChannelID(), UnDefType.UNDEF);
                                         }
                                     } else {
                                         if (!entry.getValue().isJsonNull()) {
-                                            Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
-                                            updateProperties(properties);
+                                            propertiesChanged |= updatePropertyIfChanged(properties,
+                                                    selector.getChannelID(), entry.getValue().getAsString());
                                         }
                                     }
                                 } catch (IllegalArgumentException e) {
@@ -615,6 +700,10 @@ public class TeslaHandler extends BaseThingHandler {
                                             e.getMessage(), e);
                                 }
                             }
+
+                            if (propertiesChanged) {
+                                updateProperties(properties);
+                            }
                         } else {
                             logger.warn("The result for request '{}' is discarded due to an out of sync timestamp",
                                     request);
@@ -629,6 +718,37 @@ public class TeslaHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Publishes the given state, unless it equals the last state that was published for the channel.
+     *
+     * @param channelID the id of the channel to update
+     * @param state the new state, ignored when <code>null</code>
+     */
+    protected void updateStateIfChanged(String channelID, State state) {
+        if (state == null) {
+            return;
+        }
+
+        State previousState = channelStates.put(channelID, state);
+        if (!state.equals(previousState)) {
+            updateState(channelID, state);
+        }
+    }
+
+    /**
+     * Puts the given value in the (editable) map of properties, if it differs from the current value.
+     *
+     * @return <code>true</code> if the map of properties was changed
+     */
+    protected boolean updatePropertyIfChanged(Map<String, String> properties, String name, String value) {
+        if (value == null || value.equals(properties.get(name))) {
+            return false;
+        }
+
+        properties.put(name, value);
+        return true;
+    }
+
     protected boolean isAwake() {
         return vehicle != null && !"asleep".equals(vehicle.state) && vehicle.vehicle_id != null;
     }
@@ -637,6 +757,68 @@ public class TeslaHandler extends BaseThingHandler {
         return vehicle != null && "online".equals(vehicle.state) && vehicle.vehicle_id != null;
     }
 
+    protected boolean isStreaming() {
+        return eventThread != null && System.currentTimeMillis() - lastEventReceived < EVENT_STREAM_ACTIVE_INTERVAL;
+    }
+
+    protected boolean isDriving() {
+        if (isStreaming()) {
+            return StringUtils.isNotEmpty(streamedShiftState) && !"P".equals(streamedShiftState);
+        }
+        return isInMotion();
+    }
+
+    protected synchronized void updatePollMode() {
+        PollMode newMode;
+        if (!isAwake()) {
+            newMode = PollMode.ASLEEP;
+        } else if (isDriving()) {
+            newMode = PollMode.DRIVING;
+        } else if (chargeState != null && "Charging".equals(chargeState.charging_state)) {
+            newMode = PollMode.CHARGING;
+        } else {
+            newMode = PollMode.IDLE;
+        }
+
+        if (newMode != pollMode) {
+            logger.debug("Switching the polling of {} from {} to {}", getThing().getUID(), pollMode, newMode);
+            pollMode = newMode;
+            // poll right away with the intervals of the new mode
+            lastFastPoll = 0;
+            lastSlowPoll = 0;
+            if (stateThrottler != null) {
+                stateThrottler.setChannelRate(TESLA_DATA_THROTTLE, newMode.getDataRate());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the interval of the current poll mode has elapsed since the last poll, and if so, marks the poll
+     * as done. Without adaptive polling every poll is due.
+     *
+     * @param fast <code>true</code> for the fast changing, <code>false</code> for the slow changing data
+     * @return <code>true</code> if the data should be polled now
+     */
+    protected boolean isPollDue(boolean fast) {
+        if (!adaptivePolling) {
+            return true;
+        }
+        updatePollMode();
+        long now = System.currentTimeMillis();
+        if (fast) {
+            if (now - lastFastPoll < pollMode.getFastInterval()) {
+                return false;
+            }
+            lastFastPoll = now;
+        } else {
+            if (now - lastSlowPoll < pollMode.getSlowInterval()) {
+                return false;
+            }
+            lastSlowPoll = now;
+        }
+        return true;
+    }
+
     protected boolean isInMotion() {
         if (driveState != null) {
             if (driveState.speed != null && driveState.shift_state != null) {
@@ -873,9 +1055,12 @@ public class TeslaHandler extends BaseThingHandler {
 
     protected Runnable fastStateRunnable = () -> {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
+            boolean due = isPollDue(true);
+
             if (isAwake()) {
-                requestData(TESLA_DRIVE_STATE);
-                requestData(TESLA_VEHICLE_STATE);
+                // the event stream already provides the drive data while it is active
+                pollData(TESLA_DRIVE_STATE, !due || isStreaming());
+                pollData(TESLA_VEHICLE_STATE, !due);
             } else {
                 if (vehicle != null && allowWakeUp) {
                     wakeUp();
@@ -886,24 +1071,33 @@ public class TeslaHandler extends BaseThingHandler {
         }
 
         if (allowWakeUp) {
-            updateState(CHANNEL_ALLOWWAKEUP, OnOffType.ON);
+            updateStateIfChanged(CHANNEL_ALLOWWAKEUP, OnOffType.ON);
         } else {
-            updateState(CHANNEL_ALLOWWAKEUP, OnOffType.OFF);
+            updateStateIfChanged(CHANNEL_ALLOWWAKEUP, OnOffType.OFF);
         }
 
         if (eventThread != null) {
-            updateState(CHANNEL_ENABLEEVENTS, OnOffType.ON);
+            updateStateIfChanged(CHANNEL_ENABLEEVENTS, OnOffType.ON);
         } else {
-            updateState(CHANNEL_ENABLEEVENTS, OnOffType.OFF);
+            updateStateIfChanged(CHANNEL_ENABLEEVENTS, OnOffType.OFF);
         }
+
+        if (adaptivePolling) {
+            logger.debug("Adaptive polling saved {} out of {} data requests for {}", savedRequests.get(),
+                    baselineRequests.get(), getThing().getUID());
+        }
+        updateStateIfChanged(CHANNEL_REQUESTSSAVED, new DecimalType(savedRequests.get()));
     };
 
     protected Runnable slowStateRunnable = () -> {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
+            boolean due = isPollDue(false);
+
             if (isAwake()) {
-                requestData(TESLA_CHARGE_STATE);
-                requestData(TESLA_CLIMATE_STATE);
-                requestData(TESLA_GUI_STATE);
+                // the vehicle can not charge while driving, and the event stream provides the battery level and range
+                pollData(TESLA_CHARGE_STATE, !due || isDriving());
+                pollData(TESLA_CLIMATE_STATE, !due);
+                pollData(TESLA_GUI_STATE, !due);
                 queryVehicle(TESLA_MOBILE_ENABLED_STATE);
                 parseAndUpdate("queryVehicle", null, vehicleJSON);
             } else {
@@ -1047,30 +1241,42 @@ public class TeslaHandler extends BaseThingHandler {
                                     if (systemTimeStamp - currentTimeStamp < EVENT_TIMESTAMP_AGE_LIMIT) {
                                         if (currentTimeStamp > lastTimeStamp) {
                                             lastTimeStamp = Long.valueOf(vals[0]);
+                                            lastEventReceived = systemTimeStamp;
+                                            int shiftStateIndex = EventKeys.shift_state.ordinal();
+                                            streamedShiftState = shiftStateIndex < vals.length
+                                                    ? vals[shiftStateIndex]
+                                                    : null;
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
                                                         "yyyy-MM-dd'T'HH:mm:ss.SSS");
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
+                                            Map<String, String> properties = editProperties();
+                                            boolean propertiesChanged = false;
+
+                                            for (int i = 0; i < EVENT_KEYS.length; i++) {
                                                 TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
+                                                        .getValueSelectorFromRESTID(EVENT_KEYS[i].toString());
                                                 if (!selector.isProperty()) {
                                                     State newState = teslaChannelSelectorProxy.getState(vals[i],
-                                                            selector, editProperties());
+                                                            selector, properties);
                                                     if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
+                                                        updateStateIfChanged(selector.getChannelID(), newState);
                                                     } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                                        updateStateIfChanged(selector.getChannelID(),
+                                                                UnDefType.UNDEF);
                                                     }
                                                 } else {
-                                                    Map<String, String> properties = editProperties();
-                                                    properties.put(selector.getChannelID(),
+                                                    propertiesChanged |= updatePropertyIfChanged(properties,
+                                                            selector.getChannelID(),
                                                             (selector.getState(vals[i])).toString());
-                                                    updateProperties(properties);
                                                 }
                                             }
+
+                                            if (propertiesChanged) {
+                                                updateProperties(properties);
+                                            }
                                         } else {
                                             if (logger.isDebugEnabled()) {
                                                 SimpleDateFormat dateFormatter = new SimpleDateFormat(
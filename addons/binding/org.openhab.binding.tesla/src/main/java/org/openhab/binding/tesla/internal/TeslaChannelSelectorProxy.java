@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -922,8 +923,23 @@ public class TeslaChannelSelectorProxy {
                 return super.getState(s);
             }
         },
+        REQUESTSSAVED(null, "requestssaved", DecimalType.class, false),
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        // Lookup tables, populated once the enum constants are created. When several selectors share an id, the
+        // first declared one wins, as it did with the former linear scan over values()
+        private static final Map<String, TeslaChannelSelector> REST_ID_INDEX = new HashMap<>();
+        private static final Map<String, TeslaChannelSelector> CHANNEL_ID_INDEX = new HashMap<>();
+
+        static {
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.restID != null) {
+                    REST_ID_INDEX.putIfAbsent(c.restID, c);
+                }
+                CHANNEL_ID_INDEX.putIfAbsent(c.channelID, c);
+            }
+        }
+
         private final String restID;
         private final String channelID;
         private Class<? extends Type> typeClass;
@@ -976,10 +992,9 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = CHANNEL_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -987,10 +1002,9 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.restID != null && c.restID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = REST_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -39,6 +39,21 @@ abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
         this.rates.add(rate);
     }
 
+    /**
+     * Replaces the rate of the given channel. The call history of the former channel rate is dropped, but the
+     * global rates keep on limiting the overall number of calls
+     *
+     * @param channelKey the channel to (re)define the rate for
+     * @param rate the new rate of the channel
+     */
+    public synchronized void setChannelRate(Object channelKey, Rate rate) {
+        this.channels.put(channelKey, rate);
+    }
+
+    protected synchronized Rate getChannelRate(Object channelKey) {
+        return channels.get(channelKey);
+    }
+
     protected synchronized long callTime(Rate channel) {
         long maxCallTime = 0;
         long finalCallTime = 0;
@@ -64,7 +79,7 @@ abstract class AbstractMultiRateChannelThrottler implements ChannelThrottler {
     }
 
     protected long getThrottleDelay(Object channelKey) {
-        long delay = callTime(channels.get(channelKey)) - timeProvider.getCurrentTimeInMillis();
+        long delay = callTime(getChannelRate(channelKey)) - timeProvider.getCurrentTimeInMillis();
         return delay < 0 ? 0 : delay;
     }
 }
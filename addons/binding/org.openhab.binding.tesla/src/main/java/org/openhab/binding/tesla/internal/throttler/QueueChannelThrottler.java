@@ -77,7 +77,7 @@ public final class QueueChannelThrottler extends AbstractMultiRateChannelThrottl
         FutureTask runTask = new FutureTask(task, null);
         try {
             if (tasks.offer(runTask, overallRate.timeInMillis(), TimeUnit.MILLISECONDS)) {
-                long throttledTime = channelKey == null ? callTime(null) : callTime(channels.get(channelKey));
+                long throttledTime = channelKey == null ? callTime(null) : callTime(getChannelRate(channelKey));
                 long now = timeProvider.getCurrentTimeInMillis();
                 scheduler.schedule(processQueueTask, throttledTime < now ? 0 : throttledTime - now,
                         TimeUnit.MILLISECONDS);
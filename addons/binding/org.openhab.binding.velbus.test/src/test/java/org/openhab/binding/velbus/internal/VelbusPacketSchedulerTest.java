@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.velbus.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.velbus.internal.packets.VelbusChannelNameRequestPacket;
+import org.openhab.binding.velbus.internal.packets.VelbusPacket;
+import org.openhab.binding.velbus.internal.packets.VelbusScanPacket;
+import org.openhab.binding.velbus.internal.packets.VelbusStatusRequestPacket;
+
+/**
+ * Tests the ordering, coalescing and pacing of the packets sent by the {@link VelbusPacketScheduler}. The transmit
+ * jobs are run by the test instead of a scheduler.
+ *
+ * @author agent - Initial contribution
+ */
+public class VelbusPacketSchedulerTest {
+
+    private static final byte[] COMMAND_1 = packet(VelbusPacket.PRIO_HI, 0x01, 0x02);
+    private static final byte[] COMMAND_2 = packet(VelbusPacket.PRIO_HI, 0x02, 0x02);
+    private static final byte[] STATUS_REQUEST_1 = packet(VelbusPacket.PRIO_LOW, 0x01, (byte) 0xFA);
+    private static final byte[] STATUS_REQUEST_2 = packet(VelbusPacket.PRIO_LOW, 0x02, (byte) 0xFA);
+
+    private ManualScheduler scheduler;
+    private ByteArrayOutputStream outputStream;
+    private VelbusPacketScheduler packetScheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new ManualScheduler();
+        outputStream = new ByteArrayOutputStream();
+        packetScheduler = new VelbusPacketScheduler(scheduler, outputStream);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void highPriorityPacketsAreSentFirst() {
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+        packetScheduler.queuePacket(STATUS_REQUEST_2);
+        packetScheduler.queuePacket(COMMAND_1);
+        packetScheduler.queuePacket(COMMAND_2);
+
+        runAllTransmitJobs();
+
+        assertSent(COMMAND_1, COMMAND_2, STATUS_REQUEST_1, STATUS_REQUEST_2);
+        assertEquals(4, packetScheduler.getSentPackets());
+    }
+
+    @Test
+    public void identicalLowPriorityPacketsAreCoalesced() {
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+        packetScheduler.queuePacket(STATUS_REQUEST_2);
+        packetScheduler.queuePacket(STATUS_REQUEST_1.clone());
+        packetScheduler.queuePacket(STATUS_REQUEST_2.clone());
+
+        runAllTransmitJobs();
+
+        assertSent(STATUS_REQUEST_1, STATUS_REQUEST_2);
+        assertEquals(2, packetScheduler.getQueuedPackets());
+        assertEquals(2, packetScheduler.getCoalescedPackets());
+    }
+
+    @Test
+    public void lowPriorityPacketIsQueuedAgainAfterItWasSent() {
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+        runAllTransmitJobs();
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+        runAllTransmitJobs();
+
+        assertSent(STATUS_REQUEST_1, STATUS_REQUEST_1);
+        assertEquals(0, packetScheduler.getCoalescedPackets());
+    }
+
+    @Test
+    public void identicalHighPriorityPacketsAreAllSent() {
+        packetScheduler.queuePacket(COMMAND_1);
+        packetScheduler.queuePacket(COMMAND_1);
+
+        runAllTransmitJobs();
+
+        assertSent(COMMAND_1, COMMAND_1);
+        assertEquals(0, packetScheduler.getCoalescedPackets());
+    }
+
+    @Test
+    public void packetsArePaced() {
+        packetScheduler.queuePacket(COMMAND_1);
+        packetScheduler.queuePacket(COMMAND_2);
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+
+        // a single transmit job at a time, the first one without delay
+        assertEquals(1, scheduler.jobs.size());
+        assertEquals(0, (long) scheduler.delays.get(0));
+
+        scheduler.runNextJob();
+        assertEquals(1, scheduler.jobs.size());
+        long delay = scheduler.delays.get(1);
+        assertTrue("Unexpected delay " + delay, delay > 0 && delay <= 60);
+    }
+
+    @Test
+    public void discoveryPacketsAreNotDropped() {
+        for (int address = 0; address <= 0xFF; address++) {
+            packetScheduler.queuePacket(new VelbusScanPacket((byte) address).getBytes());
+        }
+        for (int address = 1; address <= 0xFF; address++) {
+            packetScheduler.queuePacket(new VelbusChannelNameRequestPacket((byte) address).getBytes());
+            packetScheduler.queuePacket(new VelbusStatusRequestPacket((byte) address).getBytes());
+        }
+
+        runAllTransmitJobs();
+
+        assertEquals(256 + 2 * 255, packetScheduler.getSentPackets());
+        assertEquals(0, packetScheduler.getDroppedPackets());
+    }
+
+    @Test
+    public void stopDropsQueuedAndNewPackets() {
+        packetScheduler.queuePacket(COMMAND_1);
+        packetScheduler.queuePacket(STATUS_REQUEST_1);
+        packetScheduler.stop();
+        packetScheduler.queuePacket(COMMAND_2);
+
+        runAllTransmitJobs();
+
+        assertEquals(0, outputStream.size());
+        assertEquals(3, packetScheduler.getDroppedPackets());
+    }
+
+    private void runAllTransmitJobs() {
+        while (!scheduler.jobs.isEmpty()) {
+            scheduler.runNextJob();
+        }
+    }
+
+    private void assertSent(byte[]... packets) {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (byte[] packet : packets) {
+            expected.write(packet, 0, packet.length);
+        }
+        assertArrayEquals(expected.toByteArray(), outputStream.toByteArray());
+    }
+
+    private static byte[] packet(byte priority, int address, int command) {
+        return new byte[] { VelbusPacket.STX, priority, (byte) address, 0x01, (byte) command, 0x00,
+                VelbusPacket.ETX };
+    }
+
+    /**
+     * A scheduler which only records the scheduled jobs and their delays, the jobs are run by the test.
+     */
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> jobs = new ArrayList<>();
+        private final List<Long> delays = new ArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            jobs.add(command);
+            delays.add(unit.toMillis(delay));
+            // a future for the scheduler to cancel, the job itself is never run by the executor
+            return super.schedule(() -> {
+            }, 1, TimeUnit.DAYS);
+        }
+
+        void runNextJob() {
+            jobs.remove(0).run();
+        }
+    }
+}
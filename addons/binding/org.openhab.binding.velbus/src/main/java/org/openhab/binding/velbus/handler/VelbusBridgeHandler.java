@@ -15,7 +15,6 @@ import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TooManyListenersException;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -25,6 +24,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.velbus.internal.VelbusPacketInputStream;
 import org.openhab.binding.velbus.internal.VelbusPacketListener;
+import org.openhab.binding.velbus.internal.VelbusPacketScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +46,7 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
     private NRSerialPort serialPort;
     private OutputStream outputStream;
     private VelbusPacketInputStream inputStream;
-    private long lastPacketTimeMillis;
+    private volatile VelbusPacketScheduler packetScheduler;
 
     private VelbusPacketListener defaultPacketListener;
     private Map<Byte, VelbusPacketListener> packetListeners = new HashMap<Byte, VelbusPacketListener>();
@@ -73,6 +73,7 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
 
                 outputStream = serialPort.getOutputStream();
                 inputStream = new VelbusPacketInputStream(serialPort.getInputStream());
+                packetScheduler = new VelbusPacketScheduler(scheduler, outputStream);
 
                 try {
                     serialPort.addEventListener(this);
@@ -93,29 +94,20 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
         }
     }
 
-    public synchronized void sendPacket(byte[] packet) {
-        long currentTimeMillis = System.currentTimeMillis();
-        long timeSinceLastPacket = currentTimeMillis - lastPacketTimeMillis;
-
-        if (timeSinceLastPacket < 60) {
-            // When sending you need a delay of 60ms between each packet (to prevent flooding the VMB1USB).
-            long timeToDelay = 60 - timeSinceLastPacket;
-
-            scheduler.schedule(() -> {
-                sendPacket(packet);
-            }, timeToDelay, TimeUnit.MILLISECONDS);
-
+    /**
+     * Queues a packet to be sent on the bus. Packets are sent one at a time (commands before status requests) by the
+     * {@link VelbusPacketScheduler}.
+     *
+     * @param packet the bytes of the packet
+     */
+    public void sendPacket(byte[] packet) {
+        VelbusPacketScheduler currentPacketScheduler = packetScheduler;
+        if (currentPacketScheduler == null) {
+            logger.debug("Bridge is not connected, dropping packet for address {}", packet[2]);
             return;
         }
 
-        try {
-            outputStream.write(packet);
-            outputStream.flush();
-        } catch (IOException e) {
-            logger.error("Serial port write error", e);
-        }
-
-        lastPacketTimeMillis = System.currentTimeMillis();
+        currentPacketScheduler.queuePacket(packet);
     }
 
     public void setDefaultPacketListener(VelbusPacketListener velbusPacketListener) {
@@ -136,6 +128,10 @@ public class VelbusBridgeHandler extends BaseBridgeHandler implements SerialPort
 
     @Override
     public void dispose() {
+        if (packetScheduler != null) {
+            packetScheduler.stop();
+            packetScheduler = null;
+        }
         if (serialPort != null) {
             serialPort.disconnect();
             serialPort = null;
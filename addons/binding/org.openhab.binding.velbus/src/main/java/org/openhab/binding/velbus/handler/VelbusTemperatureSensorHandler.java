@@ -73,9 +73,13 @@ public abstract class VelbusTemperatureSensorHandler extends VelbusSensorHandler
             return;
         }
 
+        // spread the first refreshes of the sensors over (at most) a minute by their address, instead of requesting
+        // all temperatures at once
+        int initialDelay = (getModuleAddress().getAddress() & 0xFF) * Math.min(refreshInterval, 60) / 256;
+
         refreshJob = scheduler.scheduleWithFixedDelay(() -> {
             sendSensorTemperatureRequest(velbusBridgeHandler);
-        }, 0, refreshInterval, TimeUnit.SECONDS);
+        }, initialDelay, refreshInterval, TimeUnit.SECONDS);
     }
 
     @Override
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.velbus.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openhab.binding.velbus.internal.packets.VelbusPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link VelbusPacketScheduler} queues the packets to be sent on the bus and transmits them one at a time, with a
+ * pause between two packets to prevent flooding the configuration module.
+ *
+ * High priority packets (commands) are sent before low priority packets (status and name requests and scans). A low
+ * priority packet that is identical to one already waiting in the queue - like a second status request for the same
+ * module - is not queued again. The low priority queue is not bounded: a discovery scan queues a packet for every
+ * address and the name requests of every module found, which must all be sent, while repeated status requests are
+ * coalesced and so cannot make the queue grow without limit.
+ *
+ * @author agent - Initial contribution
+ */
+public class VelbusPacketScheduler {
+    private Logger logger = LoggerFactory.getLogger(VelbusPacketScheduler.class);
+
+    /** Delay between two packets (to prevent flooding the VMB1USB) */
+    private static final long PACKET_DELAY_MILLIS = 60;
+
+    private final ScheduledExecutorService scheduler;
+    private final OutputStream outputStream;
+
+    private final Queue<byte[]> highPriorityPackets = new ArrayDeque<>();
+    private final Queue<byte[]> lowPriorityPackets = new ArrayDeque<>();
+    private final Set<ByteBuffer> pendingLowPriorityPackets = new HashSet<>();
+
+    private ScheduledFuture<?> transmitJob;
+    private long lastPacketTimeMillis;
+    private boolean stopped;
+
+    private final AtomicLong queuedPackets = new AtomicLong();
+    private final AtomicLong sentPackets = new AtomicLong();
+    private final AtomicLong coalescedPackets = new AtomicLong();
+    private final AtomicLong droppedPackets = new AtomicLong();
+
+    public VelbusPacketScheduler(ScheduledExecutorService scheduler, OutputStream outputStream) {
+        this.scheduler = scheduler;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Queues a packet to be sent.
+     *
+     * @param packet the bytes of the packet
+     */
+    public synchronized void queuePacket(byte[] packet) {
+        if (stopped) {
+            droppedPackets.incrementAndGet();
+            return;
+        }
+
+        if (packet[1] == VelbusPacket.PRIO_HI) {
+            highPriorityPackets.add(packet);
+        } else {
+            ByteBuffer key = ByteBuffer.wrap(packet);
+            if (pendingLowPriorityPackets.contains(key)) {
+                coalescedPackets.incrementAndGet();
+                logger.trace("Identical packet for address {} is already queued", packet[2]);
+                return;
+            }
+            pendingLowPriorityPackets.add(key);
+            lowPriorityPackets.add(packet);
+        }
+        queuedPackets.incrementAndGet();
+
+        scheduleTransmit();
+    }
+
+    /**
+     * Stops transmitting and drops all packets still waiting in the queue.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        if (transmitJob != null) {
+            transmitJob.cancel(false);
+            transmitJob = null;
+        }
+        droppedPackets.addAndGet(highPriorityPackets.size() + lowPriorityPackets.size());
+        highPriorityPackets.clear();
+        lowPriorityPackets.clear();
+        pendingLowPriorityPackets.clear();
+
+        logger.debug("Transmit queue stopped: {} packets queued, {} sent, {} coalesced, {} dropped",
+                queuedPackets.get(), sentPackets.get(), coalescedPackets.get(), droppedPackets.get());
+    }
+
+    public long getQueuedPackets() {
+        return queuedPackets.get();
+    }
+
+    public long getSentPackets() {
+        return sentPackets.get();
+    }
+
+    public long getCoalescedPackets() {
+        return coalescedPackets.get();
+    }
+
+    public long getDroppedPackets() {
+        return droppedPackets.get();
+    }
+
+    private void scheduleTransmit() {
+        if (transmitJob == null && !stopped
+                && (!highPriorityPackets.isEmpty() || !lowPriorityPackets.isEmpty())) {
+            long timeSinceLastPacket = System.currentTimeMillis() - lastPacketTimeMillis;
+            long timeToDelay = Math.max(0, PACKET_DELAY_MILLIS - timeSinceLastPacket);
+
+            transmitJob = scheduler.schedule(this::transmitNextPacket, timeToDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void transmitNextPacket() {
+        transmitJob = null;
+        if (stopped) {
+            return;
+        }
+
+        byte[] packet = highPriorityPackets.poll();
+        if (packet == null) {
+            packet = lowPriorityPackets.poll();
+            if (packet == null) {
+                return;
+            }
+            pendingLowPriorityPackets.remove(ByteBuffer.wrap(packet));
+        }
+
+        try {
+            outputStream.write(packet);
+            outputStream.flush();
+            sentPackets.incrementAndGet();
+        } catch (IOException e) {
+            droppedPackets.incrementAndGet();
+            logger.error("Serial port write error", e);
+        }
+
+        lastPacketTimeMillis = System.currentTimeMillis();
+        scheduleTransmit();
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.handler;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.ZONE_THING_TYPE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.eclipse.smarthome.core.thing.ThingStatusInfo;
+import org.eclipse.smarthome.core.thing.binding.ThingHandlerCallback;
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
+import org.eclipse.smarthome.core.types.StateOption;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.Zone;
+import org.openhab.binding.yamahareceiver.internal.ChannelsTypeProviderAvailableInputs;
+import org.openhab.binding.yamahareceiver.internal.state.AvailableInputState;
+
+/**
+ * Tests that the {@link YamahaZoneThingHandler} publishes the available inputs again once it has been re-initialized
+ * or its bridge has been offline.
+ *
+ * @author agent - Initial contribution
+ */
+public class YamahaZoneThingHandlerTest {
+
+    private YamahaZoneThingHandler handler;
+    private ThingHandlerCallback callback;
+
+    @Before
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.put("zone", Zone.Main_Zone.name());
+        Thing thing = ThingBuilder.create(ZONE_THING_TYPE, "zone").withConfiguration(configuration).build();
+
+        handler = new YamahaZoneThingHandler(thing);
+        callback = mock(ThingHandlerCallback.class);
+        handler.setCallback(callback);
+    }
+
+    @Test
+    public void unchangedAvailableInputsArePublishedOnce() {
+        handler.initialize();
+
+        handler.availableInputsChanged(createAvailableInputs());
+        handler.availableInputsChanged(createAvailableInputs());
+
+        assertEquals(Arrays.asList("HDMI1", "NET RADIO"), getInputOptions());
+        verify(callback, times(1)).thingUpdated(any());
+    }
+
+    @Test
+    public void availableInputsArePublishedAgainAfterReinitialization() {
+        handler.initialize();
+        handler.availableInputsChanged(createAvailableInputs());
+        ChannelsTypeProviderAvailableInputs previousProvider = handler.channelsTypeProviderAvailableInputs;
+
+        handler.dispose();
+        handler.initialize();
+        assertNotSame(previousProvider, handler.channelsTypeProviderAvailableInputs);
+
+        // the new channel type provider gets the unchanged inputs as well
+        handler.availableInputsChanged(createAvailableInputs());
+
+        assertEquals(Arrays.asList("HDMI1", "NET RADIO"), getInputOptions());
+        verify(callback, times(2)).thingUpdated(any());
+    }
+
+    @Test
+    public void availableInputsArePublishedAgainAfterTheBridgeWasOffline() {
+        handler.initialize();
+        handler.availableInputsChanged(createAvailableInputs());
+
+        handler.bridgeStatusChanged(new ThingStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.NONE, null));
+        handler.availableInputsChanged(createAvailableInputs());
+
+        verify(callback, times(2)).thingUpdated(any());
+    }
+
+    private AvailableInputState createAvailableInputs() {
+        AvailableInputState state = new AvailableInputState();
+        state.availableInputs.put("HDMI1", "Blu-ray");
+        state.availableInputs.put("NET RADIO", "Net Radio");
+        return state;
+    }
+
+    private List<String> getInputOptions() {
+        ChannelsTypeProviderAvailableInputs provider = handler.channelsTypeProviderAvailableInputs;
+        List<String> options = new ArrayList<>();
+        for (StateOption option : provider.getChannelType(provider.getChannelTypeUID(), null).getState()
+                .getOptions()) {
+            options.add(option.getValue());
+        }
+        return options;
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Measures the parsing of the zone status polled by the binding, on the Basic_Status response recorded in
+ * basic-status.xml:
+ * <ul>
+ * <li>the document based {@link XMLUtils#getNode(Node, String)} against the streaming
+ * {@link XMLUtils#getNodeContents(String, String, java.util.Collection)} used by the zone poll</li>
+ * <li>unmarshalling with a JAXB context created per call against a cached context, as the Denon/Marantz and Telldus
+ * Live bindings did before caching their contexts</li>
+ * </ul>
+ *
+ * The benchmark is not part of the unit tests, its name doesn't match the test includes. Run it as a JUnit test from
+ * the IDE.
+ *
+ * @author agent - Initial contribution
+ */
+public class StatusParsingBenchmark {
+
+    private final Logger logger = LoggerFactory.getLogger(StatusParsingBenchmark.class);
+
+    private static final String BASIC_STATUS = "basic-status.xml";
+    private static final String ROOT_PATH = "Main_Zone/Basic_Status";
+    private static final List<String> STATUS_PATHS = Arrays.asList("Power_Control/Power", "Volume/Mute",
+            "Volume/Lvl/Val", "Input/Input_Sel", "Input/Input_Sel_Item_Info/Title",
+            "Surround/Program_Sel/Current/Straight", "Surround/Program_Sel/Current/Sound_Program",
+            "Sound_Video/Dialogue_Adjust/Dialogue_Lvl");
+
+    private static final int WARMUP_ROUNDS = 5000;
+    private static final int ROUNDS = 50000;
+    private static final int JAXB_WARMUP_ROUNDS = 50;
+    private static final int JAXB_ROUNDS = 500;
+
+    @Test
+    public void compareStatusParsing() throws IOException, ReceivedMessageParseException {
+        String status = readStatus();
+
+        // both parsers find the same values
+        Map<String, String> documentContents = parseDocument(status);
+        assertEquals(STATUS_PATHS.size(), documentContents.size());
+        assertEquals(documentContents, XMLUtils.getNodeContents(status, ROOT_PATH, STATUS_PATHS));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            parseDocument(status);
+            XMLUtils.getNodeContents(status, ROOT_PATH, STATUS_PATHS);
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            XMLUtils.getNodeContents(status, ROOT_PATH, STATUS_PATHS);
+        }
+        long streamingTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            parseDocument(status);
+        }
+        long documentTime = System.nanoTime() - start;
+
+        logger.info("Parsed {} Basic_Status responses: streaming {} ns/response, document {} ns/response", ROUNDS,
+                streamingTime / ROUNDS, documentTime / ROUNDS);
+    }
+
+    @Test
+    public void compareJaxbContexts() throws IOException, JAXBException {
+        String status = readStatus();
+        JAXBContext cachedContext = JAXBContext.newInstance(YamahaAv.class);
+
+        YamahaAv perCall = unmarshal(JAXBContext.newInstance(YamahaAv.class), status);
+        YamahaAv cached = unmarshal(cachedContext, status);
+        assertEquals("On", cached.mainZone.basicStatus.powerControl.power);
+        assertEquals("-305", cached.mainZone.basicStatus.volume.level.value);
+        assertEquals(perCall.mainZone.basicStatus.volume.level.value, cached.mainZone.basicStatus.volume.level.value);
+
+        for (int round = 0; round < JAXB_WARMUP_ROUNDS; round++) {
+            unmarshal(JAXBContext.newInstance(YamahaAv.class), status);
+            unmarshal(cachedContext, status);
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < JAXB_ROUNDS; round++) {
+            unmarshal(cachedContext, status);
+        }
+        long cachedTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int round = 0; round < JAXB_ROUNDS; round++) {
+            unmarshal(JAXBContext.newInstance(YamahaAv.class), status);
+        }
+        long perCallTime = System.nanoTime() - start;
+
+        logger.info("Unmarshalled {} Basic_Status responses: cached context {} ns/response, "
+                + "context per call {} ns/response", JAXB_ROUNDS, cachedTime / JAXB_ROUNDS, perCallTime / JAXB_ROUNDS);
+    }
+
+    /**
+     * Reads the values the way the zone poll did before streaming the response
+     */
+    private Map<String, String> parseDocument(String message) throws IOException, ReceivedMessageParseException {
+        Document doc = XMLUtils.xml(message);
+        Node statusNode = XMLUtils.getNode(doc.getFirstChild(), ROOT_PATH);
+        Map<String, String> contents = new HashMap<>();
+        for (String path : STATUS_PATHS) {
+            Node node = XMLUtils.getNode(statusNode, path);
+            if (node != null) {
+                contents.put(path, node.getTextContent());
+            }
+        }
+        return contents;
+    }
+
+    private YamahaAv unmarshal(JAXBContext context, String message) throws JAXBException {
+        return (YamahaAv) context.createUnmarshaller().unmarshal(new StringReader(message));
+    }
+
+    private String readStatus() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(BASIC_STATUS);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining());
+        }
+    }
+
+    /**
+     * The part of the Basic_Status response unmarshalled with JAXB
+     */
+    @XmlRootElement(name = "YAMAHA_AV")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class YamahaAv {
+        @XmlElement(name = "Main_Zone")
+        private MainZone mainZone;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class MainZone {
+        @XmlElement(name = "Basic_Status")
+        private BasicStatus basicStatus;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class BasicStatus {
+        @XmlElement(name = "Power_Control")
+        private PowerControl powerControl;
+
+        @XmlElement(name = "Volume")
+        private Volume volume;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class PowerControl {
+        @XmlElement(name = "Power")
+        private String power;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class Volume {
+        @XmlElement(name = "Lvl")
+        private Level level;
+
+        @XmlElement(name = "Mute")
+        private String mute;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class Level {
+        @XmlElement(name = "Val")
+        private String value;
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link XMLConnection} sends one request at a time over a reused connection and reuses the responses
+ * of a refresh cycle. A fake receiver answers the HTTP requests.
+ *
+ * @author agent - Initial contribution
+ */
+public class XMLConnectionTest {
+
+    private static final int TIMEOUT = 5000;
+
+    private static final String BASIC_STATUS = "<Main_Zone><Basic_Status>GetParam</Basic_Status></Main_Zone>";
+    private static final String PLAY_INFO = "<NET_RADIO><Play_Info>GetParam</Play_Info></NET_RADIO>";
+
+    private FakeReceiver receiver;
+    private XMLConnection connection;
+
+    @Before
+    public void setUp() throws IOException {
+        receiver = new FakeReceiver();
+        connection = new XMLConnection(InetAddress.getLoopbackAddress().getHostAddress() + ":" + receiver.getPort());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        receiver.close();
+    }
+
+    @Test
+    public void requestsReuseTheConnection() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("<YAMAHA_AV rsp=\"GET\" RC=\"0\">" + i + "</YAMAHA_AV>\r",
+                    connection.sendReceive(BASIC_STATUS));
+        }
+        connection.send("<Main_Zone><Power_Control><Power>On</Power></Power_Control></Main_Zone>");
+
+        assertEquals(6, receiver.requests.size());
+        assertEquals(1, receiver.connections.get());
+    }
+
+    @Test
+    public void failedRequestDoesNotBreakTheConnection() throws IOException {
+        receiver.failNextRequest = true;
+        try {
+            connection.sendReceive(BASIC_STATUS);
+            fail("The request should have failed");
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertNotNull(connection.sendReceive(BASIC_STATUS));
+        assertEquals(2, receiver.requests.size());
+    }
+
+    @Test
+    public void requestsAreSentOneAtATime() throws Exception {
+        receiver.responseDelay = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                responses.add(executor.submit(() -> connection.sendReceive(BASIC_STATUS)));
+            }
+            for (Future<String> response : responses) {
+                assertNotNull(response.get(TIMEOUT, TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8, receiver.requests.size());
+        assertEquals(1, receiver.maxConcurrentRequests.get());
+        assertEquals(1, receiver.connections.get());
+    }
+
+    @Test
+    public void responsesAreReusedWithinARefreshCycle() throws IOException {
+        connection.startRefreshCycle();
+        String basicStatus = connection.sendReceive(BASIC_STATUS);
+        assertEquals(basicStatus, connection.sendReceive(BASIC_STATUS));
+        connection.sendReceive(PLAY_INFO);
+        connection.sendReceive(PLAY_INFO);
+        assertEquals(2, receiver.requests.size());
+
+        // a command may change the state, so the status is requested again
+        connection.send("<Main_Zone><Volume><Mute>On</Mute></Volume></Main_Zone>");
+        assertNotEquals(basicStatus, connection.sendReceive(BASIC_STATUS));
+        assertEquals(4, receiver.requests.size());
+        connection.endRefreshCycle();
+
+        connection.sendReceive(BASIC_STATUS);
+        assertEquals(5, receiver.requests.size());
+    }
+
+    @Test
+    public void nestedRefreshCyclesEndWithTheOutermost() throws IOException {
+        connection.startRefreshCycle();
+        connection.startRefreshCycle();
+        connection.sendReceive(BASIC_STATUS);
+        connection.endRefreshCycle();
+        connection.sendReceive(BASIC_STATUS);
+        assertEquals(1, receiver.requests.size());
+
+        connection.endRefreshCycle();
+        connection.sendReceive(BASIC_STATUS);
+        assertEquals(2, receiver.requests.size());
+    }
+
+    @Test
+    public void responsesAreNotReusedOutsideARefreshCycle() throws IOException {
+        connection.sendReceive(BASIC_STATUS);
+        connection.sendReceive(BASIC_STATUS);
+
+        assertEquals(2, receiver.requests.size());
+        assertTrue(receiver.requests.get(0).contains("cmd=\"GET\""));
+        assertTrue(receiver.requests.get(0).contains(BASIC_STATUS));
+    }
+
+    /**
+     * A receiver answering every control request with a numbered response, using HTTP/1.1 keep-alive connections.
+     */
+    private static class FakeReceiver {
+        private final ServerSocket serverSocket;
+        private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger concurrentRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        private volatile long responseDelay;
+        private volatile boolean failNextRequest;
+
+        FakeReceiver() throws IOException {
+            serverSocket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "FakeReceiver");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+
+        private void accept() {
+            try {
+                while (true) {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    sockets.add(socket);
+                    Thread handler = new Thread(() -> serve(socket), "FakeReceiverConnection");
+                    handler.setDaemon(true);
+                    handler.start();
+                }
+            } catch (IOException e) {
+                // closed by the test
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream()) {
+                String request;
+                while ((request = readRequest(in)) != null) {
+                    int concurrent = concurrentRequests.incrementAndGet();
+                    maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+                    try {
+                        int number = requests.size();
+                        requests.add(request);
+                        Thread.sleep(responseDelay);
+                        if (failNextRequest) {
+                            failNextRequest = false;
+                            writeResponse(out, "500 Internal Server Error", "<error/>");
+                        } else {
+                            writeResponse(out, "200 OK",
+                                    "<YAMAHA_AV rsp=\"GET\" RC=\"0\">" + number + "</YAMAHA_AV>");
+                        }
+                    } finally {
+                        concurrentRequests.decrementAndGet();
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                // closed by the test or the client
+            }
+        }
+
+        /**
+         * Reads the headers and the body of a request
+         *
+         * @return the body, or null when the connection has been closed
+         */
+        private String readRequest(InputStream in) throws IOException {
+            int contentLength = 0;
+            String line;
+            boolean first = true;
+            while ((line = readLine(in)) != null && !line.isEmpty()) {
+                first = false;
+                if (line.toLowerCase().startsWith("content-length:")) {
+                    contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+                }
+            }
+            if (line == null || first) {
+                return null;
+            }
+            byte[] body = new byte[contentLength];
+            int read = 0;
+            while (read < contentLength) {
+                int count = in.read(body, read, contentLength - read);
+                if (count < 0) {
+                    return null;
+                }
+                read += count;
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == '\n') {
+                    return new String(line.toByteArray(), StandardCharsets.US_ASCII).trim();
+                }
+                line.write(b);
+            }
+            return null;
+        }
+
+        private void writeResponse(OutputStream out, String status, String body) throws IOException {
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            String headers = "HTTP/1.1 " + status + "\r\nContent-Type: text/xml; charset=\"utf-8\"\r\n"
+                    + "Content-Length: " + content.length + "\r\n\r\n";
+            out.write(headers.getBytes(StandardCharsets.US_ASCII));
+            out.write(content);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * Tests that {@link XMLUtils#getNodeContents(String, String, java.util.Collection)} finds the same nodes as the
+ * document based {@link XMLUtils#getNode(Node, String)}.
+ *
+ * @author agent - Initial contribution
+ */
+public class XMLUtilsTest {
+
+    private static final String ROOT_PATH = "Main_Zone/Basic_Status";
+
+    private static final String BASIC_STATUS = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<YAMAHA_AV rsp=\"GET\" RC=\"0\"><Main_Zone><Basic_Status>"
+            + "<Power_Control><Power>On</Power><Sleep>Off</Sleep></Power_Control>"
+            + "<Volume><Lvl><Val>-305</Val><Exp>1</Exp><Unit>dB</Unit></Lvl><Mute>Off</Mute></Volume>"
+            + "<Input><Input_Sel>HDMI1</Input_Sel><Input_Sel_Item_Info><Param>HDMI1</Param>"
+            + "<RW>RW</RW><Title>  Blu-ray  </Title><Src_Name></Src_Name><Src_Number>1</Src_Number>"
+            + "</Input_Sel_Item_Info></Input>"
+            + "<Surround><Program_Sel><Current><Straight>Off</Straight><Enhancer>On</Enhancer>"
+            + "<Sound_Program>Standard</Sound_Program></Current></Program_Sel></Surround>"
+            + "<Sound_Video><Dialogue_Adjust><Dialogue_Lvl>0</Dialogue_Lvl></Dialogue_Adjust></Sound_Video>"
+            + "</Basic_Status></Main_Zone></YAMAHA_AV>";
+
+    private static final List<String> BASIC_STATUS_PATHS = Arrays.asList("Power_Control/Power", "Volume/Mute",
+            "Volume/Lvl/Val", "Input/Input_Sel", "Input/Input_Sel_Item_Info/Src_Name",
+            "Input/Input_Sel_Item_Info/Title", "Surround/Program_Sel/Current/Straight",
+            "Surround/Program_Sel/Current/Sound_Program", "Sound_Video/Dialogue_Adjust/Dialogue_Lvl");
+
+    @Test
+    public void basicStatus() throws IOException, ReceivedMessageParseException {
+        Map<String, String> contents = XMLUtils.getNodeContents(BASIC_STATUS, ROOT_PATH, BASIC_STATUS_PATHS);
+
+        assertEquals(BASIC_STATUS_PATHS.size(), contents.size());
+        assertEquals("On", contents.get("Power_Control/Power"));
+        assertEquals("-305", contents.get("Volume/Lvl/Val"));
+        assertEquals("HDMI1", contents.get("Input/Input_Sel"));
+        assertEquals("", contents.get("Input/Input_Sel_Item_Info/Src_Name"));
+        assertEquals("  Blu-ray  ", contents.get("Input/Input_Sel_Item_Info/Title"));
+        assertSameAsDocument(BASIC_STATUS, ROOT_PATH, BASIC_STATUS_PATHS);
+    }
+
+    @Test
+    public void missingNodesAreNotReturned() throws IOException, ReceivedMessageParseException {
+        List<String> paths = Arrays.asList("Power_Control/Power", "Party_Info", "Volume/Lvl/Missing");
+
+        Map<String, String> contents = XMLUtils.getNodeContents(BASIC_STATUS, ROOT_PATH, paths);
+
+        assertEquals(Collections.singletonMap("Power_Control/Power", "On"), contents);
+        assertSameAsDocument(BASIC_STATUS, ROOT_PATH, paths);
+    }
+
+    @Test
+    public void missingRootReturnsNothing() throws IOException, ReceivedMessageParseException {
+        assertTrue(XMLUtils.getNodeContents(BASIC_STATUS, "Zone_2/Basic_Status", BASIC_STATUS_PATHS).isEmpty());
+        assertSameAsDocument(BASIC_STATUS, "Zone_2/Basic_Status", BASIC_STATUS_PATHS);
+    }
+
+    @Test
+    public void pathElementsMatchDescendants() throws IOException, ReceivedMessageParseException {
+        String message = "<YAMAHA_AV><Main_Zone><Basic_Status><Power_Control><Extra><Power>Standby</Power></Extra>"
+                + "</Power_Control></Basic_Status></Main_Zone></YAMAHA_AV>";
+        List<String> paths = Arrays.asList("Power_Control/Power", "Power");
+
+        Map<String, String> contents = XMLUtils.getNodeContents(message, ROOT_PATH, paths);
+
+        assertEquals("Standby", contents.get("Power_Control/Power"));
+        assertEquals("Standby", contents.get("Power"));
+        assertSameAsDocument(message, ROOT_PATH, paths);
+    }
+
+    @Test
+    public void onlyTheFirstMatchingElementIsSearched() throws IOException, ReceivedMessageParseException {
+        String message = "<YAMAHA_AV><Main_Zone><Basic_Status><Input><Other>A</Other></Input>"
+                + "<Input><Input_Sel>HDMI2</Input_Sel></Input><Input_Sel>AV1</Input_Sel>"
+                + "</Basic_Status></Main_Zone></YAMAHA_AV>";
+        List<String> paths = Arrays.asList("Input/Input_Sel", "Input/Other", "Input_Sel");
+
+        Map<String, String> contents = XMLUtils.getNodeContents(message, ROOT_PATH, paths);
+
+        assertFalse(contents.containsKey("Input/Input_Sel"));
+        assertEquals("A", contents.get("Input/Other"));
+        assertEquals("HDMI2", contents.get("Input_Sel"));
+        assertSameAsDocument(message, ROOT_PATH, paths);
+    }
+
+    @Test
+    public void nestedElementsAreIncludedInTheContent() throws IOException, ReceivedMessageParseException {
+        String message = "<YAMAHA_AV><Main_Zone><Basic_Status><Meta><Title>A<b>B</b><![CDATA[<C>]]></Title>"
+                + "<Title>second</Title></Meta></Basic_Status></Main_Zone></YAMAHA_AV>";
+        List<String> paths = Arrays.asList("Meta", "Meta/Title");
+
+        Map<String, String> contents = XMLUtils.getNodeContents(message, ROOT_PATH, paths);
+
+        assertEquals("AB<C>second", contents.get("Meta"));
+        assertEquals("AB<C>", contents.get("Meta/Title"));
+        assertSameAsDocument(message, ROOT_PATH, paths);
+    }
+
+    @Test
+    public void nestedElementsWithTheSameName() throws IOException, ReceivedMessageParseException {
+        String message = "<YAMAHA_AV><Main_Zone><Basic_Status><Val><Val>inner</Val></Val><Val>next</Val>"
+                + "</Basic_Status></Main_Zone></YAMAHA_AV>";
+        List<String> paths = Arrays.asList("Val", "Val/Val");
+
+        Map<String, String> contents = XMLUtils.getNodeContents(message, ROOT_PATH, paths);
+
+        assertEquals("inner", contents.get("Val"));
+        assertEquals("inner", contents.get("Val/Val"));
+        assertSameAsDocument(message, ROOT_PATH, paths);
+    }
+
+    @Test(expected = ReceivedMessageParseException.class)
+    public void invalidMessage() throws ReceivedMessageParseException {
+        XMLUtils.getNodeContents("<YAMAHA_AV><Main_Zone>", ROOT_PATH, BASIC_STATUS_PATHS);
+    }
+
+    /**
+     * Asserts that the streamed contents are the same as the inner text of the nodes found in the parsed document.
+     */
+    private void assertSameAsDocument(String message, String rootPath, List<String> nodePaths)
+            throws IOException, ReceivedMessageParseException {
+        Map<String, String> contents = XMLUtils.getNodeContents(message, rootPath, nodePaths);
+
+        Document document = XMLUtils.xml(message);
+        Node root = XMLUtils.getNode(document.getFirstChild(), rootPath);
+        for (String nodePath : nodePaths) {
+            Node node = root == null ? null : XMLUtils.getNode(root, nodePath);
+            assertEquals(nodePath, node == null ? null : node.getTextContent(), contents.get(nodePath));
+        }
+    }
+}
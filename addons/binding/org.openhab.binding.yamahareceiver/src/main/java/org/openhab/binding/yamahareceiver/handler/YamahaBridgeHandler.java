@@ -58,6 +58,9 @@ public class YamahaBridgeHandler extends BaseBridgeHandler
     private SystemControlState systemControlState = new SystemControlState();
     private final CountDownLatch loadingDone = new CountDownLatch(1);
 
+    // Set when the AVR turned on, so that the next refresh also requests the rarely changing zone information
+    private volatile boolean completeZoneRefresh;
+
     public YamahaBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -144,11 +147,20 @@ public class YamahaBridgeHandler extends BaseBridgeHandler
 
     /**
      * Periodically and initially called. This must run in another thread, because all update calls are blocking.
+     *
+     * The zones of the AVR are refreshed one after the other within this thread, so that the AVR is not flooded with
+     * concurrent requests. While the AVR is in standby the zones are not refreshed at all, they are refreshed
+     * completely once the AVR turns on again.
      */
     void updateAllZoneInformation() {
         logger.trace("updateAllZoneInformation");
+        AbstractConnection connection = this.connection;
+        if (connection == null) {
+            return;
+        }
         try {
             SystemControl systemControl = ProtocolFactory.SystemControl(connection, this);
+            boolean wasOn = systemControlState.power;
             // Set power = true before calling systemControl.update(),
             // otherwise the systemControlStateChanged method would call updateAllZoneInformation() again
             systemControlState.power = true;
@@ -156,16 +168,29 @@ public class YamahaBridgeHandler extends BaseBridgeHandler
 
             updateStatus(ThingStatus.ONLINE);
 
-            Bridge bridge = (Bridge) thing;
-            for (Thing thing : bridge.getThings()) {
-                YamahaZoneThingHandler handler = (YamahaZoneThingHandler) thing.getHandler();
-
-                // If thing still thinks that the bridge is offline, update its status.
-                if (thing.getStatusInfo().getStatusDetail() == ThingStatusDetail.BRIDGE_OFFLINE) {
-                    handler.bridgeStatusChanged(ThingStatusInfoBuilder.create(bridge.getStatus()).build());
-                } else if (handler.isCorrectlyInitialized()) {
-                    handler.updateZoneInformation();
+            if (!wasOn && systemControlState.power) {
+                completeZoneRefresh = true;
+            }
+            // The zones are refreshed one last time after the AVR went to standby, so that they show it
+            boolean standby = !wasOn && !systemControlState.power;
+            boolean complete = completeZoneRefresh;
+            completeZoneRefresh = false;
+
+            connection.startRefreshCycle();
+            try {
+                Bridge bridge = (Bridge) thing;
+                for (Thing thing : bridge.getThings()) {
+                    YamahaZoneThingHandler handler = (YamahaZoneThingHandler) thing.getHandler();
+
+                    // If thing still thinks that the bridge is offline, update its status.
+                    if (thing.getStatusInfo().getStatusDetail() == ThingStatusDetail.BRIDGE_OFFLINE) {
+                        handler.bridgeStatusChanged(ThingStatusInfoBuilder.create(bridge.getStatus()).build());
+                    } else if (!standby && handler.isCorrectlyInitialized()) {
+                        handler.refreshZoneInformation(complete);
+                    }
                 }
+            } finally {
+                connection.endRefreshCycle();
             }
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
@@ -287,6 +312,9 @@ public class YamahaBridgeHandler extends BaseBridgeHandler
         // The user might have renamed some of the inputs etc.
         boolean needsCompleteRefresh = msg.power && !systemControlState.power;
         systemControlState = msg;
+        if (needsCompleteRefresh) {
+            completeZoneRefresh = true;
+        }
 
         updateState(CHANNEL_POWER, systemControlState.power ? OnOffType.ON : OnOffType.OFF);
         if (needsCompleteRefresh) {
@@ -16,6 +16,7 @@ import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
 import org.eclipse.smarthome.core.thing.type.ChannelTypeProvider;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants;
 import org.openhab.binding.yamahareceiver.internal.ChannelsTypeProviderAvailableInputs;
 import org.openhab.binding.yamahareceiver.internal.ChannelsTypeProviderPreset;
@@ -34,6 +35,7 @@ import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.*;
 import static org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants.Inputs.INPUT_SPOTIFY;
@@ -82,6 +84,10 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
     protected InputWithPresetControl inputWithPresetControl;
     protected InputWithDabBandControl inputWithDabBandControl;
 
+    /// Last state published for each channel, see updateStateIfChanged
+    private final Map<String, State> publishedStates = new ConcurrentHashMap<>();
+    private volatile Map<String, String> publishedAvailableInputs;
+
     public YamahaZoneThingHandler(Thing thing) {
         super(thing);
     }
@@ -121,6 +127,9 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
      */
     @Override
     public void initialize() {
+        // A re-initialized thing gets all channel states and the available inputs again
+        forgetPublishedStates();
+
         // Determine the zone of this thing
 
         zoneConfiguration = getConfigAs(YamahaZoneConfiguration.class);
@@ -159,6 +168,15 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
             channelsTypeProviderPreset = null;
             servicePreset = null;
         }
+        forgetPublishedStates();
+    }
+
+    /**
+     * Forgets the channel states and available inputs published so far, so that they are all published again.
+     */
+    private void forgetPublishedStates() {
+        publishedStates.clear();
+        publishedAvailableInputs = null;
     }
 
     protected YamahaBridgeHandler getBridgeHandler() {
@@ -186,6 +204,7 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
             zoneControl = null;
             zoneAvailableInputs = null;
+            forgetPublishedStates();
         }
     }
 
@@ -200,23 +219,69 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
      * Request new zone and available input information
      */
     void updateZoneInformation() {
-        updateAsyncMakeOfflineIfFail(zoneAvailableInputs);
-        updateAsyncMakeOfflineIfFail(zoneControl);
+        scheduler.submit(() -> refreshZoneInformation(true));
+    }
 
-        if (inputWithPlayControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithPlayControl);
+    /**
+     * Requests the zone information from the AVR, one request after the other. This is called by the refresh cycle
+     * of the bridge, which refreshes all zones of an AVR in turn.
+     *
+     * While the zone is in standby, only the zone status is requested. The input related information is requested
+     * again once the zone is turned on.
+     *
+     * @param complete Also request the available inputs, which rarely change
+     */
+    void refreshZoneInformation(boolean complete) {
+        ZoneControl zoneControl = this.zoneControl;
+        ZoneAvailableInputs zoneAvailableInputs = this.zoneAvailableInputs;
+        if (zoneControl == null || zoneAvailableInputs == null) {
+            return;
         }
 
-        if (inputWithNavigationControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithNavigationControl);
-        }
+        try {
+            if (complete || publishedAvailableInputs == null) {
+                zoneAvailableInputs.update();
+            }
+            zoneControl.update();
 
-        if (inputWithPresetControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithPresetControl);
+            if (!zoneState.power) {
+                return;
+            }
+
+            InputWithDabBandControl inputWithDabBandControl = this.inputWithDabBandControl;
+            if (inputWithDabBandControl != null) {
+                inputWithDabBandControl.update();
+            }
+            InputWithPresetControl inputWithPresetControl = this.inputWithPresetControl;
+            // For DAB, the preset control is the band control, which has been updated already
+            if (inputWithPresetControl != null && inputWithPresetControl != inputWithDabBandControl) {
+                inputWithPresetControl.update();
+            }
+            InputWithPlayControl inputWithPlayControl = this.inputWithPlayControl;
+            if (inputWithPlayControl != null) {
+                inputWithPlayControl.update();
+            }
+            InputWithNavigationControl inputWithNavigationControl = this.inputWithNavigationControl;
+            if (inputWithNavigationControl != null) {
+                inputWithNavigationControl.update();
+            }
+        } catch (IOException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+        } catch (ReceivedMessageParseException e) {
+            updateProperty(YamahaReceiverBindingConstants.PROPERTY_LAST_PARSE_ERROR, e.getMessage());
+            // Some AVRs send unexpected responses. We log parser exceptions therefore.
+            logger.debug("Parse error!", e);
         }
+    }
 
-        if (inputWithDabBandControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithDabBandControl);
+    /**
+     * Updates the channel unless the given state has already been published. The AVR is polled periodically and
+     * usually nothing has changed, so this keeps identical updates off the event bus.
+     */
+    private void updateStateIfChanged(String channelID, State state) {
+        State previous = publishedStates.put(channelID, state);
+        if (!state.equals(previous)) {
+            updateState(channelID, state);
         }
     }
 
@@ -484,13 +549,14 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
 
         updateStatus(ThingStatus.ONLINE);
 
-        updateState(grpZone(CHANNEL_POWER), zoneState.power ? OnOffType.ON : OnOffType.OFF);
-        updateState(grpZone(CHANNEL_INPUT), new StringType(zoneState.inputID));
-        updateState(grpZone(CHANNEL_SURROUND), new StringType(zoneState.surroundProgram));
-        updateState(grpZone(CHANNEL_VOLUME_DB), new DecimalType(zoneState.volumeDB));
-        updateState(grpZone(CHANNEL_VOLUME), new PercentType((int) zoneConfiguration.getVolumePercentage(zoneState.volumeDB)));
-        updateState(grpZone(CHANNEL_MUTE), zoneState.mute ? OnOffType.ON : OnOffType.OFF);
-        updateState(grpZone(CHANNEL_DIALOGUE_LEVEL), new DecimalType(zoneState.dialogueLevel));
+        updateStateIfChanged(grpZone(CHANNEL_POWER), zoneState.power ? OnOffType.ON : OnOffType.OFF);
+        updateStateIfChanged(grpZone(CHANNEL_INPUT), new StringType(zoneState.inputID));
+        updateStateIfChanged(grpZone(CHANNEL_SURROUND), new StringType(zoneState.surroundProgram));
+        updateStateIfChanged(grpZone(CHANNEL_VOLUME_DB), new DecimalType(zoneState.volumeDB));
+        updateStateIfChanged(grpZone(CHANNEL_VOLUME),
+                new PercentType((int) zoneConfiguration.getVolumePercentage(zoneState.volumeDB)));
+        updateStateIfChanged(grpZone(CHANNEL_MUTE), zoneState.mute ? OnOffType.ON : OnOffType.OFF);
+        updateStateIfChanged(grpZone(CHANNEL_DIALOGUE_LEVEL), new DecimalType(zoneState.dialogueLevel));
 
         // If the input changed
         if (inputChanged) {
@@ -689,6 +755,12 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
      */
     @Override
     public void availableInputsChanged(AvailableInputState msg) {
+        // Replacing the channel is expensive, only do it if the inputs actually changed
+        if (msg.availableInputs.equals(publishedAvailableInputs)) {
+            return;
+        }
+        publishedAvailableInputs = msg.availableInputs;
+
         // Update channel type provider with a list of available inputs
         channelsTypeProviderAvailableInputs.changeAvailableInputs(msg.availableInputs);
 
@@ -717,12 +789,12 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
     public void playInfoUpdated(PlayInfoState msg) {
         playInfoState = msg;
 
-        updateState(grpPlayback(CHANNEL_PLAYBACK), new StringType(msg.playbackMode));
-        updateState(grpPlayback(CHANNEL_PLAYBACK_STATION), new StringType(msg.station));
-        updateState(grpPlayback(CHANNEL_PLAYBACK_ARTIST), new StringType(msg.artist));
-        updateState(grpPlayback(CHANNEL_PLAYBACK_ALBUM), new StringType(msg.album));
-        updateState(grpPlayback(CHANNEL_PLAYBACK_SONG), new StringType(msg.song));
-        updateState(grpPlayback(CHANNEL_PLAYBACK_SONG_IMAGE_URL), new StringType(msg.songImageUrl));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK), new StringType(msg.playbackMode));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_STATION), new StringType(msg.station));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_ARTIST), new StringType(msg.artist));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_ALBUM), new StringType(msg.album));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_SONG), new StringType(msg.song));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_SONG_IMAGE_URL), new StringType(msg.songImageUrl));
     }
 
     @Override
@@ -741,22 +813,22 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
             updateThing(editThing().withoutChannel(inputChannelUID).withChannel(channel).build());
         }
 
-        updateState(grpPlayback(CHANNEL_PLAYBACK_PRESET), new DecimalType(msg.presetChannel));
+        updateStateIfChanged(grpPlayback(CHANNEL_PLAYBACK_PRESET), new DecimalType(msg.presetChannel));
     }
 
     @Override
     public void dabBandUpdated(DabBandState msg) {
         dabBandState = msg;
-        updateState(grpPlayback(CHANNEL_TUNER_BAND), new StringType(msg.band));
+        updateStateIfChanged(grpPlayback(CHANNEL_TUNER_BAND), new StringType(msg.band));
     }
 
     @Override
     public void navigationUpdated(NavigationControlState msg) {
         navigationInfoState = msg;
-        updateState(grpNav(CHANNEL_NAVIGATION_MENU), new StringType(msg.menuName));
-        updateState(grpNav(CHANNEL_NAVIGATION_LEVEL), new DecimalType(msg.menuLayer));
-        updateState(grpNav(CHANNEL_NAVIGATION_CURRENT_ITEM), new DecimalType(msg.currentLine));
-        updateState(grpNav(CHANNEL_NAVIGATION_TOTAL_ITEMS), new DecimalType(msg.maxLine));
+        updateStateIfChanged(grpNav(CHANNEL_NAVIGATION_MENU), new StringType(msg.menuName));
+        updateStateIfChanged(grpNav(CHANNEL_NAVIGATION_LEVEL), new DecimalType(msg.menuLayer));
+        updateStateIfChanged(grpNav(CHANNEL_NAVIGATION_CURRENT_ITEM), new DecimalType(msg.currentLine));
+        updateStateIfChanged(grpNav(CHANNEL_NAVIGATION_TOTAL_ITEMS), new DecimalType(msg.maxLine));
     }
 
     @Override
@@ -92,6 +92,20 @@ public abstract class AbstractConnection {
         }
     }
 
+    /**
+     * Marks the start of a refresh of all zones. Until {@link #endRefreshCycle()} is called, a connection may answer
+     * a status request with the response already received for the same request, so that information requested by
+     * several zones (like the play info of an input) is only fetched once.
+     */
+    public void startRefreshCycle() {
+    }
+
+    /**
+     * Marks the end of a refresh of all zones, see {@link #startRefreshCycle()}.
+     */
+    public void endRefreshCycle() {
+    }
+
     /**
      * Implement this for a pure send.
      *
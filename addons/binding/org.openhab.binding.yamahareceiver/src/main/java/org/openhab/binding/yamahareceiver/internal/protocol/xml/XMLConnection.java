@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -25,6 +26,8 @@ import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -43,6 +46,14 @@ public class XMLConnection extends AbstractConnection {
     private static final String XML_END = "</YAMAHA_AV>";
     private static final String HEADER_CHARSET_PART = "charset=";
 
+    // The AVR handles one request at a time, so the requests of all zones are sent one after the other. This also
+    // allows the JDK to reuse the same keep-alive connection for all requests.
+    private final Object requestLock = new Object();
+
+    // Responses received during the current refresh cycle, by request
+    private final Map<String, String> refreshCycleResponses = new HashMap<>();
+    private int refreshCycleDepth;
+
     public XMLConnection(String host) {
         super(host);
     }
@@ -52,6 +63,22 @@ public class XMLConnection extends AbstractConnection {
         R apply(T t) throws IOException;
     }
 
+    @Override
+    public void startRefreshCycle() {
+        synchronized (requestLock) {
+            refreshCycleDepth++;
+        }
+    }
+
+    @Override
+    public void endRefreshCycle() {
+        synchronized (requestLock) {
+            if (refreshCycleDepth > 0 && --refreshCycleDepth == 0) {
+                refreshCycleResponses.clear();
+            }
+        }
+    }
+
     private <T> T postMessage(String prefix, String message, String suffix, CheckedConsumer<HttpURLConnection, T> responseConsumer) throws IOException {
         if (message.startsWith("<?xml")) {
             throw new IOException("No preformatted xml allowed!");
@@ -64,6 +91,7 @@ public class XMLConnection extends AbstractConnection {
         logger.debug("Making POST to {} with payload: {}", url, message);
 
         HttpURLConnection connection = null;
+        boolean completed = false;
         try {
             connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("POST");
@@ -80,18 +108,36 @@ public class XMLConnection extends AbstractConnection {
             }
 
             if (connection.getResponseCode() != 200) {
+                consumeFully(connection.getErrorStream());
+                completed = true;
                 throw new IOException("Changing a value on the Yamaha AVR failed: " + message);
             }
 
-            return responseConsumer.apply(connection);
+            T result = responseConsumer.apply(connection);
+            completed = true;
+            return result;
 
         } finally {
-            if (connection != null) {
+            // Only close the underlying connection if the response has not been read completely,
+            // otherwise it can be reused for the next request.
+            if (connection != null && !completed) {
                 connection.disconnect();
             }
         }
     }
 
+    private void consumeFully(InputStream stream) throws IOException {
+        if (stream == null) {
+            return;
+        }
+        try (InputStream in = stream) {
+            byte[] buffer = new byte[512];
+            while (in.read(buffer) >= 0) {
+                // discard
+            }
+        }
+    }
+
     /**
      * Post the given xml message
      *
@@ -100,11 +146,19 @@ public class XMLConnection extends AbstractConnection {
      */
     @Override
     public void send(String message) throws IOException {
-        postMessage(XML_PUT, message, XML_END, c -> null);
+        synchronized (requestLock) {
+            // The command might change any of the responses received so far
+            refreshCycleResponses.clear();
+            postMessage(XML_PUT, message, XML_END, c -> {
+                consumeFully(c.getInputStream());
+                return null;
+            });
+        }
     }
 
     /**
-     * Post the given xml message and return the response as string.
+     * Post the given xml message and return the response as string. During a refresh cycle, the response of an
+     * identical request sent before in the same cycle is returned instead.
      *
      * @param message XML formatted message excluding <?xml> or <YAMAHA_AV> tags.
      * @return Return the response as text or throws an exception if the connection failed.
@@ -112,7 +166,18 @@ public class XMLConnection extends AbstractConnection {
      */
     @Override
     public String sendReceive(final String message) throws IOException {
-        return postMessage(XML_GET, message, XML_END, c -> consumeResponse(c));
+        synchronized (requestLock) {
+            String response = refreshCycleResponses.get(message);
+            if (response != null) {
+                logger.trace("Reusing the response of this refresh cycle for: {}", message);
+                return response;
+            }
+            response = postMessage(XML_GET, message, XML_END, c -> consumeResponse(c));
+            if (refreshCycleDepth > 0) {
+                refreshCycleResponses.put(message, response);
+            }
+            return response;
+        }
     }
 
     private String consumeResponse(HttpURLConnection connection) throws IOException {
@@ -137,23 +202,30 @@ public class XMLConnection extends AbstractConnection {
         URL url = createBaseUrl(path);
         logger.debug("Making GET to {}", url);
 
-        HttpURLConnection connection = null;
-        try {
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-
-            connection.setUseCaches(false);
-            connection.setDoInput(true);
-            connection.setDoOutput(false);
-
-            if (connection.getResponseCode() != 200) {
-                throw new IOException("Request failed");
-            }
-
-            return consumeResponse(connection);
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
+        synchronized (requestLock) {
+            HttpURLConnection connection = null;
+            boolean completed = false;
+            try {
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setRequestMethod("GET");
+
+                connection.setUseCaches(false);
+                connection.setDoInput(true);
+                connection.setDoOutput(false);
+
+                if (connection.getResponseCode() != 200) {
+                    consumeFully(connection.getErrorStream());
+                    completed = true;
+                    throw new IOException("Request failed");
+                }
+
+                String response = consumeResponse(connection);
+                completed = true;
+                return response;
+            } finally {
+                if (connection != null && !completed) {
+                    connection.disconnect();
+                }
             }
         }
     }
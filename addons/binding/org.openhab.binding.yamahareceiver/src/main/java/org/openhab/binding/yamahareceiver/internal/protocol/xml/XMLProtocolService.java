@@ -23,6 +23,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.stream.Collectors.joining;
 
@@ -68,6 +69,24 @@ public class XMLProtocolService {
         return getResponse(con, XMLUtils.wrZone(zone, cmd), zone + "/" + path);
     }
 
+    /**
+     * Sends a command to the specified zone and extracts the inner text of the given nodes from the response, without
+     * building a document.
+     * @param con
+     * @param zone
+     * @param cmd
+     * @param path XML tree path of the response element the node paths are relative to
+     * @param nodePaths XML tree paths of the nodes to extract
+     * @return The inner text for each node path that is present in the response.
+     * @throws IOException
+     * @throws ReceivedMessageParseException
+     */
+    public static Map<String, String> getZoneResponseContents(AbstractConnection con, Zone zone, String cmd, String path,
+            Collection<String> nodePaths) throws IOException, ReceivedMessageParseException {
+        String response = con.sendReceive(XMLUtils.wrZone(zone, cmd));
+        return XMLUtils.getNodeContents(response, zone + "/" + path, nodePaths);
+    }
+
     /**
      * Send the command and retrieve the node at the specified element path.
      * @param cmd
@@ -18,11 +18,19 @@ import org.w3c.dom.Node;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -40,6 +48,18 @@ public class XMLUtils {
     // We need a lot of xml parsing. Create a document builder beforehand.
     static final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
 
+    // Document builders are not thread safe, so every thread polling a receiver keeps its own one.
+    private static final ThreadLocal<DocumentBuilder> documentBuilder = new ThreadLocal<>();
+
+    private static final XMLInputFactory xif = createXMLInputFactory();
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
     static Node getNode(Node parent, String[] nodePath, int offset) {
         if (parent == null) {
             return null;
@@ -156,12 +176,145 @@ public class XMLUtils {
                 : "<?xml version=\"1.0\" encoding=\"utf-8\"?>" + message;
 
         try {
-            return XMLUtils.dbf.newDocumentBuilder().parse(new InputSource(new StringReader(response)));
+            return getDocumentBuilder().parse(new InputSource(new StringReader(response)));
         } catch (SAXException | ParserConfigurationException e) {
             throw new ReceivedMessageParseException(e);
         }
     }
 
+    private static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = documentBuilder.get();
+        if (builder == null) {
+            synchronized (dbf) {
+                builder = dbf.newDocumentBuilder();
+            }
+            documentBuilder.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Streams through the given xml message and collects the inner text of the nodes at the given paths, without
+     * building a document. The paths are resolved like {@link #getNode(Node, String)} does it: starting with the root
+     * element of the message, each path element selects the first descendant with that name. This is meant for the
+     * frequently polled status responses, where only a handful of values is needed.
+     *
+     * @param message XML formatted message.
+     * @param rootPath Path of the node the other paths are relative to (e.g. Main_Zone/Basic_Status).
+     * @param nodePaths Paths of the nodes to collect, relative to the rootPath.
+     * @return The inner text for each path that was found. Paths that were not found are missing in the map.
+     * @throws ReceivedMessageParseException when the message is not xml.
+     */
+    public static Map<String, String> getNodeContents(String message, String rootPath, Collection<String> nodePaths)
+            throws ReceivedMessageParseException {
+        String[] rootPathArr = rootPath.split("/");
+        PathMatcher[] matchers = new PathMatcher[nodePaths.size()];
+        int i = 0;
+        for (String nodePath : nodePaths) {
+            String[] nodePathArr = nodePath.split("/");
+            String[] fullPath = new String[rootPathArr.length + nodePathArr.length];
+            System.arraycopy(rootPathArr, 0, fullPath, 0, rootPathArr.length);
+            System.arraycopy(nodePathArr, 0, fullPath, rootPathArr.length, nodePathArr.length);
+            matchers[i++] = new PathMatcher(nodePath, fullPath);
+        }
+
+        Map<String, String> contents = new HashMap<>();
+        XMLStreamReader reader = null;
+        try {
+            reader = xif.createXMLStreamReader(new StringReader(message));
+            int depth = 0;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        // the root element itself is not part of the path
+                        if (depth > 1) {
+                            String name = reader.getLocalName();
+                            for (PathMatcher matcher : matchers) {
+                                matcher.startElement(name, depth);
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        for (PathMatcher matcher : matchers) {
+                            matcher.characters(reader);
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        for (PathMatcher matcher : matchers) {
+                            matcher.endElement(depth, contents);
+                        }
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new ReceivedMessageParseException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.trace("Could not close the xml reader", e);
+                }
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Follows one path while streaming through a message. Once a path element has been matched, the next one has to
+     * be found within it, otherwise the path does not exist (the same as with
+     * {@link org.w3c.dom.Element#getElementsByTagName(String)}).
+     */
+    private static class PathMatcher {
+        private final String nodePath;
+        private final String[] path;
+        private final int[] matchedDepth;
+        private int matched;
+        private boolean done;
+        private StringBuilder text;
+
+        PathMatcher(String nodePath, String[] path) {
+            this.nodePath = nodePath;
+            this.path = path;
+            this.matchedDepth = new int[path.length];
+        }
+
+        void startElement(String name, int depth) {
+            if (!done && matched < path.length && path[matched].equals(name)) {
+                matchedDepth[matched++] = depth;
+                if (matched == path.length) {
+                    text = new StringBuilder();
+                }
+            }
+        }
+
+        void characters(XMLStreamReader reader) {
+            if (text != null) {
+                text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+        }
+
+        void endElement(int depth, Map<String, String> contents) {
+            if (done || matched == 0 || matchedDepth[matched - 1] != depth) {
+                return;
+            }
+            if (text != null) {
+                contents.put(nodePath, text.toString());
+                text = null;
+            }
+            // either the node has been found or the element it had to be found in is closed
+            done = true;
+        }
+    }
+
     /**
      * Wraps the XML message with the zone tags. Example with zone=Main_Zone:
      * <Main_Zone>message</Main_Zone>.
@@ -10,6 +10,8 @@ package org.openhab.binding.yamahareceiver.internal.protocol.xml;
 
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang.StringUtils;
@@ -24,13 +26,10 @@ import org.openhab.binding.yamahareceiver.internal.state.ZoneControlState;
 import org.openhab.binding.yamahareceiver.internal.state.ZoneControlStateListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Node;
 
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.OFF;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.ON;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.POWER_STANDBY;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrDefault;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrEmpty;
 
 /**
  * The zone protocol class is used to control one zone of a Yamaha receiver with HTTP/xml.
@@ -226,41 +225,44 @@ public class ZoneControlXML implements ZoneControl {
             return;
         }
 
-        Node statusNode = XMLProtocolService.getZoneResponse(comReference.get(), zone,
-                "<Basic_Status>GetParam</Basic_Status>", "Basic_Status");
+        // The status is polled frequently, so only the needed values are streamed out of the response
+        Map<String, String> status = XMLProtocolService.getZoneResponseContents(comReference.get(), zone,
+                "<Basic_Status>GetParam</Basic_Status>", "Basic_Status",
+                Arrays.asList(powerPath, mutePath, volumePath, inputSelPath, inputSelNamePath, surroundSelStraightPath,
+                        surroundSelProgramPath, dialogueLevelPath));
 
         String value;
 
         ZoneControlState state = new ZoneControlState();
 
-        value = getNodeContentOrEmpty(statusNode, powerPath);
+        value = status.getOrDefault(powerPath, "");
         state.power = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, mutePath);
+        value = status.getOrDefault(mutePath, "");
         state.mute = ON.equalsIgnoreCase(value);
 
         // The value comes in dB x 10, on AVR it says -30.5dB, the values comes as -305
-        value = getNodeContentOrDefault(statusNode, volumePath, String.valueOf(zoneConfiguration.getVolumeDbMin()));
+        value = status.getOrDefault(volumePath, String.valueOf(zoneConfiguration.getVolumeDbMin()));
         state.volumeDB = Float.parseFloat(value) * .1f; // in dB
 
-        value = getNodeContentOrEmpty(statusNode, inputSelPath);
+        value = status.getOrDefault(inputSelPath, "");
         state.inputID = inputConverterSupplier.get().fromStateName(value);
         if (StringUtils.isBlank(state.inputID)) {
             throw new ReceivedMessageParseException("Expected inputID. Failed to read Input/Input_Sel");
         }
 
         // Some receivers may use Src_Name instead?
-        value = getNodeContentOrEmpty(statusNode, inputSelNamePath);
+        value = status.getOrDefault(inputSelNamePath, "");
         state.inputName = value;
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelStraightPath);
+        value = status.getOrDefault(surroundSelStraightPath, "");
         boolean straightOn = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelProgramPath);
+        value = status.getOrDefault(surroundSelProgramPath, "");
         // Surround is either in straight mode or sound program
         state.surroundProgram = straightOn ? SURROUND_PROGRAM_STRAIGHT : value;
 
-        value = getNodeContentOrDefault(statusNode, dialogueLevelPath, "0");
+        value = status.getOrDefault(dialogueLevelPath, "0");
         state.dialogueLevel = Integer.parseInt(value);
 
         logger.debug("Zone {} state - power: {}, mute: {}, volumeDB: {}, input: {}, surroundProgram: {}",
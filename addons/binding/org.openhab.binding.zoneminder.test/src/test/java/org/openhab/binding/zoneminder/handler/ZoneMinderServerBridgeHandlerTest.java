@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.zoneminder.handler;
+
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.smarthome.core.thing.Bridge;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingUID;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.zoneminder.internal.DataRefreshPriorityEnum;
+
+import name.eskildsen.zoneminder.IZoneMinderMonitorData;
+import name.eskildsen.zoneminder.IZoneMinderServer;
+import name.eskildsen.zoneminder.IZoneMinderSession;
+
+/**
+ * Tests that the {@link ZoneMinderServerBridgeHandler} refreshes all monitors from a single monitor list request.
+ *
+ * @author agent - Initial contribution
+ */
+public class ZoneMinderServerBridgeHandlerTest {
+
+    private final IZoneMinderSession session = mock(IZoneMinderSession.class);
+    private final IZoneMinderServer server = mock(IZoneMinderServer.class);
+
+    private ZoneMinderServerBridgeHandler bridgeHandler;
+
+    @Before
+    public void setUp() {
+        Bridge bridge = mock(Bridge.class);
+        when(bridge.getUID()).thenReturn(new ThingUID("zoneminder:server:test"));
+        when(session.isConnected()).thenReturn(true);
+
+        bridgeHandler = new ZoneMinderServerBridgeHandler(bridge) {
+            @Override
+            public synchronized Boolean isConnected() {
+                return true;
+            }
+
+            @Override
+            protected IZoneMinderServer getServerProxy(IZoneMinderSession session) {
+                return server;
+            }
+        };
+    }
+
+    @Test
+    public void singleMonitorListUpdatesAllMonitors() {
+        IZoneMinderMonitorData data1 = createMonitorData("1");
+        IZoneMinderMonitorData data2 = createMonitorData("2");
+        IZoneMinderMonitorData data3 = createMonitorData("3");
+        when(server.getMonitors()).thenReturn(new ArrayList<>(Arrays.asList(data1, data2, data3)));
+
+        ZoneMinderThingMonitorHandler monitor1 = createMonitorHandler("1");
+        ZoneMinderThingMonitorHandler monitor2 = createMonitorHandler("2");
+        ZoneMinderThingMonitorHandler monitor3 = createMonitorHandler("3");
+
+        bridgeHandler.refreshMonitors(session, Arrays.asList(monitor1, monitor2, monitor3),
+                DataRefreshPriorityEnum.SCHEDULED);
+
+        verify(server, times(1)).getMonitors();
+        verify(monitor1).setMonitorData(data1);
+        verify(monitor2).setMonitorData(data2);
+        verify(monitor3).setMonitorData(data3);
+    }
+
+    @Test
+    public void monitorMissingFromListIsRefreshedIndividually() {
+        IZoneMinderMonitorData data1 = createMonitorData("1");
+        when(server.getMonitors()).thenReturn(new ArrayList<>(Arrays.asList(data1)));
+
+        ZoneMinderThingMonitorHandler monitor1 = createMonitorHandler("1");
+        ZoneMinderThingMonitorHandler monitor2 = createMonitorHandler("2");
+
+        bridgeHandler.refreshMonitors(session, Arrays.asList(monitor1, monitor2), DataRefreshPriorityEnum.SCHEDULED);
+
+        verify(server, times(1)).getMonitors();
+        verify(monitor1).setMonitorData(data1);
+        // without data from the list the monitor requests its data itself
+        verify(monitor2).setMonitorData(null);
+    }
+
+    @Test
+    public void failingMonitorListFallsBackToIndividualRefresh() {
+        when(server.getMonitors()).thenThrow(new IllegalStateException("connection refused"));
+
+        List<ZoneMinderThingMonitorHandler> monitors = Arrays.asList(createMonitorHandler("1"),
+                createMonitorHandler("2"));
+
+        bridgeHandler.refreshMonitors(session, monitors, DataRefreshPriorityEnum.SCHEDULED);
+
+        verify(server, times(1)).getMonitors();
+        for (ZoneMinderThingMonitorHandler monitor : monitors) {
+            verify(monitor).setMonitorData(null);
+        }
+    }
+
+    private IZoneMinderMonitorData createMonitorData(String id) {
+        IZoneMinderMonitorData data = mock(IZoneMinderMonitorData.class);
+        when(data.getId()).thenReturn(id);
+        return data;
+    }
+
+    private ZoneMinderThingMonitorHandler createMonitorHandler(String id) {
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(new ThingUID("zoneminder:monitor:test:" + id));
+
+        ZoneMinderThingMonitorHandler handler = mock(ZoneMinderThingMonitorHandler.class);
+        when(handler.getZoneMinderId()).thenReturn(id);
+        when(handler.getThing()).thenReturn(thing);
+        return handler;
+    }
+}
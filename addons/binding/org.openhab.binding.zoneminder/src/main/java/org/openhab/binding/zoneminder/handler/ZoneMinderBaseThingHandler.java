@@ -160,7 +160,13 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
         return ch.getUID();
     }
 
-    protected abstract void onFetchData();
+    /**
+     * Fetches the data of the thing from the ZoneMinder Server.
+     *
+     * @param refreshPriority priority of the refresh, a high priority refresh may skip data which is not needed to
+     *            follow an alarm
+     */
+    protected abstract void onFetchData(DataRefreshPriorityEnum refreshPriority);
 
     /**
      * Method to Refresh Thing Handler.
@@ -183,7 +189,7 @@ public abstract class ZoneMinderBaseThingHandler extends BaseThingHandler implem
                 logger.debug("{}: refreshThing(): Bridge '{}' Found for Thing '{}'!", getLogIdentifier(),
                         getThing().getUID(), this.getThing().getUID());
 
-                onFetchData();
+                onFetchData(refreshPriority);
             }
         }
 
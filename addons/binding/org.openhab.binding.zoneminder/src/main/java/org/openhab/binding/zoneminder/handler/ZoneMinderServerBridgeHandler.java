@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import org.eclipse.smarthome.core.thing.ThingStatusInfo;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
@@ -181,37 +183,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
     private Runnable refreshPriorityDataRunnable = () -> {
         try {
-            // Make sure priority updates is done
-            for (Thing thing : getThing().getThings()) {
-                try {
-                    if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                        Thing thingMonitor = thing;
-
-                        ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
-                        if (thingHandler != null) {
-
-                            if (thingHandler.getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
-                                logger.debug("[MONITOR-{}]: RefreshPriority is High Priority",
-                                        thingHandler.getZoneMinderId());
-                                thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY);
-                            }
-                        } else {
-                            logger.debug(
-                                    "[MONITOR]: refreshThing not called for monitor, since thingHandler is 'null'");
-                        }
-                    }
-                } catch (NullPointerException ex) {
-                    // This isn't critical (unless it comes over and over). There seems to be a bug so that a
-                    // null
-                    // pointer exception is coming every now and then.
-                    // HAve to find the reason for that. Until thenm, don't Spamm
-                    logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
-                } catch (Exception ex) {
-                    logger.error("[MONITOR]: Method 'refreshThing()' for Bridge failed for thing='{}' - Exception: ",
-                            thing.getUID(), ex);
-                }
-            }
+            refreshPriorityMonitors();
         } catch (Exception exception) {
             logger.error("[MONITOR]: monitorRunnable::run(): Exception: ", exception);
         }
@@ -477,30 +449,120 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         /*
          * Request Things attached to Bridge to refresh
          */
+        List<ZoneMinderThingMonitorHandler> monitorHandlers = new ArrayList<>();
         for (Thing thing : things) {
-            try {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof ZoneMinderThingMonitorHandler) {
+                monitorHandlers.add((ZoneMinderThingMonitorHandler) thingHandler);
+            }
+        }
+        refreshMonitors(session, monitorHandlers, DataRefreshPriorityEnum.SCHEDULED);
+    }
 
-                if (thing.getThingTypeUID().equals(ZoneMinderConstants.THING_TYPE_THING_ZONEMINDER_MONITOR)) {
-                    Thing thingMonitor = thing;
-                    ZoneMinderBaseThingHandler thingHandler = (ZoneMinderBaseThingHandler) thing.getHandler();
+    /**
+     * Refreshes the monitors which are in high priority mode (i.e. which have an active alarm).
+     */
+    protected synchronized void refreshPriorityMonitors() {
+        List<ZoneMinderThingMonitorHandler> monitorHandlers = new ArrayList<>();
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof ZoneMinderThingMonitorHandler && ((ZoneMinderThingMonitorHandler) thingHandler)
+                    .getRefreshPriority() == DataRefreshPriorityEnum.HIGH_PRIORITY) {
+                monitorHandlers.add((ZoneMinderThingMonitorHandler) thingHandler);
+            }
+        }
 
-                    thingHandler.refreshThing(session, DataRefreshPriorityEnum.SCHEDULED);
-                }
+        if (!monitorHandlers.isEmpty()) {
+            refreshMonitors(zoneMinderSession, monitorHandlers, DataRefreshPriorityEnum.HIGH_PRIORITY);
+        }
+    }
+
+    /**
+     * Requests a refresh of the monitors in high priority mode, without waiting for the next run of the priority
+     * refresh task. Called when an alarm event has been pushed by the ZoneMinder Server.
+     */
+    public void requestPriorityRefresh() {
+        if (isOnline()) {
+            scheduler.execute(refreshPriorityDataRunnable);
+        }
+    }
+
+    /**
+     * Refreshes the given monitors. The data of all monitors is fetched from the ZoneMinder Server with a single
+     * request, and handed to the monitor handlers, which then only request the data not contained in the monitor list.
+     */
+    protected void refreshMonitors(IZoneMinderSession session, List<ZoneMinderThingMonitorHandler> monitorHandlers,
+            DataRefreshPriorityEnum refreshPriority) {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, IZoneMinderMonitorData> monitorData = fetchMonitorData(session);
+
+        for (ZoneMinderThingMonitorHandler thingHandler : monitorHandlers) {
+            try {
+                thingHandler.setMonitorData(monitorData.get(thingHandler.getZoneMinderId()));
+                thingHandler.refreshThing(session, refreshPriority);
 
             } catch (NullPointerException ex) {
                 // This isn't critical (unless it comes over and over). There seems to be a bug so that a null
                 // pointer exception is coming every now and then.
                 // HAve to find the reason for that. Until thenm, don't Spamm
                 logger.debug("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
-                        getLogIdentifier(), this.getZoneMinderId(), thing.getUID(), ex.getMessage());
+                        getLogIdentifier(), this.getZoneMinderId(), thingHandler.getThing().getUID(), ex.getMessage());
 
                 // Other exceptions has to be shown as errors
             } catch (Exception ex) {
                 logger.error("{}: Method 'refreshThing()' for Bridge {} failed for thing='{}' - Exception='{}'",
-                        getLogIdentifier(), this.getZoneMinderId(), thing.getUID(), ex.getMessage());
+                        getLogIdentifier(), this.getZoneMinderId(), thingHandler.getThing().getUID(), ex.getMessage());
+            }
+        }
+
+        logger.debug("{}: Refreshed {} monitor(s) with priority '{}' in {} ms", getLogIdentifier(),
+                monitorHandlers.size(), refreshPriority, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Fetches the data of all monitors with a single request.
+     *
+     * @return the monitor data by monitor id, empty if the data could not be fetched
+     */
+    private Map<String, IZoneMinderMonitorData> fetchMonitorData(IZoneMinderSession session) {
+        Map<String, IZoneMinderMonitorData> result = new HashMap<>();
+
+        if ((session == null) || !isConnected()) {
+            return result;
+        }
+
+        try {
+            IZoneMinderServer serverProxy = getServerProxy(session);
+            ArrayList<IZoneMinderMonitorData> monitors = serverProxy.getMonitors();
+            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                    serverProxy.getHttpUrl(), serverProxy.getHttpResponseCode(), serverProxy.getHttpResponseMessage());
+
+            if (monitors != null) {
+                for (IZoneMinderMonitorData monitor : monitors) {
+                    result.put(monitor.getId(), monitor);
+                }
             }
+        } catch (Exception ex) {
+            logger.debug("{}: Monitor list could not be obtained, monitors are refreshed individually (Exception='{}')",
+                    getLogIdentifier(), ex.getMessage());
         }
 
+        return result;
+    }
+
+    /**
+     * Returns the proxy through which the server wide data is requested from the ZoneMinder Server.
+     */
+    protected IZoneMinderServer getServerProxy(IZoneMinderSession session) {
+        return ZoneMinderFactory.getServerProxy(session);
+    }
+
+    /**
+     * Returns whether the monitors should subscribe to the events pushed by the ZoneMinder Server on the telnet port.
+     */
+    public boolean isTelnetEventsEnabled() {
+        return getBridgeConfig().getTelnetEvents();
     }
 
     /**
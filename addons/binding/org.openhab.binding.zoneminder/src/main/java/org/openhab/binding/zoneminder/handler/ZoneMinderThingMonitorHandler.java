@@ -79,6 +79,9 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     private ZoneMinderEvent curEvent = null;
 
+    /** Monitor data fetched by the bridge for all monitors, used for the next refresh */
+    private volatile IZoneMinderMonitorData bulkMonitorData = null;
+
     /**
      * Channels
      */
@@ -124,7 +127,11 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             logger.info("{}: Bridge '{}' connected", getLogIdentifier(), bridge.getThing().getUID().getAsString());
             super.onBridgeConnected(bridge, connection);
 
-            ZoneMinderFactory.SubscribeMonitorEvents(connection, config.getZoneMinderId(), this);
+            if (bridge.isTelnetEventsEnabled()) {
+                ZoneMinderFactory.SubscribeMonitorEvents(connection, config.getZoneMinderId(), this);
+            } else {
+                logger.debug("{}: Telnet events disabled, alarms are detected by polling", getLogIdentifier());
+            }
             IZoneMinderSession session = aquireSession();
             IZoneMinderMonitor monitor = ZoneMinderFactory.getMonitorProxy(session, config.getZoneMinderId());
             IZoneMinderMonitorData monitorData = monitor.getMonitorData();
@@ -340,6 +347,11 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             if (event.getState()) {
                 startPriorityRefresh();
 
+                ZoneMinderServerBridgeHandler bridgeHandler = getZoneMinderBridgeHandler();
+                if (bridgeHandler != null) {
+                    bridgeHandler.requestPriorityRefresh();
+                }
+
             } else {
                 curEvent = null;
             }
@@ -721,8 +733,18 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
 
     }
 
+    /**
+     * Sets the data of the monitor fetched by the bridge from the monitor list, so that it need not be requested
+     * separately on the next refresh.
+     *
+     * @param monitorData the monitor data, or null if it is not available
+     */
+    public void setMonitorData(IZoneMinderMonitorData monitorData) {
+        bulkMonitorData = monitorData;
+    }
+
     @Override
-    protected void onFetchData() {
+    protected void onFetchData(DataRefreshPriorityEnum refreshPriority) {
 
         IZoneMinderSession session = null;
 
@@ -730,35 +752,50 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
         try {
             IZoneMinderMonitor monitorProxy = ZoneMinderFactory.getMonitorProxy(session, getZoneMinderId());
 
-            IZoneMinderMonitorData data = null;
+            IZoneMinderMonitorData data = bulkMonitorData;
             IZoneMinderDaemonStatus captureDaemon = null;
             IZoneMinderDaemonStatus analysisDaemon = null;
             IZoneMinderDaemonStatus frameDaemon = null;
 
-            data = monitorProxy.getMonitorData();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // The monitor list doesn't carry a response code, data taken from it is valid
+            boolean dataValid = true;
+            bulkMonitorData = null;
 
-            captureDaemon = monitorProxy.getCaptureDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            if (data == null) {
+                data = monitorProxy.getMonitorData();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+                dataValid = (data.getHttpResponseCode() == 200);
+            }
 
-            analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            // The daemons are not needed to follow an alarm, they are only checked on scheduled refreshes
+            boolean fetchDaemonStatus = (refreshPriority != DataRefreshPriorityEnum.HIGH_PRIORITY);
+            boolean daemonStatusValid = true;
 
-            frameDaemon = monitorProxy.getFrameDaemonStatus();
-            logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
-                    monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
-                    monitorProxy.getHttpResponseMessage());
+            if (fetchDaemonStatus) {
+                captureDaemon = monitorProxy.getCaptureDaemonStatus();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                analysisDaemon = monitorProxy.getAnalysisDaemonStatus();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                frameDaemon = monitorProxy.getFrameDaemonStatus();
+                logger.debug("{}: URL='{}' ResponseCode='{}' ResponseMessage='{}'", getLogIdentifier(),
+                        monitorProxy.getHttpUrl(), monitorProxy.getHttpResponseCode(),
+                        monitorProxy.getHttpResponseMessage());
+
+                daemonStatusValid = (captureDaemon.getHttpResponseCode() == 200)
+                        && (analysisDaemon.getHttpResponseCode() == 200) && (frameDaemon.getHttpResponseCode() == 200);
+            }
 
-            if ((data.getHttpResponseCode() != 200) || (captureDaemon.getHttpResponseCode() != 200)
-                    || (analysisDaemon.getHttpResponseCode() != 200) || (frameDaemon.getHttpResponseCode() != 200)) {
+            if (!dataValid || !daemonStatusValid) {
 
-                if (data.getHttpResponseCode() != 200) {
+                if (!dataValid) {
                     logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
                             data.getHttpResponseCode(), data.getHttpResponseMessage());
 
@@ -767,19 +804,19 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                     channelEnabled = false;
                     channelEventCause = "";
                 }
-                if (captureDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemonStatus && (captureDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonCapture = false;
                     logger.warn("{}: HTTP Response CaptureDaemon: Code='{}', Message'{}'", getLogIdentifier(),
                             captureDaemon.getHttpResponseCode(), captureDaemon.getHttpResponseMessage());
 
                 }
-                if (analysisDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemonStatus && (analysisDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonAnalysis = false;
 
                     logger.warn("{}: HTTP Response AnalysisDaemon: Code='{}', Message='{}'", getLogIdentifier(),
                             analysisDaemon.getHttpResponseCode(), analysisDaemon.getHttpResponseMessage());
                 }
-                if (frameDaemon.getHttpResponseCode() != 200) {
+                if (fetchDaemonStatus && (frameDaemon.getHttpResponseCode() != 200)) {
                     channelDaemonFrame = false;
                     logger.warn("{}: HTTP Response MonitorData: Code='{}', Message'{}'", getLogIdentifier(),
                             frameDaemon.getHttpResponseCode(), frameDaemon.getHttpResponseMessage());
@@ -801,9 +838,11 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
                         channelEventCause = "";
                     }
 
-                    channelDaemonCapture = captureDaemon.getStatus();
-                    channelDaemonAnalysis = analysisDaemon.getStatus();
-                    channelDaemonFrame = frameDaemon.getStatus();
+                    if (fetchDaemonStatus) {
+                        channelDaemonCapture = captureDaemon.getStatus();
+                        channelDaemonAnalysis = analysisDaemon.getStatus();
+                        channelDaemonFrame = frameDaemon.getStatus();
+                    }
                 } else {
                     channelMonitorStatus = ZoneMinderMonitorStatusEnum.UNKNOWN;
                     channelFunction = ZoneMinderMonitorFunctionEnum.NONE;
@@ -21,6 +21,7 @@ public class ZoneMinderBridgeServerConfig extends ZoneMinderConfig {
     private String hostname;
     private Integer http_port;
     private Integer telnet_port;
+    private Boolean telnet_events;
 
     private String protocol;
 
@@ -68,6 +69,14 @@ public class ZoneMinderBridgeServerConfig extends ZoneMinderConfig {
         this.telnet_port = telnetPort;
     }
 
+    public Boolean getTelnetEvents() {
+        return (telnet_events == null) ? true : telnet_events;
+    }
+
+    public void setTelnetEvents(Boolean telnetEvents) {
+        this.telnet_events = telnetEvents;
+    }
+
     public String getProtocol() {
         return protocol;
     }
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local TCP server standing in for a telnet style device. It accepts any number of clients, records the lines sent
+ * by them and sends data to the last client accepted.
+ *
+ * @author agent - Initial contribution
+ */
+class FakeLineServer implements AutoCloseable {
+
+    private static final long TIMEOUT = 5000;
+
+    private final ServerSocket serverSocket;
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private final AtomicInteger accepted = new AtomicInteger();
+    private volatile Socket client;
+    private volatile CountDownLatch readGate = new CountDownLatch(0);
+
+    FakeLineServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        final Thread acceptor = new Thread(this::accept, "FakeLineServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Waits until the given number of clients has been accepted
+     *
+     * @return the number of clients accepted so far
+     */
+    int awaitAccepted(int count) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT;
+        while (accepted.get() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        return accepted.get();
+    }
+
+    /**
+     * Sends the data as is to the last client accepted
+     */
+    void send(String data) throws IOException {
+        final OutputStream out = awaitClient().getOutputStream();
+        out.write(data.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    /**
+     * Returns the next line received from any client or null if none arrived within the timeout
+     */
+    String takeLine(long timeout) throws InterruptedException {
+        return lines.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Holds back reading from the clients accepted from now on until {@link #resumeReading()} is called, so that their
+     * writes stall once the socket buffers are full
+     */
+    void stopReading() {
+        readGate = new CountDownLatch(1);
+    }
+
+    /**
+     * Starts reading from the clients held back by {@link #stopReading()}
+     */
+    void resumeReading() {
+        readGate.countDown();
+    }
+
+    /**
+     * Closes the connection to the last client accepted
+     */
+    void dropClient() throws IOException {
+        awaitClient().close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        final Socket current = client;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Returns the last client accepted, waiting for the first one if the client connected before it was accepted
+     */
+    private Socket awaitClient() throws IOException {
+        try {
+            awaitAccepted(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final Socket current = client;
+        if (current == null) {
+            throw new IOException("No client accepted");
+        }
+        return current;
+    }
+
+    private void accept() {
+        try {
+            while (!serverSocket.isClosed()) {
+                final Socket socket = serverSocket.accept();
+                client = socket;
+                accepted.incrementAndGet();
+                final Thread reader = new Thread(() -> read(socket), "FakeLineServer-client");
+                reader.setDaemon(true);
+                reader.start();
+            }
+        } catch (IOException e) {
+            // server closed
+        }
+    }
+
+    private void read(Socket socket) {
+        try {
+            readGate.await();
+        } catch (InterruptedException e) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            // client dropped
+        }
+    }
+}
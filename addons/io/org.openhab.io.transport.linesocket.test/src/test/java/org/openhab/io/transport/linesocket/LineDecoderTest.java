@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LineDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineDecoderTest {
+
+    private final LineDecoder decoder = new LineDecoder(StandardCharsets.ISO_8859_1, new String[] { "\r\n" },
+            new String[] { "Login: ", "Password: " });
+
+    private final List<String> frames = new ArrayList<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    @Test
+    public void decodesCompleteLines() {
+        receive("S VERSION=\"1.02\"\r\nN C[1].Z[1].volume=\"10\"\r\n");
+
+        assertEquals(2, frames.size());
+        assertEquals("S VERSION=\"1.02\"", frames.get(0));
+        assertEquals("N C[1].Z[1].volume=\"10\"", frames.get(1));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void keepsIncompleteLine() {
+        receive("S VERSION=\"1.");
+        assertTrue(frames.isEmpty());
+
+        receive("02\"\r");
+        assertTrue(frames.isEmpty());
+
+        receive("\nS");
+        assertEquals(1, frames.size());
+        assertEquals("S VERSION=\"1.02\"", frames.get(0));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void decodesEmptyLines() {
+        receive("\r\n\r\nE\r\n");
+
+        assertEquals(3, frames.size());
+        assertEquals("", frames.get(0));
+        assertEquals("", frames.get(1));
+        assertEquals("E", frames.get(2));
+    }
+
+    @Test
+    public void decodesPrompts() {
+        receive("Welcome\r\nLogin: ");
+
+        assertEquals(2, frames.size());
+        assertEquals("Welcome", frames.get(0));
+        assertEquals("Login:", frames.get(1));
+    }
+
+    @Test
+    public void supportsMultipleDelimiters() {
+        final LineDecoder lineDecoder = new LineDecoder(StandardCharsets.ISO_8859_1, "\r\n", "\r", "\n");
+        buffer.put("a\rb\nc\r\nd".getBytes(StandardCharsets.ISO_8859_1));
+        buffer.flip();
+        lineDecoder.decode(buffer, frames::add);
+
+        assertEquals(3, frames.size());
+        assertEquals("a", frames.get(0));
+        assertEquals("b", frames.get(1));
+        assertEquals("c", frames.get(2));
+        assertEquals(1, buffer.remaining());
+    }
+
+    /**
+     * Appends the data to the buffer and decodes it the way the reactor does
+     */
+    private void receive(String data) {
+        buffer.put(data.getBytes(StandardCharsets.ISO_8859_1));
+        buffer.flip();
+        decoder.decode(buffer, frames::add);
+        buffer.compact();
+    }
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LineSocketConnection} and the {@link LineSocketReactor}, against a {@link FakeLineServer}.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineSocketConnectionTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private final LineDecoder decoder = new LineDecoder(StandardCharsets.ISO_8859_1, "\r\n");
+    private final List<LineSocketConnection> connections = new ArrayList<>();
+
+    private FakeLineServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new FakeLineServer();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (LineSocketConnection connection : connections) {
+            connection.close();
+        }
+        server.close();
+    }
+
+    @Test
+    public void receivesFramesSplitAcrossReads() throws Exception {
+        final RecordingListener listener = new RecordingListener();
+        open(config(), listener).awaitConnected(TIMEOUT);
+        assertEquals("connected", listener.next());
+
+        server.send("S VERSION=\"1");
+        Thread.sleep(50);
+        server.send(".02\"\r\nN C[1].Z[1].volume=\"10\"\r\n");
+
+        assertEquals("S VERSION=\"1.02\"", listener.next());
+        assertEquals("N C[1].Z[1].volume=\"10\"", listener.next());
+    }
+
+    @Test
+    public void sendsMessages() throws Exception {
+        final LineSocketConnection connection = open(config(), new RecordingListener());
+        connection.awaitConnected(TIMEOUT);
+
+        connection.send("GET VERSION\r\n");
+        connection.send("WATCH System ON\r\n");
+
+        assertEquals("GET VERSION", server.takeLine(TIMEOUT));
+        assertEquals("WATCH System ON", server.takeLine(TIMEOUT));
+    }
+
+    @Test
+    public void failsWithoutServer() throws Exception {
+        final int port;
+        try (ServerSocket unused = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = unused.getLocalPort();
+        }
+
+        final LineSocketConnection connection = open(new LineSocketConfig("127.0.0.1", port),
+                new RecordingListener());
+        try {
+            connection.awaitConnected(TIMEOUT);
+            fail("Expected the connection to fail");
+        } catch (IOException e) {
+            assertFalse(connection.isConnected());
+        }
+    }
+
+    @Test
+    public void reportsLostConnection() throws Exception {
+        final RecordingListener listener = new RecordingListener();
+        final LineSocketConnection connection = open(config(), listener);
+        connection.awaitConnected(TIMEOUT);
+        assertEquals("connected", listener.next());
+
+        server.dropClient();
+
+        assertEquals("disconnected", listener.next());
+        assertFalse(connection.isConnected());
+        try {
+            connection.send("GET VERSION\r\n");
+            fail("Expected sending to fail");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void reconnectsAfterLostConnection() throws Exception {
+        final LineSocketConfig config = config();
+        config.setReconnect(true);
+        config.setReconnectDelay(50);
+
+        final RecordingListener listener = new RecordingListener();
+        final LineSocketConnection connection = open(config, listener);
+        connection.awaitConnected(TIMEOUT);
+        assertEquals("connected", listener.next());
+
+        server.dropClient();
+
+        assertEquals("disconnected", listener.next());
+        assertEquals("connected", listener.next());
+        assertEquals(2, server.awaitAccepted(2));
+
+        connection.send("GET VERSION\r\n");
+        assertEquals("GET VERSION", server.takeLine(TIMEOUT));
+    }
+
+    @Test
+    public void sendsAfterReconnectDuringPartialWrite() throws Exception {
+        final LineSocketConfig config = config();
+        config.setReconnect(true);
+        config.setReconnectDelay(50);
+        server.stopReading();
+
+        final RecordingListener listener = new RecordingListener();
+        final LineSocketConnection connection = open(config, listener);
+        connection.awaitConnected(TIMEOUT);
+        assertEquals("connected", listener.next());
+
+        // larger than the socket buffers, so the write stays unfinished while the server doesn't read
+        final StringBuilder message = new StringBuilder();
+        while (message.length() < 16 * 1024 * 1024) {
+            message.append("SET C[1].Z[1].name=\"0123456789012345678901234567890123456789\" ");
+        }
+        connection.send(message.append("\r\n").toString());
+        Thread.sleep(200);
+
+        server.dropClient();
+        server.resumeReading();
+
+        assertEquals("disconnected", listener.next());
+        assertEquals("connected", listener.next());
+
+        connection.send("GET VERSION\r\n");
+        assertEquals("GET VERSION", server.takeLine(TIMEOUT));
+    }
+
+    @Test
+    public void sendsKeepAliveWhenNothingSent() throws Exception {
+        final LineSocketConfig config = config();
+        config.setKeepAlive("VERSION\r\n", 100);
+
+        open(config, new RecordingListener()).awaitConnected(TIMEOUT);
+
+        assertEquals("VERSION", server.takeLine(TIMEOUT));
+        assertEquals("VERSION", server.takeLine(TIMEOUT));
+    }
+
+    @Test
+    public void dropsIdleConnection() throws Exception {
+        final LineSocketConfig config = config();
+        config.setIdleTimeout(200);
+
+        final RecordingListener listener = new RecordingListener();
+        final LineSocketConnection connection = open(config, listener);
+        connection.awaitConnected(TIMEOUT);
+        assertEquals("connected", listener.next());
+
+        server.send("E ping\r\n");
+        assertEquals("E ping", listener.next());
+
+        assertEquals("disconnected", listener.next());
+        assertFalse(connection.isConnected());
+    }
+
+    @Test
+    public void servesManyConnectionsWithOneThread() throws Exception {
+        final List<RecordingListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final RecordingListener listener = new RecordingListener();
+            final LineSocketConnection connection = open(config(), listener);
+            connection.awaitConnected(TIMEOUT);
+            connection.send("GET C[" + i + "].type\r\n");
+            listeners.add(listener);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(server.takeLine(TIMEOUT));
+            assertEquals("connected", listeners.get(i).next());
+        }
+
+        int reactors = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("OH-linesocket-reactor".equals(thread.getName())) {
+                reactors++;
+            }
+        }
+        assertEquals(1, reactors);
+    }
+
+    private LineSocketConfig config() {
+        return new LineSocketConfig("127.0.0.1", server.getPort());
+    }
+
+    private LineSocketConnection open(LineSocketConfig config, LineSocketListener listener) throws IOException {
+        final LineSocketConnection connection = LineSocketReactor.getInstance().open(config, decoder, listener);
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Records the events of a connection
+     */
+    private static class RecordingListener implements LineSocketListener {
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void connected() {
+            events.add("connected");
+        }
+
+        @Override
+        public void frameReceived(String frame) {
+            events.add(frame);
+        }
+
+        @Override
+        public void disconnected(IOException cause) {
+            events.add("disconnected");
+        }
+
+        String next() throws InterruptedException {
+            final String event = events.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertNotNull("Timed out waiting for an event", event);
+            return event;
+        }
+    }
+}
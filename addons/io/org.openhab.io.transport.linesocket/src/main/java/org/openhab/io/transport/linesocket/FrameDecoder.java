@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Splits the bytes received on a {@link LineSocketConnection} into frames.
+ *
+ * The decoder is called on the reactor thread whenever data has been read and must not block. It is given the read
+ * buffer in read mode and must consume every complete frame, passing each one to the consumer. Bytes of an incomplete
+ * frame must be left in the buffer - they are kept and the decoder is called again once more data has arrived.
+ *
+ * @author agent - Initial contribution
+ */
+public interface FrameDecoder {
+
+    /**
+     * Decodes all complete frames in the buffer
+     *
+     * @param buffer a non-null buffer in read mode, positioned at the first byte not consumed yet
+     * @param frames a non-null consumer for the decoded frames
+     * @throws IOException if the data cannot be decoded (the connection will be dropped)
+     */
+    void decode(ByteBuffer buffer, Consumer<String> frames) throws IOException;
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+
+/**
+ * A {@link FrameDecoder} for line based (telnet style) protocols.
+ *
+ * A frame ends with one of the delimiters, which is removed from the frame. Additionally prompts can be given, which
+ * end a frame as well but are part of it (with trailing whitespace removed) - like the "Login: " prompt of a device
+ * that is not followed by a new line.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineDecoder implements FrameDecoder {
+
+    private final Charset charset;
+    private final byte[][] delimiters;
+    private final byte[][] prompts;
+
+    /**
+     * Creates a decoder for lines ending with any of the delimiters
+     *
+     * @param charset the non-null charset of the lines
+     * @param delimiters the non-empty delimiters (like "\r\n")
+     */
+    public LineDecoder(Charset charset, String... delimiters) {
+        this(charset, delimiters, new String[0]);
+    }
+
+    /**
+     * Creates a decoder for lines ending with any of the delimiters or prompts
+     *
+     * @param charset the non-null charset of the lines
+     * @param delimiters the non-empty delimiters (like "\r\n")
+     * @param prompts the non-null, possibly empty prompts (like "Login: ")
+     */
+    public LineDecoder(Charset charset, String[] delimiters, String[] prompts) {
+        if (charset == null) {
+            throw new IllegalArgumentException("charset cannot be null");
+        }
+        if (delimiters == null || delimiters.length == 0) {
+            throw new IllegalArgumentException("delimiters cannot be null or empty");
+        }
+        if (prompts == null) {
+            throw new IllegalArgumentException("prompts cannot be null");
+        }
+        this.charset = charset;
+        this.delimiters = toBytes(delimiters, charset);
+        this.prompts = toBytes(prompts, charset);
+    }
+
+    private static byte[][] toBytes(String[] values, Charset charset) {
+        final byte[][] result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null || values[i].isEmpty()) {
+                throw new IllegalArgumentException("delimiters and prompts cannot be null or empty");
+            }
+            result[i] = values[i].getBytes(charset);
+        }
+        return result;
+    }
+
+    @Override
+    public void decode(ByteBuffer buffer, Consumer<String> frames) {
+        final byte[] array = buffer.array();
+        final int offset = buffer.arrayOffset();
+        final int limit = offset + buffer.limit();
+
+        int start = offset + buffer.position();
+        int i = start;
+        while (i < limit) {
+            final byte[] delimiter = match(delimiters, array, i, limit);
+            if (delimiter != null) {
+                frames.accept(new String(array, start, i - start, charset));
+                i += delimiter.length;
+                start = i;
+                continue;
+            }
+
+            final byte[] prompt = match(prompts, array, i, limit);
+            if (prompt != null) {
+                i += prompt.length;
+                frames.accept(new String(array, start, i - start, charset).trim());
+                start = i;
+                continue;
+            }
+
+            i++;
+        }
+        buffer.position(start - offset);
+    }
+
+    /**
+     * Returns the first of the patterns that occurs in the array at the given index
+     */
+    private static byte[] match(byte[][] patterns, byte[] array, int index, int limit) {
+        for (byte[] pattern : patterns) {
+            if (array[index] == pattern[0] && index + pattern.length <= limit) {
+                int p = 1;
+                while (p < pattern.length && array[index + p] == pattern[p]) {
+                    p++;
+                }
+                if (p == pattern.length) {
+                    return pattern;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+
+/**
+ * The configuration of a {@link LineSocketConnection}. All times are given in milliseconds.
+ *
+ * Reconnecting, the keep alive message and the idle timeout are disabled by default, so a connection behaves like a
+ * plain socket unless the binding asks for more.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineSocketConfig {
+
+    private static final String THREAD_POOL_NAME = "linesocket";
+
+    private final String host;
+    private final int port;
+
+    private Charset charset = StandardCharsets.ISO_8859_1;
+    private int connectTimeout = 2000;
+    private boolean reconnect = false;
+    private long reconnectDelay = 1000;
+    private long maxReconnectDelay = 60000;
+    private long keepAliveInterval = 0;
+    private String keepAliveMessage;
+    private long idleTimeout = 0;
+    private int bufferSize = 1024;
+    private int maxFrameLength = 65536;
+    private Executor executor;
+
+    /**
+     * Creates the configuration for the given host and port
+     *
+     * @param host a non-null, non-empty host/ip address
+     * @param port the port number between 1 and 65535
+     */
+    public LineSocketConfig(String host, int port) {
+        if (host == null || host.trim().length() == 0) {
+            throw new IllegalArgumentException("Host cannot be null or empty");
+        }
+
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535");
+        }
+        this.host = host;
+        this.port = port;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Sets the charset used to encode the messages sent (defaults to ISO-8859-1)
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public boolean isReconnect() {
+        return reconnect;
+    }
+
+    /**
+     * Sets whether a lost (or failed) connection is established again. The delay between two attempts starts with the
+     * reconnect delay and is doubled with each failed attempt, up to the max reconnect delay.
+     */
+    public void setReconnect(boolean reconnect) {
+        this.reconnect = reconnect;
+    }
+
+    public long getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    public void setReconnectDelay(long reconnectDelay) {
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    public long getMaxReconnectDelay() {
+        return maxReconnectDelay;
+    }
+
+    public void setMaxReconnectDelay(long maxReconnectDelay) {
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    public long getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    public String getKeepAliveMessage() {
+        return keepAliveMessage;
+    }
+
+    /**
+     * Sets the message that is sent when nothing has been sent for the given interval (0 disables it)
+     */
+    public void setKeepAlive(String keepAliveMessage, long keepAliveInterval) {
+        this.keepAliveMessage = keepAliveMessage;
+        this.keepAliveInterval = keepAliveMessage == null ? 0 : keepAliveInterval;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the time after which a connection that received nothing is considered dead and dropped (0 disables it)
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the initial size of the read buffer - it grows up to the max frame length if a frame doesn't fit
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxFrameLength() {
+        return maxFrameLength;
+    }
+
+    public void setMaxFrameLength(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    /**
+     * Returns the executor the listener is called on (defaults to a shared thread pool)
+     */
+    public Executor getExecutor() {
+        return executor == null ? ThreadPoolManager.getPool(THREAD_POOL_NAME) : executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection opened via {@link LineSocketReactor#open(LineSocketConfig, FrameDecoder, LineSocketListener)}.
+ *
+ * Messages can be sent from any thread via {@link #send(String)} - they are queued and written by the reactor thread.
+ * All other state is only touched by the reactor thread.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineSocketConnection {
+    private final Logger logger = LoggerFactory.getLogger(LineSocketConnection.class);
+
+    private enum State {
+        CONNECTING,
+        CONNECTED,
+        WAITING
+    }
+
+    private final LineSocketReactor reactor;
+    private final LineSocketConfig config;
+    private final FrameDecoder decoder;
+    private final LineSocketListener listener;
+    private final SerialExecutor events;
+
+    /**
+     * The messages waiting to be written
+     */
+    private final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Whether a write has been requested from the reactor thread and not been handled yet
+     */
+    private final AtomicBoolean writeRequested = new AtomicBoolean();
+
+    /**
+     * Completed once the connection has been established the first time
+     */
+    private final CompletableFuture<Void> firstConnect = new CompletableFuture<>();
+
+    private volatile State state = State.CONNECTING;
+    private volatile boolean closed;
+
+    // only accessed by the reactor thread
+    private SocketChannel channel;
+    private SelectionKey key;
+    private ByteBuffer readBuffer;
+    private long deadline;
+    private long lastRead;
+    private long lastWrite;
+    private int attempts;
+
+    LineSocketConnection(LineSocketReactor reactor, LineSocketConfig config, FrameDecoder decoder,
+            LineSocketListener listener) {
+        this.reactor = reactor;
+        this.config = config;
+        this.decoder = decoder;
+        this.listener = listener;
+        this.events = new SerialExecutor(config.getExecutor());
+    }
+
+    /**
+     * Waits until the connection has been established the first time
+     *
+     * @param timeout the maximum time to wait in milliseconds
+     * @throws IOException if the connection failed (and reconnecting is disabled), was closed or the timeout elapsed
+     */
+    public void awaitConnected(long timeout) throws IOException {
+        try {
+            firstConnect.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } catch (TimeoutException e) {
+            throw new SocketTimeoutException("Timed out connecting to " + config);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while connecting to " + config);
+        }
+    }
+
+    /**
+     * Checks if the connection is currently established
+     *
+     * @return true if connected
+     */
+    public boolean isConnected() {
+        return !closed && state == State.CONNECTED;
+    }
+
+    /**
+     * Queues the message to be sent. The message is sent as is - it must contain the delimiter the device expects.
+     *
+     * @param message the non-null message
+     * @throws IOException if the connection is not established
+     */
+    public void send(String message) throws IOException {
+        if (message == null) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+        if (!isConnected()) {
+            throw new IOException("Cannot send message - disconnected");
+        }
+
+        writeQueue.add(ByteBuffer.wrap(message.getBytes(config.getCharset())));
+        if (writeRequested.compareAndSet(false, true)) {
+            reactor.execute(() -> write(LineSocketReactor.now()));
+        }
+    }
+
+    /**
+     * Closes the connection. No more events will be delivered to the listener after the ones already queued.
+     */
+    public void close() {
+        if (!closed) {
+            closed = true;
+            firstConnect.completeExceptionally(new IOException("Connection to " + config + " was closed"));
+            reactor.wakeup();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Starts a connection attempt
+     */
+    void connect(long now) {
+        if (closed) {
+            return;
+        }
+        logger.debug("Connecting to {}", config);
+        state = State.CONNECTING;
+        deadline = now + config.getConnectTimeout();
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            key = channel.register(reactor.getSelector(), SelectionKey.OP_CONNECT, this);
+            if (channel.connect(new InetSocketAddress(config.getHost(), config.getPort()))) {
+                connected(now);
+            }
+        } catch (UnresolvedAddressException e) {
+            failed(new IOException("Unknown host " + config.getHost()), now);
+        } catch (IOException e) {
+            failed(e, now);
+        }
+    }
+
+    /**
+     * Handles the ready operations of the channel
+     */
+    void process(SelectionKey selectedKey, long now) {
+        if (selectedKey != key) {
+            // key of a channel closed since the select
+            return;
+        }
+        try {
+            if (key.isConnectable() && channel.finishConnect()) {
+                connected(now);
+            }
+            if (key != null && key.isValid() && key.isReadable()) {
+                read(now);
+            }
+            if (key != null && key.isValid() && key.isWritable()) {
+                write(now);
+            }
+        } catch (CancelledKeyException e) {
+            // channel was closed meanwhile
+        } catch (IOException e) {
+            failed(e, now);
+        }
+    }
+
+    /**
+     * Handles the timers of the connection
+     *
+     * @return the time the timers need to be handled again or {@link Long#MAX_VALUE} if there is no timer
+     */
+    long onTimer(long now) {
+        switch (state) {
+            case CONNECTING:
+                if (now >= deadline) {
+                    failed(new SocketTimeoutException("Timed out connecting to " + config), now);
+                }
+                break;
+            case WAITING:
+                if (now >= deadline) {
+                    connect(now);
+                }
+                break;
+            case CONNECTED:
+                if (config.getIdleTimeout() > 0 && now - lastRead >= config.getIdleTimeout()) {
+                    failed(new IOException("Nothing received for " + config.getIdleTimeout() + " ms"), now);
+                } else if (config.getKeepAliveInterval() > 0 && now - lastWrite >= config.getKeepAliveInterval()) {
+                    logger.trace("Sending keep alive to {}", config);
+                    lastWrite = now;
+                    writeQueue.add(ByteBuffer.wrap(config.getKeepAliveMessage().getBytes(config.getCharset())));
+                    write(now);
+                }
+                break;
+            default:
+                break;
+        }
+
+        switch (state) {
+            case CONNECTING:
+            case WAITING:
+                return deadline;
+            case CONNECTED:
+                long next = Long.MAX_VALUE;
+                if (config.getIdleTimeout() > 0) {
+                    next = Math.min(next, lastRead + config.getIdleTimeout());
+                }
+                if (config.getKeepAliveInterval() > 0) {
+                    next = Math.min(next, lastWrite + config.getKeepAliveInterval());
+                }
+                return next;
+            default:
+                return Long.MAX_VALUE;
+        }
+    }
+
+    private void connected(long now) {
+        logger.debug("Connected to {}", config);
+        // a write left unfinished on the previous channel must not block the writes on this one
+        writeQueue.clear();
+        writeRequested.set(false);
+        state = State.CONNECTED;
+        attempts = 0;
+        lastRead = now;
+        lastWrite = now;
+        readBuffer = ByteBuffer.allocate(config.getBufferSize());
+        key.interestOps(SelectionKey.OP_READ);
+        firstConnect.complete(null);
+        events.execute(listener::connected);
+    }
+
+    private void read(long now) throws IOException {
+        final int bytesRead = channel.read(readBuffer);
+        if (bytesRead == -1) {
+            throw new IOException("Server closed connection");
+        } else if (bytesRead == 0) {
+            return;
+        }
+        lastRead = now;
+
+        readBuffer.flip();
+        decoder.decode(readBuffer, frame -> events.execute(() -> listener.frameReceived(frame)));
+        readBuffer.compact();
+
+        if (!readBuffer.hasRemaining()) {
+            if (readBuffer.capacity() >= config.getMaxFrameLength()) {
+                throw new IOException("Frame exceeds " + config.getMaxFrameLength() + " bytes");
+            }
+            final ByteBuffer larger = ByteBuffer
+                    .allocate(Math.min(readBuffer.capacity() * 2, config.getMaxFrameLength()));
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+    }
+
+    private void write(long now) {
+        if (state != State.CONNECTED || key == null || !key.isValid()) {
+            writeRequested.set(false);
+            return;
+        }
+        try {
+            while (true) {
+                ByteBuffer buffer;
+                while ((buffer = writeQueue.peek()) != null) {
+                    channel.write(buffer);
+                    if (buffer.hasRemaining()) {
+                        // socket buffer is full - continue once the channel is writable again
+                        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                        return;
+                    }
+                    writeQueue.poll();
+                    lastWrite = now;
+                }
+
+                writeRequested.set(false);
+                if (writeQueue.isEmpty() || !writeRequested.compareAndSet(false, true)) {
+                    key.interestOps(SelectionKey.OP_READ);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            failed(e, now);
+        }
+    }
+
+    private void failed(IOException cause, long now) {
+        final boolean wasConnected = state == State.CONNECTED;
+        closeChannel();
+
+        if (closed) {
+            return;
+        }
+
+        if (config.isReconnect()) {
+            final long delay = Math.min(config.getMaxReconnectDelay(),
+                    config.getReconnectDelay() << Math.min(attempts, 16));
+            attempts++;
+            logger.debug("Connection to {} failed ({}) - reconnecting in {} ms", config, cause.getMessage(), delay);
+            state = State.WAITING;
+            deadline = now + delay;
+        } else {
+            logger.debug("Connection to {} failed: {}", config, cause.getMessage());
+            closed = true;
+            firstConnect.completeExceptionally(cause);
+        }
+
+        if (wasConnected) {
+            events.execute(() -> listener.disconnected(cause));
+        }
+    }
+
+    /**
+     * Closes the channel (if open) and drops the unsent messages
+     */
+    void closeChannel() {
+        if (key != null) {
+            key.cancel();
+            key = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Exception closing the connection to {}: {}", config, e.getMessage());
+            }
+            channel = null;
+        }
+        readBuffer = null;
+        writeQueue.clear();
+        writeRequested.set(false);
+        state = State.WAITING;
+    }
+}
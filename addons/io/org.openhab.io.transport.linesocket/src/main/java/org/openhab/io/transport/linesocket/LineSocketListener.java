@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.io.IOException;
+
+/**
+ * Listener for the events of a {@link LineSocketConnection}.
+ *
+ * The events of a connection are delivered one after the other, in the order they occurred, on a thread of the
+ * executor given in the {@link LineSocketConfig} - never on the reactor thread. A listener that blocks therefore only
+ * delays the events of its own connection.
+ *
+ * @author agent - Initial contribution
+ */
+public interface LineSocketListener {
+
+    /**
+     * Called when the connection has been established (again)
+     */
+    default void connected() {
+    }
+
+    /**
+     * Called when a frame has been received
+     *
+     * @param frame the non-null frame
+     */
+    void frameReceived(String frame);
+
+    /**
+     * Called when an established connection has been lost. If reconnecting is enabled, the connection will be
+     * established again after the backoff delay.
+     *
+     * @param cause the non-null reason the connection was lost
+     */
+    void disconnected(IOException cause);
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2018 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.transport.linesocket;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A reactor serving all {@link LineSocketConnection}s with a single selector thread.
+ *
+ * Instead of a reader (and dispatcher) thread per connection, the sockets are non-blocking and the reactor thread
+ * connects, reads, writes and handles the timers (connect timeout, reconnect backoff, keep alive and idle timeout) of
+ * all connections. Received data is split into frames by the {@link FrameDecoder} of the connection and handed to the
+ * {@link LineSocketListener} on an executor, so a slow listener never stalls the reactor.
+ *
+ * The reactor thread is started with the first connection and ends when the last connection has been closed.
+ *
+ * @author agent - Initial contribution
+ */
+public class LineSocketReactor {
+    private static final LineSocketReactor INSTANCE = new LineSocketReactor();
+
+    private final Logger logger = LoggerFactory.getLogger(LineSocketReactor.class);
+
+    /**
+     * Tasks to run on the reactor thread
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The open connections - only accessed by the reactor thread
+     */
+    private final List<LineSocketConnection> connections = new ArrayList<>();
+
+    /**
+     * Guards the start and end of the reactor thread
+     */
+    private final Object lock = new Object();
+
+    private volatile Selector selector;
+    private Thread thread;
+
+    /**
+     * Returns the reactor shared by all bindings
+     *
+     * @return the non-null reactor
+     */
+    public static LineSocketReactor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Opens a connection. The connection is established in the background - use
+     * {@link LineSocketConnection#awaitConnected(long)} to wait for it.
+     *
+     * @param config the non-null configuration of the connection
+     * @param decoder the non-null decoder splitting the received data into frames
+     * @param listener the non-null listener for the events of the connection
+     * @return the non-null connection
+     * @throws IOException if the reactor cannot be started
+     */
+    public LineSocketConnection open(LineSocketConfig config, FrameDecoder decoder, LineSocketListener listener)
+            throws IOException {
+        if (config == null) {
+            throw new IllegalArgumentException("config cannot be null");
+        }
+        if (decoder == null) {
+            throw new IllegalArgumentException("decoder cannot be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+
+        final LineSocketConnection connection = new LineSocketConnection(this, config, decoder, listener);
+        synchronized (lock) {
+            final boolean start = thread == null;
+            if (start) {
+                selector = Selector.open();
+                thread = new Thread(this::run, "OH-linesocket-reactor");
+                thread.setDaemon(true);
+            }
+            tasks.add(() -> {
+                connections.add(connection);
+                connection.connect(now());
+            });
+            if (start) {
+                thread.start();
+            } else {
+                selector.wakeup();
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Runs the task on the reactor thread. Must only be called for a connection that has not been closed yet (which
+     * keeps the reactor thread alive).
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        wakeup();
+    }
+
+    /**
+     * Wakes up the reactor thread to handle the pending tasks and closed connections
+     */
+    void wakeup() {
+        final Selector current = selector;
+        if (current != null) {
+            current.wakeup();
+        }
+    }
+
+    /**
+     * Returns the selector - must only be called on the reactor thread
+     */
+    Selector getSelector() {
+        return selector;
+    }
+
+    /**
+     * Returns the current time of the reactor clock in milliseconds
+     */
+    static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private void run() {
+        logger.debug("Line socket reactor started");
+        final Selector selector = this.selector;
+        while (true) {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Exception in line socket reactor: {}", e.getMessage(), e);
+                }
+            }
+
+            final long now = now();
+            long next = Long.MAX_VALUE;
+            for (Iterator<LineSocketConnection> it = connections.iterator(); it.hasNext();) {
+                final LineSocketConnection connection = it.next();
+                if (connection.isClosed()) {
+                    connection.closeChannel();
+                    it.remove();
+                } else {
+                    next = Math.min(next, connection.onTimer(now));
+                }
+            }
+
+            if (connections.isEmpty()) {
+                synchronized (lock) {
+                    if (tasks.isEmpty()) {
+                        try {
+                            selector.close();
+                        } catch (IOException e) {
+                            logger.debug("Exception closing the selector: {}", e.getMessage());
+                        }
+                        this.selector = null;
+                        thread = null;
+                        logger.debug("Line socket reactor stopped");
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            try {
+                selector.select(next == Long.MAX_VALUE ? 0 : Math.max(1, next - now));
+            } catch (IOException e) {
+                logger.warn("Exception selecting the line sockets: {}", e.getMessage(), e);
+            }
+
+            final long selected = now();
+            for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+                final SelectionKey key = it.next();
+                it.remove();
+                ((LineSocketConnection) key.attachment()).process(key, selected);
+            }
+        }
+    }
+}